@@ -0,0 +1,490 @@
+package com.excel.utility.apt;
+
+import com.excel.utility.Config;
+import com.excel.utility.annotation.ExcelColumn;
+import com.excel.utility.annotation.ExcelMapper;
+import com.excel.utility.extractor.RowWriter;
+import com.excel.utility.processor.HeaderNameProcessor;
+import com.excel.utility.processor.impl.DefaultHeaderNameProcessor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.*;
+
+/**
+ * Annotation processor that generates a reflection-free {@link RowWriter} for every {@code @ExcelMapper} class.
+ *
+ * <p>The processor mirrors the runtime metadata extraction of {@code ColumnMetadataExtractor}: the same fields are
+ * selected, headers are computed with {@link DefaultHeaderNameProcessor}, nested {@code @ExcelMapper} types are
+ * flattened, and missing column orders are assigned the same way. Values are read through the same accessor
+ * preference as at runtime (public getter, public {@code is} getter, then the field itself), but as direct calls
+ * in generated source.</p>
+ *
+ * <p>Invalid column orders, duplicate column orders and circular references are reported as compile errors.
+ * Classes whose members cannot be reached from generated code in the same package (private types, private fields
+ * without a public getter) are skipped with a warning and keep using the reflective runtime path.</p>
+ */
+@SupportedAnnotationTypes("com.excel.utility.annotation.ExcelMapper")
+public class ExcelMapperProcessor extends AbstractProcessor {
+
+    /**
+     * Fully qualified names of types treated as single cell values, matching {@code ClassTypeUtils.isPrimitiveOrWrapper}.
+     */
+    private static final Set<String> SCALAR_TYPES = Set.of(
+            "java.lang.Integer", "java.lang.Long", "java.lang.Double", "java.lang.Float", "java.lang.Short",
+            "java.lang.Byte", "java.lang.String", "java.lang.Boolean", "java.lang.Character",
+            "java.time.LocalDateTime", "java.time.LocalDate", "java.time.LocalTime", "java.time.Instant",
+            "java.util.Date", "java.math.BigDecimal", "java.math.BigInteger", "java.util.Currency", "java.util.UUID");
+
+    /**
+     * Collection types flattened into a single cell, matching {@code ClassTypeUtils.isListSetMap}.
+     */
+    private static final List<String> COLLECTION_TYPES = List.of(
+            "java.util.List", "java.util.Set", "java.util.Map", "java.util.Queue", "java.util.Deque",
+            "java.util.SortedSet", "java.util.SortedMap", "java.util.NavigableSet", "java.util.NavigableMap");
+
+    private final HeaderNameProcessor headerNameProcessor = new DefaultHeaderNameProcessor();
+
+    private Messager messager;
+    private Elements elements;
+    private Types types;
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        messager = processingEnv.getMessager();
+        elements = processingEnv.getElementUtils();
+        types = processingEnv.getTypeUtils();
+
+        for (Element element : roundEnv.getElementsAnnotatedWith(ExcelMapper.class)) {
+            if (element.getKind() == ElementKind.CLASS) {
+                processType((TypeElement) element);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Resolves the columns of a single {@code @ExcelMapper} class and writes its row writer.
+     */
+    private void processType(TypeElement type) {
+        PackageElement packageElement = elements.getPackageOf(type);
+        if (!isAccessible(type, packageElement)) {
+            warn(type, "is not accessible from generated code; the reflective row writer will be used");
+            return;
+        }
+
+        Resolution resolution = new Resolution(packageElement);
+        collectColumns(type, null, Collections.emptyList(), new LinkedHashSet<>(), resolution);
+        if (resolution.failed) {
+            return;
+        }
+
+        assignMissingColumnOrders(resolution.columns);
+        if (!validateColumnOrders(resolution.columns)) {
+            return;
+        }
+
+        if (resolution.unsupportedReason != null) {
+            warn(resolution.unsupportedElement, resolution.unsupportedReason + "; the reflective row writer will be used");
+            return;
+        }
+
+        writeSource(type, packageElement, resolution.columns);
+    }
+
+    /**
+     * Recursively collects the columns of a class, following the same rules as {@code ColumnMetadataExtractor}.
+     */
+    private void collectColumns(TypeElement type, String parentHeader, List<Step> parentPath,
+                                Set<TypeElement> visiting, Resolution resolution) {
+        if (!visiting.add(type)) {
+            error(type, "Circular reference detected in class: " + type.getQualifiedName());
+            resolution.failed = true;
+            return;
+        }
+
+        ExcelMapper sheetAnnotation = type.getAnnotation(ExcelMapper.class);
+        for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+            ExcelColumn annotation = field.getAnnotation(ExcelColumn.class);
+            if (!sheetAnnotation.includeAll() && annotation == null) {
+                continue;
+            }
+
+            String fieldName = field.getSimpleName().toString();
+            String computedHeader = headerNameProcessor.convertHeader(
+                    annotation == null ? null : annotation.header(), parentHeader, fieldName);
+            int columnOrder = annotation == null ? 0 : annotation.columnOrder();
+
+            List<Step> path = new ArrayList<>(parentPath);
+            path.add(resolveStep(type, field, resolution));
+
+            TypeMirror fieldType = field.asType();
+            if (isNotNestedProcessingObject(fieldType)) {
+                Element fieldTypeElement = types.asElement(types.erasure(fieldType));
+                if (fieldTypeElement != null && !isAccessible(fieldTypeElement, resolution.packageElement)) {
+                    resolution.unsupported(field, "field type " + erasedName(fieldType) + " is not accessible");
+                }
+                resolution.columns.add(new Column(field, computedHeader, columnOrder, erasedName(fieldType), path));
+            } else {
+                if (!isAccessible(types.asElement(fieldType), resolution.packageElement)) {
+                    resolution.unsupported(field, "nested type " + erasedName(fieldType) + " is not accessible");
+                }
+                collectColumns((TypeElement) types.asElement(fieldType), computedHeader, path, visiting, resolution);
+            }
+        }
+
+        visiting.remove(type);
+    }
+
+    /**
+     * Chooses how generated code reads a field: public getter, public {@code is} getter, or the field itself.
+     */
+    private Step resolveStep(TypeElement owner, VariableElement field, Resolution resolution) {
+        String fieldName = field.getSimpleName().toString();
+        String capitalizedName = Character.toUpperCase(fieldName.charAt(0)) + fieldName.substring(1);
+        String valueType = erasedName(field.asType());
+
+        ExecutableElement getter = findPublicGetter(owner, "get" + capitalizedName);
+        String strategy = "GETTER";
+        if (getter == null) {
+            getter = findPublicGetter(owner, "is" + capitalizedName);
+            strategy = "IS_GETTER";
+        }
+        if (getter != null) {
+            return new Step(getter.getSimpleName() + "()", valueType,
+                    "Failed to read field '" + fieldName + "' using " + strategy);
+        }
+
+        Set<Modifier> modifiers = field.getModifiers();
+        boolean samePackage = elements.getPackageOf(field).equals(resolution.packageElement);
+        if (!modifiers.contains(Modifier.PUBLIC) && (modifiers.contains(Modifier.PRIVATE) || !samePackage)) {
+            resolution.unsupported(field, "field '" + fieldName + "' has no public getter and is not accessible");
+        }
+        return new Step(fieldName, valueType, null);
+    }
+
+    private ExecutableElement findPublicGetter(TypeElement owner, String methodName) {
+        for (ExecutableElement method : ElementFilter.methodsIn(elements.getAllMembers(owner))) {
+            Set<Modifier> modifiers = method.getModifiers();
+            if (method.getSimpleName().contentEquals(methodName)
+                    && method.getParameters().isEmpty()
+                    && method.getReturnType().getKind() != TypeKind.VOID
+                    && modifiers.contains(Modifier.PUBLIC)
+                    && !modifiers.contains(Modifier.STATIC)) {
+                return method;
+            }
+        }
+        return null;
+    }
+
+    private boolean isNotNestedProcessingObject(TypeMirror fieldType) {
+        if (fieldType.getKind() != TypeKind.DECLARED) {
+            return true;
+        }
+        TypeElement element = (TypeElement) ((DeclaredType) fieldType).asElement();
+        return element.getKind() == ElementKind.ENUM
+                || SCALAR_TYPES.contains(element.getQualifiedName().toString())
+                || isAssignableToAny(fieldType, List.of("java.lang.Number"))
+                || isAssignableToAny(fieldType, COLLECTION_TYPES)
+                || elements.getPackageOf(element).getQualifiedName().toString().startsWith("java.")
+                || element.getAnnotation(ExcelMapper.class) == null;
+    }
+
+    private boolean isAssignableToAny(TypeMirror fieldType, List<String> typeNames) {
+        TypeMirror erased = types.erasure(fieldType);
+        for (String typeName : typeNames) {
+            TypeElement target = elements.getTypeElement(typeName);
+            if (target != null && types.isAssignable(erased, types.erasure(target.asType()))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Assigns the next free column order to columns without one, exactly like the runtime extractor.
+     */
+    private void assignMissingColumnOrders(List<Column> columns) {
+        Set<Integer> takenColumnOrders = new HashSet<>();
+        for (Column column : columns) {
+            takenColumnOrders.add(column.columnOrder);
+        }
+
+        int nextAvailableOrder = 1;
+        for (Column column : columns) {
+            if (column.columnOrder <= 0) {
+                while (takenColumnOrders.contains(nextAvailableOrder)) {
+                    nextAvailableOrder++;
+                }
+                column.columnOrder = nextAvailableOrder++;
+            }
+        }
+    }
+
+    /**
+     * Reports invalid and duplicate column orders as compile errors.
+     */
+    private boolean validateColumnOrders(List<Column> columns) {
+        boolean valid = true;
+        Map<Integer, Column> columnsByOrder = new HashMap<>();
+        for (Column column : columns) {
+            if (column.columnOrder > Config.MAX_COLUMN_ORDER) {
+                error(column.field, "Invalid column order: " + column.columnOrder
+                        + ". Column order cannot exceed " + Config.MAX_COLUMN_ORDER + ".");
+                valid = false;
+            }
+            Column existing = columnsByOrder.putIfAbsent(column.columnOrder, column);
+            if (existing != null) {
+                error(column.field, "Duplicate column order found: " + column.columnOrder
+                        + " for header: " + column.header + " (already used by header: " + existing.header + ")");
+                valid = false;
+            }
+        }
+        return valid;
+    }
+
+    private void writeSource(TypeElement type, PackageElement packageElement, List<Column> columns) {
+        String packageName = packageElement.isUnnamed() ? "" : packageElement.getQualifiedName().toString();
+        String binaryName = elements.getBinaryName(type).toString();
+        String localName = packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1);
+        String writerName = localName.replace('$', '_') + RowWriter.GENERATED_CLASS_SUFFIX;
+        String beanType = erasedName(type.asType());
+
+        StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("@javax.annotation.processing.Generated(\"").append(getClass().getName()).append("\")\n");
+        source.append("public final class ").append(writerName)
+                .append(" implements ").append(RowWriter.class.getName()).append('<').append(beanType).append("> {\n\n");
+
+        source.append("    private static final String[] HEADERS = {");
+        for (int i = 0; i < columns.size(); i++) {
+            source.append(i == 0 ? "" : ", ").append(stringLiteral(columns.get(i).header));
+        }
+        source.append("};\n");
+        source.append("    private static final int[] COLUMN_ORDERS = {");
+        for (int i = 0; i < columns.size(); i++) {
+            source.append(i == 0 ? "" : ", ").append(columns.get(i).columnOrder);
+        }
+        source.append("};\n");
+        source.append("    private static final Class<?>[] COLUMN_TYPES = {");
+        for (int i = 0; i < columns.size(); i++) {
+            source.append(i == 0 ? "" : ", ").append(columns.get(i).typeName).append(".class");
+        }
+        source.append("};\n\n");
+
+        source.append("    @Override\n    public Class<").append(beanType).append("> getType() {\n")
+                .append("        return ").append(beanType).append(".class;\n    }\n\n");
+        source.append("    @Override\n    public String[] getHeaders() {\n        return HEADERS.clone();\n    }\n\n");
+        source.append("    @Override\n    public int[] getColumnOrders() {\n        return COLUMN_ORDERS.clone();\n    }\n\n");
+        source.append("    @Override\n    public Class<?>[] getColumnTypes() {\n        return COLUMN_TYPES.clone();\n    }\n\n");
+
+        source.append("    @Override\n    public void extractRow(").append(beanType).append(" bean, Object[] values) {\n");
+        source.append("        if (bean == null) {\n")
+                .append("            java.util.Arrays.fill(values, 0, ").append(columns.size()).append(", null);\n")
+                .append("            return;\n        }\n");
+        appendExtraction(source, columns);
+        source.append("    }\n}\n");
+
+        String qualifiedName = packageName.isEmpty() ? writerName : packageName + "." + writerName;
+        try {
+            JavaFileObject file = processingEnv.getFiler().createSourceFile(qualifiedName, type);
+            try (Writer writer = file.openWriter()) {
+                writer.write(source.toString());
+            }
+        } catch (IOException e) {
+            error(type, "Failed to write row writer " + qualifiedName + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Emits one assignment per column. Each nested object on a path is read once into a local and
+     * null-checked, so shared prefixes are evaluated once per row. As in the reflective path, a getter that throws
+     * is reported through {@code FieldExtractor.reportAccessFailure} and read as null, which leaves its column, or
+     * every column below a nested object, empty.
+     */
+    private void appendExtraction(StringBuilder source, List<Column> columns) {
+        Map<String, String> locals = new HashMap<>();
+        for (int i = 0; i < columns.size(); i++) {
+            List<Step> path = columns.get(i).path;
+
+            String parent = "bean";
+            String pathKey = "";
+            for (int depth = 0; depth < path.size() - 1; depth++) {
+                Step step = path.get(depth);
+                pathKey = pathKey + "." + step.accessor;
+                String local = locals.get(pathKey);
+                if (local == null) {
+                    local = "nested" + locals.size();
+                    locals.put(pathKey, local);
+                    source.append("        ").append(step.valueType).append(' ').append(local).append(";\n");
+                    appendRead(source, local, parent, step);
+                }
+                parent = local;
+            }
+
+            appendRead(source, "values[" + i + "]", parent, path.get(path.size() - 1));
+        }
+    }
+
+    /**
+     * Emits the assignment of a single step's value, guarded against a throwing getter.
+     */
+    private void appendRead(StringBuilder source, String target, String parent, Step step) {
+        String access = parent + "." + step.accessor;
+        String read = "bean".equals(parent) ? access : parent + " == null ? null : " + access;
+        if (!step.isGetter()) {
+            source.append("        ").append(target).append(" = ").append(read).append(";\n");
+            return;
+        }
+        source.append("        try {\n")
+                .append("            ").append(target).append(" = ").append(read).append(";\n")
+                .append("        } catch (Exception e) {\n")
+                .append("            com.excel.utility.extractor.FieldExtractor.reportAccessFailure(\n")
+                .append("                    new com.excel.utility.exception.ExcelFieldAccessException(")
+                .append(stringLiteral(step.failureMessage)).append(", e));\n")
+                .append("            ").append(target).append(" = null;\n")
+                .append("        }\n");
+    }
+
+    private boolean isAccessible(Element element, PackageElement fromPackage) {
+        for (Element current = element; current instanceof TypeElement; current = current.getEnclosingElement()) {
+            Set<Modifier> modifiers = current.getModifiers();
+            if (modifiers.contains(Modifier.PRIVATE)) {
+                return false;
+            }
+            if (!modifiers.contains(Modifier.PUBLIC) && !elements.getPackageOf(current).equals(fromPackage)) {
+                return false;
+            }
+            NestingKind nestingKind = ((TypeElement) current).getNestingKind();
+            if (nestingKind == NestingKind.LOCAL || nestingKind == NestingKind.ANONYMOUS) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private String erasedName(TypeMirror type) {
+        return types.erasure(type).toString();
+    }
+
+    private static String stringLiteral(String value) {
+        StringBuilder literal = new StringBuilder("\"");
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    literal.append("\\\"");
+                    break;
+                case '\\':
+                    literal.append("\\\\");
+                    break;
+                case '\n':
+                    literal.append("\\n");
+                    break;
+                case '\r':
+                    literal.append("\\r");
+                    break;
+                case '\t':
+                    literal.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20 || c > 0x7e) {
+                        literal.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        literal.append(c);
+                    }
+            }
+        }
+        return literal.append('"').toString();
+    }
+
+    private void error(Element element, String message) {
+        messager.printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+
+    private void warn(Element element, String message) {
+        messager.printMessage(Diagnostic.Kind.WARNING,
+                "@ExcelMapper " + element.getSimpleName() + ": " + message, element);
+    }
+
+    /**
+     * Mutable state collected while resolving a single root type.
+     */
+    private static final class Resolution {
+        private final PackageElement packageElement;
+        private final List<Column> columns = new ArrayList<>();
+        private boolean failed;
+        private Element unsupportedElement;
+        private String unsupportedReason;
+
+        private Resolution(PackageElement packageElement) {
+            this.packageElement = packageElement;
+        }
+
+        private void unsupported(Element element, String reason) {
+            if (unsupportedReason == null) {
+                unsupportedElement = element;
+                unsupportedReason = reason;
+            }
+        }
+    }
+
+    /**
+     * A resolved output column.
+     */
+    private static final class Column {
+        private final VariableElement field;
+        private final String header;
+        private final String typeName;
+        private final List<Step> path;
+        private int columnOrder;
+
+        private Column(VariableElement field, String header, int columnOrder, String typeName, List<Step> path) {
+            this.field = field;
+            this.header = header;
+            this.columnOrder = columnOrder;
+            this.typeName = typeName;
+            this.path = path;
+        }
+    }
+
+    /**
+     * A single hop on a column's access path, e.g. {@code getAddress()} or {@code street}.
+     */
+    private static final class Step {
+        private final String accessor;
+        private final String valueType;
+        private final String failureMessage;
+
+        private Step(String accessor, String valueType, String failureMessage) {
+            this.accessor = accessor;
+            this.valueType = valueType;
+            this.failureMessage = failureMessage;
+        }
+
+        private boolean isGetter() {
+            return accessor.endsWith("()");
+        }
+    }
+}
@@ -0,0 +1,324 @@
+package com.excel.utility.apt;
+
+import com.excel.utility.extractor.ColumnMetadataCache;
+import com.excel.utility.extractor.FieldExtractor;
+import com.excel.utility.extractor.ReflectiveRowWriter;
+import com.excel.utility.extractor.RowWriter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExcelMapperProcessorTest {
+
+    private static final String ADDRESS = """
+            package sample;
+
+            import com.excel.utility.annotation.ExcelColumn;
+            import com.excel.utility.annotation.ExcelMapper;
+
+            @ExcelMapper
+            public class Address {
+                @ExcelColumn
+                private String street;
+                @ExcelColumn(header = "Town")
+                private String city;
+
+                public Address(String street, String city) {
+                    this.street = street;
+                    this.city = city;
+                }
+
+                public String getStreet() {
+                    return street;
+                }
+
+                public String getCity() {
+                    if (city == null) {
+                        throw new IllegalStateException("no city");
+                    }
+                    return city;
+                }
+            }
+            """;
+
+    private static final String PERSON = """
+            package sample;
+
+            import com.excel.utility.annotation.ExcelColumn;
+            import com.excel.utility.annotation.ExcelMapper;
+
+            @ExcelMapper
+            public class Person {
+                @ExcelColumn(columnOrder = 4)
+                private String name;
+                @ExcelColumn
+                int age;
+                @ExcelColumn
+                private Address address;
+                @ExcelColumn
+                private boolean active = true;
+
+                public Person(String name, int age, Address address) {
+                    this.name = name;
+                    this.age = age;
+                    this.address = address;
+                }
+
+                public String getName() {
+                    return name;
+                }
+
+                public Address getAddress() {
+                    if (name == null) {
+                        throw new IllegalStateException("no address");
+                    }
+                    return address;
+                }
+
+                public boolean isActive() {
+                    return active;
+                }
+            }
+            """;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testGeneratedWriter_MatchesReflectiveWriter() throws Exception {
+        Compilation compilation = compile(Map.of("sample/Address.java", ADDRESS, "sample/Person.java", PERSON));
+
+        assertTrue(compilation.success, compilation.messages());
+        assertTrue(Files.exists(compilation.generatedSources.resolve("sample/Person_ExcelRowWriter.java")));
+        try (URLClassLoader classLoader = compilation.classLoader()) {
+            Class<?> personType = classLoader.loadClass("sample.Person");
+            Class<?> addressType = classLoader.loadClass("sample.Address");
+            RowWriter<Object> generated = compilation.rowWriter(classLoader, "sample.Person_ExcelRowWriter");
+            ReflectiveRowWriter reflective = new ReflectiveRowWriter(new ColumnMetadataCache().getPlan(personType),
+                    new FieldExtractor());
+
+            assertSame(personType, generated.getType());
+            assertArrayEquals(reflective.getHeaders(), generated.getHeaders());
+            assertArrayEquals(reflective.getColumnOrders(), generated.getColumnOrders());
+            assertArrayEquals(reflective.getColumnTypes(), generated.getColumnTypes());
+
+            Object address = addressType.getConstructor(String.class, String.class)
+                    .newInstance("Main St", "Springfield");
+            Object person = personType.getConstructor(String.class, int.class, addressType)
+                    .newInstance("Ann", 41, address);
+            assertArrayEquals(extract(reflective, person), extract(generated, person));
+            assertArrayEquals(new Object[]{"Ann", 41, "Main St", "Springfield", true}, extract(generated, person));
+
+            Object withoutAddress = personType.getConstructor(String.class, int.class, addressType)
+                    .newInstance("Bob", 7, null);
+            assertArrayEquals(new Object[]{"Bob", 7, null, null, true}, extract(generated, withoutAddress));
+            assertArrayEquals(new Object[]{null, null, null, null, null}, extract(generated, null));
+        }
+    }
+
+    @Test
+    void testGeneratedWriter_ThrowingGetterLeavesCellsEmpty() throws Exception {
+        Compilation compilation = compile(Map.of("sample/Address.java", ADDRESS, "sample/Person.java", PERSON));
+
+        assertTrue(compilation.success, compilation.messages());
+        String generatedSource = Files.readString(
+                compilation.generatedSources.resolve("sample/Person_ExcelRowWriter.java"), StandardCharsets.UTF_8);
+        assertTrue(generatedSource.contains("\"Failed to read field 'city' using GETTER\""), generatedSource);
+        assertFalse(generatedSource.contains("printStackTrace"), generatedSource);
+        try (URLClassLoader classLoader = compilation.classLoader()) {
+            Class<?> personType = classLoader.loadClass("sample.Person");
+            Class<?> addressType = classLoader.loadClass("sample.Address");
+            RowWriter<Object> generated = compilation.rowWriter(classLoader, "sample.Person_ExcelRowWriter");
+            ReflectiveRowWriter reflective = new ReflectiveRowWriter(new ColumnMetadataCache().getPlan(personType),
+                    new FieldExtractor());
+
+            // getCity throws: only its column is empty.
+            Object noCity = personType.getConstructor(String.class, int.class, addressType)
+                    .newInstance("Ann", 41, addressType.getConstructor(String.class, String.class)
+                            .newInstance("Main St", null));
+            assertArrayEquals(new Object[]{"Ann", 41, "Main St", null, true}, extract(generated, noCity));
+            assertArrayEquals(extract(reflective, noCity), extract(generated, noCity));
+
+            // getAddress throws: every column of the nested object is empty.
+            Object noName = personType.getConstructor(String.class, int.class, addressType)
+                    .newInstance(null, 3, addressType.getConstructor(String.class, String.class)
+                            .newInstance("Main St", "Springfield"));
+            assertArrayEquals(new Object[]{null, 3, null, null, true}, extract(generated, noName));
+            assertArrayEquals(extract(reflective, noName), extract(generated, noName));
+        }
+    }
+
+    @Test
+    void testDuplicateColumnOrder_IsCompileError() throws IOException {
+        Compilation compilation = compile(Map.of("sample/Duplicate.java", """
+                package sample;
+
+                import com.excel.utility.annotation.ExcelColumn;
+                import com.excel.utility.annotation.ExcelMapper;
+
+                @ExcelMapper
+                public class Duplicate {
+                    @ExcelColumn(columnOrder = 2)
+                    public String first;
+                    @ExcelColumn(columnOrder = 2)
+                    public String second;
+                }
+                """));
+
+        assertFalse(compilation.success);
+        assertTrue(compilation.hasError("Duplicate column order found: 2"), compilation.messages());
+        assertFalse(Files.exists(compilation.generatedSources.resolve("sample/Duplicate_ExcelRowWriter.java")));
+    }
+
+    @Test
+    void testColumnOrderOutOfRange_IsCompileError() throws IOException {
+        Compilation compilation = compile(Map.of("sample/Wide.java", """
+                package sample;
+
+                import com.excel.utility.annotation.ExcelColumn;
+                import com.excel.utility.annotation.ExcelMapper;
+
+                @ExcelMapper
+                public class Wide {
+                    @ExcelColumn(columnOrder = 1001)
+                    public String value;
+                }
+                """));
+
+        assertFalse(compilation.success);
+        assertTrue(compilation.hasError("Invalid column order: 1001"), compilation.messages());
+    }
+
+    @Test
+    void testCircularReference_IsCompileError() throws IOException {
+        Compilation compilation = compile(Map.of("sample/Node.java", """
+                package sample;
+
+                import com.excel.utility.annotation.ExcelColumn;
+                import com.excel.utility.annotation.ExcelMapper;
+
+                @ExcelMapper
+                public class Node {
+                    @ExcelColumn
+                    public String name;
+                    @ExcelColumn
+                    public Node next;
+                }
+                """));
+
+        assertFalse(compilation.success);
+        assertTrue(compilation.hasError("Circular reference detected in class: sample.Node"),
+                compilation.messages());
+    }
+
+    @Test
+    void testInaccessibleField_FallsBackWithWarning() throws IOException {
+        Compilation compilation = compile(Map.of("sample/Hidden.java", """
+                package sample;
+
+                import com.excel.utility.annotation.ExcelColumn;
+                import com.excel.utility.annotation.ExcelMapper;
+
+                @ExcelMapper
+                public class Hidden {
+                    @ExcelColumn
+                    private String secret;
+                }
+                """));
+
+        assertTrue(compilation.success, compilation.messages());
+        assertFalse(Files.exists(compilation.generatedSources.resolve("sample/Hidden_ExcelRowWriter.java")));
+        assertTrue(compilation.diagnostics.stream().anyMatch(diagnostic ->
+                diagnostic.getKind() == Diagnostic.Kind.WARNING
+                        && diagnostic.getMessage(null).contains("no public getter")), compilation.messages());
+    }
+
+    private static Object[] extract(RowWriter<Object> writer, Object bean) {
+        Object[] values = new Object[writer.getHeaders().length];
+        writer.extractRow(bean, values);
+        return values;
+    }
+
+    /**
+     * Compiles the sources with the processor, against the test class path.
+     */
+    private Compilation compile(Map<String, String> sources) throws IOException {
+        Path sourceDir = Files.createDirectories(tempDir.resolve("src"));
+        Path classes = Files.createDirectories(tempDir.resolve("classes"));
+        Path generatedSources = Files.createDirectories(tempDir.resolve("generated"));
+        List<Path> sourceFiles = new ArrayList<>();
+        for (Map.Entry<String, String> source : sources.entrySet()) {
+            Path file = sourceDir.resolve(source.getKey());
+            Files.createDirectories(file.getParent());
+            sourceFiles.add(Files.writeString(file, source.getValue(), StandardCharsets.UTF_8));
+        }
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null,
+                StandardCharsets.UTF_8)) {
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics,
+                    List.of("-classpath", System.getProperty("java.class.path"), "-d", classes.toString(),
+                            "-s", generatedSources.toString()),
+                    null, fileManager.getJavaFileObjectsFromPaths(sourceFiles));
+            task.setProcessors(List.of(new ExcelMapperProcessor()));
+            boolean success = task.call();
+            return new Compilation(success, diagnostics.getDiagnostics(), classes, generatedSources);
+        }
+    }
+
+    /**
+     * The outcome of compiling sample sources.
+     */
+    private static final class Compilation {
+        private final boolean success;
+        private final List<Diagnostic<? extends JavaFileObject>> diagnostics;
+        private final Path classes;
+        private final Path generatedSources;
+
+        private Compilation(boolean success, List<Diagnostic<? extends JavaFileObject>> diagnostics, Path classes,
+                            Path generatedSources) {
+            this.success = success;
+            this.diagnostics = diagnostics;
+            this.classes = classes;
+            this.generatedSources = generatedSources;
+        }
+
+        private boolean hasError(String message) {
+            return diagnostics.stream().anyMatch(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR
+                    && diagnostic.getMessage(null).contains(message));
+        }
+
+        private String messages() {
+            return diagnostics.stream().map(diagnostic -> diagnostic.getMessage(null))
+                    .collect(Collectors.joining("\n"));
+        }
+
+        private URLClassLoader classLoader() throws IOException {
+            return new URLClassLoader(new URL[]{classes.toUri().toURL()}, getClass().getClassLoader());
+        }
+
+        @SuppressWarnings("unchecked")
+        private RowWriter<Object> rowWriter(ClassLoader classLoader, String name) throws ReflectiveOperationException {
+            return (RowWriter<Object>) classLoader.loadClass(name).getConstructor().newInstance();
+        }
+    }
+}
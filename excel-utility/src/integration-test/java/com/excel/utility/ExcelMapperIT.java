@@ -2,6 +2,7 @@ package com.excel.utility;
 
 import com.excel.utility.annotation.ExcelColumn;
 import com.excel.utility.annotation.ExcelMapper;
+import org.apache.poi.ss.usermodel.DataFormatter;
 import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.Workbook;
@@ -75,9 +76,9 @@ public class ExcelMapperIT {
         assertNotNull("Data row should not be null", row);
         assertEquals("Name value is incorrect", name, row.getCell(0).getStringCellValue());
         assertEquals("Email value is incorrect", email, row.getCell(1).getStringCellValue());
-        assertEquals("Age value is incorrect", age, row.getCell(2).getStringCellValue());
+        assertEquals("Age value is incorrect", age, new DataFormatter().formatCellValue(row.getCell(2)));
         assertEquals("Tags value is incorrect", tags, row.getCell(4).getStringCellValue());
-        assertEquals("ID value is incorrect", id, row.getCell(3).getStringCellValue());
+        assertEquals("ID value is incorrect", id, new DataFormatter().formatCellValue(row.getCell(3)));
         assertEquals("Street value is incorrect", street, row.getCell(5).getStringCellValue());
         assertEquals("City value is incorrect", city, row.getCell(6).getStringCellValue());
         assertEquals("File value is incorrect", file, row.getCell(7).getStringCellValue());
@@ -2,6 +2,7 @@ package com.excel.utility;
 
 import com.excel.utility.annotation.ExcelColumn;
 import com.excel.utility.annotation.ExcelMapper;
+import org.apache.poi.ss.usermodel.DataFormatter;
 import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.Workbook;
@@ -78,7 +79,7 @@ public class ExcelUtilityListMapComplexNestedObjectIT {
 
     private void validateDataRow(Row row, String id, String name, String complexNestedObject, List<String> map, String mixedCollection, String directValue) {
         assertNotNull("Data row should not be null", row);
-        assertEquals("ID value is incorrect", id, row.getCell(0).getStringCellValue());
+        assertEquals("ID value is incorrect", id, new DataFormatter().formatCellValue(row.getCell(0)));
         assertEquals("Name value is incorrect", name, row.getCell(1).getStringCellValue());
         assertTrue("Complex Nested Object value is incorrect", row.getCell(2).getStringCellValue().startsWith(complexNestedObject));
 
@@ -2,6 +2,8 @@ package com.excel.utility;
 
 import com.excel.utility.dto.EmployeeOrdered;
 import org.apache.poi.hssf.usermodel.HSSFWorkbook;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.DateUtil;
 import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.Workbook;
@@ -27,6 +29,7 @@ public class ExcelUtilitySimpleDtoFileIT {
     final LocalDateTime localDateTime = LocalDateTime.of(2025, Month.JANUARY, 1, 9, 0);
     SimpleDateFormat sdf = new SimpleDateFormat("dd-MM-yyyy HH:mm");
     Date date;
+    String dateText = "2020-01-01T10:00";
 
     {
         try {
@@ -103,7 +106,24 @@ public class ExcelUtilitySimpleDtoFileIT {
 
     private void validateRow(Row row, String... expectedValues) {
         for (int i = 0; i < expectedValues.length; i++) {
-            assertEquals(expectedValues[i], row.getCell(i).getStringCellValue(), headers.get(i) + " is not correct at Row : " + row.getRowNum());
+            assertEquals(expectedValues[i], cellText(row.getCell(i)), headers.get(i) + " is not correct at Row : " + row.getRowNum());
+        }
+    }
+
+    /**
+     * Renders a typed cell value as text: plain numbers without trailing zeros, dates as {@link LocalDateTime}.
+     */
+    private String cellText(Cell cell) {
+        switch (cell.getCellType()) {
+            case NUMERIC:
+                if (DateUtil.isCellDateFormatted(cell)) {
+                    return cell.getLocalDateTimeCellValue().toString();
+                }
+                return BigDecimal.valueOf(cell.getNumericCellValue()).stripTrailingZeros().toPlainString();
+            case BOOLEAN:
+                return String.valueOf(cell.getBooleanCellValue());
+            default:
+                return cell.getStringCellValue();
         }
     }
 
@@ -131,16 +151,16 @@ public class ExcelUtilitySimpleDtoFileIT {
             validateHeaders(sheet, "Employee ID", "Employee Name", "Is Active", "Salary", "Age", "Joining Date", "Performance Rating", "Eligible", "Email", "Account Balance", "Department", "Gender", "Yearly Bonus", "Salary in Words", "Last Updated", "Currency", "Bonus Amount");
 
             // Validate the contents of the Excel file for each row
-            validateRow(sheet.getRow(1), "1001", "John Doe", "true", "60000.0", "30", date.toString(), "4.5", "true", "john.doe@example.com", "2000.5", "Engineering", "M", "5000", "Sixty thousand", localDateTime.toString(), "USD", "5000.75");
-            validateRow(sheet.getRow(2), "1002", "Jane Smith", "false", "75000.0", "28", date.toString(), "", "", "jane.smith@example.com", "", "Marketing", "F", "", "Seventy-five thousand", localDateTime.minusDays(1).toString(), "EUR", "10000.00");
-            validateRow(sheet.getRow(3), "1003", "Alice Brown", "true", "85000.0", "35", date.toString(), "5.0", "true", "alice.brown@example.com", "1500.0", "HR", "F", "12000", "Eighty-five thousand", localDateTime.minusHours(3).toString(), "GBP", "20000.50");
-            validateRow(sheet.getRow(4), "1004", "Bob White", "true", "95000.0", "40", date.toString(), "4.0", "false", "bob.white@example.com", "3000.5", "Finance", "M", "8000", "Ninety thousand", localDateTime.minusDays(2).toString(), "USD", "15000.25");
-            validateRow(sheet.getRow(5), "1005", "Charlie Black", "true", "105000.0", "", date.toString(), "3.5", "true", "charlie.black@example.com", "", "Engineering", "M", "", "One hundred thousand", localDateTime.minusDays(5).toString(), "AUD", "25000.75");
-            validateRow(sheet.getRow(6), "1006", "David Green", "false", "55000.0", "45", "", "4.0", "true", "david.green@example.com", "2500.0", "Sales", "M", "6000", "Fifty-five thousand", localDateTime.minusMonths(1).toString(), "USD", "8000.00");
-            validateRow(sheet.getRow(7), "1007", "Eve Blue", "true", "78000.0", "33", date.toString(), "4.3", "", "eve.blue@example.com", "1800.0", "IT", "F", "10000", "Seventy-eight thousand", localDateTime.minusWeeks(2).toString(), "GBP", "12000.50");
-            validateRow(sheet.getRow(8), "1008", "Frank Gray", "true", "63000.0", "29", date.toString(), "4.7", "true", "frank.gray@example.com", "2200.0", "Operations", "M", "", "Sixty-three thousand", localDateTime.minusMinutes(30).toString(), "EUR", "11000.25");
-            validateRow(sheet.getRow(9), "1009", "Grace Yellow", "false", "95000.0", "38", date.toString(), "4.1", "true", "grace.yellow@example.com", "2700.0", "Support", "F", "11000", "Ninety-five thousand", localDateTime.minusDays(10).toString(), "USD", "17000.00");
-            validateRow(sheet.getRow(10), "1010", "Henry Red", "true", "52000.0", "50", date.toString(), "3.8", "false", "henry.red@example.com", "2000.0", "Logistics", "M", "15000", "Fifty-two thousand", localDateTime.minusMonths(3).toString(), "AUD", "13000.10");
+            validateRow(sheet.getRow(1), "1001", "John Doe", "true", "60000", "30", dateText, "4.5", "true", "john.doe@example.com", "2000.5", "Engineering", "M", "5000", "Sixty thousand", localDateTime.toString(), "USD", "5000.75");
+            validateRow(sheet.getRow(2), "1002", "Jane Smith", "false", "75000", "28", dateText, "", "", "jane.smith@example.com", "", "Marketing", "F", "", "Seventy-five thousand", localDateTime.minusDays(1).toString(), "EUR", "10000");
+            validateRow(sheet.getRow(3), "1003", "Alice Brown", "true", "85000", "35", dateText, "5", "true", "alice.brown@example.com", "1500", "HR", "F", "12000", "Eighty-five thousand", localDateTime.minusHours(3).toString(), "GBP", "20000.5");
+            validateRow(sheet.getRow(4), "1004", "Bob White", "true", "95000", "40", dateText, "4", "false", "bob.white@example.com", "3000.5", "Finance", "M", "8000", "Ninety thousand", localDateTime.minusDays(2).toString(), "USD", "15000.25");
+            validateRow(sheet.getRow(5), "1005", "Charlie Black", "true", "105000", "", dateText, "3.5", "true", "charlie.black@example.com", "", "Engineering", "M", "", "One hundred thousand", localDateTime.minusDays(5).toString(), "AUD", "25000.75");
+            validateRow(sheet.getRow(6), "1006", "David Green", "false", "55000", "45", "", "4", "true", "david.green@example.com", "2500", "Sales", "M", "6000", "Fifty-five thousand", localDateTime.minusMonths(1).toString(), "USD", "8000");
+            validateRow(sheet.getRow(7), "1007", "Eve Blue", "true", "78000", "33", dateText, "4.3", "", "eve.blue@example.com", "1800", "IT", "F", "10000", "Seventy-eight thousand", localDateTime.minusWeeks(2).toString(), "GBP", "12000.5");
+            validateRow(sheet.getRow(8), "1008", "Frank Gray", "true", "63000", "29", dateText, "4.7", "true", "frank.gray@example.com", "2200", "Operations", "M", "", "Sixty-three thousand", localDateTime.minusMinutes(30).toString(), "EUR", "11000.25");
+            validateRow(sheet.getRow(9), "1009", "Grace Yellow", "false", "95000", "38", dateText, "4.1", "true", "grace.yellow@example.com", "2700", "Support", "F", "11000", "Ninety-five thousand", localDateTime.minusDays(10).toString(), "USD", "17000");
+            validateRow(sheet.getRow(10), "1010", "Henry Red", "true", "52000", "50", dateText, "3.8", "false", "henry.red@example.com", "2000", "Logistics", "M", "15000", "Fifty-two thousand", localDateTime.minusMonths(3).toString(), "AUD", "13000.1");
         }
 
         // Cleanup the test file
@@ -171,16 +191,16 @@ public class ExcelUtilitySimpleDtoFileIT {
             validateHeaders(sheet, "Employee ID", "Employee Name", "Is Active", "Salary", "Age", "Joining Date", "Performance Rating", "Eligible", "Email", "Account Balance", "Department", "Gender", "Yearly Bonus", "Salary in Words", "Last Updated", "Currency", "Bonus Amount");
 
             // Validate the contents of the Excel file for each row
-            validateRow(sheet.getRow(1), "1001", "John Doe", "true", "60000.0", "30", date.toString(), "4.5", "true", "john.doe@example.com", "2000.5", "Engineering", "M", "5000", "Sixty thousand", localDateTime.toString(), "USD", "5000.75");
-            validateRow(sheet.getRow(2), "1002", "Jane Smith", "false", "75000.0", "28", date.toString(), "", "", "jane.smith@example.com", "", "Marketing", "F", "", "Seventy-five thousand", localDateTime.minusDays(1).toString(), "EUR", "10000.00");
-            validateRow(sheet.getRow(3), "1003", "Alice Brown", "true", "85000.0", "35", date.toString(), "5.0", "true", "alice.brown@example.com", "1500.0", "HR", "F", "12000", "Eighty-five thousand", localDateTime.minusHours(3).toString(), "GBP", "20000.50");
-            validateRow(sheet.getRow(4), "1004", "Bob White", "true", "95000.0", "40", date.toString(), "4.0", "false", "bob.white@example.com", "3000.5", "Finance", "M", "8000", "Ninety thousand", localDateTime.minusDays(2).toString(), "USD", "15000.25");
-            validateRow(sheet.getRow(5), "1005", "Charlie Black", "true", "105000.0", "", date.toString(), "3.5", "true", "charlie.black@example.com", "", "Engineering", "M", "", "One hundred thousand", localDateTime.minusDays(5).toString(), "AUD", "25000.75");
-            validateRow(sheet.getRow(6), "1006", "David Green", "false", "55000.0", "45", "", "4.0", "true", "david.green@example.com", "2500.0", "Sales", "M", "6000", "Fifty-five thousand", localDateTime.minusMonths(1).toString(), "USD", "8000.00");
-            validateRow(sheet.getRow(7), "1007", "Eve Blue", "true", "78000.0", "33", date.toString(), "4.3", "", "eve.blue@example.com", "1800.0", "IT", "F", "10000", "Seventy-eight thousand", localDateTime.minusWeeks(2).toString(), "GBP", "12000.50");
-            validateRow(sheet.getRow(8), "1008", "Frank Gray", "true", "63000.0", "29", date.toString(), "4.7", "true", "frank.gray@example.com", "2200.0", "Operations", "M", "", "Sixty-three thousand", localDateTime.minusMinutes(30).toString(), "EUR", "11000.25");
-            validateRow(sheet.getRow(9), "1009", "Grace Yellow", "false", "95000.0", "38", date.toString(), "4.1", "true", "grace.yellow@example.com", "2700.0", "Support", "F", "11000", "Ninety-five thousand", localDateTime.minusDays(10).toString(), "USD", "17000.00");
-            validateRow(sheet.getRow(10), "1010", "Henry Red", "true", "52000.0", "50", date.toString(), "3.8", "false", "henry.red@example.com", "2000.0", "Logistics", "M", "15000", "Fifty-two thousand", localDateTime.minusMonths(3).toString(), "AUD", "13000.10");
+            validateRow(sheet.getRow(1), "1001", "John Doe", "true", "60000", "30", dateText, "4.5", "true", "john.doe@example.com", "2000.5", "Engineering", "M", "5000", "Sixty thousand", localDateTime.toString(), "USD", "5000.75");
+            validateRow(sheet.getRow(2), "1002", "Jane Smith", "false", "75000", "28", dateText, "", "", "jane.smith@example.com", "", "Marketing", "F", "", "Seventy-five thousand", localDateTime.minusDays(1).toString(), "EUR", "10000");
+            validateRow(sheet.getRow(3), "1003", "Alice Brown", "true", "85000", "35", dateText, "5", "true", "alice.brown@example.com", "1500", "HR", "F", "12000", "Eighty-five thousand", localDateTime.minusHours(3).toString(), "GBP", "20000.5");
+            validateRow(sheet.getRow(4), "1004", "Bob White", "true", "95000", "40", dateText, "4", "false", "bob.white@example.com", "3000.5", "Finance", "M", "8000", "Ninety thousand", localDateTime.minusDays(2).toString(), "USD", "15000.25");
+            validateRow(sheet.getRow(5), "1005", "Charlie Black", "true", "105000", "", dateText, "3.5", "true", "charlie.black@example.com", "", "Engineering", "M", "", "One hundred thousand", localDateTime.minusDays(5).toString(), "AUD", "25000.75");
+            validateRow(sheet.getRow(6), "1006", "David Green", "false", "55000", "45", "", "4", "true", "david.green@example.com", "2500", "Sales", "M", "6000", "Fifty-five thousand", localDateTime.minusMonths(1).toString(), "USD", "8000");
+            validateRow(sheet.getRow(7), "1007", "Eve Blue", "true", "78000", "33", dateText, "4.3", "", "eve.blue@example.com", "1800", "IT", "F", "10000", "Seventy-eight thousand", localDateTime.minusWeeks(2).toString(), "GBP", "12000.5");
+            validateRow(sheet.getRow(8), "1008", "Frank Gray", "true", "63000", "29", dateText, "4.7", "true", "frank.gray@example.com", "2200", "Operations", "M", "", "Sixty-three thousand", localDateTime.minusMinutes(30).toString(), "EUR", "11000.25");
+            validateRow(sheet.getRow(9), "1009", "Grace Yellow", "false", "95000", "38", dateText, "4.1", "true", "grace.yellow@example.com", "2700", "Support", "F", "11000", "Ninety-five thousand", localDateTime.minusDays(10).toString(), "USD", "17000");
+            validateRow(sheet.getRow(10), "1010", "Henry Red", "true", "52000", "50", dateText, "3.8", "false", "henry.red@example.com", "2000", "Logistics", "M", "15000", "Fifty-two thousand", localDateTime.minusMonths(3).toString(), "AUD", "13000.1");
         }
 
         // Cleanup the test file
@@ -211,16 +231,16 @@ public class ExcelUtilitySimpleDtoFileIT {
             validateHeaders(sheet, "Employee ID", "Employee Name", "Is Active", "Salary", "Age", "Joining Date", "Performance Rating", "Eligible", "Email", "Account Balance", "Department", "Gender", "Yearly Bonus", "Salary in Words", "Last Updated", "Currency", "Bonus Amount");
 
             // Validate the contents of the Excel file for each row
-            validateRow(sheet.getRow(1), "1001", "John Doe", "true", "60000.0", "30", date.toString(), "4.5", "true", "john.doe@example.com", "2000.5", "Engineering", "M", "5000", "Sixty thousand", localDateTime.toString(), "USD", "5000.75");
-            validateRow(sheet.getRow(2), "1002", "Jane Smith", "false", "75000.0", "28", date.toString(), "", "", "jane.smith@example.com", "", "Marketing", "F", "", "Seventy-five thousand", localDateTime.minusDays(1).toString(), "EUR", "10000.00");
-            validateRow(sheet.getRow(3), "1003", "Alice Brown", "true", "85000.0", "35", date.toString(), "5.0", "true", "alice.brown@example.com", "1500.0", "HR", "F", "12000", "Eighty-five thousand", localDateTime.minusHours(3).toString(), "GBP", "20000.50");
-            validateRow(sheet.getRow(4), "1004", "Bob White", "true", "95000.0", "40", date.toString(), "4.0", "false", "bob.white@example.com", "3000.5", "Finance", "M", "8000", "Ninety thousand", localDateTime.minusDays(2).toString(), "USD", "15000.25");
-            validateRow(sheet.getRow(5), "1005", "Charlie Black", "true", "105000.0", "", date.toString(), "3.5", "true", "charlie.black@example.com", "", "Engineering", "M", "", "One hundred thousand", localDateTime.minusDays(5).toString(), "AUD", "25000.75");
-            validateRow(sheet.getRow(6), "1006", "David Green", "false", "55000.0", "45", "", "4.0", "true", "david.green@example.com", "2500.0", "Sales", "M", "6000", "Fifty-five thousand", localDateTime.minusMonths(1).toString(), "USD", "8000.00");
-            validateRow(sheet.getRow(7), "1007", "Eve Blue", "true", "78000.0", "33", date.toString(), "4.3", "", "eve.blue@example.com", "1800.0", "IT", "F", "10000", "Seventy-eight thousand", localDateTime.minusWeeks(2).toString(), "GBP", "12000.50");
-            validateRow(sheet.getRow(8), "1008", "Frank Gray", "true", "63000.0", "29", date.toString(), "4.7", "true", "frank.gray@example.com", "2200.0", "Operations", "M", "", "Sixty-three thousand", localDateTime.minusMinutes(30).toString(), "EUR", "11000.25");
-            validateRow(sheet.getRow(9), "1009", "Grace Yellow", "false", "95000.0", "38", date.toString(), "4.1", "true", "grace.yellow@example.com", "2700.0", "Support", "F", "11000", "Ninety-five thousand", localDateTime.minusDays(10).toString(), "USD", "17000.00");
-            validateRow(sheet.getRow(10), "1010", "Henry Red", "true", "52000.0", "50", date.toString(), "3.8", "false", "henry.red@example.com", "2000.0", "Logistics", "M", "15000", "Fifty-two thousand", localDateTime.minusMonths(3).toString(), "AUD", "13000.10");
+            validateRow(sheet.getRow(1), "1001", "John Doe", "true", "60000", "30", dateText, "4.5", "true", "john.doe@example.com", "2000.5", "Engineering", "M", "5000", "Sixty thousand", localDateTime.toString(), "USD", "5000.75");
+            validateRow(sheet.getRow(2), "1002", "Jane Smith", "false", "75000", "28", dateText, "", "", "jane.smith@example.com", "", "Marketing", "F", "", "Seventy-five thousand", localDateTime.minusDays(1).toString(), "EUR", "10000");
+            validateRow(sheet.getRow(3), "1003", "Alice Brown", "true", "85000", "35", dateText, "5", "true", "alice.brown@example.com", "1500", "HR", "F", "12000", "Eighty-five thousand", localDateTime.minusHours(3).toString(), "GBP", "20000.5");
+            validateRow(sheet.getRow(4), "1004", "Bob White", "true", "95000", "40", dateText, "4", "false", "bob.white@example.com", "3000.5", "Finance", "M", "8000", "Ninety thousand", localDateTime.minusDays(2).toString(), "USD", "15000.25");
+            validateRow(sheet.getRow(5), "1005", "Charlie Black", "true", "105000", "", dateText, "3.5", "true", "charlie.black@example.com", "", "Engineering", "M", "", "One hundred thousand", localDateTime.minusDays(5).toString(), "AUD", "25000.75");
+            validateRow(sheet.getRow(6), "1006", "David Green", "false", "55000", "45", "", "4", "true", "david.green@example.com", "2500", "Sales", "M", "6000", "Fifty-five thousand", localDateTime.minusMonths(1).toString(), "USD", "8000");
+            validateRow(sheet.getRow(7), "1007", "Eve Blue", "true", "78000", "33", dateText, "4.3", "", "eve.blue@example.com", "1800", "IT", "F", "10000", "Seventy-eight thousand", localDateTime.minusWeeks(2).toString(), "GBP", "12000.5");
+            validateRow(sheet.getRow(8), "1008", "Frank Gray", "true", "63000", "29", dateText, "4.7", "true", "frank.gray@example.com", "2200", "Operations", "M", "", "Sixty-three thousand", localDateTime.minusMinutes(30).toString(), "EUR", "11000.25");
+            validateRow(sheet.getRow(9), "1009", "Grace Yellow", "false", "95000", "38", dateText, "4.1", "true", "grace.yellow@example.com", "2700", "Support", "F", "11000", "Ninety-five thousand", localDateTime.minusDays(10).toString(), "USD", "17000");
+            validateRow(sheet.getRow(10), "1010", "Henry Red", "true", "52000", "50", dateText, "3.8", "false", "henry.red@example.com", "2000", "Logistics", "M", "15000", "Fifty-two thousand", localDateTime.minusMonths(3).toString(), "AUD", "13000.1");
         }
 
         // Cleanup the test file
@@ -251,16 +271,16 @@ public class ExcelUtilitySimpleDtoFileIT {
             validateHeaders(sheet, "Employee ID", "Employee Name", "Is Active", "Salary", "Age", "Joining Date", "Performance Rating", "Eligible", "Email", "Account Balance", "Department", "Gender", "Yearly Bonus", "Salary in Words", "Last Updated", "Currency", "Bonus Amount");
 
             // Validate the contents of the Excel file for each row
-            validateRow(sheet.getRow(1), "1001", "John Doe", "true", "60000.0", "30", date.toString(), "4.5", "true", "john.doe@example.com", "2000.5", "Engineering", "M", "5000", "Sixty thousand", localDateTime.toString(), "USD", "5000.75");
-            validateRow(sheet.getRow(2), "1002", "Jane Smith", "false", "75000.0", "28", date.toString(), "", "", "jane.smith@example.com", "", "Marketing", "F", "", "Seventy-five thousand", localDateTime.minusDays(1).toString(), "EUR", "10000.00");
-            validateRow(sheet.getRow(3), "1003", "Alice Brown", "true", "85000.0", "35", date.toString(), "5.0", "true", "alice.brown@example.com", "1500.0", "HR", "F", "12000", "Eighty-five thousand", localDateTime.minusHours(3).toString(), "GBP", "20000.50");
-            validateRow(sheet.getRow(4), "1004", "Bob White", "true", "95000.0", "40", date.toString(), "4.0", "false", "bob.white@example.com", "3000.5", "Finance", "M", "8000", "Ninety thousand", localDateTime.minusDays(2).toString(), "USD", "15000.25");
-            validateRow(sheet.getRow(5), "1005", "Charlie Black", "true", "105000.0", "", date.toString(), "3.5", "true", "charlie.black@example.com", "", "Engineering", "M", "", "One hundred thousand", localDateTime.minusDays(5).toString(), "AUD", "25000.75");
-            validateRow(sheet.getRow(6), "1006", "David Green", "false", "55000.0", "45", "", "4.0", "true", "david.green@example.com", "2500.0", "Sales", "M", "6000", "Fifty-five thousand", localDateTime.minusMonths(1).toString(), "USD", "8000.00");
-            validateRow(sheet.getRow(7), "1007", "Eve Blue", "true", "78000.0", "33", date.toString(), "4.3", "", "eve.blue@example.com", "1800.0", "IT", "F", "10000", "Seventy-eight thousand", localDateTime.minusWeeks(2).toString(), "GBP", "12000.50");
-            validateRow(sheet.getRow(8), "1008", "Frank Gray", "true", "63000.0", "29", date.toString(), "4.7", "true", "frank.gray@example.com", "2200.0", "Operations", "M", "", "Sixty-three thousand", localDateTime.minusMinutes(30).toString(), "EUR", "11000.25");
-            validateRow(sheet.getRow(9), "1009", "Grace Yellow", "false", "95000.0", "38", date.toString(), "4.1", "true", "grace.yellow@example.com", "2700.0", "Support", "F", "11000", "Ninety-five thousand", localDateTime.minusDays(10).toString(), "USD", "17000.00");
-            validateRow(sheet.getRow(10), "1010", "Henry Red", "true", "52000.0", "50", date.toString(), "3.8", "false", "henry.red@example.com", "2000.0", "Logistics", "M", "15000", "Fifty-two thousand", localDateTime.minusMonths(3).toString(), "AUD", "13000.10");
+            validateRow(sheet.getRow(1), "1001", "John Doe", "true", "60000", "30", dateText, "4.5", "true", "john.doe@example.com", "2000.5", "Engineering", "M", "5000", "Sixty thousand", localDateTime.toString(), "USD", "5000.75");
+            validateRow(sheet.getRow(2), "1002", "Jane Smith", "false", "75000", "28", dateText, "", "", "jane.smith@example.com", "", "Marketing", "F", "", "Seventy-five thousand", localDateTime.minusDays(1).toString(), "EUR", "10000");
+            validateRow(sheet.getRow(3), "1003", "Alice Brown", "true", "85000", "35", dateText, "5", "true", "alice.brown@example.com", "1500", "HR", "F", "12000", "Eighty-five thousand", localDateTime.minusHours(3).toString(), "GBP", "20000.5");
+            validateRow(sheet.getRow(4), "1004", "Bob White", "true", "95000", "40", dateText, "4", "false", "bob.white@example.com", "3000.5", "Finance", "M", "8000", "Ninety thousand", localDateTime.minusDays(2).toString(), "USD", "15000.25");
+            validateRow(sheet.getRow(5), "1005", "Charlie Black", "true", "105000", "", dateText, "3.5", "true", "charlie.black@example.com", "", "Engineering", "M", "", "One hundred thousand", localDateTime.minusDays(5).toString(), "AUD", "25000.75");
+            validateRow(sheet.getRow(6), "1006", "David Green", "false", "55000", "45", "", "4", "true", "david.green@example.com", "2500", "Sales", "M", "6000", "Fifty-five thousand", localDateTime.minusMonths(1).toString(), "USD", "8000");
+            validateRow(sheet.getRow(7), "1007", "Eve Blue", "true", "78000", "33", dateText, "4.3", "", "eve.blue@example.com", "1800", "IT", "F", "10000", "Seventy-eight thousand", localDateTime.minusWeeks(2).toString(), "GBP", "12000.5");
+            validateRow(sheet.getRow(8), "1008", "Frank Gray", "true", "63000", "29", dateText, "4.7", "true", "frank.gray@example.com", "2200", "Operations", "M", "", "Sixty-three thousand", localDateTime.minusMinutes(30).toString(), "EUR", "11000.25");
+            validateRow(sheet.getRow(9), "1009", "Grace Yellow", "false", "95000", "38", dateText, "4.1", "true", "grace.yellow@example.com", "2700", "Support", "F", "11000", "Ninety-five thousand", localDateTime.minusDays(10).toString(), "USD", "17000");
+            validateRow(sheet.getRow(10), "1010", "Henry Red", "true", "52000", "50", dateText, "3.8", "false", "henry.red@example.com", "2000", "Logistics", "M", "15000", "Fifty-two thousand", localDateTime.minusMonths(3).toString(), "AUD", "13000.1");
         }
 
         // Cleanup the test file
@@ -291,16 +311,16 @@ public class ExcelUtilitySimpleDtoFileIT {
             validateHeaders(sheet, "Employee ID", "Employee Name", "Is Active", "Salary", "Age", "Joining Date", "Performance Rating", "Eligible", "Email", "Account Balance", "Department", "Gender", "Yearly Bonus", "Salary in Words", "Last Updated", "Currency", "Bonus Amount");
 
             // Validate the contents of the Excel file for each row
-            validateRow(sheet.getRow(1), "1001", "John Doe", "true", "60000.0", "30", date.toString(), "4.5", "true", "john.doe@example.com", "2000.5", "Engineering", "M", "5000", "Sixty thousand", localDateTime.toString(), "USD", "5000.75");
-            validateRow(sheet.getRow(2), "1002", "Jane Smith", "false", "75000.0", "28", date.toString(), "", "", "jane.smith@example.com", "", "Marketing", "F", "", "Seventy-five thousand", localDateTime.minusDays(1).toString(), "EUR", "10000.00");
-            validateRow(sheet.getRow(3), "1003", "Alice Brown", "true", "85000.0", "35", date.toString(), "5.0", "true", "alice.brown@example.com", "1500.0", "HR", "F", "12000", "Eighty-five thousand", localDateTime.minusHours(3).toString(), "GBP", "20000.50");
-            validateRow(sheet.getRow(4), "1004", "Bob White", "true", "95000.0", "40", date.toString(), "4.0", "false", "bob.white@example.com", "3000.5", "Finance", "M", "8000", "Ninety thousand", localDateTime.minusDays(2).toString(), "USD", "15000.25");
-            validateRow(sheet.getRow(5), "1005", "Charlie Black", "true", "105000.0", "", date.toString(), "3.5", "true", "charlie.black@example.com", "", "Engineering", "M", "", "One hundred thousand", localDateTime.minusDays(5).toString(), "AUD", "25000.75");
-            validateRow(sheet.getRow(6), "1006", "David Green", "false", "55000.0", "45", "", "4.0", "true", "david.green@example.com", "2500.0", "Sales", "M", "6000", "Fifty-five thousand", localDateTime.minusMonths(1).toString(), "USD", "8000.00");
-            validateRow(sheet.getRow(7), "1007", "Eve Blue", "true", "78000.0", "33", date.toString(), "4.3", "", "eve.blue@example.com", "1800.0", "IT", "F", "10000", "Seventy-eight thousand", localDateTime.minusWeeks(2).toString(), "GBP", "12000.50");
-            validateRow(sheet.getRow(8), "1008", "Frank Gray", "true", "63000.0", "29", date.toString(), "4.7", "true", "frank.gray@example.com", "2200.0", "Operations", "M", "", "Sixty-three thousand", localDateTime.minusMinutes(30).toString(), "EUR", "11000.25");
-            validateRow(sheet.getRow(9), "1009", "Grace Yellow", "false", "95000.0", "38", date.toString(), "4.1", "true", "grace.yellow@example.com", "2700.0", "Support", "F", "11000", "Ninety-five thousand", localDateTime.minusDays(10).toString(), "USD", "17000.00");
-            validateRow(sheet.getRow(10), "1010", "Henry Red", "true", "52000.0", "50", date.toString(), "3.8", "false", "henry.red@example.com", "2000.0", "Logistics", "M", "15000", "Fifty-two thousand", localDateTime.minusMonths(3).toString(), "AUD", "13000.10");
+            validateRow(sheet.getRow(1), "1001", "John Doe", "true", "60000", "30", dateText, "4.5", "true", "john.doe@example.com", "2000.5", "Engineering", "M", "5000", "Sixty thousand", localDateTime.toString(), "USD", "5000.75");
+            validateRow(sheet.getRow(2), "1002", "Jane Smith", "false", "75000", "28", dateText, "", "", "jane.smith@example.com", "", "Marketing", "F", "", "Seventy-five thousand", localDateTime.minusDays(1).toString(), "EUR", "10000");
+            validateRow(sheet.getRow(3), "1003", "Alice Brown", "true", "85000", "35", dateText, "5", "true", "alice.brown@example.com", "1500", "HR", "F", "12000", "Eighty-five thousand", localDateTime.minusHours(3).toString(), "GBP", "20000.5");
+            validateRow(sheet.getRow(4), "1004", "Bob White", "true", "95000", "40", dateText, "4", "false", "bob.white@example.com", "3000.5", "Finance", "M", "8000", "Ninety thousand", localDateTime.minusDays(2).toString(), "USD", "15000.25");
+            validateRow(sheet.getRow(5), "1005", "Charlie Black", "true", "105000", "", dateText, "3.5", "true", "charlie.black@example.com", "", "Engineering", "M", "", "One hundred thousand", localDateTime.minusDays(5).toString(), "AUD", "25000.75");
+            validateRow(sheet.getRow(6), "1006", "David Green", "false", "55000", "45", "", "4", "true", "david.green@example.com", "2500", "Sales", "M", "6000", "Fifty-five thousand", localDateTime.minusMonths(1).toString(), "USD", "8000");
+            validateRow(sheet.getRow(7), "1007", "Eve Blue", "true", "78000", "33", dateText, "4.3", "", "eve.blue@example.com", "1800", "IT", "F", "10000", "Seventy-eight thousand", localDateTime.minusWeeks(2).toString(), "GBP", "12000.5");
+            validateRow(sheet.getRow(8), "1008", "Frank Gray", "true", "63000", "29", dateText, "4.7", "true", "frank.gray@example.com", "2200", "Operations", "M", "", "Sixty-three thousand", localDateTime.minusMinutes(30).toString(), "EUR", "11000.25");
+            validateRow(sheet.getRow(9), "1009", "Grace Yellow", "false", "95000", "38", dateText, "4.1", "true", "grace.yellow@example.com", "2700", "Support", "F", "11000", "Ninety-five thousand", localDateTime.minusDays(10).toString(), "USD", "17000");
+            validateRow(sheet.getRow(10), "1010", "Henry Red", "true", "52000", "50", dateText, "3.8", "false", "henry.red@example.com", "2000", "Logistics", "M", "15000", "Fifty-two thousand", localDateTime.minusMonths(3).toString(), "AUD", "13000.1");
         }
 
         // Cleanup the test file
@@ -331,16 +351,16 @@ public class ExcelUtilitySimpleDtoFileIT {
             validateHeaders(sheet, "Employee ID", "Employee Name", "Is Active", "Salary", "Age", "Joining Date", "Performance Rating", "Eligible", "Email", "Account Balance", "Department", "Gender", "Yearly Bonus", "Salary in Words", "Last Updated", "Currency", "Bonus Amount");
 
             // Validate the contents of the Excel file for each row
-            validateRow(sheet.getRow(1), "1001", "John Doe", "true", "60000.0", "30", date.toString(), "4.5", "true", "john.doe@example.com", "2000.5", "Engineering", "M", "5000", "Sixty thousand", localDateTime.toString(), "USD", "5000.75");
-            validateRow(sheet.getRow(2), "1002", "Jane Smith", "false", "75000.0", "28", date.toString(), "", "", "jane.smith@example.com", "", "Marketing", "F", "", "Seventy-five thousand", localDateTime.minusDays(1).toString(), "EUR", "10000.00");
-            validateRow(sheet.getRow(3), "1003", "Alice Brown", "true", "85000.0", "35", date.toString(), "5.0", "true", "alice.brown@example.com", "1500.0", "HR", "F", "12000", "Eighty-five thousand", localDateTime.minusHours(3).toString(), "GBP", "20000.50");
-            validateRow(sheet.getRow(4), "1004", "Bob White", "true", "95000.0", "40", date.toString(), "4.0", "false", "bob.white@example.com", "3000.5", "Finance", "M", "8000", "Ninety thousand", localDateTime.minusDays(2).toString(), "USD", "15000.25");
-            validateRow(sheet.getRow(5), "1005", "Charlie Black", "true", "105000.0", "", date.toString(), "3.5", "true", "charlie.black@example.com", "", "Engineering", "M", "", "One hundred thousand", localDateTime.minusDays(5).toString(), "AUD", "25000.75");
-            validateRow(sheet.getRow(6), "1006", "David Green", "false", "55000.0", "45", "", "4.0", "true", "david.green@example.com", "2500.0", "Sales", "M", "6000", "Fifty-five thousand", localDateTime.minusMonths(1).toString(), "USD", "8000.00");
-            validateRow(sheet.getRow(7), "1007", "Eve Blue", "true", "78000.0", "33", date.toString(), "4.3", "", "eve.blue@example.com", "1800.0", "IT", "F", "10000", "Seventy-eight thousand", localDateTime.minusWeeks(2).toString(), "GBP", "12000.50");
-            validateRow(sheet.getRow(8), "1008", "Frank Gray", "true", "63000.0", "29", date.toString(), "4.7", "true", "frank.gray@example.com", "2200.0", "Operations", "M", "", "Sixty-three thousand", localDateTime.minusMinutes(30).toString(), "EUR", "11000.25");
-            validateRow(sheet.getRow(9), "1009", "Grace Yellow", "false", "95000.0", "38", date.toString(), "4.1", "true", "grace.yellow@example.com", "2700.0", "Support", "F", "11000", "Ninety-five thousand", localDateTime.minusDays(10).toString(), "USD", "17000.00");
-            validateRow(sheet.getRow(10), "1010", "Henry Red", "true", "52000.0", "50", date.toString(), "3.8", "false", "henry.red@example.com", "2000.0", "Logistics", "M", "15000", "Fifty-two thousand", localDateTime.minusMonths(3).toString(), "AUD", "13000.10");
+            validateRow(sheet.getRow(1), "1001", "John Doe", "true", "60000", "30", dateText, "4.5", "true", "john.doe@example.com", "2000.5", "Engineering", "M", "5000", "Sixty thousand", localDateTime.toString(), "USD", "5000.75");
+            validateRow(sheet.getRow(2), "1002", "Jane Smith", "false", "75000", "28", dateText, "", "", "jane.smith@example.com", "", "Marketing", "F", "", "Seventy-five thousand", localDateTime.minusDays(1).toString(), "EUR", "10000");
+            validateRow(sheet.getRow(3), "1003", "Alice Brown", "true", "85000", "35", dateText, "5", "true", "alice.brown@example.com", "1500", "HR", "F", "12000", "Eighty-five thousand", localDateTime.minusHours(3).toString(), "GBP", "20000.5");
+            validateRow(sheet.getRow(4), "1004", "Bob White", "true", "95000", "40", dateText, "4", "false", "bob.white@example.com", "3000.5", "Finance", "M", "8000", "Ninety thousand", localDateTime.minusDays(2).toString(), "USD", "15000.25");
+            validateRow(sheet.getRow(5), "1005", "Charlie Black", "true", "105000", "", dateText, "3.5", "true", "charlie.black@example.com", "", "Engineering", "M", "", "One hundred thousand", localDateTime.minusDays(5).toString(), "AUD", "25000.75");
+            validateRow(sheet.getRow(6), "1006", "David Green", "false", "55000", "45", "", "4", "true", "david.green@example.com", "2500", "Sales", "M", "6000", "Fifty-five thousand", localDateTime.minusMonths(1).toString(), "USD", "8000");
+            validateRow(sheet.getRow(7), "1007", "Eve Blue", "true", "78000", "33", dateText, "4.3", "", "eve.blue@example.com", "1800", "IT", "F", "10000", "Seventy-eight thousand", localDateTime.minusWeeks(2).toString(), "GBP", "12000.5");
+            validateRow(sheet.getRow(8), "1008", "Frank Gray", "true", "63000", "29", dateText, "4.7", "true", "frank.gray@example.com", "2200", "Operations", "M", "", "Sixty-three thousand", localDateTime.minusMinutes(30).toString(), "EUR", "11000.25");
+            validateRow(sheet.getRow(9), "1009", "Grace Yellow", "false", "95000", "38", dateText, "4.1", "true", "grace.yellow@example.com", "2700", "Support", "F", "11000", "Ninety-five thousand", localDateTime.minusDays(10).toString(), "USD", "17000");
+            validateRow(sheet.getRow(10), "1010", "Henry Red", "true", "52000", "50", dateText, "3.8", "false", "henry.red@example.com", "2000", "Logistics", "M", "15000", "Fifty-two thousand", localDateTime.minusMonths(3).toString(), "AUD", "13000.1");
         }
 
         // Cleanup the test file
@@ -60,4 +60,39 @@ public interface Config {
      * <p>If no sheet name is specified, the default name "Sheet" will be used.</p>
      */
     String DEFAULT_SHEET_NAME = "Sheet";
+
+    /**
+     * Maximum number of characters Excel accepts in a sheet name.
+     */
+    int MAX_SHEET_NAME_LENGTH = 31;
+
+    /**
+     * Maximum number of characters Excel accepts in a single cell.
+     */
+    int MAX_CELL_LENGTH = 32767;
+
+    /**
+     * Length a cell value is cut to when it exceeds {@link #MAX_CELL_LENGTH}.
+     */
+    int TRUNCATED_CELL_LENGTH = 32760;
+
+    /**
+     * Number of rows rendered per task when rows are rendered on multiple threads.
+     */
+    int PARALLEL_BATCH_SIZE = 256;
+
+    /**
+     * Number of pages of a {@link PageSource} fetched ahead of the page being written.
+     */
+    int PREFETCH_PAGES = 2;
+
+    /**
+     * Excel data format applied to {@code LocalDate} columns.
+     */
+    String DATE_FORMAT = "yyyy-mm-dd";
+
+    /**
+     * Excel data format applied to {@code LocalDateTime}, {@code Date} and {@code Calendar} columns.
+     */
+    String DATE_TIME_FORMAT = "yyyy-mm-dd hh:mm:ss";
 }
@@ -0,0 +1,177 @@
+package com.excel.utility;
+
+import com.excel.utility.dto.ExportSummary;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Runs many {@link ExportJob}s concurrently, each on its own thread, with a limit on how many workbooks are open at
+ * once.
+ * <p>
+ * On a Java runtime with virtual threads, every job gets a virtual thread, so jobs blocked in a query or on a disk
+ * cost no platform thread. Elsewhere the jobs share a pool of platform threads, one per workbook slot. In both cases
+ * a job holds a slot from the moment its source is opened until its file is closed, which bounds the memory, temp
+ * files and file handles in use however many jobs are queued.
+ * <p>
+ * All jobs are exported through one {@link ExcelUtility}, so its extractor and processor are shared, as are the
+ * JVM-wide column metadata plans and generated row writers; each workbook creates its pooled styles once. The
+ * utility's extractor and processor are therefore called concurrently and must be thread-safe; the defaults are.
+ * Closing the service waits for the submitted jobs to finish.
+ */
+public class ExcelExportService implements AutoCloseable {
+
+    private final ExcelUtility excelUtility;
+    private final int maxOpenWorkbooks;
+    private final Semaphore openWorkbooks;
+    private final boolean virtualThreads;
+    private final ExecutorService executor;
+
+    /**
+     * Creates a service with the default {@link ExcelUtility} and one workbook slot per available processor.
+     */
+    public ExcelExportService() {
+        this(new ExcelUtility(), Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * @param excelUtility     The utility every job is exported with.
+     * @param maxOpenWorkbooks The number of jobs that may have a workbook open at once; at least 1.
+     */
+    public ExcelExportService(ExcelUtility excelUtility, int maxOpenWorkbooks) {
+        if (excelUtility == null) {
+            throw new IllegalArgumentException("The excel utility cannot be null.");
+        }
+        this.excelUtility = excelUtility;
+        this.maxOpenWorkbooks = Math.max(maxOpenWorkbooks, 1);
+        this.openWorkbooks = new Semaphore(this.maxOpenWorkbooks, true);
+
+        ThreadFactory virtualThreadFactory = virtualThreadFactory();
+        this.virtualThreads = virtualThreadFactory != null;
+        this.executor = virtualThreads
+                ? new ThreadPoolExecutor(0, Integer.MAX_VALUE, 0, TimeUnit.SECONDS, new SynchronousQueue<>(),
+                virtualThreadFactory)
+                : new ThreadPoolExecutor(this.maxOpenWorkbooks, this.maxOpenWorkbooks, 0, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), platformThreadFactory());
+    }
+
+    /**
+     * Queues a job and returns its summary once the file is written.
+     * <p>
+     * The future completes exceptionally with whatever the source or the export threw. Cancelling it before the job
+     * has started skips the job; a started job runs to the end.
+     *
+     * @throws java.util.concurrent.RejectedExecutionException if the service is closed
+     */
+    public <T> CompletableFuture<ExportSummary> submit(ExportJob<T> job) {
+        if (job == null) {
+            throw new IllegalArgumentException("The export job cannot be null.");
+        }
+        CompletableFuture<ExportSummary> result = new CompletableFuture<>();
+        executor.execute(() -> {
+            if (result.isDone()) {
+                return;
+            }
+            try {
+                result.complete(run(job));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                result.completeExceptionally(e);
+            } catch (Exception | Error e) {
+                result.completeExceptionally(e);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Queues every job and returns their summaries in the order of the collection, once all of them are written. The
+     * future completes exceptionally if any job fails; the other jobs still run.
+     */
+    public CompletableFuture<List<ExportSummary>> submitAll(Collection<? extends ExportJob<?>> jobs) {
+        if (jobs == null) {
+            throw new IllegalArgumentException("The export jobs cannot be null.");
+        }
+        List<CompletableFuture<ExportSummary>> results = new ArrayList<>(jobs.size());
+        for (ExportJob<?> job : jobs) {
+            results.add(submit(job));
+        }
+        return CompletableFuture.allOf(results.toArray(new CompletableFuture<?>[0]))
+                .thenApply(ignored -> results.stream().map(CompletableFuture::join).collect(Collectors.toList()));
+    }
+
+    /**
+     * @return whether jobs run on virtual threads; false on runtimes without them.
+     */
+    public boolean usesVirtualThreads() {
+        return virtualThreads;
+    }
+
+    public int getMaxOpenWorkbooks() {
+        return maxOpenWorkbooks;
+    }
+
+    /**
+     * Stops accepting jobs and waits for the submitted ones to finish. If the waiting thread is interrupted, the
+     * jobs keep running and the interrupt status is restored.
+     */
+    @Override
+    public void close() {
+        executor.shutdown();
+        try {
+            executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private <T> ExportSummary run(ExportJob<T> job) throws Exception {
+        openWorkbooks.acquire();
+        try (Stream<T> dataStream = job.getSource().call()) {
+            return excelUtility.exportTo(job.getPath(), dataStream, job.getType(), job.getSheetName(),
+                    job.getBackend());
+        } finally {
+            openWorkbooks.release();
+        }
+    }
+
+    /**
+     * Looks up {@code Thread.ofVirtual().name("excel-utility-export-", 1).factory()} reflectively, so the library
+     * still runs on runtimes before virtual threads.
+     *
+     * @return the factory, or null when virtual threads are unavailable or only a disabled preview.
+     */
+    private static ThreadFactory virtualThreadFactory() {
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+            Method name = builderType.getMethod("name", String.class, long.class);
+            builder = name.invoke(builder, "excel-utility-export-", 1L);
+            return (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static ThreadFactory platformThreadFactory() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "excel-utility-export-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,247 @@
+package com.excel.utility;
+
+import com.excel.utility.dto.ExportSummary;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static com.excel.utility.Config.DEFAULT_SHEET_NAME;
+
+/**
+ * A {@link Flow.Subscriber} that exports the items of a {@link Flow.Publisher} as the rows of a sheet, written as
+ * they arrive.
+ * <p>
+ * Once subscribed, the sink exports on its own thread through the regular row pipeline and requests items in
+ * batches as that thread writes them: two batches up front, and one more each time a batch has been written. At
+ * most two batches are therefore held in memory, and a slow disk or workbook slows the upstream down instead of
+ * growing the heap. The default batch size is SXSSF's row access window, so each batch is about one flush of
+ * rows.
+ * <p>
+ * {@link #getResult()} completes with the export's summary when the publisher completes and the package is
+ * written. It completes exceptionally with the publisher's error, which aborts the export, or with the export's
+ * failure, which cancels the subscription. Cancelling the result cancels the subscription and aborts the export.
+ * A sink subscribes once; further subscriptions are cancelled.
+ *
+ * @param <T> the POJO class of the items
+ */
+public class ExcelSink<T> implements Flow.Subscriber<T> {
+
+    private static final AtomicInteger THREAD_NUMBER = new AtomicInteger();
+
+    /**
+     * Queued after the last item when the publisher completes.
+     */
+    private static final Object COMPLETE = new Object();
+
+    private final Exporter<T> exporter;
+    private final int batchSize;
+    private final BlockingQueue<Object> signals = new LinkedBlockingQueue<>();
+    private final CompletableFuture<ExportSummary> result = new CompletableFuture<>();
+    private final AtomicBoolean subscribed = new AtomicBoolean();
+    private volatile Flow.Subscription subscription;
+    private volatile Throwable publisherError;
+
+    /**
+     * Creates a sink that exports an XLSX package through the {@link ExportBackend#POI} backend to a stream, which
+     * is flushed but not closed.
+     */
+    public ExcelSink(ExcelUtility excelUtility, OutputStream outputStream, Class<T> type, String sheetName) {
+        this(excelUtility, outputStream, type, sheetName, ExportBackend.POI, SXSSFWorkbook.DEFAULT_WINDOW_SIZE);
+    }
+
+    /**
+     * Creates a sink that exports to a stream, which is flushed but not closed.
+     *
+     * @param sheetName The sheet name, or null for {@link Config#DEFAULT_SHEET_NAME}.
+     * @param batchSize The number of items requested at a time; at least 1.
+     */
+    public ExcelSink(ExcelUtility excelUtility, OutputStream outputStream, Class<T> type, String sheetName,
+                     ExportBackend backend, int batchSize) {
+        this(excelUtility, type, backend, batchSize, rows -> excelUtility.exportTo(outputStream, rows, type,
+                sheetName == null ? DEFAULT_SHEET_NAME : sheetName, backend));
+        if (outputStream == null) {
+            throw new IllegalArgumentException("The output stream cannot be null.");
+        }
+    }
+
+    /**
+     * Creates a sink that exports an XLSX package through the {@link ExportBackend#POI} backend to a file, which is
+     * created or truncated and closed.
+     */
+    public ExcelSink(ExcelUtility excelUtility, Path path, Class<T> type, String sheetName) {
+        this(excelUtility, path, type, sheetName, ExportBackend.POI, SXSSFWorkbook.DEFAULT_WINDOW_SIZE);
+    }
+
+    /**
+     * Creates a sink that exports to a file, which is created or truncated and closed.
+     *
+     * @param sheetName The sheet name, or null for {@link Config#DEFAULT_SHEET_NAME}.
+     * @param batchSize The number of items requested at a time; at least 1.
+     */
+    public ExcelSink(ExcelUtility excelUtility, Path path, Class<T> type, String sheetName, ExportBackend backend,
+                     int batchSize) {
+        this(excelUtility, type, backend, batchSize, rows -> excelUtility.exportTo(path, rows, type,
+                sheetName == null ? DEFAULT_SHEET_NAME : sheetName, backend));
+        if (path == null) {
+            throw new IllegalArgumentException("The path cannot be null.");
+        }
+    }
+
+    private ExcelSink(ExcelUtility excelUtility, Class<T> type, ExportBackend backend, int batchSize,
+                      Exporter<T> exporter) {
+        if (excelUtility == null) {
+            throw new IllegalArgumentException("The excel utility cannot be null.");
+        }
+        if (type == null) {
+            throw new IllegalArgumentException("The type cannot be null.");
+        }
+        if (backend == null) {
+            throw new IllegalArgumentException("The export backend cannot be null.");
+        }
+        this.exporter = exporter;
+        this.batchSize = Math.max(batchSize, 1);
+    }
+
+    /**
+     * @return the summary of the export, once the publisher has completed and the package is written.
+     */
+    public CompletableFuture<ExportSummary> getResult() {
+        return result;
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        Objects.requireNonNull(subscription, "subscription");
+        if (!subscribed.compareAndSet(false, true) || result.isDone()) {
+            subscription.cancel();
+            return;
+        }
+        this.subscription = subscription;
+
+        Thread thread = new Thread(this::export, "excel-utility-sink-" + THREAD_NUMBER.incrementAndGet());
+        thread.setDaemon(true);
+        result.whenComplete((summary, failure) -> {
+            if (result.isCancelled()) {
+                subscription.cancel();
+                // Wakes the export thread, which fails on its next row and closes the target.
+                signals.add(new Failure(failure));
+            }
+        });
+        thread.start();
+    }
+
+    @Override
+    public void onNext(T item) {
+        signals.add(Objects.requireNonNull(item, "item"));
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        signals.add(new Failure(Objects.requireNonNull(throwable, "throwable")));
+    }
+
+    @Override
+    public void onComplete() {
+        signals.add(COMPLETE);
+    }
+
+    /**
+     * Runs the export on the sink's thread, pulling rows from the queued signals.
+     */
+    private void export() {
+        try {
+            result.complete(exporter.export(StreamSupport.stream(new RowSpliterator(), false)));
+        } catch (IOException | RuntimeException | Error e) {
+            if (publisherError != null) {
+                result.completeExceptionally(publisherError);
+            } else {
+                subscription.cancel();
+                result.completeExceptionally(e);
+            }
+        } finally {
+            signals.clear();
+        }
+    }
+
+    /**
+     * Exports a stream of rows to the sink's target.
+     */
+    @FunctionalInterface
+    private interface Exporter<T> {
+        ExportSummary export(Stream<T> rows) throws IOException;
+    }
+
+    private static final class Failure {
+        private final Throwable error;
+
+        private Failure(Throwable error) {
+            this.error = error;
+        }
+    }
+
+    /**
+     * Takes the queued items in order, requesting the next batch from the publisher each time a batch has been
+     * taken, and ends when the publisher completes.
+     */
+    private final class RowSpliterator extends Spliterators.AbstractSpliterator<T> {
+        private boolean started;
+        private boolean done;
+        private int taken;
+
+        private RowSpliterator() {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (done) {
+                return false;
+            }
+            if (!started) {
+                started = true;
+                subscription.request(2L * batchSize);
+            } else if (taken == batchSize) {
+                taken = 0;
+                subscription.request(batchSize);
+            }
+
+            Object signal = take();
+            if (signal == COMPLETE) {
+                done = true;
+                return false;
+            }
+            if (signal instanceof Failure) {
+                done = true;
+                publisherError = ((Failure) signal).error;
+                throw new IllegalStateException("The publisher failed.", publisherError);
+            }
+            taken++;
+            action.accept((T) signal);
+            return true;
+        }
+
+        private Object take() {
+            try {
+                return signals.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for rows.", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,384 @@
+package com.excel.utility;
+
+import com.excel.utility.dto.ExportSummary;
+import com.excel.utility.extractor.FieldExtractor;
+import com.excel.utility.processor.ObjectValueProcessor;
+import com.excel.utility.processor.impl.DefaultObjectValueProcessor;
+import com.excel.utility.writer.ZipCompression;
+import org.apache.poi.hssf.usermodel.HSSFWorkbook;
+import org.apache.poi.ss.SpreadsheetVersion;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static com.excel.utility.Config.DEFAULT_SHEET_NAME;
+import static com.excel.utility.Config.PREFETCH_PAGES;
+
+/**
+ * The {@code ExcelUtility} class provides functionality to map a list or stream of Plain Old Java Objects (POJOs)
+ * into an Excel workbook, facilitating data export from Java applications to Excel format.
+ * It uses annotations to map fields in POJOs to columns in the Excel sheet, making the process simple and customizable.
+ */
+public class ExcelUtility {
+
+    private final FieldExtractor fieldExtractor;
+    private final ObjectValueProcessor objectValueProcessor;
+    private final ExcelUtilityHelper excelUtilityHelper;
+
+    /**
+     * Default constructor initializing the utility with default implementations.
+     */
+    public ExcelUtility() {
+        this(new FieldExtractor(), new DefaultObjectValueProcessor());
+    }
+
+    /**
+     * Constructor for custom {@link FieldExtractor}.
+     */
+    public ExcelUtility(FieldExtractor fieldExtractor) {
+        this(fieldExtractor, new DefaultObjectValueProcessor());
+    }
+
+    /**
+     * Constructor for custom {@link ObjectValueProcessor}.
+     */
+    public ExcelUtility(ObjectValueProcessor objectValueProcessor) {
+        this(new FieldExtractor(), objectValueProcessor);
+    }
+
+    /**
+     * Constructor for custom {@link FieldExtractor} and {@link ObjectValueProcessor}.
+     */
+    public ExcelUtility(FieldExtractor fieldExtractor, ObjectValueProcessor objectValueProcessor) {
+        this(fieldExtractor, objectValueProcessor, 1);
+    }
+
+    /**
+     * Constructor for custom {@link FieldExtractor} and {@link ObjectValueProcessor} with parallel row rendering.
+     * <p>
+     * With more than one render thread, each export extracts and processes rows in batches on that many worker
+     * threads while the calling thread writes them to the sheet in input order. The extractor and processor are
+     * then called concurrently and must be thread-safe; the defaults are.
+     *
+     * @param renderThreads The number of worker threads per export; 1 or less renders on the calling thread.
+     */
+    public ExcelUtility(FieldExtractor fieldExtractor, ObjectValueProcessor objectValueProcessor, int renderThreads) {
+        this(fieldExtractor, objectValueProcessor, renderThreads, OverflowPolicy.FAIL);
+    }
+
+    /**
+     * Constructor for custom {@link FieldExtractor} and {@link ObjectValueProcessor} with parallel row rendering and
+     * a policy for data that does not fit in a single sheet.
+     *
+     * @param renderThreads  The number of worker threads per export; 1 or less renders on the calling thread.
+     * @param overflowPolicy What happens when a sheet's row limit is reached; {@link OverflowPolicy#FAIL} by default.
+     */
+    public ExcelUtility(FieldExtractor fieldExtractor, ObjectValueProcessor objectValueProcessor, int renderThreads,
+                        OverflowPolicy overflowPolicy) {
+        this(fieldExtractor, objectValueProcessor, renderThreads, overflowPolicy, ZipCompression.DEFAULT);
+    }
+
+    /**
+     * Constructor that also sets how exported XLSX and XLSB packages are compressed.
+     * <p>
+     * A {@link ZipCompression} with more than one thread deflates each large package part in blocks on that many
+     * threads, for every backend but delimited text; {@link ZipCompression#STORE} skips compression. The result is a
+     * standard package in every case.
+     *
+     * @param renderThreads  The number of worker threads per export; 1 or less renders on the calling thread.
+     * @param overflowPolicy What happens when a sheet's row limit is reached; {@link OverflowPolicy#FAIL} by default.
+     * @param compression    How package parts are compressed; {@link ZipCompression#DEFAULT} by default.
+     */
+    public ExcelUtility(FieldExtractor fieldExtractor, ObjectValueProcessor objectValueProcessor, int renderThreads,
+                        OverflowPolicy overflowPolicy, ZipCompression compression) {
+        this.fieldExtractor = fieldExtractor;
+        this.objectValueProcessor = objectValueProcessor;
+        this.excelUtilityHelper = new ExcelUtilityHelper(fieldExtractor, objectValueProcessor, renderThreads,
+                overflowPolicy, compression);
+    }
+
+    /**
+     * Generic method to map a stream of data to a Workbook.
+     */
+    private <T extends Workbook> T mapToWorkbook(Stream<?> dataStream, String sheetName, T workbook) {
+        return excelUtilityHelper.mapToWorkbook(dataStream, sheetName, workbook);
+    }
+
+    /**
+     * Generic method to map a stream of data of a known class to a Workbook.
+     */
+    private <T extends Workbook> T mapToWorkbook(Stream<?> dataStream, Class<?> type, String sheetName, T workbook) {
+        return excelUtilityHelper.mapToWorkbook(dataStream, type, sheetName, workbook);
+    }
+
+    /**
+     * Methods for mapping List data to various Workbook types.
+     */
+    public XSSFWorkbook mapToXSSFWorkbook(List<?> dataList) {
+        return mapToWorkbook(dataList.stream(), DEFAULT_SHEET_NAME, new XSSFWorkbook());
+    }
+
+    public XSSFWorkbook mapToXSSFWorkbook(List<?> dataList, String sheetName) {
+        return mapToWorkbook(dataList.stream(), sheetName, new XSSFWorkbook());
+    }
+
+    public SXSSFWorkbook mapToSXSSFWorkbook(List<?> dataList) {
+        return mapToWorkbook(dataList.stream(), DEFAULT_SHEET_NAME, new SXSSFWorkbook());
+    }
+
+    public SXSSFWorkbook mapToSXSSFWorkbook(List<?> dataList, String sheetName) {
+        return mapToWorkbook(dataList.stream(), sheetName, new SXSSFWorkbook());
+    }
+
+    public HSSFWorkbook mapToHSSFWorkbook(List<?> dataList) {
+        return mapToWorkbook(dataList.stream(), DEFAULT_SHEET_NAME, new HSSFWorkbook());
+    }
+
+    public HSSFWorkbook mapToHSSFWorkbook(List<?> dataList, String sheetName) {
+        return mapToWorkbook(dataList.stream(), sheetName, new HSSFWorkbook());
+    }
+
+    /**
+     * Methods for mapping Stream data to various Workbook types.
+     */
+    public XSSFWorkbook mapToXSSFWorkbook(Stream<?> dataStream) {
+        return mapToWorkbook(dataStream, DEFAULT_SHEET_NAME, new XSSFWorkbook());
+    }
+
+    public XSSFWorkbook mapToXSSFWorkbook(Stream<?> dataStream, String sheetName) {
+        return mapToWorkbook(dataStream, sheetName, new XSSFWorkbook());
+    }
+
+    public SXSSFWorkbook mapToSXSSFWorkbook(Stream<?> dataStream) {
+        return mapToWorkbook(dataStream, DEFAULT_SHEET_NAME, new SXSSFWorkbook());
+    }
+
+    public SXSSFWorkbook mapToSXSSFWorkbook(Stream<?> dataStream, String sheetName) {
+        return mapToWorkbook(dataStream, sheetName, new SXSSFWorkbook());
+    }
+
+    public HSSFWorkbook mapToHSSFWorkbook(Stream<?> dataStream) {
+        return mapToWorkbook(dataStream, DEFAULT_SHEET_NAME, new HSSFWorkbook());
+    }
+
+    public HSSFWorkbook mapToHSSFWorkbook(Stream<?> dataStream, String sheetName) {
+        return mapToWorkbook(dataStream, sheetName, new HSSFWorkbook());
+    }
+
+    /**
+     * Methods for mapping Stream data of a known class to various Workbook types.
+     * The stream is written in a single lazy pass, and an empty stream produces a header-only sheet.
+     */
+    public <T> XSSFWorkbook mapToXSSFWorkbook(Stream<T> dataStream, Class<T> type) {
+        return mapToWorkbook(dataStream, type, DEFAULT_SHEET_NAME, new XSSFWorkbook());
+    }
+
+    public <T> XSSFWorkbook mapToXSSFWorkbook(Stream<T> dataStream, Class<T> type, String sheetName) {
+        return mapToWorkbook(dataStream, type, sheetName, new XSSFWorkbook());
+    }
+
+    public <T> SXSSFWorkbook mapToSXSSFWorkbook(Stream<T> dataStream, Class<T> type) {
+        return mapToWorkbook(dataStream, type, DEFAULT_SHEET_NAME, new SXSSFWorkbook());
+    }
+
+    public <T> SXSSFWorkbook mapToSXSSFWorkbook(Stream<T> dataStream, Class<T> type, String sheetName) {
+        return mapToWorkbook(dataStream, type, sheetName, new SXSSFWorkbook());
+    }
+
+    public <T> HSSFWorkbook mapToHSSFWorkbook(Stream<T> dataStream, Class<T> type) {
+        return mapToWorkbook(dataStream, type, DEFAULT_SHEET_NAME, new HSSFWorkbook());
+    }
+
+    public <T> HSSFWorkbook mapToHSSFWorkbook(Stream<T> dataStream, Class<T> type, String sheetName) {
+        return mapToWorkbook(dataStream, type, sheetName, new HSSFWorkbook());
+    }
+
+    /**
+     * Methods for appending data to existing Workbooks.
+     */
+    public Workbook mapToExistingWorkbook(Workbook workbook, List<?> dataList, String sheetName) {
+        return mapToWorkbook(dataList.stream(), sheetName, workbook);
+    }
+
+    public Workbook mapToExistingWorkbook(Workbook workbook, Stream<?> dataStream, String sheetName) {
+        return mapToWorkbook(dataStream, sheetName, workbook);
+    }
+
+    public <T> Workbook mapToExistingWorkbook(Workbook workbook, Stream<T> dataStream, Class<T> type, String sheetName) {
+        return mapToWorkbook(dataStream, type, sheetName, workbook);
+    }
+
+    /**
+     * Methods for exporting data directly to an output target as an XLSX package, or as an XLSB package with
+     * {@link ExportBackend#XLSB}. Unless another {@link ExportBackend} is given, rows are streamed through an
+     * {@link SXSSFWorkbook} that is closed and disposed before the method returns, so no temporary files are left
+     * behind. Caller-supplied streams and channels are flushed but not closed; files opened from a {@link Path} are
+     * created or truncated and closed. Only a {@link Path} target can roll over to further files under
+     * {@link OverflowPolicy#NEW_FILE}.
+     */
+    public ExportSummary exportTo(OutputStream outputStream, Stream<?> dataStream, String sheetName) throws IOException {
+        return exportTo(outputStream, dataStream, sheetName, ExportBackend.POI);
+    }
+
+    public <T> ExportSummary exportTo(OutputStream outputStream, Stream<T> dataStream, Class<T> type, String sheetName)
+            throws IOException {
+        return exportTo(outputStream, dataStream, type, sheetName, ExportBackend.POI);
+    }
+
+    public ExportSummary exportTo(Path path, Stream<?> dataStream, String sheetName) throws IOException {
+        return exportTo(path, dataStream, sheetName, ExportBackend.POI);
+    }
+
+    public <T> ExportSummary exportTo(Path path, Stream<T> dataStream, Class<T> type, String sheetName)
+            throws IOException {
+        return exportTo(path, dataStream, type, sheetName, ExportBackend.POI);
+    }
+
+    public ExportSummary exportTo(WritableByteChannel channel, Stream<?> dataStream, String sheetName)
+            throws IOException {
+        return exportTo(channel, dataStream, sheetName, ExportBackend.POI);
+    }
+
+    public <T> ExportSummary exportTo(WritableByteChannel channel, Stream<T> dataStream, Class<T> type,
+                                      String sheetName) throws IOException {
+        return exportTo(channel, dataStream, type, sheetName, ExportBackend.POI);
+    }
+
+    /**
+     * Methods for exporting data with an explicit {@link ExportBackend}.
+     */
+    public ExportSummary exportTo(OutputStream outputStream, Stream<?> dataStream, String sheetName,
+                                  ExportBackend backend) throws IOException {
+        return excelUtilityHelper.export(dataStream, null, sheetName, outputStream, backend);
+    }
+
+    public <T> ExportSummary exportTo(OutputStream outputStream, Stream<T> dataStream, Class<T> type, String sheetName,
+                                      ExportBackend backend) throws IOException {
+        return excelUtilityHelper.export(dataStream, type, sheetName, outputStream, backend);
+    }
+
+    public ExportSummary exportTo(Path path, Stream<?> dataStream, String sheetName, ExportBackend backend)
+            throws IOException {
+        return excelUtilityHelper.export(dataStream, null, sheetName, path, backend);
+    }
+
+    public <T> ExportSummary exportTo(Path path, Stream<T> dataStream, Class<T> type, String sheetName,
+                                      ExportBackend backend) throws IOException {
+        return excelUtilityHelper.export(dataStream, type, sheetName, path, backend);
+    }
+
+    public ExportSummary exportTo(WritableByteChannel channel, Stream<?> dataStream, String sheetName,
+                                  ExportBackend backend) throws IOException {
+        return excelUtilityHelper.export(dataStream, null, sheetName, channelStream(channel), backend);
+    }
+
+    public <T> ExportSummary exportTo(WritableByteChannel channel, Stream<T> dataStream, Class<T> type,
+                                      String sheetName, ExportBackend backend) throws IOException {
+        return excelUtilityHelper.export(dataStream, type, sheetName, channelStream(channel), backend);
+    }
+
+    /**
+     * Methods for exporting several streams as the sheets of one workbook, one sheet per map entry in iteration
+     * order. Each sheet is rendered and compressed on its own thread into a temporary part, and the parts are copied
+     * into a single package at the end, so the export takes about as long as its largest sheet. Only the
+     * {@link ExportBackend#SPREADSHEETML} (the default here) and {@link ExportBackend#XLSB} backends are supported.
+     * Each stream is consumed on a worker thread and its POJO class is peeked from its first element; the
+     * {@link ObjectValueProcessor} is called concurrently and must be thread-safe.
+     */
+    public ExportSummary exportSheetsTo(OutputStream outputStream, Map<String, ? extends Stream<?>> sheets)
+            throws IOException {
+        return exportSheetsTo(outputStream, sheets, ExportBackend.SPREADSHEETML);
+    }
+
+    public ExportSummary exportSheetsTo(OutputStream outputStream, Map<String, ? extends Stream<?>> sheets,
+                                        ExportBackend backend) throws IOException {
+        return excelUtilityHelper.exportSheets(sheets, outputStream, backend);
+    }
+
+    public ExportSummary exportSheetsTo(Path path, Map<String, ? extends Stream<?>> sheets) throws IOException {
+        return exportSheetsTo(path, sheets, ExportBackend.SPREADSHEETML);
+    }
+
+    public ExportSummary exportSheetsTo(Path path, Map<String, ? extends Stream<?>> sheets, ExportBackend backend)
+            throws IOException {
+        return excelUtilityHelper.exportSheets(sheets, path, backend);
+    }
+
+    /**
+     * Methods for exporting a paged data source, such as an offset query or a keyset cursor. Pages are fetched on a
+     * background thread up to {@link Config#PREFETCH_PAGES} pages ahead of the page being written, so each query
+     * overlaps with writing the rows before it; use {@link PageSource#stream(int)} with {@code exportTo} for another
+     * bound. The background thread is stopped before the method returns.
+     */
+    public <T> ExportSummary exportPagesTo(OutputStream outputStream, PageSource<T> pageSource, Class<T> type,
+                                           String sheetName) throws IOException {
+        return exportPagesTo(outputStream, pageSource, type, sheetName, ExportBackend.POI);
+    }
+
+    public <T> ExportSummary exportPagesTo(OutputStream outputStream, PageSource<T> pageSource, Class<T> type,
+                                           String sheetName, ExportBackend backend) throws IOException {
+        try (Stream<T> dataStream = pageStream(pageSource)) {
+            return exportTo(outputStream, dataStream, type, sheetName, backend);
+        }
+    }
+
+    public <T> ExportSummary exportPagesTo(Path path, PageSource<T> pageSource, Class<T> type, String sheetName)
+            throws IOException {
+        return exportPagesTo(path, pageSource, type, sheetName, ExportBackend.POI);
+    }
+
+    public <T> ExportSummary exportPagesTo(Path path, PageSource<T> pageSource, Class<T> type, String sheetName,
+                                           ExportBackend backend) throws IOException {
+        try (Stream<T> dataStream = pageStream(pageSource)) {
+            return exportTo(path, dataStream, type, sheetName, backend);
+        }
+    }
+
+    /**
+     * Methods for resumable exports of long-running jobs, with the {@link ExportBackend#SPREADSHEETML} (the default
+     * here) or {@link ExportBackend#XLSB} backend. The rows are written to sheets of at most {@code rowsPerSheet}
+     * rows, a full sheet by default, and after every sheet a checkpoint in {@code checkpointDirectory} records the
+     * finished sheet part, the rows written so far and the source position. Run again with the same arguments after a
+     * failure, the export reuses the finished parts, reopens the source at the checkpoint's position and repeats at
+     * most one sheet. The checkpoint is deleted once the file is complete.
+     */
+    public <T> ExportSummary exportResumableTo(Path path, ResumableSource<T> source, Class<T> type, String sheetName,
+                                               Path checkpointDirectory) throws IOException {
+        return exportResumableTo(path, source, type, sheetName, ExportBackend.SPREADSHEETML, checkpointDirectory,
+                SpreadsheetVersion.EXCEL2007.getMaxRows() - 1);
+    }
+
+    public <T> ExportSummary exportResumableTo(Path path, ResumableSource<T> source, Class<T> type, String sheetName,
+                                               ExportBackend backend, Path checkpointDirectory, int rowsPerSheet)
+            throws IOException {
+        return excelUtilityHelper.exportResumable(source, type, sheetName, path, backend, checkpointDirectory,
+                rowsPerSheet);
+    }
+
+    private static <T> Stream<T> pageStream(PageSource<T> pageSource) {
+        if (pageSource == null) {
+            throw new IllegalArgumentException("The page source cannot be null.");
+        }
+        return pageSource.stream(PREFETCH_PAGES);
+    }
+
+    /**
+     * Adapts a channel to a buffered output stream without taking ownership of it.
+     */
+    private static OutputStream channelStream(WritableByteChannel channel) {
+        if (channel == null) {
+            throw new IllegalArgumentException("The channel cannot be null.");
+        }
+        return new BufferedOutputStream(Channels.newOutputStream(channel));
+    }
+}
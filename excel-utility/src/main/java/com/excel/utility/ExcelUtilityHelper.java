@@ -0,0 +1,1211 @@
+package com.excel.utility;
+
+import com.excel.utility.annotation.ExcelMapper;
+import com.excel.utility.dto.ExportSummary;
+import com.excel.utility.extractor.ColumnMetadataCache;
+import com.excel.utility.extractor.FieldExtractor;
+import com.excel.utility.extractor.ReflectiveRowWriter;
+import com.excel.utility.extractor.RowWriter;
+import com.excel.utility.extractor.RowWriterLocator;
+import com.excel.utility.processor.AppendingObjectValueProcessor;
+import com.excel.utility.processor.ObjectValueProcessor;
+import com.excel.utility.processor.ValueConverter;
+import com.excel.utility.processor.impl.DefaultObjectValueProcessor;
+import com.excel.utility.util.CellStylePool;
+import com.excel.utility.util.CellTextBuffer;
+import com.excel.utility.util.CellUtils;
+import com.excel.utility.util.CellValueType;
+import com.excel.utility.util.CountingOutputStream;
+import com.excel.utility.writer.CompressingZipArchiveOutputStream;
+import com.excel.utility.writer.DelimitedTextWriter;
+import com.excel.utility.writer.SheetPartWriter;
+import com.excel.utility.writer.SpreadsheetMLWriter;
+import com.excel.utility.writer.WorkbookWriter;
+import com.excel.utility.writer.XlsbWriter;
+import com.excel.utility.writer.ZipCompression;
+import com.excel.utility.writer.ZipWorkbookWriter;
+import org.apache.commons.compress.archivers.zip.ZipArchiveOutputStream;
+import org.apache.poi.hssf.usermodel.HSSFWorkbook;
+import org.apache.poi.ss.SpreadsheetVersion;
+import org.apache.poi.ss.usermodel.*;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * The {@code ExcelUtilityHelper} class provides internal support for mapping POJOs to Excel workbooks
+ * across different formats (XSSFWorkbook, SXSSFWorkbook, HSSFWorkbook).
+ * <p>
+ * This class extracts metadata from annotated POJO classes and uses it to generate Excel sheets
+ * with headers and data rows. It ensures consistent handling of different Excel formats
+ * while maintaining scalability for future enhancements.
+ */
+class ExcelUtilityHelper {
+
+    private static final ThreadFactory RENDER_THREAD_FACTORY = new ThreadFactory() {
+        private final AtomicInteger threadNumber = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "excel-utility-render-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    };
+
+    private final FieldExtractor fieldExtractor;
+    private final ObjectValueProcessor objectValueProcessor;
+    private final int renderThreads;
+    private final OverflowPolicy overflowPolicy;
+    private final ZipCompression compression;
+
+    protected ExcelUtilityHelper(FieldExtractor fieldExtractor, ObjectValueProcessor objectValueProcessor) {
+        this(fieldExtractor, objectValueProcessor, 1);
+    }
+
+    /**
+     * @param renderThreads The number of threads rendering rows; 1 or less renders on the calling thread.
+     */
+    protected ExcelUtilityHelper(FieldExtractor fieldExtractor, ObjectValueProcessor objectValueProcessor,
+                                 int renderThreads) {
+        this(fieldExtractor, objectValueProcessor, renderThreads, OverflowPolicy.FAIL);
+    }
+
+    /**
+     * @param renderThreads  The number of threads rendering rows; 1 or less renders on the calling thread.
+     * @param overflowPolicy What happens when the data does not fit in a single sheet.
+     */
+    protected ExcelUtilityHelper(FieldExtractor fieldExtractor, ObjectValueProcessor objectValueProcessor,
+                                 int renderThreads, OverflowPolicy overflowPolicy) {
+        this(fieldExtractor, objectValueProcessor, renderThreads, overflowPolicy, ZipCompression.DEFAULT);
+    }
+
+    /**
+     * @param renderThreads  The number of threads rendering rows; 1 or less renders on the calling thread.
+     * @param overflowPolicy What happens when the data does not fit in a single sheet.
+     * @param compression    How the parts of exported packages are compressed.
+     */
+    protected ExcelUtilityHelper(FieldExtractor fieldExtractor, ObjectValueProcessor objectValueProcessor,
+                                 int renderThreads, OverflowPolicy overflowPolicy, ZipCompression compression) {
+        if (overflowPolicy == null) {
+            throw new IllegalArgumentException("The overflow policy cannot be null.");
+        }
+        if (compression == null) {
+            throw new IllegalArgumentException("The compression cannot be null.");
+        }
+        this.fieldExtractor = fieldExtractor;
+        this.objectValueProcessor = objectValueProcessor;
+        this.renderThreads = renderThreads;
+        this.overflowPolicy = overflowPolicy;
+        this.compression = compression;
+    }
+
+    /**
+     * Maps a stream of POJOs to an Excel workbook.
+     * <p>
+     * The stream is consumed lazily in a single pass: the first element is peeked to determine the POJO class
+     * and every element is written as soon as it is pulled, so no element is retained after its row is written.
+     *
+     * @param dataStream The stream of data objects.
+     * @param sheetName  The name of the sheet to be created.
+     * @param workbook   The target workbook (XSSFWorkbook, SXSSFWorkbook, or HSSFWorkbook).
+     * @param <T>        Type of the workbook.
+     * @return The populated workbook.
+     * @throws IllegalArgumentException if the stream is empty, since the POJO class cannot be determined.
+     */
+    protected <T extends Workbook> T mapToWorkbook(Stream<?> dataStream, String sheetName, T workbook) {
+        validateInputs(dataStream, workbook);
+        OverflowPolicy policy = singleFilePolicy();
+        Iterator<?> dataIterator = rowIterator(dataStream, dataRowLimit(workbook), policy);
+        Object firstData = firstElement(dataIterator);
+        writeSheet(firstData, dataIterator, firstData.getClass(), sheetName, workbook, policy, Long.MAX_VALUE);
+        return workbook;
+    }
+
+    /**
+     * Takes the first element of a stream whose POJO class is determined from it.
+     */
+    private Object firstElement(Iterator<?> dataIterator) {
+        if (!dataIterator.hasNext()) {
+            throw new IllegalArgumentException("The data list is empty.");
+        }
+        Object firstData = dataIterator.next();
+        if (firstData == null) {
+            throw new IllegalArgumentException("The first data element cannot be null.");
+        }
+        return firstData;
+    }
+
+    /**
+     * Maps a stream of POJOs of a known class to an Excel workbook.
+     * <p>
+     * Because the class is given explicitly, nothing is peeked from the stream and an empty stream produces a
+     * sheet that contains only the header row.
+     *
+     * @param dataStream The stream of data objects.
+     * @param clazz      The {@code @ExcelMapper} annotated class of the data objects.
+     * @param sheetName  The name of the sheet to be created.
+     * @param workbook   The target workbook (XSSFWorkbook, SXSSFWorkbook, or HSSFWorkbook).
+     * @param <T>        Type of the workbook.
+     * @return The populated workbook.
+     */
+    protected <T extends Workbook> T mapToWorkbook(Stream<?> dataStream, Class<?> clazz, String sheetName, T workbook) {
+        validateInputs(dataStream, workbook);
+        validateClass(clazz);
+        OverflowPolicy policy = singleFilePolicy();
+        Iterator<?> dataIterator = rowIterator(dataStream, dataRowLimit(workbook), policy);
+        writeSheet(null, dataIterator, clazz, sheetName, workbook, policy, Long.MAX_VALUE);
+        return workbook;
+    }
+
+    /**
+     * Writes the elements to a new sheet, rolling over to further sheets as the policy allows.
+     *
+     * @param firstData    An element already taken from the source that must be written first, or null.
+     * @param dataIterator The remaining elements.
+     * @param maxRows      The maximum number of elements to take; the rest are left in the iterator.
+     * @return The number of data rows and sheets written.
+     */
+    private WriteCount writeSheet(Object firstData, Iterator<?> dataIterator, Class<?> clazz, String sheetName,
+                                  Workbook workbook, OverflowPolicy policy, long maxRows) {
+        Sheet sheet = createSheet(workbook, sheetName, clazz);
+        RowWriter<Object> rowWriter = resolveRowWriter(clazz);
+
+        populateHeader(sheet, rowWriter);
+        SheetCursor cursor = new SheetCursor(sheet, sheetName, rowWriter, policy);
+        populateRows(firstData, dataIterator, cursor, rowWriter, maxRows);
+        return cursor;
+    }
+
+    /**
+     * Exports a stream of POJOs as an XLSX or XLSB package, or as UTF-8 delimited text, to the given output stream.
+     * <p>
+     * With {@link ExportBackend#POI}, rows are rendered through an {@link SXSSFWorkbook}, the package is written, and
+     * the workbook is closed and its temporary files disposed before returning, including when any phase fails.
+     * With the other backends, rows are encoded into the output as they are rendered, so the render time includes
+     * encoding the sheet and the write time covers only the remaining parts. The output stream is flushed but not
+     * closed. A single stream holds a single file, so {@link OverflowPolicy#NEW_FILE} behaves as
+     * {@link OverflowPolicy#FAIL} here.
+     *
+     * @param dataStream   The stream of data objects.
+     * @param clazz        The {@code @ExcelMapper} annotated class of the data objects, or null to peek it from the
+     *                     first element.
+     * @param sheetName    The name of the sheet to be created; not written to delimited text.
+     * @param outputStream The target of the package.
+     * @param backend      The engine producing the package.
+     * @return The summary of the export.
+     * @throws IOException if writing to the output stream fails.
+     */
+    protected ExportSummary export(Stream<?> dataStream, Class<?> clazz, String sheetName, OutputStream outputStream,
+                                   ExportBackend backend) throws IOException {
+        if (outputStream == null) {
+            throw new IllegalArgumentException("The output stream cannot be null.");
+        }
+        validateExport(dataStream, backend);
+
+        OverflowPolicy policy = singleFilePolicy();
+        Iterator<?> dataIterator = rowIterator(dataStream, dataRowLimit(backend), policy);
+        Object firstData = null;
+        if (clazz == null) {
+            firstData = firstElement(dataIterator);
+            clazz = firstData.getClass();
+        }
+        return export(firstData, dataIterator, clazz, sheetName, outputStream, backend, policy, Long.MAX_VALUE);
+    }
+
+    /**
+     * Exports a stream of POJOs to a file, as {@link #export(Stream, Class, String, OutputStream, ExportBackend)}
+     * does to a stream. The file is created or truncated and closed.
+     * <p>
+     * Under {@link OverflowPolicy#NEW_FILE}, each file holds at most one full sheet and the rest of the data
+     * continues in numbered files next to it: {@code report.xlsx}, {@code report (2).xlsx}, and so on. The
+     * returned summary totals all files. Delimited text has no row limit and is always written to a single file.
+     *
+     * @param path The file to write.
+     * @throws IOException if writing a file fails.
+     */
+    protected ExportSummary export(Stream<?> dataStream, Class<?> clazz, String sheetName, Path path,
+                                   ExportBackend backend) throws IOException {
+        if (path == null) {
+            throw new IllegalArgumentException("The path cannot be null.");
+        }
+        validateExport(dataStream, backend);
+
+        long rowLimit = dataRowLimit(backend);
+        if (overflowPolicy != OverflowPolicy.NEW_FILE || rowLimit == Long.MAX_VALUE) {
+            try (OutputStream outputStream = new BufferedOutputStream(Files.newOutputStream(path))) {
+                return export(dataStream, clazz, sheetName, outputStream, backend);
+            }
+        }
+
+        Iterator<?> dataIterator = dataStream.iterator();
+        Object firstData = null;
+        if (clazz == null) {
+            firstData = firstElement(dataIterator);
+            clazz = firstData.getClass();
+        }
+        ExportSummary total = null;
+        int fileNumber = 1;
+        do {
+            Path target = fileNumber == 1 ? path : numberedPath(path, fileNumber);
+            ExportSummary part;
+            try (OutputStream outputStream = new BufferedOutputStream(Files.newOutputStream(target))) {
+                part = export(firstData, dataIterator, clazz, sheetName, outputStream, backend,
+                        OverflowPolicy.FAIL, rowLimit);
+            }
+            total = total == null ? part : combine(total, part);
+            firstData = null;
+            fileNumber++;
+        } while (dataIterator.hasNext());
+        return total;
+    }
+
+    /**
+     * Exports several streams as the sheets of one XLSX or XLSB package, rendering each sheet on its own thread.
+     * <p>
+     * Every stream is written to a {@link SheetPartWriter} on a worker thread, which encodes and deflates the sheet
+     * into a temporary file; the calling thread appends the finished parts to the package in the map's iteration
+     * order, each as soon as it and the sheets before it are done, so the export takes about as long as its largest
+     * sheet. The POJO class of each stream is peeked from its first element on the worker. The raw backends write
+     * text as inline strings and share a fixed style table, so the sheets need no shared tables to be merged.
+     * <p>
+     * The {@link ObjectValueProcessor} and the row writers are called concurrently and must be thread-safe. When a
+     * sheet fails, the other sheets are interrupted and the temporary files deleted. A single stream holds a single
+     * file, so {@link OverflowPolicy#NEW_FILE} behaves as {@link OverflowPolicy#FAIL} here.
+     *
+     * @param sheets       The data stream of each sheet by sheet name, in sheet order.
+     * @param outputStream The target of the package; flushed but not closed.
+     * @param backend      {@link ExportBackend#SPREADSHEETML} or {@link ExportBackend#XLSB}.
+     * @return The summary of the export, totalled over all sheets.
+     * @throws IOException if writing a sheet part or the package fails.
+     */
+    protected ExportSummary exportSheets(Map<String, ? extends Stream<?>> sheets, OutputStream outputStream,
+                                         ExportBackend backend) throws IOException {
+        if (outputStream == null) {
+            throw new IllegalArgumentException("The output stream cannot be null.");
+        }
+        if (sheets == null || sheets.isEmpty()) {
+            throw new IllegalArgumentException("The sheets cannot be null or empty.");
+        }
+        if (backend != ExportBackend.SPREADSHEETML && backend != ExportBackend.XLSB) {
+            throw new IllegalArgumentException("Sheets can only be rendered concurrently with the SPREADSHEETML or "
+                    + "XLSB backend.");
+        }
+
+        OverflowPolicy policy = singleFilePolicy();
+        List<String> sheetNames = new ArrayList<>(sheets.keySet());
+        List<Iterator<?>> dataIterators = new ArrayList<>();
+        for (Stream<?> dataStream : sheets.values()) {
+            if (Objects.isNull(dataStream)) {
+                throw new IllegalArgumentException("The data stream cannot be null.");
+            }
+            dataIterators.add(rowIterator(dataStream, dataRowLimit(backend), policy));
+        }
+
+        CountingOutputStream countingStream = new CountingOutputStream(outputStream);
+        long rowCount = 0;
+        int sheetCount = 0;
+        long renderTime;
+        long writeTime;
+        long start = System.nanoTime();
+        try (ZipWorkbookWriter writer = backend == ExportBackend.XLSB
+                ? new XlsbWriter(countingStream, compression)
+                : new SpreadsheetMLWriter(countingStream, compression)) {
+            ExecutorService executor = Executors.newFixedThreadPool(
+                    Math.min(sheetNames.size(), Runtime.getRuntime().availableProcessors()), RENDER_THREAD_FACTORY);
+            List<SheetPartWriter> parts = new ArrayList<>();
+            try {
+                List<Future<WriteCount>> renderedSheets = new ArrayList<>();
+                for (int i = 0; i < sheetNames.size(); i++) {
+                    SheetPartWriter part = writer.newSheetPart();
+                    parts.add(part);
+                    String sheetName = sheetNames.get(i);
+                    Iterator<?> dataIterator = dataIterators.get(i);
+                    renderedSheets.add(executor.submit(() -> writeSheetPart(dataIterator, sheetName, part, policy)));
+                }
+                for (int i = 0; i < parts.size(); i++) {
+                    WriteCount count = await(renderedSheets.get(i));
+                    writer.appendSheets(parts.get(i));
+                    rowCount += count.rowCount;
+                    sheetCount += count.sheetCount;
+                }
+            } finally {
+                executor.shutdownNow();
+                awaitTermination(executor);
+                for (SheetPartWriter part : parts) {
+                    part.close();
+                }
+            }
+            long rendered = System.nanoTime();
+            renderTime = rendered - start;
+
+            writer.finish();
+            start = System.nanoTime();
+            writeTime = start - rendered;
+        }
+        long closeTime = System.nanoTime() - start;
+
+        return new ExportSummary(rowCount, countingStream.getCount(), Duration.ofNanos(renderTime),
+                Duration.ofNanos(writeTime), Duration.ofNanos(closeTime), sheetCount, 1);
+    }
+
+    /**
+     * Exports several streams as the sheets of one package written to a file, as
+     * {@link #exportSheets(Map, OutputStream, ExportBackend)} does to a stream. The file is created or truncated and
+     * closed.
+     */
+    protected ExportSummary exportSheets(Map<String, ? extends Stream<?>> sheets, Path path, ExportBackend backend)
+            throws IOException {
+        if (path == null) {
+            throw new IllegalArgumentException("The path cannot be null.");
+        }
+        try (OutputStream outputStream = new BufferedOutputStream(Files.newOutputStream(path))) {
+            return exportSheets(sheets, outputStream, backend);
+        }
+    }
+
+    /**
+     * Exports a resumable source to a file as an XLSX or XLSB package of sheets holding at most {@code rowsPerSheet}
+     * rows each, with a checkpoint after every sheet.
+     * <p>
+     * Each sheet is encoded into a part file in the checkpoint directory. Once a part is finished, the checkpoint
+     * records it with the row count and the source position after its last row, and the part is copied into the
+     * package. When a checkpoint is found, its parts are copied into a new package first and the source is reopened
+     * at its position, so a failed export only repeats the sheet it was writing. The sheets are named after the
+     * first one as {@link OverflowPolicy#NEW_SHEET} names them. The checkpoint is deleted once the package is
+     * complete.
+     *
+     * @param checkpointDirectory The directory of the checkpoint, created if needed.
+     * @param rowsPerSheet        The number of rows per sheet, and so per checkpoint.
+     * @throws IllegalArgumentException if the checkpoint was written by an export with other settings.
+     */
+    protected <T> ExportSummary exportResumable(ResumableSource<T> source, Class<T> clazz, String sheetName, Path path,
+                                                ExportBackend backend, Path checkpointDirectory, int rowsPerSheet)
+            throws IOException {
+        if (source == null) {
+            throw new IllegalArgumentException("The source cannot be null.");
+        }
+        if (path == null) {
+            throw new IllegalArgumentException("The path cannot be null.");
+        }
+        if (checkpointDirectory == null) {
+            throw new IllegalArgumentException("The checkpoint directory cannot be null.");
+        }
+        if (backend != ExportBackend.SPREADSHEETML && backend != ExportBackend.XLSB) {
+            throw new IllegalArgumentException("Resumable exports support only the SPREADSHEETML and XLSB backends.");
+        }
+        long sheetLimit = dataRowLimit(backend);
+        if (rowsPerSheet < 1 || rowsPerSheet > sheetLimit) {
+            throw new IllegalArgumentException("The rows per sheet must be between 1 and " + sheetLimit + ".");
+        }
+        validatePOJO(clazz);
+
+        Files.createDirectories(checkpointDirectory);
+        ExportCheckpoint checkpoint = ExportCheckpoint.load(checkpointDirectory);
+        if (checkpoint == null) {
+            checkpoint = new ExportCheckpoint(clazz.getName(), sheetName, backend, rowsPerSheet);
+        } else if (!checkpoint.isFor(clazz.getName(), sheetName, backend, rowsPerSheet)) {
+            throw new IllegalArgumentException("The checkpoint in " + checkpointDirectory
+                    + " belongs to an export with other settings.");
+        }
+
+        CountingOutputStream countingStream =
+                new CountingOutputStream(new BufferedOutputStream(Files.newOutputStream(path)));
+        long renderTime;
+        long writeTime;
+        long start = System.nanoTime();
+        try (ZipWorkbookWriter writer = backend == ExportBackend.XLSB
+                ? new XlsbWriter(countingStream, compression)
+                : new SpreadsheetMLWriter(countingStream, compression)) {
+            for (int sheetNumber = 1; sheetNumber <= checkpoint.getSheetCount(); sheetNumber++) {
+                writer.appendSheets(ExportCheckpoint.partFile(checkpointDirectory, sheetNumber),
+                        List.of(resumableSheetName(sheetName, sheetNumber)));
+            }
+            try (Stream<T> dataStream = openSource(source, checkpoint.getPosition())) {
+                Iterator<T> dataIterator = dataStream.iterator();
+                while (checkpoint.getSheetCount() == 0 || dataIterator.hasNext()) {
+                    int sheetNumber = checkpoint.getSheetCount() + 1;
+                    Path partFile = ExportCheckpoint.partFile(checkpointDirectory, sheetNumber);
+                    String name = resumableSheetName(sheetName, sheetNumber);
+                    LastElementIterator<T> sheetRows = new LastElementIterator<>(dataIterator);
+                    try (SheetPartWriter part = writer.newSheetPart(partFile)) {
+                        WriteCount count = writeSheet(null, sheetRows, clazz, name, part, OverflowPolicy.FAIL,
+                                rowsPerSheet);
+                        part.finish();
+                        checkpoint.addSheet(count.rowCount, count.rowCount == 0 ? checkpoint.getPosition()
+                                : source.positionAfter(sheetRows.last, checkpoint.getRowCount() + count.rowCount));
+                        checkpoint.save(checkpointDirectory);
+                        writer.appendSheets(part);
+                    }
+                }
+            }
+            long rendered = System.nanoTime();
+            renderTime = rendered - start;
+
+            writer.finish();
+            start = System.nanoTime();
+            writeTime = start - rendered;
+        }
+        long closeTime = System.nanoTime() - start;
+        checkpoint.delete(checkpointDirectory);
+
+        return new ExportSummary(checkpoint.getRowCount(), countingStream.getCount(), Duration.ofNanos(renderTime),
+                Duration.ofNanos(writeTime), Duration.ofNanos(closeTime), checkpoint.getSheetCount(), 1);
+    }
+
+    private static String resumableSheetName(String sheetName, int sheetNumber) {
+        return sheetNumber == 1 ? sheetName : rolloverSheetName(sheetName, sheetNumber);
+    }
+
+    private static <T> Stream<T> openSource(ResumableSource<T> source, String position) throws IOException {
+        Stream<T> dataStream;
+        try {
+            dataStream = source.open(position);
+        } catch (IOException | RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to open the source.", e);
+        }
+        if (dataStream == null) {
+            throw new IllegalArgumentException("The data stream cannot be null.");
+        }
+        return dataStream;
+    }
+
+    /**
+     * Writes one stream to a sheet part on a worker thread and finishes the part.
+     */
+    private WriteCount writeSheetPart(Iterator<?> dataIterator, String sheetName, SheetPartWriter part,
+                                      OverflowPolicy policy) throws IOException {
+        Object firstData = firstElement(dataIterator);
+        WriteCount count = writeSheet(firstData, dataIterator, firstData.getClass(), sheetName, part, policy,
+                Long.MAX_VALUE);
+        part.finish();
+        return count;
+    }
+
+    /**
+     * Waits for interrupted workers to stop, so their temporary files are no longer written when deleted. A worker
+     * blocked in its data source stops once the source returns.
+     */
+    private static void awaitTermination(ExecutorService executor) {
+        try {
+            executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Exports at most {@code maxRows} elements as a single file to the output stream.
+     */
+    private ExportSummary export(Object firstData, Iterator<?> dataIterator, Class<?> clazz, String sheetName,
+                                 OutputStream outputStream, ExportBackend backend, OverflowPolicy policy,
+                                 long maxRows) throws IOException {
+        CountingOutputStream countingStream = new CountingOutputStream(outputStream);
+        WorkbookWriter workbookWriter = null;
+        if (backend == ExportBackend.SPREADSHEETML) {
+            workbookWriter = new SpreadsheetMLWriter(countingStream, compression);
+        } else if (backend == ExportBackend.XLSB) {
+            workbookWriter = new XlsbWriter(countingStream, compression);
+        } else if (backend == ExportBackend.CSV || backend == ExportBackend.TSV) {
+            Writer writer = new OutputStreamWriter(countingStream, StandardCharsets.UTF_8);
+            char delimiter = backend == ExportBackend.CSV ? DelimitedTextWriter.COMMA : DelimitedTextWriter.TAB;
+            workbookWriter = new DelimitedTextWriter(writer, delimiter);
+        }
+        if (workbookWriter != null) {
+            return export(firstData, dataIterator, clazz, sheetName, countingStream, workbookWriter, policy, maxRows);
+        }
+
+        SXSSFWorkbook workbook = newStreamingWorkbook();
+        WriteCount count;
+        long renderTime;
+        long writeTime;
+        long start = System.nanoTime();
+        try {
+            count = writeSheet(firstData, dataIterator, clazz, sheetName, workbook, policy, maxRows);
+            long rendered = System.nanoTime();
+            renderTime = rendered - start;
+
+            workbook.write(countingStream);
+            countingStream.flush();
+            start = System.nanoTime();
+            writeTime = start - rendered;
+        } finally {
+            workbook.dispose();
+            workbook.close();
+        }
+        long closeTime = System.nanoTime() - start;
+
+        return new ExportSummary(count.rowCount, countingStream.getCount(), Duration.ofNanos(renderTime),
+                Duration.ofNanos(writeTime), Duration.ofNanos(closeTime), count.sheetCount, 1);
+    }
+
+    /**
+     * Creates the workbook of the POI backend. Unless the default compression is configured, its package is written
+     * through a {@link CompressingZipArchiveOutputStream} instead of POI's own zip stream.
+     */
+    private SXSSFWorkbook newStreamingWorkbook() {
+        if (compression.equals(ZipCompression.DEFAULT)) {
+            return new SXSSFWorkbook();
+        }
+        return new SXSSFWorkbook() {
+            @Override
+            protected ZipArchiveOutputStream createArchiveOutputStream(OutputStream out) {
+                return new CompressingZipArchiveOutputStream(out, compression);
+            }
+        };
+    }
+
+    /**
+     * Exports through a {@link WorkbookWriter} over the counting stream. The counting stream's {@code close()} only
+     * flushes, so closing the writer leaves the caller's stream open.
+     */
+    private ExportSummary export(Object firstData, Iterator<?> dataIterator, Class<?> clazz, String sheetName,
+                                 CountingOutputStream countingStream, WorkbookWriter workbookWriter,
+                                 OverflowPolicy policy, long maxRows) throws IOException {
+        WriteCount count;
+        long renderTime;
+        long writeTime;
+        long start = System.nanoTime();
+        try (WorkbookWriter writer = workbookWriter) {
+            count = writeSheet(firstData, dataIterator, clazz, sheetName, writer, policy, maxRows);
+            long rendered = System.nanoTime();
+            renderTime = rendered - start;
+
+            writer.finish();
+            start = System.nanoTime();
+            writeTime = start - rendered;
+        }
+        long closeTime = System.nanoTime() - start;
+
+        return new ExportSummary(count.rowCount, countingStream.getCount(), Duration.ofNanos(renderTime),
+                Duration.ofNanos(writeTime), Duration.ofNanos(closeTime), count.sheetCount, 1);
+    }
+
+    /**
+     * Writes the elements to a new sheet of a {@link WorkbookWriter}, starting a further sheet with the header
+     * repeated whenever one is full and the policy is {@link OverflowPolicy#NEW_SHEET}.
+     * <p>
+     * The text of string columns is appended through {@link AppendingObjectValueProcessor#of} into one reusable
+     * {@link CellTextBuffer} per column and encoded from there, so no string is created per cell. A
+     * {@link DelimitedTextWriter} has no native cell values, so every column is rendered as text for it, and no cell
+     * limit, so its buffers are unbounded.
+     *
+     * @param firstData An element already taken from the source that must be written first, or null.
+     * @param maxRows   The maximum number of elements to take; the rest are left in the iterator.
+     * @return The number of data rows and sheets written.
+     */
+    private WriteCount writeSheet(Object firstData, Iterator<?> dataIterator, Class<?> clazz, String sheetName,
+                                  WorkbookWriter writer, OverflowPolicy policy, long maxRows) throws IOException {
+        validatePOJO(clazz);
+        boolean delimitedText = writer instanceof DelimitedTextWriter;
+        long sheetLimit = delimitedText ? Long.MAX_VALUE : dataRowLimit(SpreadsheetVersion.EXCEL2007);
+        RowWriter<Object> rowWriter = resolveRowWriter(clazz);
+        ColumnLayout layout = resolveLayout(null, rowWriter, !delimitedText);
+        String[] headers = rowWriter.getHeaders();
+        writer.startSheet(sheetName, headers, layout.columnOrders, layout.cellTypes);
+
+        AppendingObjectValueProcessor processor = AppendingObjectValueProcessor.of(objectValueProcessor);
+        CellTextBuffer[] buffers = new CellTextBuffer[layout.columnOrders.length];
+        for (int i = 0; i < buffers.length; i++) {
+            buffers[i] = new CellTextBuffer(!delimitedText);
+        }
+        Object[] values = new Object[layout.columnOrders.length];
+
+        WriteCount count = new WriteCount();
+        long sheetRows = 0;
+        Object pending = firstData;
+        while (count.rowCount < maxRows && (pending != null || dataIterator.hasNext())) {
+            Object data = pending != null ? pending : dataIterator.next();
+            pending = null;
+            if (sheetRows == sheetLimit) {
+                if (policy != OverflowPolicy.NEW_SHEET) {
+                    throw sheetFull(sheetLimit);
+                }
+                writer.startSheet(rolloverSheetName(sheetName, ++count.sheetCount), headers, layout.columnOrders,
+                        layout.cellTypes);
+                sheetRows = 0;
+            }
+            renderRow(data, rowWriter, layout, processor, buffers, values);
+            writer.writeRow(values);
+            sheetRows++;
+            count.rowCount++;
+        }
+        return count;
+    }
+
+    /**
+     * Opens the stream for a single pass. Under {@link OverflowPolicy#FAIL}, a stream that reports an exact size
+     * larger than a sheet can hold is rejected before any element is consumed; otherwise the limit is enforced as
+     * rows are written.
+     */
+    private Iterator<?> rowIterator(Stream<?> dataStream, long dataRowLimit, OverflowPolicy policy) {
+        Spliterator<?> spliterator = dataStream.spliterator();
+        if (policy == OverflowPolicy.FAIL && spliterator.getExactSizeIfKnown() > dataRowLimit) {
+            throw sheetFull(dataRowLimit);
+        }
+        return Spliterators.iterator(spliterator);
+    }
+
+    /**
+     * The policy of an export whose target holds a single file.
+     */
+    private OverflowPolicy singleFilePolicy() {
+        return overflowPolicy == OverflowPolicy.NEW_FILE ? OverflowPolicy.FAIL : overflowPolicy;
+    }
+
+    /**
+     * The number of data rows below the header that fit in a sheet of the backend, or {@link Long#MAX_VALUE} when
+     * its output has no limit.
+     */
+    private static long dataRowLimit(ExportBackend backend) {
+        if (backend == ExportBackend.CSV || backend == ExportBackend.TSV) {
+            return Long.MAX_VALUE;
+        }
+        return dataRowLimit(SpreadsheetVersion.EXCEL2007);
+    }
+
+    private static long dataRowLimit(Workbook workbook) {
+        return dataRowLimit(workbook.getSpreadsheetVersion());
+    }
+
+    private static long dataRowLimit(SpreadsheetVersion version) {
+        return version.getMaxRows() - Config.ROW_VALUE_START_FOR_DATA;
+    }
+
+    private static IllegalArgumentException sheetFull(long dataRowLimit) {
+        return new IllegalArgumentException("The data does not fit in a sheet of " + dataRowLimit + " data rows.");
+    }
+
+    /**
+     * Names the {@code sheetNumber}-th sheet of a rolled-over export, {@code "Data (2)"} for a sheet named
+     * {@code "Data"}, shortening the base name so the result stays within Excel's sheet name length.
+     */
+    static String rolloverSheetName(String sheetName, int sheetNumber) {
+        String base = sheetName == null ? Config.DEFAULT_SHEET_NAME : sheetName;
+        String suffix = " (" + sheetNumber + ")";
+        int maxBaseLength = Config.MAX_SHEET_NAME_LENGTH - suffix.length();
+        if (base.length() > maxBaseLength) {
+            base = base.substring(0, maxBaseLength);
+        }
+        return base + suffix;
+    }
+
+    /**
+     * Names the {@code fileNumber}-th file of a rolled-over export, {@code "report (2).xlsx"} for
+     * {@code "report.xlsx"}.
+     */
+    static Path numberedPath(Path path, int fileNumber) {
+        String fileName = path.getFileName().toString();
+        int extension = fileName.lastIndexOf('.');
+        String numbered = extension > 0
+                ? fileName.substring(0, extension) + " (" + fileNumber + ")" + fileName.substring(extension)
+                : fileName + " (" + fileNumber + ")";
+        return path.resolveSibling(numbered);
+    }
+
+    /**
+     * Totals the summaries of two files of one export.
+     */
+    private static ExportSummary combine(ExportSummary first, ExportSummary second) {
+        return new ExportSummary(first.getRowCount() + second.getRowCount(),
+                first.getByteCount() + second.getByteCount(),
+                first.getRenderTime().plus(second.getRenderTime()),
+                first.getWriteTime().plus(second.getWriteTime()),
+                first.getCloseTime().plus(second.getCloseTime()),
+                first.getSheetCount() + second.getSheetCount(),
+                first.getFileCount() + second.getFileCount());
+    }
+
+    /**
+     * Validates the inputs of an export.
+     */
+    private void validateExport(Stream<?> dataStream, ExportBackend backend) {
+        if (Objects.isNull(dataStream)) {
+            throw new IllegalArgumentException("The data stream cannot be null.");
+        }
+        if (backend == null) {
+            throw new IllegalArgumentException("The export backend cannot be null.");
+        }
+    }
+
+    /**
+     * Validates that an explicitly given POJO class is present.
+     */
+    private Class<?> validateClass(Class<?> clazz) {
+        if (clazz == null) {
+            throw new IllegalArgumentException("The data class cannot be null.");
+        }
+        return clazz;
+    }
+
+    /**
+     * Validates the POJO class and creates the target sheet.
+     */
+    private Sheet createSheet(Workbook workbook, String sheetName, Class<?> clazz) {
+        validatePOJO(clazz);
+        return workbook.createSheet(sheetName);
+    }
+
+    /**
+     * Validates inputs for the mapping operation.
+     */
+    private void validateInputs(Stream<?> dataStream, Workbook workbook) {
+        if (workbook == null) {
+            throw new IllegalArgumentException("The workbook cannot be null.");
+        }
+        if (Objects.isNull(dataStream)) {
+            throw new IllegalArgumentException("The data stream cannot be null.");
+        }
+    }
+
+    /**
+     * Validates that the POJO class has the required annotation.
+     */
+    private void validatePOJO(Class<?> clazz) {
+        if (clazz.getAnnotation(ExcelMapper.class) == null) {
+            throw new IllegalArgumentException("POJO class must be annotated with @ExcelMapper.");
+        }
+    }
+
+    /**
+     * Resolves the row writer for a POJO class. A compile-time generated writer is preferred when one is on the
+     * classpath and the default {@link FieldExtractor} is in use; otherwise the cached reflective plan is used.
+     */
+    @SuppressWarnings("unchecked")
+    private RowWriter<Object> resolveRowWriter(Class<?> clazz) {
+        if (fieldExtractor.getClass() == FieldExtractor.class) {
+            RowWriter<?> generatedWriter = RowWriterLocator.find(clazz);
+            if (generatedWriter != null) {
+                return (RowWriter<Object>) generatedWriter;
+            }
+        }
+        return new ReflectiveRowWriter(ColumnMetadataCache.shared().getPlan(clazz), fieldExtractor);
+    }
+
+    /**
+     * Populates the header row in the Excel sheet.
+     */
+    private void populateHeader(Sheet sheet, RowWriter<Object> rowWriter) {
+        Row headerRow = sheet.createRow(Config.ROW_VALUE_FOR_HEADER);
+        CellStyle headerStyle = CellUtils.styleForHeader(sheet);
+
+        String[] headers = rowWriter.getHeaders();
+        int[] columnOrders = rowWriter.getColumnOrders();
+        for (int i = 0; i < headers.length; i++) {
+            Cell cell = headerRow.createCell(columnOrders[i] - 1);
+            cell.setCellValue(headers[i]);
+            cell.setCellStyle(headerStyle);
+        }
+
+        CellUtils.autoSize(sheet, columnOrders);
+    }
+
+    /**
+     * Resolves how each column's cells are written. A column whose declared type has a native cell representation
+     * gets that {@link CellValueType}; each value is still checked when the row is rendered, and one that is not an
+     * instance of the declared type, as a custom {@link FieldExtractor} may return, is written as text instead.
+     * Native cells are turned off only for a processor that overrides one of its {@code process} methods, so that
+     * it keeps seeing every value. For a processor that does not, the text converter of a column whose
+     * declared type is final is also resolved here, once per sheet.
+     * <p>
+     * Date formats come from the workbook's shared {@link CellStylePool} and are set as column-default styles.
+     * HSSF cells inherit the column style when they are created; XSSF and SXSSF cells do not, so for those formats
+     * the shared style is also assigned to each written cell.
+     *
+     * @param sheet        The POI sheet the rows are written to, or null when they are not written through POI; no
+     *                     styles are resolved then.
+     * @param nativeCells  Whether the target supports native cell values at all.
+     */
+    private ColumnLayout resolveLayout(Sheet sheet, RowWriter<Object> rowWriter, boolean nativeCells) {
+        int[] columnOrders = rowWriter.getColumnOrders();
+        CellValueType[] cellTypes = new CellValueType[columnOrders.length];
+        Class<?>[] valueTypes = new Class<?>[columnOrders.length];
+        CellStyle[] cellStyles = new CellStyle[columnOrders.length];
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        ValueConverter<Object>[] converters = new ValueConverter[columnOrders.length];
+        Class<?>[] columnTypes = rowWriter.getColumnTypes();
+        boolean defaultProcess = !overridesProcess(objectValueProcessor);
+        boolean nativeValues = nativeCells && defaultProcess;
+        boolean inheritsColumnStyle = sheet != null && sheet.getWorkbook() instanceof HSSFWorkbook;
+
+        for (int i = 0; i < columnOrders.length; i++) {
+            // Values of a primitive column arrive boxed, so they are checked against the wrapper type.
+            valueTypes[i] = MethodType.methodType(columnTypes[i]).wrap().returnType();
+            cellTypes[i] = nativeValues ? CellValueType.of(columnTypes[i]) : CellValueType.STRING;
+            if (defaultProcess && cellTypes[i] == CellValueType.STRING
+                    && Modifier.isFinal(columnTypes[i].getModifiers())) {
+                converters[i] = ((DefaultObjectValueProcessor) objectValueProcessor).converterFor(valueTypes[i]);
+            }
+            if (sheet != null && cellTypes[i].isDate()) {
+                String format = cellTypes[i] == CellValueType.LOCAL_DATE ? Config.DATE_FORMAT : Config.DATE_TIME_FORMAT;
+                CellStyle style = CellUtils.styleForDataFormat(sheet.getWorkbook(), format);
+                sheet.setDefaultColumnStyle(columnOrders[i] - 1, style);
+                cellStyles[i] = inheritsColumnStyle ? null : style;
+            }
+        }
+        return new ColumnLayout(columnOrders, cellTypes, valueTypes, cellStyles, converters);
+    }
+
+    /**
+     * @return true unless the processor is a {@link DefaultObjectValueProcessor} that inherits both of its
+     * {@code process} methods, whose conversions the layout may then take over.
+     */
+    private static boolean overridesProcess(ObjectValueProcessor processor) {
+        if (!(processor instanceof DefaultObjectValueProcessor)) {
+            return true;
+        }
+        try {
+            Class<?> type = processor.getClass();
+            return type.getMethod("process", Object.class).getDeclaringClass() != DefaultObjectValueProcessor.class
+                    || type.getMethod("process", Object.class, Appendable.class).getDeclaringClass()
+                    != DefaultObjectValueProcessor.class;
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Populates the data rows through the cursor, pulling one element at a time from the iterator.
+     * When more than one render thread is configured, rows are rendered in parallel; see
+     * {@link #populateRowsInParallel}.
+     *
+     * @param firstData    An element already taken from the source that must be written first, or null.
+     * @param dataIterator The remaining elements.
+     * @param maxRows      The maximum number of elements to take; the rest are left in the iterator.
+     */
+    private void populateRows(Object firstData, Iterator<?> dataIterator, SheetCursor cursor,
+                              RowWriter<Object> rowWriter, long maxRows) {
+        if (renderThreads > 1) {
+            populateRowsInParallel(firstData, dataIterator, cursor, rowWriter, maxRows);
+            return;
+        }
+
+        Object[] values = new Object[cursor.layout.columnOrders.length];
+        long remaining = maxRows;
+
+        if (firstData != null) {
+            renderRow(firstData, rowWriter, cursor.layout, values);
+            writeRow(cursor.nextRow(), cursor.layout, values);
+            remaining--;
+        }
+        while (remaining > 0 && dataIterator.hasNext()) {
+            renderRow(dataIterator.next(), rowWriter, cursor.layout, values);
+            writeRow(cursor.nextRow(), cursor.layout, values);
+            remaining--;
+        }
+    }
+
+    /**
+     * Renders rows on a pool of worker threads and writes them through the cursor on the calling thread, in input
+     * order.
+     * <p>
+     * The calling thread pulls elements from the iterator into batches of {@link Config#PARALLEL_BATCH_SIZE},
+     * submits each batch for extraction and value processing, and writes the oldest batch as soon as it is done.
+     * At most two batches per worker are in flight, so memory stays bounded regardless of the data size. The
+     * {@link RowWriter} and the {@link ObjectValueProcessor} are called concurrently and must be thread-safe.
+     * Rendering does not depend on the sheet, so batches rendered before a rollover are written to the new sheet
+     * unchanged.
+     */
+    private void populateRowsInParallel(Object firstData, Iterator<?> dataIterator, SheetCursor cursor,
+                                        RowWriter<Object> rowWriter, long maxRows) {
+        ExecutorService executor = Executors.newFixedThreadPool(renderThreads, RENDER_THREAD_FACTORY);
+        Deque<Future<Object[][]>> inFlight = new ArrayDeque<>();
+        int maxInFlight = renderThreads * 2;
+        ColumnLayout layout = cursor.layout;
+        long remaining = maxRows;
+        try {
+            Object pending = firstData;
+            while (remaining > 0 && (pending != null || dataIterator.hasNext())) {
+                Object[] batch = new Object[(int) Math.min(Config.PARALLEL_BATCH_SIZE, remaining)];
+                int size = 0;
+                if (pending != null) {
+                    batch[size++] = pending;
+                    pending = null;
+                }
+                while (size < batch.length && dataIterator.hasNext()) {
+                    batch[size++] = dataIterator.next();
+                }
+                remaining -= size;
+                Object[] beans = batch;
+                int batchSize = size;
+                inFlight.addLast(executor.submit(() -> renderBatch(beans, batchSize, rowWriter, layout)));
+
+                if (inFlight.size() >= maxInFlight) {
+                    writeBatch(cursor, inFlight.removeFirst());
+                }
+            }
+            while (!inFlight.isEmpty()) {
+                writeBatch(cursor, inFlight.removeFirst());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Renders a batch of elements on a worker thread.
+     */
+    private Object[][] renderBatch(Object[] beans, int size, RowWriter<Object> rowWriter, ColumnLayout layout) {
+        Object[][] rows = new Object[size][];
+        for (int i = 0; i < size; i++) {
+            rows[i] = new Object[layout.columnOrders.length];
+            renderRow(beans[i], rowWriter, layout, rows[i]);
+        }
+        return rows;
+    }
+
+    /**
+     * Waits for a rendered batch and writes its rows through the cursor.
+     */
+    private void writeBatch(SheetCursor cursor, Future<Object[][]> renderedBatch) {
+        for (Object[] values : await(renderedBatch)) {
+            writeRow(cursor.nextRow(), cursor.layout, values);
+        }
+    }
+
+    /**
+     * Waits for a task on a worker thread, rethrowing its unchecked failure as it was thrown.
+     */
+    private static <T> T await(Future<T> task) {
+        try {
+            return task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while rendering rows.", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException("Failed to render rows.", cause);
+        }
+    }
+
+    /**
+     * Extracts a row into {@code values} and replaces every value that is not written as a native cell with its
+     * processed text. This step does not touch the sheet and may run on any thread.
+     */
+    private void renderRow(Object data, RowWriter<Object> rowWriter, ColumnLayout layout, Object[] values) {
+        rowWriter.extractRow(data, values);
+
+        for (int i = 0; i < values.length; i++) {
+            if (!layout.isNative(i, values[i])) {
+                values[i] = processValue(values[i], layout.converterFor(i, values[i]));
+            }
+        }
+    }
+
+    /**
+     * Extracts a row into {@code values} and replaces every value that is not written as a native cell with its
+     * text, appended into the column's buffer.
+     */
+    private void renderRow(Object data, RowWriter<Object> rowWriter, ColumnLayout layout,
+                           AppendingObjectValueProcessor processor, CellTextBuffer[] buffers, Object[] values)
+            throws IOException {
+        rowWriter.extractRow(data, values);
+
+        for (int i = 0; i < values.length; i++) {
+            if (!layout.isNative(i, values[i])) {
+                CellTextBuffer buffer = buffers[i];
+                buffer.clear();
+                ValueConverter<Object> converter = layout.converterFor(i, values[i]);
+                if (converter != null) {
+                    converter.append(values[i], buffer);
+                } else {
+                    processor.process(values[i], buffer);
+                }
+                values[i] = buffer;
+            }
+        }
+    }
+
+    /**
+     * Writes the cells of a single rendered data row.
+     */
+    private void writeRow(Row row, ColumnLayout layout, Object[] values) {
+        for (int i = 0; i < values.length; i++) {
+            Cell cell = row.createCell(layout.columnOrders[i] - 1);
+            CellValueType cellType = layout.cellTypes[i];
+
+            if (cellType == CellValueType.STRING || values[i] instanceof String) {
+                cell.setCellValue((String) values[i]);
+            } else if (values[i] != null) {
+                cellType.setCellValue(cell, values[i]);
+                if (layout.cellStyles[i] != null) {
+                    cell.setCellStyle(layout.cellStyles[i]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Processes the field value into a string, handling null and overly long values.
+     *
+     * @param converter The converter resolved for the value, or null to dispatch through the processor.
+     */
+    private String processValue(Object value, ValueConverter<Object> converter) {
+        String cellValue = converter != null
+                ? converter.convert(value)
+                : objectValueProcessor.process(value);
+        if (cellValue != null && cellValue.length() > Config.MAX_CELL_LENGTH) {
+            return cellValue.substring(0, Config.TRUNCATED_CELL_LENGTH); // Excel cell value limit
+        }
+        return cellValue;
+    }
+
+    /**
+     * Per-column cell positions, value kinds, styles and text converters of a sheet, resolved once before its rows
+     * are written.
+     */
+    private static final class ColumnLayout {
+        private final int[] columnOrders;
+        private final CellValueType[] cellTypes;
+        private final Class<?>[] valueTypes;
+        private final CellStyle[] cellStyles;
+        private final ValueConverter<Object>[] converters;
+
+        private ColumnLayout(int[] columnOrders, CellValueType[] cellTypes, Class<?>[] valueTypes,
+                             CellStyle[] cellStyles, ValueConverter<Object>[] converters) {
+            this.columnOrders = columnOrders;
+            this.cellTypes = cellTypes;
+            this.valueTypes = valueTypes;
+            this.cellStyles = cellStyles;
+            this.converters = converters;
+        }
+
+        /**
+         * @return true if the value of a column is written as a native cell: the column has a native kind and the
+         * value is null or of the column's declared type.
+         */
+        private boolean isNative(int column, Object value) {
+            return cellTypes[column] != CellValueType.STRING
+                    && (value == null || valueTypes[column].isInstance(value));
+        }
+
+        /**
+         * @return the converter resolved for a column, or null when there is none or the value is not of the
+         * column's declared type.
+         */
+        private ValueConverter<Object> converterFor(int column, Object value) {
+            ValueConverter<Object> converter = converters[column];
+            return converter != null && valueTypes[column].isInstance(value) ? converter : null;
+        }
+    }
+
+    /**
+     * Remembers the last element taken from an iterator, for the checkpoint of a resumable export.
+     */
+    private static final class LastElementIterator<T> implements Iterator<T> {
+        private final Iterator<T> iterator;
+        private T last;
+
+        private LastElementIterator(Iterator<T> iterator) {
+            this.iterator = iterator;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return iterator.hasNext();
+        }
+
+        @Override
+        public T next() {
+            last = iterator.next();
+            return last;
+        }
+    }
+
+    /**
+     * The number of data rows and sheets written by an export.
+     */
+    private static class WriteCount {
+        long rowCount;
+        int sheetCount = 1;
+    }
+
+    /**
+     * Creates the data rows of a sheet in order. When the sheet is full and the policy is
+     * {@link OverflowPolicy#NEW_SHEET}, it continues on a new sheet named by {@link #rolloverSheetName}, with the
+     * header repeated and the column layout resolved for it; under any other policy a full sheet fails the export.
+     */
+    private final class SheetCursor extends WriteCount {
+        private final Workbook workbook;
+        private final String sheetName;
+        private final RowWriter<Object> rowWriter;
+        private final OverflowPolicy policy;
+        private final int lastRowIndex;
+        private Sheet sheet;
+        private ColumnLayout layout;
+        private int rowIndex = Config.ROW_VALUE_START_FOR_DATA;
+        private int sheetNumber = 1;
+
+        private SheetCursor(Sheet sheet, String sheetName, RowWriter<Object> rowWriter, OverflowPolicy policy) {
+            this.workbook = sheet.getWorkbook();
+            this.sheetName = sheetName;
+            this.rowWriter = rowWriter;
+            this.policy = policy;
+            this.lastRowIndex = workbook.getSpreadsheetVersion().getLastRowIndex();
+            this.sheet = sheet;
+            this.layout = resolveLayout(sheet, rowWriter, true);
+        }
+
+        /**
+         * Creates the next data row, rolling over to a new sheet first when the current one is full.
+         */
+        private Row nextRow() {
+            if (rowIndex > lastRowIndex) {
+                rollOver();
+            }
+            rowCount++;
+            return sheet.createRow(rowIndex++);
+        }
+
+        private void rollOver() {
+            if (policy != OverflowPolicy.NEW_SHEET) {
+                throw sheetFull(dataRowLimit(workbook));
+            }
+            String name;
+            do {
+                name = rolloverSheetName(sheetName, ++sheetNumber);
+            } while (workbook.getSheet(name) != null);
+
+            sheet = workbook.createSheet(name);
+            populateHeader(sheet, rowWriter);
+            layout = resolveLayout(sheet, rowWriter, true);
+            rowIndex = Config.ROW_VALUE_START_FOR_DATA;
+            sheetCount++;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.excel.utility;
+
+/**
+ * The engine and file format used by {@link ExcelUtility#exportTo} to produce the output.
+ */
+public enum ExportBackend {
+
+    /**
+     * Renders rows through an {@link org.apache.poi.xssf.streaming.SXSSFWorkbook}, which buffers them in temporary
+     * files before the package is written. Supports parallel rendering.
+     */
+    POI,
+
+    /**
+     * Encodes rows directly as SpreadsheetML into the output package with
+     * {@link com.excel.utility.writer.SpreadsheetMLWriter}, without a POI usermodel or temporary files. Rows are
+     * rendered on the calling thread.
+     */
+    SPREADSHEETML,
+
+    /**
+     * Encodes rows directly as an XLSB (Excel binary workbook) package with
+     * {@link com.excel.utility.writer.XlsbWriter}, which Excel loads faster and which is smaller than XLSX. Rows are
+     * rendered on the calling thread.
+     */
+    XLSB,
+
+    /**
+     * Writes UTF-8 comma-separated values with {@link com.excel.utility.writer.DelimitedTextWriter}. Every column is
+     * rendered as text through the {@link com.excel.utility.processor.ObjectValueProcessor}, and the sheet name is
+     * not written. Rows are rendered on the calling thread.
+     */
+    CSV,
+
+    /**
+     * Writes UTF-8 tab-separated values, otherwise as {@link #CSV}.
+     */
+    TSV
+}
@@ -0,0 +1,135 @@
+package com.excel.utility;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.DirectoryNotEmptyException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Objects;
+import java.util.Properties;
+
+/**
+ * The progress of a resumable export, stored in {@value #FILE_NAME} in the checkpoint directory next to one part
+ * file per completed sheet. The file is replaced atomically, so a crash leaves either the previous checkpoint or
+ * the new one; a part file written after the last checkpoint is overwritten on resume.
+ */
+final class ExportCheckpoint {
+
+    static final String FILE_NAME = "checkpoint.properties";
+
+    private final String type;
+    private final String sheetName;
+    private final ExportBackend backend;
+    private final int rowsPerSheet;
+    private long rowCount;
+    private int sheetCount;
+    private String position;
+
+    ExportCheckpoint(String type, String sheetName, ExportBackend backend, int rowsPerSheet) {
+        this.type = type;
+        this.sheetName = sheetName;
+        this.backend = backend;
+        this.rowsPerSheet = rowsPerSheet;
+    }
+
+    /**
+     * @return the checkpoint stored in the directory, or null if there is none.
+     */
+    static ExportCheckpoint load(Path directory) throws IOException {
+        Path file = directory.resolve(FILE_NAME);
+        if (!Files.exists(file)) {
+            return null;
+        }
+        Properties properties = new Properties();
+        try (InputStream inputStream = Files.newInputStream(file)) {
+            properties.load(inputStream);
+        }
+        try {
+            ExportCheckpoint checkpoint = new ExportCheckpoint(
+                    Objects.requireNonNull(properties.getProperty("type"), "type"),
+                    properties.getProperty("sheetName"), ExportBackend.valueOf(properties.getProperty("backend")),
+                    Integer.parseInt(properties.getProperty("rowsPerSheet")));
+            checkpoint.rowCount = Long.parseLong(properties.getProperty("rowCount"));
+            checkpoint.sheetCount = Integer.parseInt(properties.getProperty("sheetCount"));
+            checkpoint.position = properties.getProperty("position");
+            return checkpoint;
+        } catch (RuntimeException e) {
+            throw new IOException("The checkpoint " + file + " is corrupt.", e);
+        }
+    }
+
+    /**
+     * Replaces the stored checkpoint with this one.
+     */
+    void save(Path directory) throws IOException {
+        Properties properties = new Properties();
+        properties.setProperty("type", type);
+        if (sheetName != null) {
+            properties.setProperty("sheetName", sheetName);
+        }
+        properties.setProperty("backend", backend.name());
+        properties.setProperty("rowsPerSheet", Integer.toString(rowsPerSheet));
+        properties.setProperty("rowCount", Long.toString(rowCount));
+        properties.setProperty("sheetCount", Integer.toString(sheetCount));
+        if (position != null) {
+            properties.setProperty("position", position);
+        }
+
+        Path temporary = directory.resolve(FILE_NAME + ".tmp");
+        try (OutputStream outputStream = Files.newOutputStream(temporary)) {
+            properties.store(outputStream, "excel-utility export checkpoint");
+        }
+        Files.move(temporary, directory.resolve(FILE_NAME), StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Deletes the checkpoint, its part files and the directory, if nothing else is in it.
+     */
+    void delete(Path directory) throws IOException {
+        for (int sheetNumber = 1; sheetNumber <= sheetCount + 1; sheetNumber++) {
+            Files.deleteIfExists(partFile(directory, sheetNumber));
+        }
+        Files.deleteIfExists(directory.resolve(FILE_NAME));
+        try {
+            Files.deleteIfExists(directory);
+        } catch (DirectoryNotEmptyException e) {
+            // The directory holds other files of the caller.
+        }
+    }
+
+    /**
+     * @return whether this checkpoint was written by an export with the same settings.
+     */
+    boolean isFor(String type, String sheetName, ExportBackend backend, int rowsPerSheet) {
+        return this.type.equals(type) && Objects.equals(this.sheetName, sheetName) && this.backend == backend
+                && this.rowsPerSheet == rowsPerSheet;
+    }
+
+    /**
+     * Records a completed sheet.
+     */
+    void addSheet(long sheetRows, String position) {
+        this.rowCount += sheetRows;
+        this.sheetCount++;
+        this.position = position;
+    }
+
+    static Path partFile(Path directory, int sheetNumber) {
+        return directory.resolve("sheet-" + sheetNumber + ".part");
+    }
+
+    long getRowCount() {
+        return rowCount;
+    }
+
+    int getSheetCount() {
+        return sheetCount;
+    }
+
+    String getPosition() {
+        return position;
+    }
+}
@@ -0,0 +1,91 @@
+package com.excel.utility;
+
+import java.nio.file.Path;
+import java.util.concurrent.Callable;
+import java.util.stream.Stream;
+
+import static com.excel.utility.Config.DEFAULT_SHEET_NAME;
+
+/**
+ * One export for an {@link ExcelExportService}: where the rows come from, their POJO class, and the file they are
+ * written to.
+ * <p>
+ * The source is called on the job's thread only once a workbook slot is free, so a blocking query is opened no
+ * earlier than its rows can be written. The stream it returns is closed when the job ends.
+ *
+ * @param <T> the POJO class of the rows
+ */
+public final class ExportJob<T> {
+
+    private final Callable<? extends Stream<T>> source;
+    private final Class<T> type;
+    private final String sheetName;
+    private final Path path;
+    private final ExportBackend backend;
+
+    /**
+     * Creates a job exported with the {@link ExportBackend#POI} backend.
+     *
+     * @param source    opens the rows, for example by running a query
+     * @param type      the {@code @ExcelMapper} annotated class of the rows
+     * @param sheetName the sheet name, or null for {@link Config#DEFAULT_SHEET_NAME}
+     * @param path      the file to create or truncate
+     */
+    public ExportJob(Callable<? extends Stream<T>> source, Class<T> type, String sheetName, Path path) {
+        this(source, type, sheetName, path, ExportBackend.POI);
+    }
+
+    /**
+     * @param source    opens the rows, for example by running a query
+     * @param type      the {@code @ExcelMapper} annotated class of the rows
+     * @param sheetName the sheet name, or null for {@link Config#DEFAULT_SHEET_NAME}
+     * @param path      the file to create or truncate
+     * @param backend   how the file is written
+     */
+    public ExportJob(Callable<? extends Stream<T>> source, Class<T> type, String sheetName, Path path,
+                     ExportBackend backend) {
+        if (source == null) {
+            throw new IllegalArgumentException("The source cannot be null.");
+        }
+        if (type == null) {
+            throw new IllegalArgumentException("The type cannot be null.");
+        }
+        if (path == null) {
+            throw new IllegalArgumentException("The path cannot be null.");
+        }
+        if (backend == null) {
+            throw new IllegalArgumentException("The export backend cannot be null.");
+        }
+        this.source = source;
+        this.type = type;
+        this.sheetName = sheetName == null ? DEFAULT_SHEET_NAME : sheetName;
+        this.path = path;
+        this.backend = backend;
+    }
+
+    public Callable<? extends Stream<T>> getSource() {
+        return source;
+    }
+
+    public Class<T> getType() {
+        return type;
+    }
+
+    public String getSheetName() {
+        return sheetName;
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    public ExportBackend getBackend() {
+        return backend;
+    }
+
+    @Override
+    public String toString() {
+        return "ExportJob{type=" + type.getName() + ", sheetName=" + sheetName + ", path=" + path + ", backend="
+                + backend + "}";
+    }
+}
@@ -0,0 +1,28 @@
+package com.excel.utility;
+
+/**
+ * What an export does when the data has more rows than a sheet can hold: 65,536 rows for HSSF and 1,048,576 for
+ * XSSF, SXSSF and the raw backends, including the header row. Delimited text has no row limit.
+ */
+public enum OverflowPolicy {
+
+    /**
+     * Fails with an {@link IllegalArgumentException}. When the stream reports its exact size, the export fails before
+     * any row is written; otherwise it fails when the sheet is full.
+     */
+    FAIL,
+
+    /**
+     * Continues on a new sheet of the same workbook when a sheet is full, with the header repeated. The sheets are
+     * named after the first one: {@code Data}, {@code Data (2)}, {@code Data (3)}, and so on. Rows are still
+     * streamed; nothing is buffered to split them.
+     */
+    NEW_SHEET,
+
+    /**
+     * Continues in a new file next to the first one when a sheet is full: {@code report.xlsx},
+     * {@code report (2).xlsx}, and so on, each with a single sheet. Only exports to a {@link java.nio.file.Path} can
+     * create files; every other target behaves as {@link #FAIL}.
+     */
+    NEW_FILE
+}
@@ -0,0 +1,44 @@
+package com.excel.utility;
+
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A data source read one page at a time, such as an offset query or a keyset cursor.
+ * <p>
+ * Offset paging uses the offset: {@code (offset, last) -> repository.findPage(offset, 1_000)}. Keyset paging uses
+ * the last item of the previous page: {@code (offset, last) -> repository.findAfter(last == null ? 0 : last.getId(),
+ * 1_000)}. An empty or null page ends the data.
+ *
+ * @param <T> the POJO class of the items
+ */
+@FunctionalInterface
+public interface PageSource<T> {
+
+    /**
+     * Fetches the page that follows the items fetched so far.
+     *
+     * @param offset The number of items in the previous pages.
+     * @param last   The last item of the previous page, or null for the first page.
+     * @return the next page, or an empty list or null when there are no more items.
+     * @throws Exception if the page cannot be fetched; the failure is rethrown to the reader of the stream.
+     */
+    List<T> fetchPage(long offset, T last) throws Exception;
+
+    /**
+     * Returns the items of every page as one lazy stream, fetching pages on a background thread ahead of the
+     * reader, so the next query runs while the current page is written.
+     * <p>
+     * At most {@code prefetchPages} fetched pages wait to be read, and one more may be in flight; the background
+     * thread blocks until the reader catches up. A page that fails to fetch is rethrown where the reader reaches it,
+     * as is if unchecked and wrapped otherwise. Closing the stream stops the background thread, so the stream must
+     * be closed when it is not fully read.
+     *
+     * @param prefetchPages The number of pages fetched ahead of the reader; at least 1.
+     */
+    default Stream<T> stream(int prefetchPages) {
+        PrefetchingPageSpliterator<T> pages = new PrefetchingPageSpliterator<>(this, Math.max(prefetchPages, 1));
+        return StreamSupport.stream(pages, false).onClose(pages::close);
+    }
+}
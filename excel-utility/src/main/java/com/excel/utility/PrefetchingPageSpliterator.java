@@ -0,0 +1,150 @@
+package com.excel.utility;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Reads the items of a {@link PageSource} while a background thread fetches the following pages into a bounded
+ * queue. The thread starts on the first read and ends after the last page, on a failure, or when closed.
+ */
+final class PrefetchingPageSpliterator<T> extends Spliterators.AbstractSpliterator<T> implements AutoCloseable {
+
+    private static final AtomicInteger THREAD_NUMBER = new AtomicInteger();
+
+    /**
+     * Queued after the last page.
+     */
+    private static final Object END = new Object();
+
+    private final PageSource<T> source;
+    private final BlockingQueue<Object> pages;
+    private Thread fetcher;
+    private volatile boolean closed;
+    private Iterator<T> page = Collections.emptyIterator();
+    private boolean done;
+
+    PrefetchingPageSpliterator(PageSource<T> source, int prefetchPages) {
+        super(Long.MAX_VALUE, Spliterator.ORDERED);
+        if (source == null) {
+            throw new IllegalArgumentException("The page source cannot be null.");
+        }
+        this.source = source;
+        this.pages = new ArrayBlockingQueue<>(prefetchPages);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean tryAdvance(Consumer<? super T> action) {
+        while (!page.hasNext()) {
+            if (done) {
+                return false;
+            }
+            if (fetcher == null) {
+                start();
+            }
+            Object next = take();
+            if (next == END) {
+                done = true;
+                return false;
+            }
+            if (next instanceof Failure) {
+                done = true;
+                throw ((Failure) next).rethrow();
+            }
+            page = ((List<T>) next).iterator();
+        }
+        action.accept(page.next());
+        return true;
+    }
+
+    /**
+     * Stops the background thread. A fetch in progress is interrupted, and its page is dropped.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        if (fetcher != null) {
+            fetcher.interrupt();
+        }
+    }
+
+    private void start() {
+        if (closed) {
+            throw new IllegalStateException("The page stream is closed.");
+        }
+        fetcher = new Thread(this::fetchPages, "excel-utility-prefetch-" + THREAD_NUMBER.incrementAndGet());
+        fetcher.setDaemon(true);
+        fetcher.start();
+    }
+
+    private void fetchPages() {
+        long offset = 0;
+        T last = null;
+        try {
+            while (!closed) {
+                List<T> next = source.fetchPage(offset, last);
+                if (next == null || next.isEmpty()) {
+                    pages.put(END);
+                    return;
+                }
+                offset += next.size();
+                last = next.get(next.size() - 1);
+                pages.put(next);
+            }
+        } catch (Exception | Error e) {
+            if (!closed) {
+                put(new Failure(e));
+            }
+        }
+    }
+
+    /**
+     * Hands a failure to the reader, unless the reader closes the stream first.
+     */
+    private void put(Failure failure) {
+        try {
+            pages.put(failure);
+        } catch (InterruptedException e) {
+            // Closed while waiting for the reader.
+        }
+    }
+
+    private Object take() {
+        try {
+            return pages.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a page.", e);
+        }
+    }
+
+    private static final class Failure {
+        private final Throwable error;
+
+        private Failure(Throwable error) {
+            this.error = error;
+        }
+
+        private RuntimeException rethrow() {
+            if (error instanceof RuntimeException) {
+                return (RuntimeException) error;
+            }
+            if (error instanceof Error) {
+                throw (Error) error;
+            }
+            if (error instanceof IOException) {
+                return new UncheckedIOException((IOException) error);
+            }
+            return new IllegalStateException("Failed to fetch a page.", error);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.excel.utility;
+
+import java.util.stream.Stream;
+
+/**
+ * A data source that can be reopened after a given row, for exports that resume from a checkpoint.
+ * <p>
+ * By default the position is the number of rows already written, so an offset query resumes with
+ * {@code position -> repository.streamFrom(position == null ? 0 : Long.parseLong(position))}. A keyset cursor
+ * overrides {@link #positionAfter} to return the key of the last row instead.
+ *
+ * @param <T> the POJO class of the rows
+ */
+@FunctionalInterface
+public interface ResumableSource<T> {
+
+    /**
+     * Opens the rows that follow a position. The returned stream is closed when the export ends.
+     *
+     * @param position A token returned by {@link #positionAfter}, or null to start from the first row.
+     * @throws Exception if the source cannot be opened; the export fails with it.
+     */
+    Stream<T> open(String position) throws Exception;
+
+    /**
+     * Returns the position from which {@link #open} continues with the row after {@code last}. Called once per
+     * checkpoint; the token is stored as text.
+     *
+     * @param last     The last row written before the checkpoint.
+     * @param rowCount The number of rows written before the checkpoint, including {@code last}.
+     */
+    default String positionAfter(T last, long rowCount) {
+        return Long.toString(rowCount);
+    }
+}
@@ -11,13 +11,29 @@ public class ColumnMetadata {
     private final Class<?> fieldType;
 
     private List<Field> parentClassFieldList;
+    private final boolean readOnly;
 
     public ColumnMetadata(Field field, String header, int columnOrder, Class<?> fieldType, List<Field> parentClassFieldList) {
+        this(field, header, columnOrder, fieldType, parentClassFieldList, false);
+    }
+
+    private ColumnMetadata(Field field, String header, int columnOrder, Class<?> fieldType,
+                           List<Field> parentClassFieldList, boolean readOnly) {
         this.field = field;
         this.header = header;
         this.columnOrder = columnOrder;
         this.fieldType = fieldType;
         this.parentClassFieldList = parentClassFieldList;
+        this.readOnly = readOnly;
+    }
+
+    /**
+     * Copies this metadata into a form whose setters throw, for sharing through a cached
+     * {@link ColumnMetadataPlan}.
+     */
+    ColumnMetadata readOnlyCopy() {
+        List<Field> fields = parentClassFieldList == null ? null : List.copyOf(parentClassFieldList);
+        return new ColumnMetadata(field, header, columnOrder, fieldType, fields, true);
     }
 
     public List<Field> getParentClassFieldList() {
@@ -25,6 +41,7 @@ public class ColumnMetadata {
     }
 
     public void setParentClassFieldList(List<Field> parentClassFieldList) {
+        checkWritable();
         this.parentClassFieldList = Collections.unmodifiableList(parentClassFieldList);
     }
 
@@ -41,10 +58,17 @@ public class ColumnMetadata {
     }
 
     public void setColumnOrder(int columnOrder) {
+        checkWritable();
         this.columnOrder = columnOrder;
     }
 
     public Class<?> getFieldType() {
         return fieldType;
     }
+
+    private void checkWritable() {
+        if (readOnly) {
+            throw new UnsupportedOperationException("The column metadata of a cached plan cannot be modified.");
+        }
+    }
 }
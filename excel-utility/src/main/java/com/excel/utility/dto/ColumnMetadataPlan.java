@@ -0,0 +1,48 @@
+package com.excel.utility.dto;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * An immutable, fully resolved column layout for a single {@code @ExcelMapper} class.
+ *
+ * <p>A plan is the result of running metadata extraction, column order assignment and validation once for a
+ * class. It is cached by {@link com.excel.utility.extractor.ColumnMetadataCache} and shared between exports, so
+ * it holds read-only copies of the {@link ColumnMetadata} entries, whose setters throw.</p>
+ */
+public final class ColumnMetadataPlan {
+
+    private final Class<?> type;
+    private final List<ColumnMetadata> columns;
+
+    public ColumnMetadataPlan(Class<?> type, List<ColumnMetadata> columns) {
+        this.type = type;
+        List<ColumnMetadata> copies = new ArrayList<>(columns.size());
+        for (ColumnMetadata column : columns) {
+            copies.add(column.readOnlyCopy());
+        }
+        this.columns = Collections.unmodifiableList(copies);
+    }
+
+    /**
+     * @return the POJO class this plan was resolved for.
+     */
+    public Class<?> getType() {
+        return type;
+    }
+
+    /**
+     * @return the unmodifiable list of column metadata, in field declaration order.
+     */
+    public List<ColumnMetadata> getColumns() {
+        return columns;
+    }
+
+    /**
+     * @return the number of columns in this plan.
+     */
+    public int size() {
+        return columns.size();
+    }
+}
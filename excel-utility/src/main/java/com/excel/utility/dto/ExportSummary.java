@@ -0,0 +1,96 @@
+package com.excel.utility.dto;
+
+import java.time.Duration;
+
+/**
+ * Summary of a completed export: how many rows were written, how many bytes the package occupies,
+ * how long each phase took, and how many sheets and files the rows were spread over.
+ */
+public final class ExportSummary {
+
+    private final long rowCount;
+    private final long byteCount;
+    private final Duration renderTime;
+    private final Duration writeTime;
+    private final Duration closeTime;
+    private final int sheetCount;
+    private final int fileCount;
+
+    public ExportSummary(long rowCount, long byteCount, Duration renderTime, Duration writeTime, Duration closeTime) {
+        this(rowCount, byteCount, renderTime, writeTime, closeTime, 1, 1);
+    }
+
+    public ExportSummary(long rowCount, long byteCount, Duration renderTime, Duration writeTime, Duration closeTime,
+                         int sheetCount, int fileCount) {
+        this.rowCount = rowCount;
+        this.byteCount = byteCount;
+        this.renderTime = renderTime;
+        this.writeTime = writeTime;
+        this.closeTime = closeTime;
+        this.sheetCount = sheetCount;
+        this.fileCount = fileCount;
+    }
+
+    /**
+     * @return the number of data rows written, excluding header rows.
+     */
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * @return the number of bytes written to the target.
+     */
+    public long getByteCount() {
+        return byteCount;
+    }
+
+    /**
+     * @return the time spent consuming the data and rendering rows.
+     */
+    public Duration getRenderTime() {
+        return renderTime;
+    }
+
+    /**
+     * @return the time spent serializing the package to the target.
+     */
+    public Duration getWriteTime() {
+        return writeTime;
+    }
+
+    /**
+     * @return the time spent closing the workbook and disposing temporary files.
+     */
+    public Duration getCloseTime() {
+        return closeTime;
+    }
+
+    /**
+     * @return the number of sheets the rows were written to, more than one after a sheet rollover.
+     */
+    public int getSheetCount() {
+        return sheetCount;
+    }
+
+    /**
+     * @return the number of files written, more than one after a file rollover.
+     */
+    public int getFileCount() {
+        return fileCount;
+    }
+
+    /**
+     * @return the total elapsed time of all phases.
+     */
+    public Duration getTotalTime() {
+        return renderTime.plus(writeTime).plus(closeTime);
+    }
+
+    @Override
+    public String toString() {
+        return "ExportSummary{rows=" + rowCount + ", bytes=" + byteCount + ", render=" + renderTime.toMillis()
+                + "ms, write=" + writeTime.toMillis() + "ms, close=" + closeTime.toMillis() + "ms, sheets=" + sheetCount
+                + ", files=" + fileCount + "}";
+    }
+}
@@ -0,0 +1,7 @@
+package com.excel.utility.exception;
+
+public class InvalidCellValueException extends RuntimeException {
+    public InvalidCellValueException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,95 @@
+package com.excel.utility.extractor;
+
+import com.excel.utility.dto.ColumnMetadataPlan;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A thread-safe cache of {@link ColumnMetadataPlan} instances, resolved once per POJO class.
+ *
+ * <p>Plans are stored in a {@link ClassValue}, so an entry lives exactly as long as the class it describes and
+ * never pins a class loader. The {@link #shared()} instance is used by every
+ * {@link com.excel.utility.ExcelUtility} in the JVM.</p>
+ *
+ * <p>Entries can be dropped individually with {@link #invalidate(Class)}, or all at once with
+ * {@link #invalidateAll()}, which bumps a generation counter so stale plans are rebuilt on their next lookup.</p>
+ */
+public final class ColumnMetadataCache {
+
+    private static final ColumnMetadataCache SHARED = new ColumnMetadataCache();
+
+    /**
+     * Incremented by {@link #invalidateAll()}; entries built under an older generation are treated as missing.
+     */
+    private final AtomicLong generation = new AtomicLong();
+
+    private final ClassValue<AtomicReference<Entry>> entries = new ClassValue<>() {
+        @Override
+        protected AtomicReference<Entry> computeValue(Class<?> type) {
+            return new AtomicReference<>();
+        }
+    };
+
+    /**
+     * @return the JVM-wide cache instance.
+     */
+    public static ColumnMetadataCache shared() {
+        return SHARED;
+    }
+
+    /**
+     * Returns the resolved plan for the given class, extracting and validating its metadata on first use.
+     *
+     * @param type The {@code @ExcelMapper} annotated class.
+     * @return The cached plan for the class.
+     * @throws IllegalArgumentException if the class is not a valid mapping source (nothing is cached in that case).
+     */
+    public ColumnMetadataPlan getPlan(Class<?> type) {
+        AtomicReference<Entry> slot = entries.get(type);
+        long currentGeneration = generation.get();
+
+        Entry entry = slot.get();
+        if (entry != null && entry.generation == currentGeneration) {
+            return entry.plan;
+        }
+
+        // Concurrent lookups may both resolve the plan; only the first replaces the entry that was read, and the
+        // others return the plan it stored, unless that plan was built under an older generation.
+        ColumnMetadataPlan plan = new ColumnMetadataPlan(type, new ColumnMetadataExtractor().process(type));
+        if (slot.compareAndSet(entry, new Entry(plan, currentGeneration))) {
+            return plan;
+        }
+        Entry stored = slot.get();
+        return stored != null && stored.generation >= currentGeneration ? stored.plan : plan;
+    }
+
+    /**
+     * Drops the cached plan for a single class.
+     *
+     * @param type The class whose plan should be rebuilt on next use.
+     */
+    public void invalidate(Class<?> type) {
+        entries.remove(type);
+    }
+
+    /**
+     * Drops every cached plan.
+     */
+    public void invalidateAll() {
+        generation.incrementAndGet();
+    }
+
+    /**
+     * Holder for a plan and the generation it was built under.
+     */
+    private static final class Entry {
+        private final ColumnMetadataPlan plan;
+        private final long generation;
+
+        private Entry(ColumnMetadataPlan plan, long generation) {
+            this.plan = plan;
+            this.generation = generation;
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.excel.utility.extractor;
+
+import com.excel.utility.exception.ExcelFieldAccessException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * A pre-resolved, compiled accessor for reading a single field from instances of a given class.
+ *
+ * <p>The access strategy is chosen once, in the same order {@link ObjectExtractor} has always used: a public
+ * {@code get<FieldName>()} method, then a public {@code is<FieldName>()} method, and finally direct field access.
+ * The chosen member is bound to a {@link MethodHandle}, so reading a value performs no reflective lookup, no string
+ * building and no exception-driven fallback.</p>
+ */
+public final class FieldAccessor {
+
+    /**
+     * The way a field value is read from the target object.
+     */
+    public enum Strategy {
+        GETTER,
+        IS_GETTER,
+        FIELD
+    }
+
+    private static final MethodType ACCESSOR_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private final Field field;
+    private final Strategy strategy;
+    private final Method method;
+    private final MethodHandle handle;
+
+    private FieldAccessor(Field field, Strategy strategy, Method method, MethodHandle handle) {
+        this.field = field;
+        this.strategy = strategy;
+        this.method = method;
+        this.handle = handle;
+    }
+
+    /**
+     * Resolves the accessor for a field as seen from the given class.
+     *
+     * @param type  the runtime class of the objects the accessor will be applied to
+     * @param field the field to read
+     * @return the resolved accessor
+     * @throws IllegalArgumentException if the field is not declared by {@code type} or one of its superclasses
+     * @throws ExcelFieldAccessException if the resolved member cannot be made accessible
+     */
+    public static FieldAccessor resolve(Class<?> type, Field field) {
+        String capitalizedName = capitalizeFirstLetter(field.getName());
+
+        Method getter = findAccessibleMethod(type, "get" + capitalizedName);
+        if (getter != null) {
+            return new FieldAccessor(field, Strategy.GETTER, getter, unreflect(getter));
+        }
+
+        Method isGetter = findAccessibleMethod(type, "is" + capitalizedName);
+        if (isGetter != null) {
+            return new FieldAccessor(field, Strategy.IS_GETTER, isGetter, unreflect(isGetter));
+        }
+
+        if (!field.getDeclaringClass().isAssignableFrom(type)) {
+            throw new IllegalArgumentException("Field " + field.getDeclaringClass().getName() + "." + field.getName()
+                    + " is not declared by " + type.getName());
+        }
+        return new FieldAccessor(field, Strategy.FIELD, null, unreflectGetter(field));
+    }
+
+    /**
+     * Reads the field value from the target object.
+     *
+     * @param target the object to read from; must be an instance of the class the accessor was resolved for
+     * @return the field value
+     * @throws ExcelFieldAccessException if the underlying getter throws
+     */
+    public Object get(Object target) {
+        try {
+            return (Object) handle.invokeExact(target);
+        } catch (Throwable e) {
+            throw new ExcelFieldAccessException(failureMessage(field, strategy), e);
+        }
+    }
+
+    /**
+     * @return the message of the exception thrown when the accessor of a field fails.
+     */
+    static String failureMessage(Field field, Strategy strategy) {
+        return "Failed to read field '" + field.getName() + "' using " + strategy;
+    }
+
+    public Field getField() {
+        return field;
+    }
+
+    public Strategy getStrategy() {
+        return strategy;
+    }
+
+    /**
+     * @return the getter used by this accessor, or {@code null} for the {@link Strategy#FIELD} strategy.
+     */
+    public Method getMethod() {
+        return method;
+    }
+
+    /**
+     * Finds a public, no-argument, non-void method with the given name, mirroring {@link Class#getMethod}
+     * without its exception-based miss path.
+     */
+    private static Method findAccessibleMethod(Class<?> type, String methodName) {
+        for (Method candidate : type.getMethods()) {
+            if (candidate.getName().equals(methodName)
+                    && candidate.getParameterCount() == 0
+                    && candidate.getReturnType() != void.class
+                    && !Modifier.isStatic(candidate.getModifiers())
+                    && candidate.trySetAccessible()) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    private static MethodHandle unreflect(Method method) {
+        try {
+            return MethodHandles.lookup().unreflect(method).asType(ACCESSOR_TYPE);
+        } catch (IllegalAccessException e) {
+            throw new ExcelFieldAccessException("Cannot access method " + method, e);
+        }
+    }
+
+    private static MethodHandle unreflectGetter(Field field) {
+        if (!field.trySetAccessible()) {
+            throw new ExcelFieldAccessException("Cannot access field " + field);
+        }
+        try {
+            MethodHandle getter = MethodHandles.lookup().unreflectGetter(field);
+            if (Modifier.isStatic(field.getModifiers())) {
+                // Static getters take no receiver; accept and ignore one so all accessors share a signature.
+                getter = MethodHandles.dropArguments(getter, 0, Object.class);
+            }
+            return getter.asType(ACCESSOR_TYPE);
+        } catch (IllegalAccessException e) {
+            throw new ExcelFieldAccessException("Cannot access field " + field, e);
+        }
+    }
+
+    /**
+     * Capitalizes the first letter of a string for generating the method name.
+     */
+    private static String capitalizeFirstLetter(String str) {
+        if (str.isEmpty()) {
+            return str;
+        }
+        return Character.toUpperCase(str.charAt(0)) + str.substring(1);
+    }
+}
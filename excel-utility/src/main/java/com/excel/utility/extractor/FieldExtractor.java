@@ -0,0 +1,176 @@
+package com.excel.utility.extractor;
+
+import com.excel.utility.dto.ColumnMetadata;
+import com.excel.utility.dto.ColumnMetadataPlan;
+
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * The {@code FieldExtractor} class is responsible for extracting field values from target objects
+ * based on the specified {@link ColumnMetadata}. It handles various data types, including primitive
+ * types, wrapper types, lists, and maps. If the field value is null, it returns an empty string.
+ *
+ * <p>Key features include:</p>
+ * <ul>
+ *   <li>Extracting field values from objects using reflection.</li>
+ *   <li>Handling complex hierarchies of fields (e.g., nested objects or lists of objects).</li>
+ *   <li>Gracefully handling null values by returning empty strings or null.</li>
+ * </ul>
+ *
+ * <p>The {@code FieldExtractor} uses an {@link ObjectExtractor} to retrieve field values and
+ * processes nested structures (lists and maps) using a flattening mechanism. This ensures that all
+ * types of fields, including nested collections, can be extracted efficiently.</p>
+ *
+ * <p>Whole rows can be read with {@link #extractRow(ColumnMetadataPlan, Object, Object[])}. On first use for a
+ * POJO type, the default extractor generates a hidden class that reads every column in a single call; when the
+ * JVM does not permit defining it, rows are read through a trie of the nested field paths so that shared
+ * prefixes are evaluated once per row.</p>
+ */
+public class FieldExtractor {
+
+    /**
+     * Hidden-class row extractors, keyed by POJO type and tied to the plan they were generated from.
+     */
+    private static final ClassValue<AtomicReference<CompiledRow>> COMPILED_ROWS = new ClassValue<>() {
+        @Override
+        protected AtomicReference<CompiledRow> computeValue(Class<?> type) {
+            return new AtomicReference<>();
+        }
+    };
+
+    private static final System.Logger LOGGER = System.getLogger(FieldExtractor.class.getName());
+
+    private final ObjectExtractor objectExtractor; // Extractor for field values from objects
+
+    /**
+     * Constructs a new {@code FieldExtractor} instance with default dependencies.
+     * The constructor initializes the internal {@link ObjectExtractor} for field extraction.
+     */
+    public FieldExtractor() {
+        this.objectExtractor = new ObjectExtractor(); // Initialize ObjectExtractor
+    }
+
+    /**
+     * Processes the target object and extracts the field value based on the provided {@link ColumnMetadata}.
+     * This method is capable of handling primitive types, wrapper types, and nested structures like Lists and Maps.
+     * If the field value is null, an empty string is returned.
+     *
+     * @param columnMetadata Metadata that contains the field hierarchy information for extraction
+     * @param targetObject   The target object from which the field value will be extracted
+     * @return A string representation of the field value, or null if a getter along the path fails; the failure
+     * is passed to {@link #reportAccessFailure(RuntimeException)}
+     */
+    public Object process(ColumnMetadata columnMetadata, Object targetObject) {
+        try {
+            // Retrieve the field value from the object based on the parent class field hierarchy in metadata
+            return getFieldValueFromHierarchy(targetObject, columnMetadata.getParentClassFieldList());
+        } catch (RuntimeException e) {
+            reportAccessFailure(e);
+        }
+        // Return null in case of any extraction issues
+        return null;
+    }
+
+    /**
+     * Reports a field that could not be read while a row was extracted; the cells depending on it are left empty.
+     * <p>
+     * Every extraction path, including generated row extractors and row writers, reports through this method. The
+     * failure is logged as a warning to the {@link System.Logger} named after this class.
+     *
+     * @param failure the failure, usually an {@link com.excel.utility.exception.ExcelFieldAccessException} naming
+     *                the field
+     */
+    public static void reportAccessFailure(RuntimeException failure) {
+        LOGGER.log(System.Logger.Level.WARNING, failure.getMessage(), failure);
+    }
+
+    /**
+     * Extracts every column of the plan from the target object into {@code values}, in plan order.
+     * <p>
+     * When the target is exactly the plan's type and this is the default extractor, the row is read through a
+     * generated hidden class. Otherwise the default extractor reads the row through a {@link FieldPathTrie} of the
+     * plan, evaluating each shared nested-field prefix once. Subclasses of {@code FieldExtractor} are read column
+     * by column through {@link #process(ColumnMetadata, Object)}. On every path a failing getter is passed to
+     * {@link #reportAccessFailure(RuntimeException)} and only empties the cells read through it.
+     *
+     * @param plan         The resolved column plan of the target's type
+     * @param targetObject The object to read, may be null
+     * @param values       The destination array, at least {@code plan.size()} long
+     */
+    public void extractRow(ColumnMetadataPlan plan, Object targetObject, Object[] values) {
+        if (getClass() == FieldExtractor.class) {
+            CompiledRow compiledRow = compiledRow(plan);
+            if (compiledRow.rowExtractor != null
+                    && (targetObject == null || targetObject.getClass() == plan.getType())) {
+                compiledRow.rowExtractor.extractRow(targetObject, values);
+                return;
+            }
+            compiledRow.fieldPathTrie.extractRow(objectExtractor, targetObject, values);
+            return;
+        }
+
+        List<ColumnMetadata> columns = plan.getColumns();
+        for (int i = 0; i < columns.size(); i++) {
+            values[i] = process(columns.get(i), targetObject);
+        }
+    }
+
+    /**
+     * Returns the compiled readers for a plan, generating them on first use.
+     */
+    private CompiledRow compiledRow(ColumnMetadataPlan plan) {
+        AtomicReference<CompiledRow> slot = COMPILED_ROWS.get(plan.getType());
+        CompiledRow compiledRow = slot.get();
+        if (compiledRow == null || compiledRow.plan != plan) {
+            compiledRow = new CompiledRow(plan, RowExtractorGenerator.generate(plan, objectExtractor),
+                    FieldPathTrie.build(plan));
+            slot.set(compiledRow);
+        }
+        return compiledRow;
+    }
+
+    /**
+     * Retrieves the value of a field from the target object by traversing through the field hierarchy
+     * as specified in the {@code parentClasses} list within the {@link ColumnMetadata}.
+     * This method uses reflection to access fields at each level of the hierarchy.
+     *
+     * @param targetObject  The target object from which the field value is to be extracted
+     * @param parentClasses A list of fields representing the hierarchy of parent classes to traverse
+     * @return The final field value after traversing the field hierarchy, or null if not found
+     */
+    private Object getFieldValueFromHierarchy(Object targetObject, List<Field> parentClasses) {
+        // Return null if the list of parent classes is null or empty
+        if (parentClasses == null || parentClasses.isEmpty()) {
+            return null;
+        }
+
+        Object currentObject = targetObject;
+
+        // Iterate through the field hierarchy in the parentClasses list and extract the field values
+        for (Field parentField : parentClasses) {
+            // Use ObjectExtractor to retrieve the value of the field from the current object
+            currentObject = objectExtractor.process(currentObject, parentField);
+        }
+
+        // Return the final value after traversing the entire hierarchy
+        return currentObject;
+    }
+
+    /**
+     * The generated row extractor and field path trie of a plan, together with the plan they were compiled from;
+     * {@code rowExtractor} is null when generation is not permitted for the type.
+     */
+    private static final class CompiledRow {
+        private final ColumnMetadataPlan plan;
+        private final RowExtractor rowExtractor;
+        private final FieldPathTrie fieldPathTrie;
+
+        private CompiledRow(ColumnMetadataPlan plan, RowExtractor rowExtractor, FieldPathTrie fieldPathTrie) {
+            this.plan = plan;
+            this.rowExtractor = rowExtractor;
+            this.fieldPathTrie = fieldPathTrie;
+        }
+    }
+}
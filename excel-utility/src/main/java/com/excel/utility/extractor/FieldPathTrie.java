@@ -0,0 +1,169 @@
+package com.excel.utility.extractor;
+
+import com.excel.utility.dto.ColumnMetadata;
+import com.excel.utility.dto.ColumnMetadataPlan;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The field paths of a {@link ColumnMetadataPlan} compiled into a trie, so that a row is read by evaluating each
+ * shared prefix once.
+ * <p>
+ * With several columns under {@code employee.address.*}, {@code getEmployee()} and {@code getAddress()} run once
+ * per row instead of once per column, and a null parent fills all of its descendant columns with null without
+ * evaluating them. A failing accessor is reported through {@link FieldExtractor#reportAccessFailure} once and
+ * empties the columns below it, as the per-column path does.
+ */
+final class FieldPathTrie {
+
+    private final Node[] roots;
+    private final int[] rootColumns;
+    private final int columnCount;
+
+    private FieldPathTrie(Node[] roots, int[] rootColumns, int columnCount) {
+        this.roots = roots;
+        this.rootColumns = rootColumns;
+        this.columnCount = columnCount;
+    }
+
+    /**
+     * Compiles the field paths of a plan.
+     *
+     * @param plan the resolved column plan
+     * @return the trie
+     */
+    static FieldPathTrie build(ColumnMetadataPlan plan) {
+        NodeBuilder root = new NodeBuilder(null);
+        List<ColumnMetadata> columns = plan.getColumns();
+        for (int i = 0; i < columns.size(); i++) {
+            NodeBuilder node = root;
+            List<Field> path = columns.get(i).getParentClassFieldList();
+            if (path != null) {
+                for (Field field : path) {
+                    node = node.children.computeIfAbsent(field, NodeBuilder::new);
+                }
+            }
+            node.columns.add(i);
+        }
+
+        Node[] roots = new Node[root.children.size()];
+        int index = 0;
+        for (NodeBuilder child : root.children.values()) {
+            roots[index++] = child.build();
+        }
+        return new FieldPathTrie(roots, toArray(root.columns), columns.size());
+    }
+
+    /**
+     * Reads every column of the plan from the target object into {@code values}, in plan order.
+     *
+     * @param objectExtractor the accessor cache used to read each field
+     * @param targetObject    the object to read, may be null
+     * @param values          the destination array, at least as long as the plan
+     */
+    void extractRow(ObjectExtractor objectExtractor, Object targetObject, Object[] values) {
+        // Columns without a field path have no value, as in FieldExtractor.process.
+        for (int column : rootColumns) {
+            values[column] = null;
+        }
+        if (targetObject == null) {
+            for (Node root : roots) {
+                root.clear(values);
+            }
+            return;
+        }
+        for (Node root : roots) {
+            root.evaluate(objectExtractor, targetObject, values);
+        }
+    }
+
+    /**
+     * @return the number of columns the trie fills.
+     */
+    int size() {
+        return columnCount;
+    }
+
+    private static int[] toArray(List<Integer> list) {
+        int[] array = new int[list.size()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = list.get(i);
+        }
+        return array;
+    }
+
+    /**
+     * A field in the trie, with the columns whose path ends at it and every column below it.
+     */
+    private static final class Node {
+        private final Field field;
+        private final int[] columns;
+        private final int[] descendantColumns;
+        private final Node[] children;
+
+        private Node(Field field, int[] columns, int[] descendantColumns, Node[] children) {
+            this.field = field;
+            this.columns = columns;
+            this.descendantColumns = descendantColumns;
+            this.children = children;
+        }
+
+        private void evaluate(ObjectExtractor objectExtractor, Object parent, Object[] values) {
+            Object value;
+            try {
+                value = objectExtractor.process(parent, field);
+            } catch (RuntimeException e) {
+                FieldExtractor.reportAccessFailure(e);
+                clear(values);
+                return;
+            }
+
+            for (int column : columns) {
+                values[column] = value;
+            }
+            if (value == null) {
+                for (Node child : children) {
+                    child.clear(values);
+                }
+                return;
+            }
+            for (Node child : children) {
+                child.evaluate(objectExtractor, value, values);
+            }
+        }
+
+        private void clear(Object[] values) {
+            for (int column : descendantColumns) {
+                values[column] = null;
+            }
+        }
+    }
+
+    private static final class NodeBuilder {
+        private final Field field;
+        private final List<Integer> columns = new ArrayList<>();
+        private final Map<Field, NodeBuilder> children = new LinkedHashMap<>();
+
+        private NodeBuilder(Field field) {
+            this.field = field;
+        }
+
+        private Node build() {
+            Node[] builtChildren = new Node[children.size()];
+            List<Integer> descendants = new ArrayList<>(columns);
+            int index = 0;
+            for (NodeBuilder child : children.values()) {
+                Node builtChild = child.build();
+                builtChildren[index++] = builtChild;
+                for (int column : builtChild.descendantColumns) {
+                    descendants.add(column);
+                }
+            }
+            return new Node(field, toArray(columns), toArray(descendants), builtChildren);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.excel.utility.extractor;
+
+import java.lang.reflect.Field;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The ObjectExtractor class provides functionality to extract the value of a field from an object.
+ * It reads the value using, in order of preference, a getter method, an `is` method for boolean fields,
+ * or direct field access.
+ * <p>
+ * The strategy for each field is resolved once per runtime class into a {@link FieldAccessor} and cached,
+ * so repeated extraction performs a single map lookup and a method handle call.
+ */
+public class ObjectExtractor {
+
+    /**
+     * Compiled accessors, keyed by the runtime class of the target object and then by field.
+     */
+    private static final ClassValue<Map<Field, FieldAccessor>> ACCESSORS = new ClassValue<>() {
+        @Override
+        protected Map<Field, FieldAccessor> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    /**
+     * Processes the object and retrieves the value of the specified field.
+     * It first tries to access the field using the getter method, then tries the `is` method,
+     * and finally, it attempts to directly access the field.
+     *
+     * @param object the object from which the field value is to be extracted
+     * @param field  the field to extract the value from
+     * @return the value of the field, or null if the object is null
+     * @throws IllegalArgumentException if the field is not declared by the object's class hierarchy
+     */
+    public Object process(Object object, Field field) {
+        if (field == null) {
+            throw new NullPointerException("hlm.excel.util.extractor.ObjectExtractor.process() Field is null");
+        }
+        if (object == null) {
+            return null;
+        }
+        return accessorFor(object.getClass(), field).get(object);
+    }
+
+    /**
+     * Returns the cached accessor for a field of the given class, resolving it on first use.
+     *
+     * @param type  the runtime class of the target objects
+     * @param field the field to read
+     * @return the compiled accessor
+     */
+    public FieldAccessor accessorFor(Class<?> type, Field field) {
+        Map<Field, FieldAccessor> accessors = ACCESSORS.get(type);
+        FieldAccessor accessor = accessors.get(field);
+        if (accessor == null) {
+            accessor = FieldAccessor.resolve(type, field);
+            FieldAccessor existing = accessors.putIfAbsent(field, accessor);
+            if (existing != null) {
+                accessor = existing;
+            }
+        }
+        return accessor;
+    }
+}
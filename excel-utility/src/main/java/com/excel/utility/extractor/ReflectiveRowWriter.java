@@ -0,0 +1,69 @@
+package com.excel.utility.extractor;
+
+import com.excel.utility.dto.ColumnMetadata;
+import com.excel.utility.dto.ColumnMetadataPlan;
+
+import java.util.List;
+
+/**
+ * A {@link RowWriter} backed by a cached {@link ColumnMetadataPlan} and a {@link FieldExtractor}.
+ * This is the runtime fallback used for classes without a generated writer, or when a custom
+ * {@link FieldExtractor} has been supplied.
+ */
+public class ReflectiveRowWriter implements RowWriter<Object> {
+
+    private final ColumnMetadataPlan plan;
+    private final FieldExtractor fieldExtractor;
+    private final ColumnMetadata[] columns;
+
+    public ReflectiveRowWriter(ColumnMetadataPlan plan, FieldExtractor fieldExtractor) {
+        this.plan = plan;
+        this.fieldExtractor = fieldExtractor;
+        this.columns = plan.getColumns().toArray(new ColumnMetadata[0]);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Class<Object> getType() {
+        return (Class<Object>) plan.getType();
+    }
+
+    @Override
+    public String[] getHeaders() {
+        String[] headers = new String[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            headers[i] = columns[i].getHeader();
+        }
+        return headers;
+    }
+
+    @Override
+    public int[] getColumnOrders() {
+        int[] columnOrders = new int[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            columnOrders[i] = columns[i].getColumnOrder();
+        }
+        return columnOrders;
+    }
+
+    @Override
+    public Class<?>[] getColumnTypes() {
+        Class<?>[] columnTypes = new Class<?>[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            columnTypes[i] = columns[i].getFieldType();
+        }
+        return columnTypes;
+    }
+
+    @Override
+    public void extractRow(Object bean, Object[] values) {
+        fieldExtractor.extractRow(plan, bean, values);
+    }
+
+    /**
+     * @return the column metadata this writer reads, in column position order.
+     */
+    public List<ColumnMetadata> getColumns() {
+        return plan.getColumns();
+    }
+}
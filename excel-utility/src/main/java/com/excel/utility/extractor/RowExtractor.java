@@ -0,0 +1,18 @@
+package com.excel.utility.extractor;
+
+/**
+ * Extracts every column value of a single row in one call.
+ *
+ * <p>Implementations are generated at runtime by {@link FieldExtractor} as hidden classes, one per POJO type,
+ * so that a row is read through a single monomorphic call instead of a loop over per-column lookups.</p>
+ */
+public interface RowExtractor {
+
+    /**
+     * Reads all column values of {@code bean} into {@code values}, in column position order.
+     *
+     * @param bean   the object to read; may be {@code null}, in which case every value is {@code null}
+     * @param values the destination array, at least as long as the number of columns
+     */
+    void extractRow(Object bean, Object[] values);
+}
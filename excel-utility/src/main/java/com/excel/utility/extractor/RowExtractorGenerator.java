@@ -0,0 +1,653 @@
+package com.excel.utility.extractor;
+
+import com.excel.utility.dto.ColumnMetadata;
+import com.excel.utility.dto.ColumnMetadataPlan;
+import com.excel.utility.exception.ExcelFieldAccessException;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Generates a hidden class implementing {@link RowExtractor} for one POJO type.
+ *
+ * <p>The generated {@code extractRow} method reads every column of the {@link ColumnMetadataPlan} with direct
+ * {@code invokevirtual}/{@code getfield} instructions, using the same accessor strategy {@link ObjectExtractor}
+ * resolves (getter, {@code is} getter, field). Each nested object on a path is loaded once into a local and
+ * null-checked, and primitive values are boxed in place.</p>
+ *
+ * <p>Each read is guarded by its own exception handler. A failing accessor is reported through
+ * {@link FieldExtractor#reportAccessFailure} as an {@link ExcelFieldAccessException} naming the field, and only
+ * the columns read through it are left empty; the rest of the row is still read by the generated code.</p>
+ *
+ * <p>The class is defined with {@link MethodHandles.Lookup#defineHiddenClass} as a nestmate of the POJO, so it has
+ * exactly the access the POJO itself has. Every member is checked through that lookup before any bytes are
+ * emitted; when the POJO's package is not open to this library, a member is out of reach, or the JVM refuses
+ * the definition, {@link #generate} returns {@code null} and the caller keeps using the reflective path.</p>
+ *
+ * <p>The class file targets version 49, which is verified by type inference and therefore needs no
+ * {@code StackMapTable} frames.</p>
+ */
+final class RowExtractorGenerator {
+
+    private static final int CLASS_FILE_VERSION = 49;
+    private static final String HIDDEN_CLASS_SUFFIX = "$$ExcelRowExtractor";
+    private static final String OBJECT = "java/lang/Object";
+    private static final String ROW_EXTRACTOR = RowExtractor.class.getName().replace('.', '/');
+    private static final String FIELD_EXTRACTOR = FieldExtractor.class.getName().replace('.', '/');
+    private static final String ACCESS_EXCEPTION = ExcelFieldAccessException.class.getName().replace('.', '/');
+
+    private static final int ACC_PUBLIC = 0x0001;
+    private static final int ACC_FINAL = 0x0010;
+    private static final int ACC_SUPER = 0x0020;
+
+    private static final int ACONST_NULL = 0x01;
+    private static final int ICONST_0 = 0x03;
+    private static final int BIPUSH = 0x10;
+    private static final int SIPUSH = 0x11;
+    private static final int LDC_W = 0x13;
+    private static final int ALOAD = 0x19;
+    private static final int ALOAD_0 = 0x2a;
+    private static final int ALOAD_1 = 0x2b;
+    private static final int ALOAD_2 = 0x2c;
+    private static final int ASTORE = 0x3a;
+    private static final int AASTORE = 0x53;
+    private static final int DUP_X1 = 0x5a;
+    private static final int SWAP = 0x5f;
+    private static final int GOTO = 0xa7;
+    private static final int RETURN = 0xb1;
+    private static final int GETSTATIC = 0xb2;
+    private static final int GETFIELD = 0xb4;
+    private static final int INVOKEVIRTUAL = 0xb6;
+    private static final int INVOKESPECIAL = 0xb7;
+    private static final int INVOKESTATIC = 0xb8;
+    private static final int INVOKEINTERFACE = 0xb9;
+    private static final int NEW = 0xbb;
+    private static final int CHECKCAST = 0xc0;
+    private static final int IFNONNULL = 0xc7;
+
+    /**
+     * Local variable slots: 0 = this, 1 = bean, 2 = values, 3 = bean cast to the POJO type, 4+ = nested objects.
+     */
+    private static final int ROOT_LOCAL = 3;
+    private static final int MAX_LOCALS = 255;
+
+    private final Class<?> type;
+    private final MethodHandles.Lookup lookup;
+    private final ObjectExtractor objectExtractor;
+    private final ConstantPool pool = new ConstantPool();
+
+    private RowExtractorGenerator(Class<?> type, MethodHandles.Lookup lookup, ObjectExtractor objectExtractor) {
+        this.type = type;
+        this.lookup = lookup;
+        this.objectExtractor = objectExtractor;
+    }
+
+    /**
+     * Generates and instantiates the hidden row extractor for a plan.
+     *
+     * @param plan            the resolved column plan; its type is the exact runtime class of the rows
+     * @param objectExtractor the extractor whose accessor strategies the generated code must follow
+     * @return the row extractor, or {@code null} if a hidden class cannot be defined for this type
+     */
+    static RowExtractor generate(ColumnMetadataPlan plan, ObjectExtractor objectExtractor) {
+        Class<?> type = plan.getType();
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+            byte[] classBytes = new RowExtractorGenerator(type, lookup, objectExtractor).toClassFile(plan.getColumns());
+            Class<?> hiddenClass = lookup.defineHiddenClass(classBytes, true, MethodHandles.Lookup.ClassOption.NESTMATE)
+                    .lookupClass();
+            return (RowExtractor) hiddenClass.getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private byte[] toClassFile(List<ColumnMetadata> columns) throws ReflectiveOperationException {
+        lookup.accessClass(type);
+
+        String className = internalName(type) + HIDDEN_CLASS_SUFFIX;
+        int thisClass = pool.classRef(className);
+        int superClass = pool.classRef(OBJECT);
+        int rowExtractor = pool.classRef(ROW_EXTRACTOR);
+
+        byte[] constructorCode = constructorCode();
+        Code extractRowCode = extractRowCode(columns);
+
+        ByteVector methods = new ByteVector();
+        writeMethod(methods, "<init>", "()V", 1, 1, constructorCode, new ByteVector(), 0);
+        writeMethod(methods, "extractRow", "(Ljava/lang/Object;[Ljava/lang/Object;)V",
+                6, extractRowCode.maxLocals, extractRowCode.bytes.toByteArray(), extractRowCode.exceptionTable,
+                extractRowCode.guards.size());
+
+        ByteVector classFile = new ByteVector();
+        classFile.putInt(0xCAFEBABE);
+        classFile.putShort(0);
+        classFile.putShort(CLASS_FILE_VERSION);
+        pool.writeTo(classFile);
+        classFile.putShort(ACC_PUBLIC | ACC_FINAL | ACC_SUPER);
+        classFile.putShort(thisClass);
+        classFile.putShort(superClass);
+        classFile.putShort(1);
+        classFile.putShort(rowExtractor);
+        classFile.putShort(0);
+        classFile.putShort(2);
+        classFile.putBytes(methods.toByteArray());
+        classFile.putShort(0);
+        return classFile.toByteArray();
+    }
+
+    private byte[] constructorCode() {
+        ByteVector code = new ByteVector();
+        code.putByte(ALOAD_0);
+        code.putByte(INVOKESPECIAL);
+        code.putShort(pool.methodRef(OBJECT, "<init>", "()V", false));
+        code.putByte(RETURN);
+        return code.toByteArray();
+    }
+
+    private Code extractRowCode(List<ColumnMetadata> columns) throws ReflectiveOperationException {
+        Code code = new Code();
+        ByteVector bytes = code.bytes;
+
+        // if (bean == null) { fill values with null; return; }
+        bytes.putByte(ALOAD_1);
+        int nonNullBean = code.branch(IFNONNULL);
+        for (int i = 0; i < columns.size(); i++) {
+            bytes.putByte(ALOAD_2);
+            pushInt(bytes, i);
+            bytes.putByte(ACONST_NULL);
+            bytes.putByte(AASTORE);
+        }
+        bytes.putByte(RETURN);
+        code.bind(nonNullBean);
+
+        bytes.putByte(ALOAD_1);
+        bytes.putByte(CHECKCAST);
+        bytes.putShort(pool.classRef(internalName(type)));
+        storeLocal(bytes, ROOT_LOCAL);
+
+        Map<List<Field>, Integer> nestedLocals = new HashMap<>();
+        for (int i = 0; i < columns.size(); i++) {
+            List<Field> path = columns.get(i).getParentClassFieldList();
+
+            bytes.putByte(ALOAD_2);
+            pushInt(bytes, i);
+            if (path == null || path.isEmpty()) {
+                bytes.putByte(ACONST_NULL);
+                bytes.putByte(AASTORE);
+                continue;
+            }
+
+            int parentLocal = ROOT_LOCAL;
+            Class<?> parentType = type;
+            for (int depth = 0; depth < path.size() - 1; depth++) {
+                List<Field> prefix = path.subList(0, depth + 1);
+                Field field = path.get(depth);
+                Integer local = nestedLocals.get(prefix);
+                if (local == null) {
+                    local = code.nextLocal();
+                    if (local >= MAX_LOCALS) {
+                        throw new IllegalStateException("Too many nested objects for a generated row extractor");
+                    }
+                    nestedLocals.put(List.copyOf(prefix), local);
+                    emitNestedLoad(code, i, parentLocal, parentType, field, local);
+                }
+                parentLocal = local;
+                parentType = field.getType();
+            }
+
+            emitValue(code, i, parentLocal, parentType, path.get(path.size() - 1));
+            bytes.putByte(AASTORE);
+        }
+        bytes.putByte(RETURN);
+        for (Guard guard : code.guards) {
+            emitHandler(code, guard);
+        }
+        return code;
+    }
+
+    /**
+     * Stores {@code parent.field} (or {@code null} when the parent is null or its accessor fails) into a local,
+     * typed as the field type. The {@code values} array and index pushed for the current column stay on the stack
+     * underneath.
+     */
+    private void emitNestedLoad(Code code, int column, int parentLocal, Class<?> parentType, Field field, int local)
+            throws ReflectiveOperationException {
+        ByteVector bytes = code.bytes;
+        int readLabel = -1;
+        int endLabel = -1;
+        if (parentLocal != ROOT_LOCAL) {
+            loadLocal(bytes, parentLocal);
+            readLabel = code.branch(IFNONNULL);
+            bytes.putByte(ACONST_NULL);
+            storeLocal(bytes, local);
+            endLabel = code.branch(GOTO);
+            code.bind(readLabel);
+        }
+
+        int start = bytes.size();
+        Class<?> valueType = emitRead(bytes, parentLocal, parentType, field);
+        int end = bytes.size();
+        if (valueType.isPrimitive()) {
+            throw new IllegalStateException("Nested path through primitive field " + field);
+        }
+        if (valueType != field.getType()) {
+            lookup.accessClass(field.getType());
+            bytes.putByte(CHECKCAST);
+            bytes.putShort(pool.classRef(internalName(field.getType())));
+        }
+        storeLocal(bytes, local);
+
+        if (endLabel >= 0) {
+            code.bind(endLabel);
+        }
+        code.guards.add(new Guard(start, end, bytes.size(), column, local, failureMessage(parentType, field)));
+    }
+
+    /**
+     * Pushes the boxed value of {@code parent.field}, or {@code null} when the parent is null or its accessor fails.
+     */
+    private void emitValue(Code code, int column, int parentLocal, Class<?> parentType, Field field)
+            throws ReflectiveOperationException {
+        ByteVector bytes = code.bytes;
+        int readLabel = -1;
+        int endLabel = -1;
+        if (parentLocal != ROOT_LOCAL) {
+            loadLocal(bytes, parentLocal);
+            readLabel = code.branch(IFNONNULL);
+            bytes.putByte(ACONST_NULL);
+            endLabel = code.branch(GOTO);
+            code.bind(readLabel);
+        }
+
+        int start = bytes.size();
+        Class<?> valueType = emitRead(bytes, parentLocal, parentType, field);
+        int end = bytes.size();
+        if (valueType.isPrimitive()) {
+            emitBox(bytes, valueType);
+        }
+
+        if (endLabel >= 0) {
+            code.bind(endLabel);
+        }
+        code.guards.add(new Guard(start, end, bytes.size(), column, -1, failureMessage(parentType, field)));
+    }
+
+    /**
+     * Emits the read of a field from a non-null parent using the resolved accessor strategy.
+     *
+     * @return the static type of the value left on the stack
+     */
+    private Class<?> emitRead(ByteVector bytes, int parentLocal, Class<?> parentType, Field field)
+            throws ReflectiveOperationException {
+        FieldAccessor accessor = objectExtractor.accessorFor(parentType, field);
+        lookup.accessClass(parentType);
+
+        if (accessor.getStrategy() == FieldAccessor.Strategy.FIELD) {
+            Class<?> owner = field.getDeclaringClass();
+            lookup.accessClass(owner);
+            boolean isStatic = Modifier.isStatic(field.getModifiers());
+            if (isStatic) {
+                lookup.findStaticGetter(owner, field.getName(), field.getType());
+            } else {
+                lookup.findGetter(owner, field.getName(), field.getType());
+            }
+            boolean samePackage = owner.getClassLoader() == type.getClassLoader()
+                    && owner.getPackageName().equals(type.getPackageName());
+            if (Modifier.isProtected(field.getModifiers()) && !samePackage) {
+                // Protected access is granted to the POJO as a subclass, not to its nestmates.
+                throw new IllegalAccessException("Protected field outside the POJO package: " + field);
+            }
+
+            int fieldRef = pool.fieldRef(internalName(owner), field.getName(), descriptor(field.getType()));
+            if (isStatic) {
+                bytes.putByte(GETSTATIC);
+            } else {
+                loadLocal(bytes, parentLocal);
+                bytes.putByte(GETFIELD);
+            }
+            bytes.putShort(fieldRef);
+            return field.getType();
+        }
+
+        Method method = accessor.getMethod();
+        lookup.findVirtual(parentType, method.getName(), MethodType.methodType(method.getReturnType()));
+
+        String methodDescriptor = "()" + descriptor(method.getReturnType());
+        loadLocal(bytes, parentLocal);
+        if (parentType.isInterface()) {
+            bytes.putByte(INVOKEINTERFACE);
+            bytes.putShort(pool.methodRef(internalName(parentType), method.getName(), methodDescriptor, true));
+            bytes.putByte(1);
+            bytes.putByte(0);
+        } else {
+            bytes.putByte(INVOKEVIRTUAL);
+            bytes.putShort(pool.methodRef(internalName(parentType), method.getName(), methodDescriptor, false));
+        }
+        return method.getReturnType();
+    }
+
+    /**
+     * Emits the exception handler of a guarded read: the failure is wrapped and reported, the value the read would
+     * have produced is replaced with {@code null}, and the stack of the column is rebuilt before jumping back.
+     */
+    private void emitHandler(Code code, Guard guard) {
+        ByteVector bytes = code.bytes;
+        code.exceptionTable.putShort(guard.start);
+        code.exceptionTable.putShort(guard.end);
+        code.exceptionTable.putShort(bytes.size());
+        code.exceptionTable.putShort(0);
+
+        // reportAccessFailure(new ExcelFieldAccessException(message, thrown))
+        bytes.putByte(NEW);
+        bytes.putShort(pool.classRef(ACCESS_EXCEPTION));
+        bytes.putByte(DUP_X1);
+        bytes.putByte(SWAP);
+        bytes.putByte(LDC_W);
+        bytes.putShort(pool.string(guard.message));
+        bytes.putByte(SWAP);
+        bytes.putByte(INVOKESPECIAL);
+        bytes.putShort(pool.methodRef(ACCESS_EXCEPTION, "<init>", "(Ljava/lang/String;Ljava/lang/Throwable;)V", false));
+        bytes.putByte(INVOKESTATIC);
+        bytes.putShort(pool.methodRef(FIELD_EXTRACTOR, "reportAccessFailure", "(Ljava/lang/RuntimeException;)V",
+                false));
+
+        if (guard.local >= 0) {
+            bytes.putByte(ACONST_NULL);
+            storeLocal(bytes, guard.local);
+            bytes.putByte(ALOAD_2);
+            pushInt(bytes, guard.column);
+        } else {
+            bytes.putByte(ALOAD_2);
+            pushInt(bytes, guard.column);
+            bytes.putByte(ACONST_NULL);
+        }
+        int jump = bytes.size();
+        bytes.putByte(GOTO);
+        bytes.putShort(guard.resume - jump);
+    }
+
+    /**
+     * @return the message {@link FieldAccessor#get} uses for a failure of the accessor resolved for the field.
+     */
+    private String failureMessage(Class<?> parentType, Field field) {
+        return FieldAccessor.failureMessage(field, objectExtractor.accessorFor(parentType, field).getStrategy());
+    }
+
+    private void emitBox(ByteVector bytes, Class<?> primitiveType) {
+        String wrapper = internalName(MethodType.methodType(primitiveType).wrap().returnType());
+        bytes.putByte(INVOKESTATIC);
+        bytes.putShort(pool.methodRef(wrapper, "valueOf",
+                "(" + descriptor(primitiveType) + ")L" + wrapper + ";", false));
+    }
+
+    private void writeMethod(ByteVector methods, String name, String descriptor, int maxStack, int maxLocals,
+                             byte[] code, ByteVector exceptionTable, int exceptionCount) {
+        if (code.length > 0xFFFF) {
+            throw new IllegalStateException("Generated method too large: " + code.length + " bytes");
+        }
+        methods.putShort(ACC_PUBLIC);
+        methods.putShort(pool.utf8(name));
+        methods.putShort(pool.utf8(descriptor));
+        methods.putShort(1);
+        methods.putShort(pool.utf8("Code"));
+        methods.putInt(12 + code.length + exceptionTable.size());
+        methods.putShort(maxStack);
+        methods.putShort(maxLocals);
+        methods.putInt(code.length);
+        methods.putBytes(code);
+        methods.putShort(exceptionCount);
+        methods.putBytes(exceptionTable.toByteArray());
+        methods.putShort(0);
+    }
+
+    private static void pushInt(ByteVector bytes, int value) {
+        if (value <= 5) {
+            bytes.putByte(ICONST_0 + value);
+        } else if (value <= Byte.MAX_VALUE) {
+            bytes.putByte(BIPUSH);
+            bytes.putByte(value);
+        } else {
+            bytes.putByte(SIPUSH);
+            bytes.putShort(value);
+        }
+    }
+
+    private static void loadLocal(ByteVector bytes, int local) {
+        bytes.putByte(ALOAD);
+        bytes.putByte(local);
+    }
+
+    private static void storeLocal(ByteVector bytes, int local) {
+        bytes.putByte(ASTORE);
+        bytes.putByte(local);
+    }
+
+    private static String internalName(Class<?> clazz) {
+        return clazz.isArray() ? descriptor(clazz) : clazz.getName().replace('.', '/');
+    }
+
+    private static String descriptor(Class<?> clazz) {
+        return MethodType.methodType(clazz).toMethodDescriptorString().substring(2);
+    }
+
+    /**
+     * Method body under construction, with forward branch patching.
+     */
+    private static final class Code {
+        private final ByteVector bytes = new ByteVector();
+        private final List<Guard> guards = new ArrayList<>();
+        private final ByteVector exceptionTable = new ByteVector();
+        private int maxLocals = ROOT_LOCAL + 1;
+
+        private int nextLocal() {
+            return maxLocals++;
+        }
+
+        /**
+         * Emits a branch instruction with a placeholder offset and returns the instruction position.
+         */
+        private int branch(int opcode) {
+            int position = bytes.size();
+            bytes.putByte(opcode);
+            bytes.putShort(0);
+            return position;
+        }
+
+        /**
+         * Points the branch emitted at {@code branchPosition} to the current end of the code.
+         */
+        private void bind(int branchPosition) {
+            bytes.setShort(branchPosition + 1, bytes.size() - branchPosition);
+        }
+    }
+
+    /**
+     * A guarded read: the code range of the accessor call and where to resume with {@code null} when it throws.
+     * {@code local} is the nested-object local the read stores into, or -1 when the value goes to the column.
+     */
+    private static final class Guard {
+        private final int start;
+        private final int end;
+        private final int resume;
+        private final int column;
+        private final int local;
+        private final String message;
+
+        private Guard(int start, int end, int resume, int column, int local, String message) {
+            this.start = start;
+            this.end = end;
+            this.resume = resume;
+            this.column = column;
+            this.local = local;
+            this.message = message;
+        }
+    }
+
+    /**
+     * Minimal class file constant pool with de-duplication.
+     */
+    private static final class ConstantPool {
+        private final ByteVector entries = new ByteVector();
+        private final Map<String, Integer> indexes = new HashMap<>();
+        private int count = 1;
+
+        private int utf8(String value) {
+            Integer index = indexes.get("U" + value);
+            if (index != null) {
+                return index;
+            }
+            entries.putByte(1);
+            entries.putUtf8(value);
+            return register("U" + value);
+        }
+
+        private int classRef(String internalName) {
+            Integer index = indexes.get("C" + internalName);
+            if (index != null) {
+                return index;
+            }
+            int name = utf8(internalName);
+            entries.putByte(7);
+            entries.putShort(name);
+            return register("C" + internalName);
+        }
+
+        private int string(String value) {
+            Integer index = indexes.get("S" + value);
+            if (index != null) {
+                return index;
+            }
+            int utf8 = utf8(value);
+            entries.putByte(8);
+            entries.putShort(utf8);
+            return register("S" + value);
+        }
+
+        private int nameAndType(String name, String descriptor) {
+            String key = "N" + name + ":" + descriptor;
+            Integer index = indexes.get(key);
+            if (index != null) {
+                return index;
+            }
+            int nameIndex = utf8(name);
+            int descriptorIndex = utf8(descriptor);
+            entries.putByte(12);
+            entries.putShort(nameIndex);
+            entries.putShort(descriptorIndex);
+            return register(key);
+        }
+
+        private int fieldRef(String owner, String name, String descriptor) {
+            return memberRef(9, owner, name, descriptor);
+        }
+
+        private int methodRef(String owner, String name, String descriptor, boolean isInterface) {
+            return memberRef(isInterface ? 11 : 10, owner, name, descriptor);
+        }
+
+        private int memberRef(int tag, String owner, String name, String descriptor) {
+            String key = tag + owner + "." + name + ":" + descriptor;
+            Integer index = indexes.get(key);
+            if (index != null) {
+                return index;
+            }
+            int ownerIndex = classRef(owner);
+            int nameAndTypeIndex = nameAndType(name, descriptor);
+            entries.putByte(tag);
+            entries.putShort(ownerIndex);
+            entries.putShort(nameAndTypeIndex);
+            return register(key);
+        }
+
+        private int register(String key) {
+            int index = count++;
+            indexes.put(key, index);
+            return index;
+        }
+
+        private void writeTo(ByteVector out) {
+            out.putShort(count);
+            out.putBytes(entries.toByteArray());
+        }
+    }
+
+    /**
+     * Growable big-endian byte buffer.
+     */
+    private static final class ByteVector {
+        private byte[] data = new byte[256];
+        private int length;
+
+        private void putByte(int value) {
+            ensure(1);
+            data[length++] = (byte) value;
+        }
+
+        private void putShort(int value) {
+            ensure(2);
+            data[length++] = (byte) (value >>> 8);
+            data[length++] = (byte) value;
+        }
+
+        private void putInt(int value) {
+            putShort(value >>> 16);
+            putShort(value);
+        }
+
+        private void putBytes(byte[] bytes) {
+            ensure(bytes.length);
+            System.arraycopy(bytes, 0, data, length, bytes.length);
+            length += bytes.length;
+        }
+
+        /**
+         * Writes a constant pool UTF-8 entry body (length-prefixed modified UTF-8).
+         */
+        private void putUtf8(String value) {
+            ByteVector encoded = new ByteVector();
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c >= 0x0001 && c <= 0x007F) {
+                    encoded.putByte(c);
+                } else if (c <= 0x07FF) {
+                    encoded.putByte(0xC0 | (c >> 6));
+                    encoded.putByte(0x80 | (c & 0x3F));
+                } else {
+                    encoded.putByte(0xE0 | (c >> 12));
+                    encoded.putByte(0x80 | ((c >> 6) & 0x3F));
+                    encoded.putByte(0x80 | (c & 0x3F));
+                }
+            }
+            putShort(encoded.length);
+            putBytes(encoded.toByteArray());
+        }
+
+        private void setShort(int position, int value) {
+            data[position] = (byte) (value >>> 8);
+            data[position + 1] = (byte) value;
+        }
+
+        private int size() {
+            return length;
+        }
+
+        private byte[] toByteArray() {
+            return Arrays.copyOf(data, length);
+        }
+
+        private void ensure(int extra) {
+            if (length + extra > data.length) {
+                data = Arrays.copyOf(data, Math.max(data.length * 2, length + extra));
+            }
+        }
+    }
+}
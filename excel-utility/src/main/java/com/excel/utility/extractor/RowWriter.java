@@ -0,0 +1,53 @@
+package com.excel.utility.extractor;
+
+/**
+ * A row writer exposes the resolved column layout of a POJO type and extracts one row of raw values at a time.
+ *
+ * <p>Implementations are either generated at compile time by the optional {@code excel-utility-processor}
+ * annotation processor (one class per {@code @ExcelMapper} type, named by {@link #GENERATED_CLASS_SUFFIX}),
+ * or built at runtime from cached column metadata by {@link ReflectiveRowWriter}.</p>
+ *
+ * <p>All arrays are indexed by column position within the writer: {@code getHeaders()[i]},
+ * {@code getColumnOrders()[i]}, {@code getColumnTypes()[i]} and the {@code values[i]} filled by
+ * {@link #extractRow(Object, Object[])} describe the same column.</p>
+ *
+ * @param <T> the POJO type handled by this writer
+ */
+public interface RowWriter<T> {
+
+    /**
+     * Suffix appended to the flattened binary name of an {@code @ExcelMapper} class to form the name of its
+     * generated writer, e.g. {@code com.acme.Employee_ExcelRowWriter} or {@code com.acme.Outer_Inner_ExcelRowWriter}.
+     */
+    String GENERATED_CLASS_SUFFIX = "_ExcelRowWriter";
+
+    /**
+     * @return the POJO type this writer was built for.
+     */
+    Class<T> getType();
+
+    /**
+     * @return the header text of each column.
+     */
+    String[] getHeaders();
+
+    /**
+     * @return the 1-based column order of each column.
+     */
+    int[] getColumnOrders();
+
+    /**
+     * @return the declared field type of each column.
+     */
+    Class<?>[] getColumnTypes();
+
+    /**
+     * Extracts the raw column values of a single POJO. A getter that throws is reported through
+     * {@link FieldExtractor#reportAccessFailure(RuntimeException)} and read as null, which leaves its column, or
+     * every column of a nested object, null instead of failing the row.
+     *
+     * @param bean   the object to read; may be {@code null}, in which case every value is {@code null}
+     * @param values the destination array, at least as long as the number of columns
+     */
+    void extractRow(T bean, Object[] values);
+}
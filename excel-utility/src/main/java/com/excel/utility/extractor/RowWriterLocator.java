@@ -0,0 +1,63 @@
+package com.excel.utility.extractor;
+
+import java.util.Optional;
+
+/**
+ * Locates compile-time generated {@link RowWriter} implementations.
+ *
+ * <p>The lookup is performed once per POJO class through the class's own class loader and cached in a
+ * {@link ClassValue}; classes without a generated writer simply yield {@code null}.</p>
+ */
+public final class RowWriterLocator {
+
+    private static final ClassValue<Optional<RowWriter<?>>> WRITERS = new ClassValue<>() {
+        @Override
+        protected Optional<RowWriter<?>> computeValue(Class<?> type) {
+            return Optional.ofNullable(load(type));
+        }
+    };
+
+    private RowWriterLocator() {
+    }
+
+    /**
+     * Returns the generated writer for the given class, if one is on the classpath.
+     *
+     * @param type the {@code @ExcelMapper} annotated class
+     * @param <T>  the POJO type
+     * @return the generated writer, or {@code null} if none is available
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> RowWriter<T> find(Class<T> type) {
+        return (RowWriter<T>) WRITERS.get(type).orElse(null);
+    }
+
+    /**
+     * Computes the fully qualified name of the writer generated for a class: the package name followed by the
+     * binary simple name with {@code $} replaced by {@code _}, and {@link RowWriter#GENERATED_CLASS_SUFFIX}.
+     *
+     * @param type the {@code @ExcelMapper} annotated class
+     * @return the generated writer class name
+     */
+    public static String generatedClassName(Class<?> type) {
+        String packageName = type.getPackageName();
+        String binaryName = type.getName();
+        String localName = packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1);
+        String prefix = packageName.isEmpty() ? "" : packageName + ".";
+        return prefix + localName.replace('$', '_') + RowWriter.GENERATED_CLASS_SUFFIX;
+    }
+
+    private static RowWriter<?> load(Class<?> type) {
+        try {
+            Class<?> writerClass = Class.forName(generatedClassName(type), true, type.getClassLoader());
+            if (!RowWriter.class.isAssignableFrom(writerClass)) {
+                return null;
+            }
+            RowWriter<?> writer = (RowWriter<?>) writerClass.getDeclaredConstructor().newInstance();
+            return writer.getType() == type ? writer : null;
+        } catch (ReflectiveOperationException | LinkageError e) {
+            // No generated writer, or a stale/broken one: never break exports, fall back to the reflective writer.
+            return null;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.excel.utility.processor;
+
+import com.excel.utility.processor.impl.ObjectValueProcessorAdapter;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * The AppendingObjectValueProcessor interface is the sink-based counterpart of {@link ObjectValueProcessor}.
+ * Instead of returning a new string per cell, it appends the representation of a value to a caller-supplied
+ * {@link Appendable}, so a writer that consumes a {@link CharSequence} directly never materializes an
+ * intermediate string.
+ * <p>
+ * When the sink is a {@link com.excel.utility.util.CellTextBuffer}, implementations may stop appending once the
+ * buffer reports that it is full.
+ */
+public interface AppendingObjectValueProcessor {
+
+    /**
+     * Appends the representation of a value to the sink. Null values append nothing.
+     *
+     * @param fieldValue The object value to be processed.
+     * @param sink       The destination of the representation.
+     * @throws IOException if the sink fails.
+     */
+    void process(Object fieldValue, Appendable sink) throws IOException;
+
+    /**
+     * Appends the flattened representation of a map to the sink.
+     *
+     * @param map  The map to be flattened.
+     * @param sink The destination of the representation.
+     * @throws IOException if the sink fails.
+     * @see ObjectValueProcessor#flattenMap(Map)
+     */
+    void flattenMap(Map<?, ?> map, Appendable sink) throws IOException;
+
+    /**
+     * Appends the flattened representation of a collection to the sink.
+     *
+     * @param collection The collection to be flattened.
+     * @param sink       The destination of the representation.
+     * @throws IOException if the sink fails.
+     * @see ObjectValueProcessor#flattenCollection(Collection)
+     */
+    void flattenCollection(Collection<?> collection, Appendable sink) throws IOException;
+
+    /**
+     * Returns an appending view of a string processor.
+     * <p>
+     * A processor that already implements this interface is returned as is, unless a subclass overrides
+     * {@link ObjectValueProcessor#process(Object)} without also overriding
+     * {@link #process(Object, Appendable)}; in that case, as for plain string processors, an
+     * {@link ObjectValueProcessorAdapter} is returned so the overridden behaviour is kept.
+     *
+     * @param processor the string processor
+     * @return an appending processor producing the same text
+     */
+    static AppendingObjectValueProcessor of(ObjectValueProcessor processor) {
+        if (processor instanceof AppendingObjectValueProcessor) {
+            try {
+                Class<?> type = processor.getClass();
+                Method stringProcess = type.getMethod("process", Object.class);
+                Method appendingProcess = type.getMethod("process", Object.class, Appendable.class);
+                if (stringProcess.getDeclaringClass() == appendingProcess.getDeclaringClass()) {
+                    return (AppendingObjectValueProcessor) processor;
+                }
+            } catch (NoSuchMethodException ignored) {
+                // Both methods are part of the implemented interfaces; fall back to the adapter regardless.
+            }
+        }
+        return new ObjectValueProcessorAdapter(processor);
+    }
+}
@@ -0,0 +1,33 @@
+package com.excel.utility.processor;
+
+import java.io.IOException;
+
+/**
+ * The ValueConverter interface converts a non-null value of a given type into the text written to an Excel cell.
+ * Converters are registered per type with a {@link ValueConverterRegistry}.
+ *
+ * @param <T> the type of values the converter accepts
+ */
+@FunctionalInterface
+public interface ValueConverter<T> {
+
+    /**
+     * Converts a non-null value into its cell text.
+     *
+     * @param value the value to convert, never null
+     * @return the cell text
+     */
+    String convert(T value);
+
+    /**
+     * Appends the cell text of a non-null value to the sink. The default implementation appends the result of
+     * {@link #convert(Object)}; converters for composite values may override it to avoid the intermediate string.
+     *
+     * @param value the value to convert, never null
+     * @param sink  the destination of the cell text
+     * @throws IOException if the sink fails
+     */
+    default void append(T value, Appendable sink) throws IOException {
+        sink.append(convert(value));
+    }
+}
@@ -0,0 +1,103 @@
+package com.excel.utility.processor;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * A registry that resolves each runtime class to a {@link ValueConverter} once and memoizes the result in a
+ * {@link ClassValue}, so converting a value costs a single cached lookup instead of a chain of type checks.
+ * <p>
+ * A class is resolved to, in order: the converter registered for the class itself, the converter registered for
+ * its nearest superclass, the converter registered for one of its interfaces (breadth first), and finally the
+ * fallback supplied at construction. Registering a converter discards all memoized resolutions.
+ */
+public final class ValueConverterRegistry {
+
+    private final Map<Class<?>, ValueConverter<?>> converters = new ConcurrentHashMap<>();
+    private final Function<Class<?>, ValueConverter<Object>> fallback;
+    private volatile ClassValue<ValueConverter<Object>> resolved = newResolvedCache();
+
+    /**
+     * @param fallback resolves the converter of a class that has no registered converter in its hierarchy
+     */
+    public ValueConverterRegistry(Function<Class<?>, ValueConverter<Object>> fallback) {
+        if (fallback == null) {
+            throw new IllegalArgumentException("The fallback converter cannot be null.");
+        }
+        this.fallback = fallback;
+    }
+
+    /**
+     * Registers a converter for a type and its subtypes, replacing any converter registered for the same type.
+     *
+     * @param type      the type handled by the converter
+     * @param converter the converter
+     * @param <T>       the type handled by the converter
+     * @return this registry
+     */
+    public <T> ValueConverterRegistry register(Class<T> type, ValueConverter<? super T> converter) {
+        if (type == null || converter == null) {
+            throw new IllegalArgumentException("The converter type and converter cannot be null.");
+        }
+        converters.put(type, converter);
+        resolved = newResolvedCache();
+        return this;
+    }
+
+    /**
+     * Returns the converter for values of the given runtime class.
+     *
+     * @param type the runtime class of the values
+     * @return the memoized converter
+     */
+    public ValueConverter<Object> converterFor(Class<?> type) {
+        return resolved.get(type);
+    }
+
+    private ClassValue<ValueConverter<Object>> newResolvedCache() {
+        return new ClassValue<>() {
+            @Override
+            protected ValueConverter<Object> computeValue(Class<?> type) {
+                return resolve(type);
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private ValueConverter<Object> resolve(Class<?> type) {
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            ValueConverter<?> converter = converters.get(current);
+            if (converter != null) {
+                return (ValueConverter<Object>) converter;
+            }
+        }
+
+        Deque<Class<?>> pending = new ArrayDeque<>();
+        Set<Class<?>> visited = new HashSet<>();
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            for (Class<?> anInterface : current.getInterfaces()) {
+                pending.add(anInterface);
+            }
+        }
+        while (!pending.isEmpty()) {
+            Class<?> anInterface = pending.poll();
+            if (!visited.add(anInterface)) {
+                continue;
+            }
+            ValueConverter<?> converter = converters.get(anInterface);
+            if (converter != null) {
+                return (ValueConverter<Object>) converter;
+            }
+            for (Class<?> superInterface : anInterface.getInterfaces()) {
+                pending.add(superInterface);
+            }
+        }
+
+        return fallback.apply(type);
+    }
+}
@@ -0,0 +1,310 @@
+package com.excel.utility.processor.impl;
+
+import com.excel.utility.Config;
+import com.excel.utility.processor.AppendingObjectValueProcessor;
+import com.excel.utility.processor.ObjectValueProcessor;
+import com.excel.utility.processor.ValueConverter;
+import com.excel.utility.processor.ValueConverterRegistry;
+import com.excel.utility.util.CellTextBuffer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Default implementation of the ObjectValueProcessor interface.
+ * This class provides methods for converting various object types
+ * (e.g., primitives, collections, maps) into string representations,
+ * either as returned strings or appended to a caller-supplied sink.
+ * <p>
+ * A subclass that overrides only {@link #flattenCollection(Collection)} or {@link #flattenMap(Map)} has its
+ * override used when appending as well.
+ */
+public class DefaultObjectValueProcessor implements ObjectValueProcessor, AppendingObjectValueProcessor {
+
+    private static final String LINE_BREAK = "\n";
+
+    // Per-thread unbounded buffer reused across flatten calls; it is only kept while it stays within one cell limit.
+    private static final ThreadLocal<CellTextBuffer> BUFFER = new ThreadLocal<>();
+
+    private static final ValueConverter<Object> STRING_CONVERTER = value -> (String) value;
+
+    // Converters resolved once per runtime class, including user-registered ones.
+    private final ValueConverterRegistry converters = new ValueConverterRegistry(this::builtInConverter);
+
+    // Whether a subclass overrides only the String form of a flatten method, which appending then goes through.
+    private final boolean collectionTextOverridden = overridesOnlyStringForm("flattenCollection", Collection.class);
+    private final boolean mapTextOverridden = overridesOnlyStringForm("flattenMap", Map.class);
+
+    private final ValueConverter<Object> collectionConverter = new ValueConverter<>() {
+        @Override
+        public String convert(Object value) {
+            return flattenCollection((Collection<?>) value);
+        }
+
+        @Override
+        public void append(Object value, Appendable sink) throws IOException {
+            if (collectionTextOverridden) {
+                appendNonNull(flattenCollection((Collection<?>) value), sink);
+            } else {
+                flattenCollection((Collection<?>) value, sink);
+            }
+        }
+    };
+
+    private final ValueConverter<Object> mapConverter = new ValueConverter<>() {
+        @Override
+        public String convert(Object value) {
+            return flattenMap((Map<?, ?>) value);
+        }
+
+        @Override
+        public void append(Object value, Appendable sink) throws IOException {
+            if (mapTextOverridden) {
+                appendNonNull(flattenMap((Map<?, ?>) value), sink);
+            } else {
+                flattenMap((Map<?, ?>) value, sink);
+            }
+        }
+    };
+
+    // Placeholder for empty values.
+    private final String empty;
+
+    // Delimiter to separate key-value pairs in maps.
+    private final String mapDelimiter;
+
+    // Delimiter to separate elements in collections.
+    private final String listDelimiter;
+
+    /**
+     * Default constructor using configuration values for delimiters and empty placeholders.
+     */
+    public DefaultObjectValueProcessor() {
+        this.mapDelimiter = Config.MAP_DELIMITER;
+        this.listDelimiter = Config.LIST_DELIMITER;
+        this.empty = Config.EMPTY;
+    }
+
+    /**
+     * Constructor allowing custom delimiters and placeholder values.
+     *
+     * @param mapDelimiter  Delimiter for key-value pairs in maps.
+     * @param listDelimiter Delimiter for elements in collections.
+     * @param empty         Placeholder for null or empty values.
+     */
+    public DefaultObjectValueProcessor(String mapDelimiter, String listDelimiter, String empty) {
+        this.mapDelimiter = mapDelimiter;
+        this.listDelimiter = listDelimiter;
+        this.empty = empty;
+    }
+
+    /**
+     * Processes an object into a string representation.
+     * Handles nulls, primitives, collections, and maps.
+     * <p>
+     * The conversion is dispatched through the converter resolved once for the value's runtime class.
+     *
+     * @param fieldValue The object to process.
+     * @return A string representation of the object.
+     */
+    @Override
+    public String process(Object fieldValue) {
+        if (fieldValue == null) {
+            return "";
+        }
+        return converters.converterFor(fieldValue.getClass()).convert(fieldValue);
+    }
+
+    /**
+     * Appends the representation of an object to the sink.
+     * Handles nulls, primitives, collections, and maps in the same way as {@link #process(Object)}.
+     *
+     * @param fieldValue The object to process.
+     * @param sink       The destination of the representation.
+     * @throws IOException if the sink fails.
+     */
+    @Override
+    public void process(Object fieldValue, Appendable sink) throws IOException {
+        if (fieldValue != null) {
+            converters.converterFor(fieldValue.getClass()).append(fieldValue, sink);
+        }
+    }
+
+    /**
+     * Registers a converter for values of a type and its subtypes, taking precedence over the built-in
+     * conversion of collections, maps and {@code toString}.
+     *
+     * @param type      The type handled by the converter.
+     * @param converter The converter.
+     * @param <T>       The type handled by the converter.
+     * @return This processor.
+     */
+    public <T> DefaultObjectValueProcessor registerConverter(Class<T> type, ValueConverter<? super T> converter) {
+        converters.register(type, converter);
+        return this;
+    }
+
+    /**
+     * Returns the converter used for non-null values of the given runtime class.
+     *
+     * @param type The runtime class of the values.
+     * @return The memoized converter.
+     */
+    public ValueConverter<Object> converterFor(Class<?> type) {
+        return converters.converterFor(type);
+    }
+
+    /**
+     * Resolves the built-in converter of a type without a registered converter.
+     */
+    private ValueConverter<Object> builtInConverter(Class<?> type) {
+        if (type == String.class) {
+            return STRING_CONVERTER;
+        } else if (Collection.class.isAssignableFrom(type)) {
+            return collectionConverter;
+        } else if (Map.class.isAssignableFrom(type)) {
+            return mapConverter;
+        }
+        // Numbers, temporals, enums, and any other type use their own string form.
+        return Object::toString;
+    }
+
+    /**
+     * Flattens a map into a string representation.
+     * Each entry is formatted as "key: value" with entries separated by line breaks.
+     * Null keys and values are replaced with the placeholder value.
+     *
+     * @param map The map to flatten.
+     * @return A string representation of the map.
+     */
+    @Override
+    public String flattenMap(Map<?, ?> map) {
+        CellTextBuffer buffer = acquireBuffer();
+        try {
+            flattenMap(map, buffer);
+            return buffer.toString();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            releaseBuffer(buffer);
+        }
+    }
+
+    /**
+     * Appends the flattened representation of a map to the sink, stopping early once a {@link CellTextBuffer}
+     * sink is full.
+     *
+     * @param map  The map to flatten.
+     * @param sink The destination of the representation.
+     * @throws IOException if the sink fails.
+     */
+    @Override
+    public void flattenMap(Map<?, ?> map, Appendable sink) throws IOException {
+        boolean first = true;
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            if (!first) {
+                sink.append(LINE_BREAK);
+            }
+            first = false;
+            sink.append(entry.getKey() == null ? empty : entry.getKey().toString())
+                    .append(mapDelimiter)
+                    .append(entry.getValue() == null ? empty : entry.getValue().toString());
+            if (isFull(sink)) {
+                break;
+            }
+        }
+    }
+
+    /**
+     * Flattens a collection into a string representation.
+     * Each element is separated by the list delimiter.
+     * Null elements are replaced with the placeholder value.
+     *
+     * @param collection The collection to flatten.
+     * @return A string representation of the collection.
+     */
+    @Override
+    public String flattenCollection(Collection<?> collection) {
+        CellTextBuffer buffer = acquireBuffer();
+        try {
+            flattenCollection(collection, buffer);
+            return buffer.toString();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            releaseBuffer(buffer);
+        }
+    }
+
+    /**
+     * Appends the flattened representation of a collection to the sink, stopping early once a
+     * {@link CellTextBuffer} sink is full.
+     *
+     * @param collection The collection to flatten.
+     * @param sink       The destination of the representation.
+     * @throws IOException if the sink fails.
+     */
+    @Override
+    public void flattenCollection(Collection<?> collection, Appendable sink) throws IOException {
+        boolean first = true;
+        for (Object element : collection) {
+            if (!first) {
+                sink.append(listDelimiter);
+            }
+            first = false;
+            sink.append(element == null ? empty : element.toString());
+            if (isFull(sink)) {
+                break;
+            }
+        }
+    }
+
+    /**
+     * Tells whether the String overload of a flatten method is overridden below the class declaring its
+     * appending overload.
+     */
+    private boolean overridesOnlyStringForm(String name, Class<?> parameterType) {
+        try {
+            Class<?> stringForm = getClass().getMethod(name, parameterType).getDeclaringClass();
+            Class<?> appendingForm = getClass().getMethod(name, parameterType, Appendable.class).getDeclaringClass();
+            return stringForm != appendingForm && appendingForm.isAssignableFrom(stringForm);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void appendNonNull(String value, Appendable sink) throws IOException {
+        if (value != null) {
+            sink.append(value);
+        }
+    }
+
+    private static boolean isFull(Appendable sink) {
+        return sink instanceof CellTextBuffer && ((CellTextBuffer) sink).isFull();
+    }
+
+    /**
+     * Takes this thread's reusable buffer. A nested call made from an element's {@code toString} while the
+     * buffer is taken gets a fresh one.
+     */
+    private static CellTextBuffer acquireBuffer() {
+        CellTextBuffer buffer = BUFFER.get();
+        if (buffer == null) {
+            return new CellTextBuffer(false);
+        }
+        BUFFER.set(null);
+        return buffer;
+    }
+
+    /**
+     * Clears the buffer and hands it back for reuse, unless it grew past the cell limit.
+     */
+    private static void releaseBuffer(CellTextBuffer buffer) {
+        if (buffer.length() <= Config.MAX_CELL_LENGTH) {
+            buffer.clear();
+            BUFFER.set(buffer);
+        }
+    }
+}
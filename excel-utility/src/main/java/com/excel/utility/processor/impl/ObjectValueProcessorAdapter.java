@@ -0,0 +1,52 @@
+package com.excel.utility.processor.impl;
+
+import com.excel.utility.processor.AppendingObjectValueProcessor;
+import com.excel.utility.processor.ObjectValueProcessor;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Adapts a string-returning {@link ObjectValueProcessor} to the {@link AppendingObjectValueProcessor} contract by
+ * appending the string each method returns. Null results append nothing.
+ */
+public class ObjectValueProcessorAdapter implements AppendingObjectValueProcessor {
+
+    private final ObjectValueProcessor delegate;
+
+    public ObjectValueProcessorAdapter(ObjectValueProcessor delegate) {
+        if (delegate == null) {
+            throw new IllegalArgumentException("The object value processor cannot be null.");
+        }
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void process(Object fieldValue, Appendable sink) throws IOException {
+        appendNonNull(delegate.process(fieldValue), sink);
+    }
+
+    @Override
+    public void flattenMap(Map<?, ?> map, Appendable sink) throws IOException {
+        appendNonNull(delegate.flattenMap(map), sink);
+    }
+
+    @Override
+    public void flattenCollection(Collection<?> collection, Appendable sink) throws IOException {
+        appendNonNull(delegate.flattenCollection(collection), sink);
+    }
+
+    /**
+     * @return the adapted string processor.
+     */
+    public ObjectValueProcessor getDelegate() {
+        return delegate;
+    }
+
+    private static void appendNonNull(String value, Appendable sink) throws IOException {
+        if (value != null) {
+            sink.append(value);
+        }
+    }
+}
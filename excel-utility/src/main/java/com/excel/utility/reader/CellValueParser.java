@@ -0,0 +1,180 @@
+package com.excel.utility.reader;
+
+import com.excel.utility.util.CellValueType;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.util.NumberToTextConverter;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.GregorianCalendar;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Converts the value of a cell, as read from a sheet, into the declared type of a column's field.
+ * <p>
+ * Sheet readers report a cell as a {@link Double} for numbers and dates, a {@link String} for text, a
+ * {@link Boolean}, or null for a blank or error cell. Numbers are converted exactly: a fraction or an out of range
+ * value is rejected for an integer field instead of being rounded. Date fields accept Excel serial dates, as the
+ * export writes them, and ISO-8601 text. Text that is blank is read as null for every type but {@code String}.
+ */
+final class CellValueParser {
+
+    /**
+     * The conversion of a cell value for a single field type.
+     */
+    @FunctionalInterface
+    interface Parser {
+
+        /**
+         * @param cell     A non-null cell value.
+         * @param date1904 Whether serial dates of the workbook count from 1904.
+         * @return the field value, or null to leave the field unset.
+         * @throws RuntimeException if the cell cannot be represented as the field type.
+         */
+        Object parse(Object cell, boolean date1904);
+    }
+
+    private CellValueParser() {
+    }
+
+    /**
+     * Resolves the conversion for a declared field type.
+     *
+     * @return the parser, or null if cells cannot be read into the type, such as collections, which the export
+     * renders as text.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static Parser forType(Class<?> type) {
+        if (type == String.class) {
+            return (cell, date1904) -> cell instanceof Double ? numberText((Double) cell) : cell.toString();
+        } else if (type == int.class || type == Integer.class) {
+            return (cell, date1904) -> integral(cell, BigInteger::intValueExact);
+        } else if (type == long.class || type == Long.class) {
+            return (cell, date1904) -> integral(cell, BigInteger::longValueExact);
+        } else if (type == short.class || type == Short.class) {
+            return (cell, date1904) -> integral(cell, BigInteger::shortValueExact);
+        } else if (type == byte.class || type == Byte.class) {
+            return (cell, date1904) -> integral(cell, BigInteger::byteValueExact);
+        } else if (type == double.class || type == Double.class) {
+            return (cell, date1904) -> cell instanceof Double ? cell : parseText(cell, Double::valueOf);
+        } else if (type == float.class || type == Float.class) {
+            return (cell, date1904) -> cell instanceof Double ? (Object) ((Double) cell).floatValue()
+                    : parseText(cell, Float::valueOf);
+        } else if (type == BigDecimal.class) {
+            return (cell, date1904) -> cell instanceof Double ? BigDecimal.valueOf((Double) cell)
+                    : parseText(cell, BigDecimal::new);
+        } else if (type == BigInteger.class) {
+            return (cell, date1904) -> cell instanceof Double ? BigDecimal.valueOf((Double) cell).toBigIntegerExact()
+                    : parseText(cell, text -> new BigDecimal(text).toBigIntegerExact());
+        } else if (type == boolean.class || type == Boolean.class) {
+            return CellValueParser::parseBoolean;
+        } else if (type == char.class || type == Character.class) {
+            return (cell, date1904) -> parseText(cell, CellValueParser::parseCharacter);
+        } else if (type == LocalDateTime.class) {
+            return (cell, date1904) -> dateTime(cell, date1904);
+        } else if (type == LocalDate.class) {
+            return (cell, date1904) -> {
+                LocalDateTime dateTime = dateTime(cell, date1904);
+                return dateTime == null ? null : dateTime.toLocalDate();
+            };
+        } else if (type == LocalTime.class) {
+            return (cell, date1904) -> cell instanceof Double ? dateTime(cell, date1904).toLocalTime()
+                    : parseText(cell, LocalTime::parse);
+        } else if (type == Date.class) {
+            return (cell, date1904) -> {
+                LocalDateTime dateTime = dateTime(cell, date1904);
+                return dateTime == null ? null : Date.from(dateTime.atZone(ZoneId.systemDefault()).toInstant());
+            };
+        } else if (type == Calendar.class) {
+            return (cell, date1904) -> {
+                LocalDateTime dateTime = dateTime(cell, date1904);
+                return dateTime == null ? null : GregorianCalendar.from(dateTime.atZone(ZoneId.systemDefault()));
+            };
+        } else if (type == UUID.class) {
+            return (cell, date1904) -> parseText(cell, UUID::fromString);
+        } else if (type.isEnum()) {
+            return (cell, date1904) -> parseText(cell, text -> Enum.valueOf((Class) type, text));
+        }
+        return null;
+    }
+
+    private static Object integral(Object cell, IntegralNarrowing narrowing) {
+        if (cell instanceof Double) {
+            // Exact for every double, so a fraction or an out of range value fails the narrowing.
+            return narrowing.narrow(new BigDecimal((Double) cell).toBigIntegerExact());
+        }
+        return parseText(cell, text -> narrowing.narrow(new BigDecimal(text).toBigIntegerExact()));
+    }
+
+    private static Object parseBoolean(Object cell, boolean date1904) {
+        if (cell instanceof Boolean) {
+            return cell;
+        }
+        if (cell instanceof Double) {
+            return (Double) cell != 0;
+        }
+        return parseText(cell, text -> {
+            if (text.equalsIgnoreCase("true")) {
+                return Boolean.TRUE;
+            }
+            if (text.equalsIgnoreCase("false")) {
+                return Boolean.FALSE;
+            }
+            throw new IllegalArgumentException("Not a boolean");
+        });
+    }
+
+    private static Character parseCharacter(String text) {
+        if (text.length() != 1) {
+            throw new IllegalArgumentException("Not a single character");
+        }
+        return text.charAt(0);
+    }
+
+    private static LocalDateTime dateTime(Object cell, boolean date1904) {
+        if (cell instanceof Double) {
+            LocalDateTime dateTime = DateUtil.getLocalDateTime((Double) cell, date1904);
+            if (dateTime == null) {
+                throw new IllegalArgumentException("Not a valid Excel date");
+            }
+            return dateTime;
+        }
+        return parseText(cell, text -> text.length() > 10 ? LocalDateTime.parse(text.replace(' ', 'T'))
+                : LocalDate.parse(text).atStartOfDay());
+    }
+
+    /**
+     * Applies the conversion to the trimmed text of a string cell; an empty text is null.
+     */
+    private static <V> V parseText(Object cell, Function<String, V> conversion) {
+        if (!(cell instanceof String)) {
+            throw new IllegalArgumentException("Unexpected " + cell.getClass().getSimpleName().toLowerCase()
+                    + " cell");
+        }
+        String text = ((String) cell).trim();
+        return text.isEmpty() ? null : conversion.apply(text);
+    }
+
+    /**
+     * Renders a number cell as text: whole numbers exactly, and other numbers as Excel displays them in the General
+     * format, such as {@code 0.0001} or {@code 1E+20}.
+     */
+    private static String numberText(double number) {
+        if (number == Math.rint(number) && Math.abs(number) <= CellValueType.MAX_EXACT_INTEGER) {
+            return Long.toString((long) number);
+        }
+        return NumberToTextConverter.toText(number);
+    }
+
+    @FunctionalInterface
+    private interface IntegralNarrowing {
+        Object narrow(BigInteger value);
+    }
+}
@@ -0,0 +1,69 @@
+package com.excel.utility.reader;
+
+import com.excel.utility.dto.ColumnMetadataPlan;
+import com.excel.utility.extractor.ColumnMetadataCache;
+import org.apache.poi.poifs.filesystem.FileMagic;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Reads the rows of a sheet back into {@code @ExcelMapper} POJOs, the reverse of
+ * {@link com.excel.utility.ExcelUtility#exportTo}.
+ * <p>
+ * The first row of the sheet is its header row. Each {@code @ExcelColumn} of the type, including the columns of
+ * nested {@code @ExcelMapper} objects, is matched to the sheet column with the same header text, or, when no header
+ * matches, to the position of its column order. The POJOs, and any nested objects that have a value, are created
+ * with their no-argument constructor and populated through {@code set<FieldName>} methods or the fields
+ * themselves; rows with no value in any column are skipped.
+ * <p>
+ * The rows are read lazily, one at a time, as the returned stream is consumed, with the event models of POI: XLSX
+ * worksheets are parsed as XML streams and XLS workbooks as record streams, so memory use does not depend on the
+ * size of the sheet. The stream holds the file open and must be closed, for example with try-with-resources.
+ */
+public class ExcelReader {
+
+    /**
+     * Reads the first sheet of a workbook.
+     *
+     * @see #read(Path, Class, String)
+     */
+    public <T> Stream<T> read(Path path, Class<T> type) throws IOException {
+        return read(path, type, null);
+    }
+
+    /**
+     * Reads a sheet of an XLSX or XLS workbook, told apart by the content of the file.
+     *
+     * @param sheetName The sheet name, matched ignoring case, or null for the first sheet.
+     * @return the lazily read rows; a cell that cannot be read as its field's type fails the stream with an
+     * {@link com.excel.utility.exception.InvalidCellValueException}.
+     * @throws IllegalArgumentException if the type is not a valid mapping, the workbook has no such sheet or the file
+     *                                  is not an XLSX or XLS workbook.
+     * @throws IOException              if the file cannot be read.
+     */
+    public <T> Stream<T> read(Path path, Class<T> type, String sheetName) throws IOException {
+        if (path == null) {
+            throw new IllegalArgumentException("The path cannot be null.");
+        }
+        if (type == null) {
+            throw new IllegalArgumentException("The type cannot be null.");
+        }
+        ColumnMetadataPlan plan = ColumnMetadataCache.shared().getPlan(type);
+        RowMapper<T> rowMapper = RowMapper.of(plan);
+
+        SheetRowReader reader;
+        FileMagic fileMagic = FileMagic.valueOf(path.toFile());
+        if (fileMagic == FileMagic.OOXML) {
+            reader = XlsxSheetRowReader.open(path, sheetName);
+        } else if (fileMagic == FileMagic.OLE2) {
+            reader = XlsSheetRowReader.open(path, sheetName);
+        } else {
+            throw new IllegalArgumentException("The file is not an XLSX or XLS workbook: " + path);
+        }
+        SheetSpliterator<T> spliterator = new SheetSpliterator<>(reader, rowMapper);
+        return StreamSupport.stream(spliterator, false).onClose(spliterator::close);
+    }
+}
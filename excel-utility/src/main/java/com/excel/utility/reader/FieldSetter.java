@@ -0,0 +1,145 @@
+package com.excel.utility.reader;
+
+import com.excel.utility.exception.ExcelFieldAccessException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * A pre-resolved, compiled mutator for writing a single field of instances of a given class, the counterpart of
+ * {@link com.excel.utility.extractor.FieldAccessor}.
+ *
+ * <p>The strategy is chosen once: a public {@code set<FieldName>(value)} method taking the field's type, and
+ * otherwise direct field access, which also covers final fields. The chosen member is bound to a
+ * {@link MethodHandle}, so writing a value performs no reflective lookup.</p>
+ */
+public final class FieldSetter {
+
+    /**
+     * The way a field value is written to the target object.
+     */
+    public enum Strategy {
+        SETTER,
+        FIELD
+    }
+
+    private static final MethodType MUTATOR_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private final Field field;
+    private final Strategy strategy;
+    private final Method method;
+    private final MethodHandle handle;
+
+    private FieldSetter(Field field, Strategy strategy, Method method, MethodHandle handle) {
+        this.field = field;
+        this.strategy = strategy;
+        this.method = method;
+        this.handle = handle;
+    }
+
+    /**
+     * Resolves the setter for a field as seen from the given class.
+     *
+     * @param type  the class of the objects the setter will be applied to
+     * @param field the instance field to write
+     * @return the resolved setter
+     * @throws IllegalArgumentException if the field is static, or not declared by {@code type} or one of its
+     *                                  superclasses
+     * @throws ExcelFieldAccessException if the resolved member cannot be made accessible
+     */
+    public static FieldSetter resolve(Class<?> type, Field field) {
+        if (Modifier.isStatic(field.getModifiers())) {
+            throw new IllegalArgumentException("Field " + field.getDeclaringClass().getName() + "." + field.getName()
+                    + " is static");
+        }
+
+        Method setter = findAccessibleSetter(type, "set" + capitalizeFirstLetter(field.getName()), field.getType());
+        if (setter != null) {
+            return new FieldSetter(field, Strategy.SETTER, setter, unreflect(setter));
+        }
+
+        if (!field.getDeclaringClass().isAssignableFrom(type)) {
+            throw new IllegalArgumentException("Field " + field.getDeclaringClass().getName() + "." + field.getName()
+                    + " is not declared by " + type.getName());
+        }
+        return new FieldSetter(field, Strategy.FIELD, null, unreflectSetter(field));
+    }
+
+    /**
+     * Writes the value to the field of the target object.
+     *
+     * @param target the object to write to; must be an instance of the class the setter was resolved for
+     * @param value  the value, assignable to the field's type; null is not accepted for primitive fields
+     * @throws ExcelFieldAccessException if the underlying setter throws
+     */
+    public void set(Object target, Object value) {
+        try {
+            handle.invokeExact(target, value);
+        } catch (Throwable e) {
+            throw new ExcelFieldAccessException("Failed to write field '" + field.getName() + "' using " + strategy, e);
+        }
+    }
+
+    public Field getField() {
+        return field;
+    }
+
+    public Strategy getStrategy() {
+        return strategy;
+    }
+
+    /**
+     * @return the setter used by this mutator, or {@code null} for the {@link Strategy#FIELD} strategy.
+     */
+    public Method getMethod() {
+        return method;
+    }
+
+    private static Method findAccessibleSetter(Class<?> type, String methodName, Class<?> parameterType) {
+        for (Method candidate : type.getMethods()) {
+            if (candidate.getName().equals(methodName)
+                    && candidate.getParameterCount() == 1
+                    && candidate.getParameterTypes()[0] == parameterType
+                    && !Modifier.isStatic(candidate.getModifiers())
+                    && candidate.trySetAccessible()) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    private static MethodHandle unreflect(Method method) {
+        try {
+            MethodHandle setter = MethodHandles.lookup().unreflect(method);
+            if (method.getReturnType() != void.class) {
+                // Fluent setters return the target; drop it so all mutators share a signature.
+                setter = setter.asType(setter.type().changeReturnType(void.class));
+            }
+            return setter.asType(MUTATOR_TYPE);
+        } catch (IllegalAccessException e) {
+            throw new ExcelFieldAccessException("Cannot access method " + method, e);
+        }
+    }
+
+    private static MethodHandle unreflectSetter(Field field) {
+        if (!field.trySetAccessible()) {
+            throw new ExcelFieldAccessException("Cannot access field " + field);
+        }
+        try {
+            return MethodHandles.lookup().unreflectSetter(field).asType(MUTATOR_TYPE);
+        } catch (IllegalAccessException e) {
+            throw new ExcelFieldAccessException("Cannot access field " + field, e);
+        }
+    }
+
+    private static String capitalizeFirstLetter(String str) {
+        if (str.isEmpty()) {
+            return str;
+        }
+        return Character.toUpperCase(str.charAt(0)) + str.substring(1);
+    }
+}
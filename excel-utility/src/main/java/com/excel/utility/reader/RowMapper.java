@@ -0,0 +1,242 @@
+package com.excel.utility.reader;
+
+import com.excel.utility.dto.ColumnMetadata;
+import com.excel.utility.dto.ColumnMetadataPlan;
+import com.excel.utility.exception.InvalidCellValueException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Builds POJOs from the cells of a row, the reverse of {@link com.excel.utility.extractor.FieldExtractor}.
+ * <p>
+ * The field paths of a {@link ColumnMetadataPlan} are compiled once per type into a tree of no-argument
+ * constructors and {@link FieldSetter}s. A nested {@code @ExcelMapper} object is created only when at least one of
+ * its columns has a value, so a row exported from a null parent reads back as a null parent. Blank cells leave
+ * their field at its initial value, and columns of a type {@link CellValueParser} cannot read are skipped.
+ */
+final class RowMapper<T> {
+
+    private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class);
+
+    /**
+     * Row mappers, keyed by POJO type and tied to the plan they were compiled from.
+     */
+    private static final ClassValue<AtomicReference<RowMapper<?>>> MAPPERS = new ClassValue<>() {
+        @Override
+        protected AtomicReference<RowMapper<?>> computeValue(Class<?> type) {
+            return new AtomicReference<>();
+        }
+    };
+
+    private final ColumnMetadataPlan plan;
+    private final CellValueParser.Parser[] parsers;
+    private final Node root;
+
+    private RowMapper(ColumnMetadataPlan plan) {
+        this.plan = plan;
+        List<ColumnMetadata> columns = plan.getColumns();
+        this.parsers = new CellValueParser.Parser[columns.size()];
+
+        NodeBuilder rootBuilder = new NodeBuilder(null, plan.getType());
+        for (int i = 0; i < columns.size(); i++) {
+            List<Field> path = columns.get(i).getParentClassFieldList();
+            Field field = columns.get(i).getField();
+            if (path == null || path.isEmpty() || Modifier.isStatic(field.getModifiers())) {
+                continue;
+            }
+            parsers[i] = CellValueParser.forType(field.getType());
+            if (parsers[i] == null) {
+                continue;
+            }
+            NodeBuilder node = rootBuilder;
+            for (Field parent : path.subList(0, path.size() - 1)) {
+                node = node.children.computeIfAbsent(parent, key -> new NodeBuilder(key, key.getType()));
+            }
+            node.columns.add(i);
+            node.columnFields.add(field);
+        }
+        this.root = rootBuilder.build(null);
+    }
+
+    /**
+     * Returns the mapper for a plan, compiling it on first use.
+     *
+     * @throws IllegalArgumentException if a class on the plan's field paths has no no-argument constructor.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> RowMapper<T> of(ColumnMetadataPlan plan) {
+        AtomicReference<RowMapper<?>> slot = MAPPERS.get(plan.getType());
+        RowMapper<?> mapper = slot.get();
+        if (mapper == null || mapper.plan != plan) {
+            mapper = new RowMapper<>(plan);
+            slot.set(mapper);
+        }
+        return (RowMapper<T>) mapper;
+    }
+
+    /**
+     * @return the plan the mapper was compiled from.
+     */
+    ColumnMetadataPlan getPlan() {
+        return plan;
+    }
+
+    /**
+     * @return whether cells of the column are read into its field.
+     */
+    boolean isReadable(int column) {
+        return parsers[column] != null;
+    }
+
+    /**
+     * Creates the POJO of a row.
+     *
+     * @param cells     The cell of each plan column, in plan order; converted in place into field values.
+     * @param rowNumber The 1-based row number, for error messages.
+     * @param date1904  Whether serial dates of the workbook count from 1904.
+     * @throws InvalidCellValueException if a cell cannot be represented as the type of its field.
+     */
+    @SuppressWarnings("unchecked")
+    T map(Object[] cells, long rowNumber, boolean date1904) {
+        List<ColumnMetadata> columns = plan.getColumns();
+        for (int i = 0; i < parsers.length; i++) {
+            Object cell = cells[i];
+            if (cell == null) {
+                continue;
+            }
+            if (parsers[i] == null) {
+                cells[i] = null;
+                continue;
+            }
+            try {
+                cells[i] = parsers[i].parse(cell, date1904);
+            } catch (RuntimeException e) {
+                throw new InvalidCellValueException("Cannot read '" + cell + "' in row " + rowNumber + ", column '"
+                        + columns.get(i).getHeader() + "' as " + columns.get(i).getFieldType().getSimpleName(), e);
+            }
+        }
+        return (T) root.create(cells);
+    }
+
+    /**
+     * A class on the field paths, with the columns set directly on it and the nested objects below it.
+     */
+    private static final class Node {
+        private final Class<?> type;
+        private final FieldSetter setter;
+        private final MethodHandle constructor;
+        private final int[] columns;
+        private final FieldSetter[] columnSetters;
+        private final int[] descendantColumns;
+        private final Node[] children;
+
+        private Node(Class<?> type, FieldSetter setter, MethodHandle constructor, int[] columns,
+                     FieldSetter[] columnSetters, int[] descendantColumns, Node[] children) {
+            this.type = type;
+            this.setter = setter;
+            this.constructor = constructor;
+            this.columns = columns;
+            this.columnSetters = columnSetters;
+            this.descendantColumns = descendantColumns;
+            this.children = children;
+        }
+
+        private Object create(Object[] values) {
+            Object target = newInstance();
+            for (int i = 0; i < columns.length; i++) {
+                Object value = values[columns[i]];
+                if (value != null) {
+                    columnSetters[i].set(target, value);
+                }
+            }
+            for (Node child : children) {
+                if (child.hasValue(values)) {
+                    child.setter.set(target, child.create(values));
+                }
+            }
+            return target;
+        }
+
+        private boolean hasValue(Object[] values) {
+            for (int column : descendantColumns) {
+                if (values[column] != null) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private Object newInstance() {
+            try {
+                return (Object) constructor.invokeExact();
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException("Failed to create an instance of " + type.getName(), e);
+            }
+        }
+    }
+
+    private static final class NodeBuilder {
+        private final Field field;
+        private final Class<?> type;
+        private final List<Integer> columns = new ArrayList<>();
+        private final List<Field> columnFields = new ArrayList<>();
+        private final Map<Field, NodeBuilder> children = new LinkedHashMap<>();
+
+        private NodeBuilder(Field field, Class<?> type) {
+            this.field = field;
+            this.type = type;
+        }
+
+        private Node build(Class<?> parentType) {
+            FieldSetter[] columnSetters = new FieldSetter[columnFields.size()];
+            for (int i = 0; i < columnSetters.length; i++) {
+                columnSetters[i] = FieldSetter.resolve(type, columnFields.get(i));
+            }
+            Node[] builtChildren = new Node[children.size()];
+            List<Integer> descendants = new ArrayList<>(columns);
+            int index = 0;
+            for (NodeBuilder child : children.values()) {
+                Node builtChild = child.build(type);
+                builtChildren[index++] = builtChild;
+                for (int column : builtChild.descendantColumns) {
+                    descendants.add(column);
+                }
+            }
+            FieldSetter setter = parentType == null ? null : FieldSetter.resolve(parentType, field);
+            return new Node(type, setter, constructor(type), toArray(columns), columnSetters, toArray(descendants),
+                    builtChildren);
+        }
+    }
+
+    private static MethodHandle constructor(Class<?> type) {
+        try {
+            Constructor<?> constructor = type.getDeclaredConstructor();
+            if (Modifier.isAbstract(type.getModifiers()) || !constructor.trySetAccessible()) {
+                throw new NoSuchMethodException();
+            }
+            return MethodHandles.lookup().unreflectConstructor(constructor).asType(CONSTRUCTOR_TYPE);
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new IllegalArgumentException("POJO class must have a no-argument constructor : " + type.getName());
+        }
+    }
+
+    private static int[] toArray(List<Integer> list) {
+        int[] array = new int[list.size()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = list.get(i);
+        }
+        return array;
+    }
+}
@@ -0,0 +1,32 @@
+package com.excel.utility.reader;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * A forward-only reader of the rows of one sheet, which holds no more than the current row in memory.
+ * <p>
+ * A cell is reported as a {@link Double} for numbers and dates, a {@link String} for text, a {@link Boolean}, or
+ * null for a blank or error cell; formula cells report their cached result.
+ */
+interface SheetRowReader extends Closeable {
+
+    /**
+     * Reads the next row.
+     *
+     * @return the cells of the row indexed by 0-based column, up to the last cell of the row, or null after the
+     * last row.
+     * @throws IOException if the workbook cannot be read.
+     */
+    Object[] nextRow() throws IOException;
+
+    /**
+     * @return the 1-based number of the row last returned by {@link #nextRow()}.
+     */
+    long getRowNumber();
+
+    /**
+     * @return whether serial dates of the workbook count from 1904 instead of 1900.
+     */
+    boolean isDate1904();
+}
@@ -0,0 +1,113 @@
+package com.excel.utility.reader;
+
+import com.excel.utility.dto.ColumnMetadata;
+import com.excel.utility.dto.ColumnMetadataPlan;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+/**
+ * Maps the rows of a sheet to POJOs as they are read. The first row is the header row; it resolves the sheet
+ * column of every plan column, and each following row that has a value in one of those columns becomes a POJO.
+ */
+final class SheetSpliterator<T> extends Spliterators.AbstractSpliterator<T> implements AutoCloseable {
+
+    private final SheetRowReader reader;
+    private final RowMapper<T> rowMapper;
+    private final Object[] cells;
+    private int[] sheetColumns;
+
+    SheetSpliterator(SheetRowReader reader, RowMapper<T> rowMapper) {
+        super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+        this.reader = reader;
+        this.rowMapper = rowMapper;
+        this.cells = new Object[rowMapper.getPlan().size()];
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        try {
+            if (sheetColumns == null) {
+                Object[] header = reader.nextRow();
+                if (header == null) {
+                    return false;
+                }
+                sheetColumns = resolveColumns(rowMapper.getPlan(), header);
+            }
+            Object[] row;
+            while ((row = reader.nextRow()) != null) {
+                if (project(row)) {
+                    action.accept(rowMapper.map(cells, reader.getRowNumber(), reader.isDate1904()));
+                    return true;
+                }
+            }
+            return false;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            reader.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Resolves the sheet column of each plan column. Columns are found by their header text, ignoring case and
+     * surrounding spaces, so the sheet may order, omit or add columns. If no header matches, as when a sheet has
+     * translated headers, every column is taken from the position of its column order, as the export places it.
+     *
+     * @return the 0-based sheet column of each plan column, or -1 if the sheet does not have it.
+     */
+    static int[] resolveColumns(ColumnMetadataPlan plan, Object[] header) {
+        List<ColumnMetadata> columns = plan.getColumns();
+        int[] sheetColumns = new int[columns.size()];
+        Arrays.fill(sheetColumns, -1);
+        boolean matched = false;
+        for (int i = 0; i < columns.size(); i++) {
+            String name = columns.get(i).getHeader().trim();
+            for (int column = 0; column < header.length; column++) {
+                if (header[column] instanceof String && ((String) header[column]).trim().equalsIgnoreCase(name)) {
+                    sheetColumns[i] = column;
+                    matched = true;
+                    break;
+                }
+            }
+        }
+        if (!matched) {
+            for (int i = 0; i < columns.size(); i++) {
+                sheetColumns[i] = columns.get(i).getColumnOrder() - 1;
+            }
+        }
+        return sheetColumns;
+    }
+
+    /**
+     * Copies the cells of the plan columns from a sheet row, reading empty text as a blank cell.
+     *
+     * @return whether any of them has a value.
+     */
+    private boolean project(Object[] row) {
+        boolean hasValue = false;
+        for (int i = 0; i < cells.length; i++) {
+            int column = sheetColumns[i];
+            Object cell = column >= 0 && column < row.length ? row[column] : null;
+            if ("".equals(cell)) {
+                // The export writes null values as empty text.
+                cell = null;
+            }
+            cells[i] = cell;
+            hasValue |= cell != null && rowMapper.isReadable(i);
+        }
+        return hasValue;
+    }
+}
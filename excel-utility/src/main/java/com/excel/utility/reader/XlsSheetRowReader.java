@@ -0,0 +1,269 @@
+package com.excel.utility.reader;
+
+import org.apache.poi.hssf.eventusermodel.HSSFListener;
+import org.apache.poi.hssf.model.InternalWorkbook;
+import org.apache.poi.hssf.record.BOFRecord;
+import org.apache.poi.hssf.record.BoolErrRecord;
+import org.apache.poi.hssf.record.BoundSheetRecord;
+import org.apache.poi.hssf.record.CellValueRecordInterface;
+import org.apache.poi.hssf.record.DateWindow1904Record;
+import org.apache.poi.hssf.record.EOFRecord;
+import org.apache.poi.hssf.record.FormulaRecord;
+import org.apache.poi.hssf.record.LabelRecord;
+import org.apache.poi.hssf.record.LabelSSTRecord;
+import org.apache.poi.hssf.record.NumberRecord;
+import org.apache.poi.hssf.record.Record;
+import org.apache.poi.hssf.record.RecordFactoryInputStream;
+import org.apache.poi.hssf.record.SSTRecord;
+import org.apache.poi.hssf.record.StringRecord;
+import org.apache.poi.poifs.filesystem.POIFSFileSystem;
+import org.apache.poi.ss.usermodel.CellType;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads the rows of a worksheet of an XLS (BIFF8) workbook with the event model, in a single forward pass over the
+ * records of the workbook stream.
+ * <p>
+ * This class is the {@link HSSFListener} that turns cell records into rows. The records are pulled from a
+ * {@link RecordFactoryInputStream}, the same loop {@link org.apache.poi.hssf.eventusermodel.HSSFEventFactory}
+ * runs, one row at a time as the rows are read, so the stream stays lazy without a thread. The file is accessed
+ * through a read-only {@link POIFSFileSystem}, which reads its blocks on demand; only the shared string table of
+ * the workbook globals is held in memory, so heap use does not grow with the number of rows.
+ */
+final class XlsSheetRowReader implements SheetRowReader, HSSFListener {
+
+    private final POIFSFileSystem fileSystem;
+    private final InputStream workbookStream;
+    private final RecordFactoryInputStream records;
+    private final List<BoundSheetRecord> boundSheets = new ArrayList<>();
+    private final List<Object> cells = new ArrayList<>();
+    private final String sheetName;
+    private SSTRecord sharedStrings;
+    private boolean date1904;
+    private boolean globalsRead;
+    private int sheetIndex = -1;
+    private int selectedSheet = -1;
+    private int depth;
+    private boolean inSelectedSheet;
+    private boolean sheetEnded;
+    private int row = -1;
+    private long rowNumber;
+    private Object[] completedRow;
+    private FormulaRecord pendingFormula;
+
+    private XlsSheetRowReader(POIFSFileSystem fileSystem, InputStream workbookStream, String sheetName) {
+        this.fileSystem = fileSystem;
+        this.workbookStream = workbookStream;
+        this.records = new RecordFactoryInputStream(workbookStream, false);
+        this.sheetName = sheetName;
+    }
+
+    /**
+     * Opens a worksheet of a workbook read-only, reading the workbook globals up to the first sheet.
+     *
+     * @param sheetName The sheet name, matched ignoring case as Excel does, or null for the first sheet.
+     * @throws IllegalArgumentException if the workbook has no such sheet or is older than Excel 97.
+     * @throws IOException              if the file is not a readable XLS workbook.
+     */
+    static XlsSheetRowReader open(Path path, String sheetName) throws IOException {
+        POIFSFileSystem fileSystem = new POIFSFileSystem(path.toFile(), true);
+        XlsSheetRowReader reader = null;
+        try {
+            String entryName = workbookEntryName(fileSystem);
+            reader = new XlsSheetRowReader(fileSystem, fileSystem.createDocumentInputStream(entryName), sheetName);
+            while (!reader.globalsRead && reader.pull()) {
+                // Read the globals: the sheet names, the shared strings and the date system.
+            }
+            reader.selectSheet();
+            return reader;
+        } catch (IOException | RuntimeException e) {
+            try {
+                if (reader != null) {
+                    reader.close();
+                } else {
+                    fileSystem.close();
+                }
+            } catch (IOException closeFailure) {
+                e.addSuppressed(closeFailure);
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public Object[] nextRow() throws IOException {
+        while (completedRow == null && pull()) {
+            // Records are handled until a row is complete or the sheet ends.
+        }
+        Object[] next = completedRow;
+        completedRow = null;
+        return next;
+    }
+
+    @Override
+    public long getRowNumber() {
+        return rowNumber;
+    }
+
+    @Override
+    public boolean isDate1904() {
+        return date1904;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            workbookStream.close();
+        } finally {
+            fileSystem.close();
+        }
+    }
+
+    @Override
+    public void processRecord(Record record) {
+        if (record instanceof BOFRecord) {
+            if (depth == 0 && ((BOFRecord) record).getType() != BOFRecord.TYPE_WORKBOOK) {
+                // Each sheet, including chart and macro sheets, is a substream in the order of its bound sheet.
+                sheetIndex++;
+                inSelectedSheet = sheetIndex == selectedSheet;
+            }
+            depth++;
+        } else if (record instanceof EOFRecord) {
+            depth--;
+            if (depth == 0) {
+                if (inSelectedSheet) {
+                    completeRow();
+                    sheetEnded = true;
+                }
+                globalsRead = true;
+                inSelectedSheet = false;
+            }
+        } else if (record instanceof BoundSheetRecord) {
+            boundSheets.add((BoundSheetRecord) record);
+        } else if (record instanceof SSTRecord) {
+            sharedStrings = (SSTRecord) record;
+        } else if (record instanceof DateWindow1904Record) {
+            date1904 = ((DateWindow1904Record) record).getWindowing() == 1;
+        } else if (inSelectedSheet && depth == 1) {
+            processCell(record);
+        }
+    }
+
+    /**
+     * Handles the next record of the workbook stream.
+     *
+     * @return false at the end of the selected sheet or of the stream.
+     */
+    private boolean pull() throws IOException {
+        if (sheetEnded) {
+            return false;
+        }
+        Record record;
+        try {
+            record = records.nextRecord();
+        } catch (RuntimeException e) {
+            throw new IOException("Failed to read the workbook after row " + rowNumber, e);
+        }
+        if (record == null) {
+            completeRow();
+            sheetEnded = true;
+            return completedRow != null;
+        }
+        processRecord(record);
+        return true;
+    }
+
+    private static String workbookEntryName(POIFSFileSystem fileSystem) {
+        for (String name : InternalWorkbook.WORKBOOK_DIR_ENTRY_NAMES) {
+            if (fileSystem.getRoot().hasEntry(name)) {
+                return name;
+            }
+        }
+        if (fileSystem.getRoot().hasEntry(InternalWorkbook.OLD_WORKBOOK_DIR_ENTRY_NAME)) {
+            throw new IllegalArgumentException("Workbooks older than Excel 97 cannot be read.");
+        }
+        throw new IllegalArgumentException("The file has no workbook stream.");
+    }
+
+    private void selectSheet() {
+        BoundSheetRecord[] sheets = BoundSheetRecord.orderByBofPosition(boundSheets);
+        for (int i = 0; i < sheets.length; i++) {
+            if (sheetName == null || sheetName.equalsIgnoreCase(sheets[i].getSheetname())) {
+                selectedSheet = i;
+                return;
+            }
+        }
+        throw new IllegalArgumentException(sheetName == null ? "The workbook has no worksheet."
+                : "The workbook has no sheet named '" + sheetName + "'.");
+    }
+
+    private void processCell(Record record) {
+        if (record instanceof StringRecord) {
+            // The text result of the formula record before it.
+            if (pendingFormula != null) {
+                setCell(pendingFormula, ((StringRecord) record).getString());
+                pendingFormula = null;
+            }
+            return;
+        }
+        if (!(record instanceof CellValueRecordInterface)) {
+            return;
+        }
+        CellValueRecordInterface cell = (CellValueRecordInterface) record;
+        if (record instanceof NumberRecord) {
+            setCell(cell, ((NumberRecord) record).getValue());
+        } else if (record instanceof LabelSSTRecord) {
+            setCell(cell, sharedStrings.getString(((LabelSSTRecord) record).getSSTIndex()).getString());
+        } else if (record instanceof LabelRecord) {
+            setCell(cell, ((LabelRecord) record).getValue());
+        } else if (record instanceof BoolErrRecord) {
+            BoolErrRecord boolErr = (BoolErrRecord) record;
+            setCell(cell, boolErr.isBoolean() ? boolErr.getBooleanValue() : null);
+        } else if (record instanceof FormulaRecord) {
+            FormulaRecord formula = (FormulaRecord) record;
+            CellType resultType = formula.getCachedResultTypeEnum();
+            if (resultType == CellType.NUMERIC) {
+                setCell(cell, formula.getValue());
+            } else if (resultType == CellType.BOOLEAN) {
+                setCell(cell, formula.getCachedBooleanValue());
+            } else if (resultType == CellType.STRING && formula.hasCachedResultString()) {
+                setCell(cell, null);
+                pendingFormula = formula;
+            } else {
+                setCell(cell, null);
+            }
+        } else {
+            // Blank cells; RecordFactory splits RK and MulRK records into number records and MulBlank into blanks.
+            setCell(cell, null);
+        }
+    }
+
+    /**
+     * Adds a cell to its row. Cell records follow the row order of the sheet, so a cell of a later row completes
+     * the row being read.
+     */
+    private void setCell(CellValueRecordInterface cell, Object value) {
+        if (cell.getRow() != row) {
+            completeRow();
+            row = cell.getRow();
+        }
+        int column = cell.getColumn();
+        while (cells.size() <= column) {
+            cells.add(null);
+        }
+        cells.set(column, value);
+    }
+
+    private void completeRow() {
+        if (row >= 0 && !cells.isEmpty()) {
+            completedRow = cells.toArray();
+            rowNumber = row + 1L;
+        }
+        cells.clear();
+    }
+}
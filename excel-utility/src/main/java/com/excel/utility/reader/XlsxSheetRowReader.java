@@ -0,0 +1,258 @@
+package com.excel.utility.reader;
+
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.model.SharedStrings;
+import org.xml.sax.SAXException;
+
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads the rows of a worksheet of an XLSX package with the event API: {@link XSSFReader} opens the worksheet part
+ * as a stream inside the zip file, and a StAX parser pulls one {@code <row>} at a time from it.
+ * <p>
+ * Only the shared strings table, which Excel keeps small by de-duplicating text, is loaded up front; the worksheet
+ * itself is never held in memory, so heap use does not grow with the number of rows.
+ */
+final class XlsxSheetRowReader implements SheetRowReader {
+
+    private final OPCPackage opcPackage;
+    private final InputStream sheetStream;
+    private final XMLStreamReader xml;
+    private final SharedStrings sharedStrings;
+    private final boolean date1904;
+    private final List<Object> cells = new ArrayList<>();
+    private final StringBuilder text = new StringBuilder();
+    private long rowNumber;
+
+    private XlsxSheetRowReader(OPCPackage opcPackage, InputStream sheetStream, SharedStrings sharedStrings,
+                               boolean date1904) throws XMLStreamException {
+        this.opcPackage = opcPackage;
+        this.sheetStream = sheetStream;
+        this.sharedStrings = sharedStrings;
+        this.date1904 = date1904;
+        this.xml = XMLHelper.newXMLInputFactory().createXMLStreamReader(sheetStream);
+    }
+
+    /**
+     * Opens a worksheet of a package read-only.
+     *
+     * @param sheetName The sheet name, matched ignoring case as Excel does, or null for the first sheet.
+     * @throws IllegalArgumentException if the workbook has no such sheet.
+     * @throws IOException              if the file is not a readable XLSX package.
+     */
+    static XlsxSheetRowReader open(Path path, String sheetName) throws IOException {
+        OPCPackage opcPackage;
+        try {
+            opcPackage = OPCPackage.open(path.toFile(), PackageAccess.READ);
+        } catch (OpenXML4JException e) {
+            throw new IOException("Failed to open the workbook " + path, e);
+        }
+        InputStream sheetStream = null;
+        try {
+            XSSFReader reader = new XSSFReader(opcPackage);
+            boolean date1904;
+            try (InputStream workbookStream = reader.getWorkbookData()) {
+                date1904 = isDate1904(workbookStream);
+            }
+            sheetStream = findSheet(reader, sheetName);
+            SharedStrings sharedStrings = new ReadOnlySharedStringsTable(opcPackage, false);
+            return new XlsxSheetRowReader(opcPackage, sheetStream, sharedStrings, date1904);
+        } catch (OpenXML4JException | SAXException | XMLStreamException e) {
+            throw abort(new IOException("Failed to open the workbook " + path, e), sheetStream, opcPackage);
+        } catch (IOException e) {
+            throw abort(e, sheetStream, opcPackage);
+        } catch (RuntimeException e) {
+            throw abort(e, sheetStream, opcPackage);
+        }
+    }
+
+    @Override
+    public Object[] nextRow() throws IOException {
+        try {
+            int column = -1;
+            String cellType = null;
+            boolean hasValue = false;
+            boolean phonetic = false;
+            while (xml.hasNext()) {
+                int event = xml.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    switch (xml.getLocalName()) {
+                        case "row":
+                            String reference = xml.getAttributeValue(null, "r");
+                            rowNumber = reference == null ? rowNumber + 1 : Long.parseLong(reference);
+                            cells.clear();
+                            column = -1;
+                            break;
+                        case "c":
+                            String cellReference = xml.getAttributeValue(null, "r");
+                            column = cellReference == null ? column + 1 : columnIndex(cellReference);
+                            cellType = xml.getAttributeValue(null, "t");
+                            text.setLength(0);
+                            hasValue = false;
+                            break;
+                        case "v":
+                            text.append(xml.getElementText());
+                            hasValue = true;
+                            break;
+                        case "t":
+                            if (!phonetic) {
+                                text.append(xml.getElementText());
+                                hasValue = true;
+                            }
+                            break;
+                        case "rPh":
+                            phonetic = true;
+                            break;
+                        default:
+                            break;
+                    }
+                } else if (event == XMLStreamConstants.END_ELEMENT) {
+                    switch (xml.getLocalName()) {
+                        case "c":
+                            setCell(column, hasValue ? cellValue(cellType, text.toString()) : null);
+                            break;
+                        case "rPh":
+                            phonetic = false;
+                            break;
+                        case "row":
+                            return cells.toArray();
+                        default:
+                            break;
+                    }
+                }
+            }
+            return null;
+        } catch (XMLStreamException | RuntimeException e) {
+            throw new IOException("Failed to read row " + (rowNumber + 1) + " of the worksheet", e);
+        }
+    }
+
+    @Override
+    public long getRowNumber() {
+        return rowNumber;
+    }
+
+    @Override
+    public boolean isDate1904() {
+        return date1904;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            xml.close();
+        } catch (XMLStreamException e) {
+            // The stream below is closed regardless.
+        }
+        close(sheetStream, opcPackage);
+    }
+
+    private void setCell(int column, Object value) {
+        while (cells.size() <= column) {
+            cells.add(null);
+        }
+        cells.set(column, value);
+    }
+
+    private Object cellValue(String cellType, String value) {
+        if (cellType == null || cellType.equals("n")) {
+            return value.isEmpty() ? null : Double.valueOf(value);
+        }
+        switch (cellType) {
+            case "s":
+                return sharedStrings.getItemAt(Integer.parseInt(value)).getString();
+            case "b":
+                return value.equals("1") || value.equalsIgnoreCase("true");
+            case "e":
+                return null;
+            default:
+                // inlineStr, str (a formula's text result) and d (an ISO-8601 date).
+                return value;
+        }
+    }
+
+    /**
+     * @return the 0-based column of an A1-style cell reference.
+     */
+    private static int columnIndex(String cellReference) {
+        int column = 0;
+        for (int i = 0; i < cellReference.length(); i++) {
+            char c = cellReference.charAt(i);
+            if (c < 'A' || c > 'Z') {
+                break;
+            }
+            column = column * 26 + (c - 'A' + 1);
+        }
+        return column - 1;
+    }
+
+    private static boolean isDate1904(InputStream workbookStream) throws XMLStreamException {
+        XMLStreamReader workbook = XMLHelper.newXMLInputFactory().createXMLStreamReader(workbookStream);
+        try {
+            while (workbook.hasNext()) {
+                if (workbook.next() == XMLStreamConstants.START_ELEMENT) {
+                    String name = workbook.getLocalName();
+                    if (name.equals("workbookPr")) {
+                        String value = workbook.getAttributeValue(null, "date1904");
+                        return "1".equals(value) || "true".equalsIgnoreCase(value);
+                    }
+                    if (name.equals("sheets")) {
+                        return false;
+                    }
+                }
+            }
+            return false;
+        } finally {
+            workbook.close();
+        }
+    }
+
+    private static InputStream findSheet(XSSFReader reader, String sheetName) throws IOException,
+            OpenXML4JException {
+        XSSFReader.SheetIterator sheets = (XSSFReader.SheetIterator) reader.getSheetsData();
+        while (sheets.hasNext()) {
+            InputStream sheet = sheets.next();
+            if (sheetName == null || sheetName.equalsIgnoreCase(sheets.getSheetName())) {
+                return sheet;
+            }
+            sheet.close();
+        }
+        throw new IllegalArgumentException(sheetName == null ? "The workbook has no worksheet."
+                : "The workbook has no sheet named '" + sheetName + "'.");
+    }
+
+    /**
+     * Releases the package after a failed open, keeping the failure as the exception to throw.
+     */
+    private static <E extends Exception> E abort(E failure, InputStream sheetStream, OPCPackage opcPackage) {
+        try {
+            close(sheetStream, opcPackage);
+        } catch (IOException | RuntimeException e) {
+            failure.addSuppressed(e);
+        }
+        return failure;
+    }
+
+    private static void close(InputStream sheetStream, OPCPackage opcPackage) throws IOException {
+        try {
+            if (sheetStream != null) {
+                sheetStream.close();
+            }
+        } finally {
+            // A package opened read-only is closed without saving by reverting it.
+            opcPackage.revert();
+        }
+    }
+}
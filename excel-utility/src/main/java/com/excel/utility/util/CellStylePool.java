@@ -0,0 +1,119 @@
+package com.excel.utility.util;
+
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Font;
+import org.apache.poi.ss.usermodel.Workbook;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+
+/**
+ * A workbook-scoped pool of shared {@link CellStyle} instances, keyed by style attributes and data format.
+ * <p>
+ * Excel caps a workbook at 64,000 cell styles and POI's style lookups slow down as the style table grows, so each
+ * distinct combination of attributes is created once per workbook and handed out on every later request, including
+ * across sheets and across separate mapping calls on the same workbook.
+ * <p>
+ * The pool records style indexes rather than style objects, so it never keeps a workbook reachable and entries are
+ * dropped once the workbook is garbage collected.
+ */
+public final class CellStylePool {
+
+    private static final Map<Workbook, Map<StyleKey, Integer>> POOLS = new WeakHashMap<>();
+
+    private CellStylePool() {
+    }
+
+    /**
+     * @param workbook the workbook that owns the style
+     * @return the shared bold header style of the workbook
+     */
+    public static CellStyle headerStyle(Workbook workbook) {
+        return getStyle(workbook, true, null);
+    }
+
+    /**
+     * @param workbook the workbook that owns the style
+     * @param format   the Excel data format string, for example {@code yyyy-mm-dd}
+     * @return the shared style of the workbook that applies only the given data format
+     */
+    public static CellStyle dataFormatStyle(Workbook workbook, String format) {
+        return getStyle(workbook, false, format);
+    }
+
+    /**
+     * Returns the shared style of the workbook with the given attributes, creating it on first use.
+     *
+     * @param workbook   the workbook that owns the style
+     * @param bold       whether the style uses a bold font
+     * @param dataFormat the Excel data format string, or null for the General format
+     * @return the shared style
+     */
+    public static CellStyle getStyle(Workbook workbook, boolean bold, String dataFormat) {
+        Objects.requireNonNull(workbook, "workbook");
+        StyleKey key = new StyleKey(bold, dataFormat);
+        synchronized (POOLS) {
+            Map<StyleKey, Integer> pool = POOLS.computeIfAbsent(workbook, ignored -> new HashMap<>());
+            Integer index = pool.get(key);
+            if (index != null && index < workbook.getNumCellStyles()) {
+                return workbook.getCellStyleAt(index);
+            }
+            CellStyle style = createStyle(workbook, key);
+            pool.put(key, Short.toUnsignedInt(style.getIndex()));
+            return style;
+        }
+    }
+
+    /**
+     * @param workbook the workbook
+     * @return the number of styles the pool has created for the workbook
+     */
+    public static int size(Workbook workbook) {
+        synchronized (POOLS) {
+            Map<StyleKey, Integer> pool = POOLS.get(workbook);
+            return pool == null ? 0 : pool.size();
+        }
+    }
+
+    private static CellStyle createStyle(Workbook workbook, StyleKey key) {
+        CellStyle style = workbook.createCellStyle();
+        if (key.bold) {
+            Font font = workbook.createFont();
+            font.setBold(true);
+            style.setFont(font);
+        }
+        if (key.dataFormat != null) {
+            style.setDataFormat(workbook.createDataFormat().getFormat(key.dataFormat));
+        }
+        return style;
+    }
+
+    private static final class StyleKey {
+        private final boolean bold;
+        private final String dataFormat;
+
+        private StyleKey(boolean bold, String dataFormat) {
+            this.bold = bold;
+            this.dataFormat = dataFormat;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof StyleKey)) {
+                return false;
+            }
+            StyleKey other = (StyleKey) o;
+            return bold == other.bold && Objects.equals(dataFormat, other.dataFormat);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * Boolean.hashCode(bold) + Objects.hashCode(dataFormat);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.excel.utility.util;
+
+import com.excel.utility.Config;
+
+/**
+ * A reusable text sink for a single cell value, bounded by the Excel cell limit unless created unbounded.
+ * <p>
+ * Appends to a bounded buffer stop being stored once the content exceeds {@link Config#MAX_CELL_LENGTH}; from then
+ * on the buffer reports {@link #isFull()} and exposes only the first {@link Config#TRUNCATED_CELL_LENGTH} characters,
+ * matching the truncation applied to string cell values. An unbounded buffer, for delimited text, which has no cell
+ * limit, keeps everything. Call {@link #clear()} before writing the next cell.
+ * <p>
+ * Instances are not thread-safe.
+ */
+public final class CellTextBuffer implements Appendable, CharSequence {
+
+    private final StringBuilder builder = new StringBuilder();
+    private final int maxLength;
+
+    /**
+     * Creates a buffer bounded by the Excel cell limit.
+     */
+    public CellTextBuffer() {
+        this(true);
+    }
+
+    /**
+     * @param bounded Whether the content is bounded by the Excel cell limit.
+     */
+    public CellTextBuffer(boolean bounded) {
+        this.maxLength = bounded ? Config.MAX_CELL_LENGTH : Integer.MAX_VALUE - 1;
+    }
+
+    @Override
+    public CellTextBuffer append(CharSequence csq) {
+        CharSequence value = csq == null ? "null" : csq;
+        return append(value, 0, value.length());
+    }
+
+    @Override
+    public CellTextBuffer append(CharSequence csq, int start, int end) {
+        CharSequence value = csq == null ? "null" : csq;
+        int remaining = maxLength + 1 - builder.length();
+        if (remaining > 0) {
+            builder.append(value, start, Math.min(end, start + remaining));
+        }
+        return this;
+    }
+
+    @Override
+    public CellTextBuffer append(char c) {
+        if (builder.length() <= maxLength) {
+            builder.append(c);
+        }
+        return this;
+    }
+
+    /**
+     * @return true once the content has exceeded the cell limit and further appends are discarded.
+     */
+    public boolean isFull() {
+        return builder.length() > maxLength;
+    }
+
+    /**
+     * Discards the content so the buffer can be reused for the next cell.
+     */
+    public void clear() {
+        builder.setLength(0);
+    }
+
+    @Override
+    public int length() {
+        return isFull() ? Config.TRUNCATED_CELL_LENGTH : builder.length();
+    }
+
+    @Override
+    public char charAt(int index) {
+        if (index >= length()) {
+            throw new IndexOutOfBoundsException("index " + index + ", length " + length());
+        }
+        return builder.charAt(index);
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        if (end > length()) {
+            throw new IndexOutOfBoundsException("end " + end + ", length " + length());
+        }
+        return builder.subSequence(start, end);
+    }
+
+    @Override
+    public String toString() {
+        return builder.substring(0, length());
+    }
+}
@@ -0,0 +1,32 @@
+package com.excel.utility.util;
+
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+
+public class CellUtils {
+
+    public static CellStyle styleForHeader(Sheet sheet) {
+        return CellStylePool.headerStyle(sheet.getWorkbook());
+    }
+
+    public static CellStyle styleForDataFormat(Workbook workbook, String format) {
+        return CellStylePool.dataFormatStyle(workbook, format);
+    }
+
+    /**
+     * Sizes columns to their content. A streaming sheet can only size the columns it tracks for auto-sizing; the
+     * others keep the default width.
+     *
+     * @param columnOrders The 1-based column orders of the columns to size.
+     */
+    public static void autoSize(Sheet sheet, int[] columnOrders) {
+        for (int columnOrder : columnOrders) {
+            int column = columnOrder - 1;
+            if (!(sheet instanceof SXSSFSheet) || ((SXSSFSheet) sheet).isColumnTrackedForAutoSizing(column)) {
+                sheet.autoSizeColumn(column);
+            }
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package com.excel.utility.util;
+
+import org.apache.poi.ss.usermodel.Cell;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Calendar;
+import java.util.Date;
+
+/**
+ * The kind of native cell value written for a column, resolved once from the declared field type so that
+ * rows are written without inspecting each value.
+ * <p>
+ * Numbers, booleans and dates are written as native cell values. Values that cannot be represented exactly as an
+ * Excel number (for example a {@code long} beyond 2^53) are written as their string form instead, and every other
+ * type is {@link #STRING}, which is rendered through the configured
+ * {@link com.excel.utility.processor.ObjectValueProcessor}.
+ */
+public enum CellValueType {
+
+    NUMBER {
+        @Override
+        public void setCellValue(Cell cell, Object value) {
+            setNumber(cell, toExcelNumber(value));
+        }
+    },
+
+    FLOAT {
+        @Override
+        public void setCellValue(Cell cell, Object value) {
+            setNumber(cell, toExcelNumber(value));
+        }
+    },
+
+    LONG {
+        @Override
+        public void setCellValue(Cell cell, Object value) {
+            setNumber(cell, toExcelNumber(value));
+        }
+    },
+
+    BIG_DECIMAL {
+        @Override
+        public void setCellValue(Cell cell, Object value) {
+            setNumber(cell, toExcelNumber(value));
+        }
+    },
+
+    BIG_INTEGER {
+        @Override
+        public void setCellValue(Cell cell, Object value) {
+            setNumber(cell, toExcelNumber(value));
+        }
+    },
+
+    BOOLEAN {
+        @Override
+        public void setCellValue(Cell cell, Object value) {
+            cell.setCellValue((Boolean) value);
+        }
+    },
+
+    LOCAL_DATE {
+        @Override
+        public void setCellValue(Cell cell, Object value) {
+            cell.setCellValue((LocalDate) value);
+        }
+    },
+
+    LOCAL_DATE_TIME {
+        @Override
+        public void setCellValue(Cell cell, Object value) {
+            cell.setCellValue((LocalDateTime) value);
+        }
+    },
+
+    DATE {
+        @Override
+        public void setCellValue(Cell cell, Object value) {
+            cell.setCellValue((Date) value);
+        }
+    },
+
+    CALENDAR {
+        @Override
+        public void setCellValue(Cell cell, Object value) {
+            cell.setCellValue((Calendar) value);
+        }
+    },
+
+    STRING {
+        @Override
+        public void setCellValue(Cell cell, Object value) {
+            cell.setCellValue((String) value);
+        }
+    };
+
+    /**
+     * Largest magnitude up to which every integer is exactly representable as a double.
+     */
+    public static final long MAX_EXACT_INTEGER = 1L << 53;
+
+    /**
+     * Significant digits Excel displays and stores without rounding.
+     */
+    private static final int MAX_EXACT_DIGITS = 15;
+
+    /**
+     * Writes a non-null value of this kind to the cell. For {@link #STRING} the value must already be a string.
+     *
+     * @param cell  the target cell
+     * @param value the value, of the type this kind was resolved from
+     */
+    public abstract void setCellValue(Cell cell, Object value);
+
+    /**
+     * Converts a non-null value of a numeric kind to what Excel can store for it without losing precision.
+     *
+     * @param value the value, of the type this kind was resolved from
+     * @return the value as a {@link Double}, or its string form when no double represents it exactly
+     * @throws IllegalStateException if this kind is not numeric
+     */
+    public Object toExcelNumber(Object value) {
+        switch (this) {
+            case NUMBER:
+                return ((Number) value).doubleValue();
+            case FLOAT:
+                // Widening 0.1f directly would yield 0.10000000149011612; keep the float's shortest decimal form.
+                return Double.parseDouble(value.toString());
+            case LONG:
+                long longValue = (Long) value;
+                return Math.abs(longValue) <= MAX_EXACT_INTEGER
+                        ? (Object) (double) longValue
+                        : Long.toString(longValue);
+            case BIG_DECIMAL:
+                BigDecimal decimal = (BigDecimal) value;
+                return decimal.precision() <= MAX_EXACT_DIGITS
+                        ? (Object) decimal.doubleValue()
+                        : decimal.toPlainString();
+            case BIG_INTEGER:
+                BigInteger integer = (BigInteger) value;
+                return integer.bitLength() <= 53 ? (Object) integer.doubleValue() : integer.toString();
+            default:
+                throw new IllegalStateException(this + " is not a numeric cell value kind.");
+        }
+    }
+
+    /**
+     * @return true if cells of this kind need a date format to be displayed as dates.
+     */
+    public boolean isDate() {
+        return this == LOCAL_DATE || this == LOCAL_DATE_TIME || this == DATE || this == CALENDAR;
+    }
+
+    /**
+     * Resolves the kind of cell value for a declared field type.
+     *
+     * @param type the declared type of the column's field
+     * @return the cell value kind, {@link #STRING} for any type without a native representation
+     */
+    public static CellValueType of(Class<?> type) {
+        if (type == int.class || type == Integer.class || type == double.class || type == Double.class
+                || type == short.class || type == Short.class || type == byte.class || type == Byte.class) {
+            return NUMBER;
+        } else if (type == float.class || type == Float.class) {
+            return FLOAT;
+        } else if (type == long.class || type == Long.class) {
+            return LONG;
+        } else if (type == BigDecimal.class) {
+            return BIG_DECIMAL;
+        } else if (type == BigInteger.class) {
+            return BIG_INTEGER;
+        } else if (type == boolean.class || type == Boolean.class) {
+            return BOOLEAN;
+        } else if (type == LocalDate.class) {
+            return LOCAL_DATE;
+        } else if (type == LocalDateTime.class) {
+            return LOCAL_DATE_TIME;
+        } else if (Date.class.isAssignableFrom(type)) {
+            return DATE;
+        } else if (Calendar.class.isAssignableFrom(type)) {
+            return CALENDAR;
+        }
+        return STRING;
+    }
+
+    private static void setNumber(Cell cell, Object number) {
+        if (number instanceof Double) {
+            cell.setCellValue((Double) number);
+        } else {
+            cell.setCellValue((String) number);
+        }
+    }
+}
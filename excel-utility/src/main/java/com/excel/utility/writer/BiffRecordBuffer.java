@@ -0,0 +1,118 @@
+package com.excel.utility.writer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+/**
+ * A growable byte buffer of BIFF12 records, the binary record format of XLSB parts.
+ * <p>
+ * A record starts with its type and payload size, each written as a variable-length integer of 7-bit groups with a
+ * continuation bit; all fields of the payload are little-endian.
+ */
+final class BiffRecordBuffer {
+
+    private byte[] bytes;
+    private int size;
+
+    BiffRecordBuffer(int initialCapacity) {
+        this.bytes = new byte[initialCapacity];
+    }
+
+    /**
+     * Starts a record. The caller writes exactly {@code payloadSize} bytes of payload after it.
+     */
+    BiffRecordBuffer record(int type, int payloadSize) {
+        ensureCapacity(6 + payloadSize);
+        variableLength(type);
+        variableLength(payloadSize);
+        return this;
+    }
+
+    BiffRecordBuffer int8(int value) {
+        ensureCapacity(1);
+        bytes[size++] = (byte) value;
+        return this;
+    }
+
+    BiffRecordBuffer int16(int value) {
+        ensureCapacity(2);
+        bytes[size++] = (byte) value;
+        bytes[size++] = (byte) (value >>> 8);
+        return this;
+    }
+
+    BiffRecordBuffer int24(int value) {
+        ensureCapacity(3);
+        bytes[size++] = (byte) value;
+        bytes[size++] = (byte) (value >>> 8);
+        bytes[size++] = (byte) (value >>> 16);
+        return this;
+    }
+
+    BiffRecordBuffer int32(int value) {
+        ensureCapacity(4);
+        bytes[size++] = (byte) value;
+        bytes[size++] = (byte) (value >>> 8);
+        bytes[size++] = (byte) (value >>> 16);
+        bytes[size++] = (byte) (value >>> 24);
+        return this;
+    }
+
+    BiffRecordBuffer float64(double value) {
+        long bits = Double.doubleToRawLongBits(value);
+        int32((int) bits);
+        return int32((int) (bits >>> 32));
+    }
+
+    /**
+     * Writes an {@code XLWideString}: a 32-bit character count followed by the UTF-16LE characters.
+     */
+    BiffRecordBuffer wideString(CharSequence value) {
+        int length = value.length();
+        int32(length);
+        ensureCapacity(2 * length);
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            bytes[size++] = (byte) c;
+            bytes[size++] = (byte) (c >>> 8);
+        }
+        return this;
+    }
+
+    /**
+     * @return the size in bytes of a value written by {@link #wideString}.
+     */
+    static int wideStringSize(CharSequence value) {
+        return 4 + 2 * value.length();
+    }
+
+    /**
+     * @return the number of buffered bytes.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Writes the buffered bytes and empties the buffer.
+     */
+    void flushTo(OutputStream out) throws IOException {
+        out.write(bytes, 0, size);
+        size = 0;
+    }
+
+    private void variableLength(int value) {
+        do {
+            int group = value & 0x7F;
+            value >>>= 7;
+            bytes[size++] = (byte) (value != 0 ? group | 0x80 : group);
+        } while (value != 0);
+    }
+
+    private void ensureCapacity(int additional) {
+        if (size + additional > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + additional));
+        }
+    }
+}
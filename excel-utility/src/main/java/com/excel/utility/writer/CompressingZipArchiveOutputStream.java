@@ -0,0 +1,74 @@
+package com.excel.utility.writer;
+
+import org.apache.commons.compress.archivers.ArchiveEntry;
+import org.apache.commons.compress.archivers.zip.ZipArchiveOutputStream;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * A {@link ZipArchiveOutputStream} that writes its entries with a {@link ZipCompression}, so that POI's
+ * {@link org.apache.poi.xssf.streaming.SXSSFWorkbook} can write its package with parallel or stored compression
+ * through {@code createArchiveOutputStream}.
+ * <p>
+ * Only the operations POI uses to write a package are supported: entries are added by name with
+ * {@link #putArchiveEntry}, filled with {@link #write(byte[], int, int)} and always deflated; the entry's time,
+ * method and extra fields are not written. Closing the stream finishes the archive and closes the target.
+ */
+public final class CompressingZipArchiveOutputStream extends ZipArchiveOutputStream {
+
+    private final ZipArchiveWriter zip;
+    private boolean finished;
+
+    /**
+     * @param outputStream the target of the archive; it is closed by {@link #close()}
+     * @param compression  how the entries are compressed
+     */
+    public CompressingZipArchiveOutputStream(OutputStream outputStream, ZipCompression compression) {
+        super(OutputStream.nullOutputStream());
+        if (outputStream == null) {
+            throw new IllegalArgumentException("The output stream cannot be null.");
+        }
+        if (compression == null) {
+            throw new IllegalArgumentException("The compression cannot be null.");
+        }
+        this.zip = new ZipArchiveWriter(outputStream, compression);
+    }
+
+    @Override
+    public void putArchiveEntry(ArchiveEntry entry) throws IOException {
+        zip.putNextEntry(entry.getName());
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length) throws IOException {
+        zip.write(bytes, offset, length);
+    }
+
+    @Override
+    public void closeArchiveEntry() throws IOException {
+        zip.closeEntry();
+    }
+
+    @Override
+    public void finish() throws IOException {
+        zip.finish();
+        finished = true;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        zip.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            if (!finished) {
+                finish();
+            }
+        } finally {
+            zip.close();
+        }
+    }
+}
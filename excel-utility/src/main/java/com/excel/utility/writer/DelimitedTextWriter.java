@@ -0,0 +1,189 @@
+package com.excel.utility.writer;
+
+import com.excel.utility.util.CellValueType;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Writes rows as delimited text with RFC 4180 quoting: fields that contain the delimiter, a double quote, a carriage
+ * return or a line feed are enclosed in double quotes, with embedded quotes doubled, and records end with CRLF.
+ * <p>
+ * Fields are placed by column order, so field {@code n} of a record holds the column that would be written to sheet
+ * column {@code n}; orders without a column produce empty fields. Values are written as text: {@link CharSequence}s
+ * as they are and any other value through {@code toString()}. Null values produce empty fields.
+ * <p>
+ * Characters are collected in an internal buffer and passed to the target writer in blocks. A delimited file holds a
+ * single sheet; the sheet name is not written. Instances are not thread-safe.
+ */
+public class DelimitedTextWriter implements WorkbookWriter {
+
+    /**
+     * The delimiter of comma-separated values.
+     */
+    public static final char COMMA = ',';
+
+    /**
+     * The delimiter of tab-separated values.
+     */
+    public static final char TAB = '\t';
+
+    private static final int BUFFER_SIZE = 8 * 1024;
+
+    private final Writer writer;
+    private final char delimiter;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private int size;
+
+    /**
+     * The index into the caller's value arrays of each field, or -1 for an empty field.
+     */
+    private int[] fieldColumns;
+    private long rowCount;
+    private boolean started;
+    private boolean finished;
+
+    /**
+     * @param writer    the target of the text; it is closed by {@link #close()}
+     * @param delimiter the field delimiter, for example {@link #COMMA} or {@link #TAB}
+     */
+    public DelimitedTextWriter(Writer writer, char delimiter) {
+        if (writer == null) {
+            throw new IllegalArgumentException("The writer cannot be null.");
+        }
+        if (delimiter == '"' || delimiter == '\r' || delimiter == '\n') {
+            throw new IllegalArgumentException("The delimiter cannot be a double quote or a line break.");
+        }
+        this.writer = writer;
+        this.delimiter = delimiter;
+    }
+
+    /**
+     * Writes the header record. The sheet name is ignored.
+     *
+     * @throws IllegalStateException if a sheet was already started
+     */
+    @Override
+    public void startSheet(String sheetName, String[] headers, int[] columnOrders, CellValueType[] cellTypes)
+            throws IOException {
+        if (finished) {
+            throw new IllegalStateException("The file has already been finished.");
+        }
+        if (started) {
+            throw new IllegalStateException("A delimited text file holds a single sheet.");
+        }
+        if (headers.length != columnOrders.length) {
+            throw new IllegalArgumentException("The headers and column orders must have the same length.");
+        }
+        Integer[] sorted = new Integer[columnOrders.length];
+        for (int i = 0; i < sorted.length; i++) {
+            if (columnOrders[i] < 1) {
+                throw new IllegalArgumentException("Invalid column order " + columnOrders[i] + ".");
+            }
+            sorted[i] = i;
+        }
+        Arrays.sort(sorted, Comparator.comparingInt(i -> columnOrders[i]));
+
+        int fieldCount = sorted.length == 0 ? 0 : columnOrders[sorted[sorted.length - 1]];
+        fieldColumns = new int[fieldCount];
+        Arrays.fill(fieldColumns, -1);
+        for (Integer column : sorted) {
+            fieldColumns[columnOrders[column] - 1] = column;
+        }
+        started = true;
+
+        writeRecord(headers);
+        rowCount = 0;
+    }
+
+    @Override
+    public void writeRow(Object[] values) throws IOException {
+        if (!started || finished) {
+            throw new IllegalStateException("No sheet has been started.");
+        }
+        writeRecord(values);
+        rowCount++;
+    }
+
+    @Override
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    @Override
+    public void finish() throws IOException {
+        if (!started) {
+            throw new IllegalStateException("No sheet has been started.");
+        }
+        flushBuffer();
+        writer.flush();
+        finished = true;
+    }
+
+    /**
+     * Closes the target writer. Text not yet {@link #finish() finished} may be lost.
+     */
+    @Override
+    public void close() throws IOException {
+        finished = true;
+        writer.close();
+    }
+
+    private void writeRecord(Object[] values) throws IOException {
+        for (int field = 0; field < fieldColumns.length; field++) {
+            if (field > 0) {
+                append(delimiter);
+            }
+            int column = fieldColumns[field];
+            Object value = column < 0 ? null : values[column];
+            if (value != null) {
+                writeField(value instanceof CharSequence ? (CharSequence) value : value.toString());
+            }
+        }
+        append('\r');
+        append('\n');
+    }
+
+    private void writeField(CharSequence value) throws IOException {
+        int length = value.length();
+        if (!needsQuotes(value, length)) {
+            for (int i = 0; i < length; i++) {
+                append(value.charAt(i));
+            }
+            return;
+        }
+        append('"');
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                append('"');
+            }
+            append(c);
+        }
+        append('"');
+    }
+
+    private boolean needsQuotes(CharSequence value, int length) {
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c == delimiter || c == '"' || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void append(char c) throws IOException {
+        if (size == buffer.length) {
+            flushBuffer();
+        }
+        buffer[size++] = c;
+    }
+
+    private void flushBuffer() throws IOException {
+        writer.write(buffer, 0, size);
+        size = 0;
+    }
+}
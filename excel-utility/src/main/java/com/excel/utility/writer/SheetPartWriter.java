@@ -0,0 +1,116 @@
+package com.excel.utility.writer;
+
+import com.excel.utility.util.CellValueType;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Encodes sheets for a {@link SpreadsheetMLWriter} or {@link XlsbWriter} workbook into a temporary file, so that
+ * several sheets can be rendered and deflated on separate threads and then added to one package with
+ * {@link ZipWorkbookWriter#appendSheets}.
+ * <p>
+ * Created by {@link ZipWorkbookWriter#newSheetPart()}. A part writer may hold several sheets, which are appended in
+ * the order they were started. Sheet names are validated against the other sheets of this part when they are
+ * started and against the workbook when they are appended. Rows are rejected with an
+ * {@link InterruptedIOException} once the writing thread is interrupted, so an abandoned part stops early.
+ * Instances are not thread-safe, but each may be used on a different thread than the workbook writer.
+ * <p>
+ * A part created by {@link ZipWorkbookWriter#newSheetPart(Path)} is written to the given file instead, which is
+ * completed as a zip archive of the sheets when the part is finished and kept when it is closed, so that a later
+ * workbook can append it with {@link ZipWorkbookWriter#appendSheets(Path, java.util.List)}.
+ */
+public final class SheetPartWriter implements WorkbookWriter {
+
+    private final ZipWorkbookWriter owner;
+    private final Path file;
+    private final ZipWorkbookWriter encoder;
+    private final boolean kept;
+    private boolean finished;
+
+    SheetPartWriter(ZipWorkbookWriter owner) throws IOException {
+        this(owner, Files.createTempFile("excel-utility-sheet", ".part"), false);
+    }
+
+    /**
+     * @param file the file to write, created or truncated
+     * @param kept whether the file is completed as an archive on {@link #finish()} and kept afterwards
+     */
+    SheetPartWriter(ZipWorkbookWriter owner, Path file, boolean kept) throws IOException {
+        this.owner = owner;
+        this.file = file;
+        this.kept = kept;
+        try {
+            this.encoder = owner.createSheetEncoder(new BufferedOutputStream(Files.newOutputStream(file)));
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+    }
+
+    @Override
+    public void startSheet(String sheetName, String[] headers, int[] columnOrders, CellValueType[] cellTypes)
+            throws IOException {
+        encoder.startSheet(sheetName, headers, columnOrders, cellTypes);
+    }
+
+    @Override
+    public void writeRow(Object[] values) throws IOException {
+        if (Thread.currentThread().isInterrupted()) {
+            throw new InterruptedIOException("Interrupted while writing the sheet part.");
+        }
+        encoder.writeRow(values);
+    }
+
+    @Override
+    public long getRowCount() {
+        return encoder.getRowCount();
+    }
+
+    /**
+     * Ends the last sheet and closes the file, making the part ready to be appended.
+     */
+    @Override
+    public void finish() throws IOException {
+        encoder.finishSheets();
+        if (kept) {
+            encoder.zip.finish();
+        }
+        encoder.close();
+        finished = true;
+    }
+
+    /**
+     * Deletes the temporary file, or a kept file that was not finished. Closing a part that has been appended has no
+     * further effect.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            encoder.close();
+        } finally {
+            if (!kept || !finished) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    ZipWorkbookWriter owner() {
+        return owner;
+    }
+
+    ZipWorkbookWriter encoder() {
+        return encoder;
+    }
+
+    Path file() {
+        return file;
+    }
+
+    boolean isFinished() {
+        return finished;
+    }
+}
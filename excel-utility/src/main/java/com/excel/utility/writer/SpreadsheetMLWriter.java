@@ -0,0 +1,199 @@
+package com.excel.utility.writer;
+
+import com.excel.utility.Config;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Writes an XLSX package directly as SpreadsheetML, without building a POI usermodel.
+ * <p>
+ * Each sheet part is encoded row by row into a reusable UTF-8 buffer and deflated into the package as it grows,
+ * so memory use does not depend on the number of rows and no temporary files are created. Text is written as
+ * inline strings. Cell values follow the same {@link com.excel.utility.util.CellValueType} rules as the POI backend.
+ */
+public class SpreadsheetMLWriter extends ZipWorkbookWriter {
+
+    private static final int FLUSH_THRESHOLD = 64 * 1024;
+    private static final String MAIN_NAMESPACE = "http://schemas.openxmlformats.org/spreadsheetml/2006/main";
+
+    private static final byte[] ROW_START = ascii("<row r=\"");
+    private static final byte[] ROW_END = ascii("</row>");
+    private static final byte[] CELL_START = ascii("<c r=\"");
+    private static final byte[] INLINE_STRING = ascii("\" t=\"inlineStr\"><is><t>");
+    private static final byte[] INLINE_STRING_PRESERVE = ascii("\" t=\"inlineStr\"><is><t xml:space=\"preserve\">");
+    private static final byte[] INLINE_STRING_END = ascii("</t></is></c>");
+    private static final byte[] NUMBER_VALUE = ascii("\"><v>");
+    private static final byte[] BOOLEAN_VALUE = ascii("\" t=\"b\"><v>");
+    private static final byte[] ERROR_VALUE = ascii("\" t=\"e\"><v>");
+    private static final byte[] VALUE_END = ascii("</v></c>");
+
+    private final Utf8Buffer buffer = new Utf8Buffer(FLUSH_THRESHOLD + 8 * 1024);
+    private int rowNumber;
+
+    /**
+     * @param outputStream the target of the package; it is closed by {@link #close()}
+     */
+    public SpreadsheetMLWriter(OutputStream outputStream) {
+        this(outputStream, ZipCompression.DEFAULT);
+    }
+
+    /**
+     * @param outputStream the target of the package; it is closed by {@link #close()}
+     * @param compression  how the parts are compressed
+     */
+    public SpreadsheetMLWriter(OutputStream outputStream, ZipCompression compression) {
+        super(outputStream, compression);
+    }
+
+    @Override
+    ZipWorkbookWriter createSheetEncoder(OutputStream outputStream) {
+        return new SpreadsheetMLWriter(outputStream, compression());
+    }
+
+    @Override
+    String partExtension() {
+        return "xml";
+    }
+
+    @Override
+    String workbookContentType() {
+        return "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet.main+xml";
+    }
+
+    @Override
+    String worksheetContentType() {
+        return "application/vnd.openxmlformats-officedocument.spreadsheetml.worksheet+xml";
+    }
+
+    @Override
+    String stylesContentType() {
+        return "application/vnd.openxmlformats-officedocument.spreadsheetml.styles+xml";
+    }
+
+    @Override
+    void beginSheet(Column[] columns) {
+        buffer.ascii(XML_DECLARATION).ascii("<worksheet xmlns=\"").ascii(MAIN_NAMESPACE).ascii("\"><cols>");
+        for (Column column : columns) {
+            buffer.ascii("<col min=\"").digits(column.order).ascii("\" max=\"").digits(column.order)
+                    .ascii("\" width=\"").digits(column.width).ascii("\" customWidth=\"1\"");
+            if (column.style != 0) {
+                buffer.ascii(" style=\"").digits(column.style).ascii("\"");
+            }
+            buffer.ascii("/>");
+        }
+        buffer.ascii("</cols><sheetData>");
+    }
+
+    @Override
+    void beginRow(int rowIndex, Column[] columns) {
+        rowNumber = rowIndex + 1;
+        buffer.append(ROW_START).digits(rowNumber).ascii("\">");
+    }
+
+    @Override
+    void endRow() throws IOException {
+        buffer.append(ROW_END);
+        flushIfFull();
+    }
+
+    @Override
+    void endSheetPart() throws IOException {
+        buffer.ascii("</sheetData></worksheet>");
+        buffer.flushTo(zip);
+    }
+
+    @Override
+    void stringCell(Column column, CharSequence value, int style) throws IOException {
+        cellStart(column);
+        if (style != 0) {
+            buffer.ascii("\" s=\"").digits(style);
+        }
+        int length = value.length();
+        boolean preserve = length > 0
+                && (Character.isWhitespace(value.charAt(0)) || Character.isWhitespace(value.charAt(length - 1)));
+        buffer.append(preserve ? INLINE_STRING_PRESERVE : INLINE_STRING).xmlText(value).append(INLINE_STRING_END);
+        // Long text cells are flushed as they come, so a wide row of them does not grow the buffer.
+        flushIfFull();
+    }
+
+    @Override
+    void numberCell(Column column, double value) {
+        cellStart(column);
+        if (column.style != 0) {
+            buffer.ascii("\" s=\"").digits(column.style);
+        }
+        buffer.append(NUMBER_VALUE).number(value).append(VALUE_END);
+    }
+
+    @Override
+    void booleanCell(Column column, boolean value) {
+        cellStart(column).append(BOOLEAN_VALUE).digits(value ? 1 : 0).append(VALUE_END);
+    }
+
+    @Override
+    void errorCell(Column column, String error) {
+        cellStart(column).append(ERROR_VALUE).ascii(error).append(VALUE_END);
+    }
+
+    @Override
+    void writeStyles() throws IOException {
+        buffer.ascii(XML_DECLARATION).ascii("<styleSheet xmlns=\"").ascii(MAIN_NAMESPACE).ascii("\">")
+                .ascii("<numFmts count=\"2\">")
+                .ascii("<numFmt numFmtId=\"164\" formatCode=\"").xmlText(Config.DATE_FORMAT).ascii("\"/>")
+                .ascii("<numFmt numFmtId=\"165\" formatCode=\"").xmlText(Config.DATE_TIME_FORMAT).ascii("\"/>")
+                .ascii("</numFmts>")
+                .ascii("<fonts count=\"2\">")
+                .ascii("<font><sz val=\"11\"/><name val=\"Calibri\"/><family val=\"2\"/></font>")
+                .ascii("<font><b/><sz val=\"11\"/><name val=\"Calibri\"/><family val=\"2\"/></font>")
+                .ascii("</fonts>")
+                .ascii("<fills count=\"2\"><fill><patternFill patternType=\"none\"/></fill>")
+                .ascii("<fill><patternFill patternType=\"gray125\"/></fill></fills>")
+                .ascii("<borders count=\"1\"><border><left/><right/><top/><bottom/><diagonal/></border></borders>")
+                .ascii("<cellStyleXfs count=\"1\"><xf numFmtId=\"0\" fontId=\"0\" fillId=\"0\" borderId=\"0\"/>")
+                .ascii("</cellStyleXfs>")
+                .ascii("<cellXfs count=\"4\">")
+                .ascii("<xf numFmtId=\"0\" fontId=\"0\" fillId=\"0\" borderId=\"0\" xfId=\"0\"/>")
+                .ascii("<xf numFmtId=\"0\" fontId=\"1\" fillId=\"0\" borderId=\"0\" xfId=\"0\" applyFont=\"1\"/>")
+                .ascii("<xf numFmtId=\"164\" fontId=\"0\" fillId=\"0\" borderId=\"0\" xfId=\"0\" applyNumberFormat=\"1\"/>")
+                .ascii("<xf numFmtId=\"165\" fontId=\"0\" fillId=\"0\" borderId=\"0\" xfId=\"0\" applyNumberFormat=\"1\"/>")
+                .ascii("</cellXfs>")
+                .ascii("<cellStyles count=\"1\"><cellStyle name=\"Normal\" xfId=\"0\" builtinId=\"0\"/></cellStyles>")
+                .ascii("</styleSheet>");
+        writeEntry("xl/styles.xml");
+    }
+
+    @Override
+    void writeWorkbook(List<String> sheetNames) throws IOException {
+        buffer.ascii(XML_DECLARATION).ascii("<workbook xmlns=\"").ascii(MAIN_NAMESPACE)
+                .ascii("\" xmlns:r=\"").ascii(DOCUMENT_RELATIONSHIP).ascii("\"><sheets>");
+        for (int i = 1; i <= sheetNames.size(); i++) {
+            buffer.ascii("<sheet name=\"").xmlText(sheetNames.get(i - 1)).ascii("\" sheetId=\"").digits(i)
+                    .ascii("\" r:id=\"rId").digits(i).ascii("\"/>");
+        }
+        buffer.ascii("</sheets></workbook>");
+        writeEntry("xl/workbook.xml");
+    }
+
+    private Utf8Buffer cellStart(Column column) {
+        return buffer.append(CELL_START).append(column.letters).digits(rowNumber);
+    }
+
+    private void flushIfFull() throws IOException {
+        if (buffer.size() >= FLUSH_THRESHOLD) {
+            buffer.flushTo(zip);
+        }
+    }
+
+    private void writeEntry(String name) throws IOException {
+        zip.putNextEntry(name);
+        buffer.flushTo(zip);
+        zip.closeEntry();
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+}
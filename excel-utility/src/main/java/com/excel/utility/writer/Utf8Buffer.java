@@ -0,0 +1,199 @@
+package com.excel.utility.writer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * A growable byte buffer that encodes XML markup and text straight to UTF-8, without intermediate strings.
+ * <p>
+ * Text is escaped for XML element content. Characters XML 1.0 cannot carry (control characters other than tab,
+ * line feed and carriage return, and U+FFFE/U+FFFF) are written in the {@code _xHHHH_} form used by
+ * SpreadsheetML, and carriage returns as a character reference so they survive line-end normalization. An
+ * underscore that would otherwise start such a sequence is itself escaped.
+ */
+final class Utf8Buffer {
+
+    private static final byte[] HEX = "0123456789ABCDEF".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] LONG_MIN = Long.toString(Long.MIN_VALUE).getBytes(StandardCharsets.US_ASCII);
+
+    private byte[] bytes;
+    private int size;
+
+    Utf8Buffer(int initialCapacity) {
+        this.bytes = new byte[initialCapacity];
+    }
+
+    /**
+     * Appends pre-encoded bytes.
+     */
+    Utf8Buffer append(byte[] value) {
+        ensureCapacity(value.length);
+        System.arraycopy(value, 0, bytes, size, value.length);
+        size += value.length;
+        return this;
+    }
+
+    /**
+     * Appends markup that is known to be ASCII.
+     */
+    Utf8Buffer ascii(String value) {
+        int length = value.length();
+        ensureCapacity(length);
+        for (int i = 0; i < length; i++) {
+            bytes[size++] = (byte) value.charAt(i);
+        }
+        return this;
+    }
+
+    /**
+     * Appends the decimal digits of a long.
+     */
+    Utf8Buffer digits(long value) {
+        if (value == Long.MIN_VALUE) {
+            return append(LONG_MIN);
+        }
+        ensureCapacity(20);
+        if (value < 0) {
+            bytes[size++] = '-';
+            value = -value;
+        }
+        int start = size;
+        do {
+            bytes[size++] = (byte) ('0' + value % 10);
+            value /= 10;
+        } while (value != 0);
+        reverse(start, size - 1);
+        return this;
+    }
+
+    /**
+     * Appends a double in the lexical form of {@code xsd:double}. Integral values are written without a fraction.
+     */
+    Utf8Buffer number(double value) {
+        if (value == (long) value && Math.abs(value) < 1e15) {
+            return digits((long) value);
+        }
+        return ascii(Double.toString(value));
+    }
+
+    /**
+     * Appends text escaped for XML element content or a double-quoted attribute value.
+     */
+    Utf8Buffer xmlText(CharSequence text) {
+        int length = text.length();
+        ensureCapacity(length);
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+            if (c < 0x80) {
+                if (c >= 0x20) {
+                    switch (c) {
+                        case '&':
+                            ascii("&amp;");
+                            break;
+                        case '<':
+                            ascii("&lt;");
+                            break;
+                        case '>':
+                            ascii("&gt;");
+                            break;
+                        case '"':
+                            ascii("&quot;");
+                            break;
+                        case '_':
+                            // Text that already reads as an escape would be decoded by the reader; escape its '_'.
+                            if (isEscapeSequence(text, i)) {
+                                escapedChar(c);
+                            } else {
+                                ensureCapacity(1);
+                                bytes[size++] = (byte) c;
+                            }
+                            break;
+                        default:
+                            ensureCapacity(1);
+                            bytes[size++] = (byte) c;
+                    }
+                } else if (c == '\t' || c == '\n') {
+                    ensureCapacity(1);
+                    bytes[size++] = (byte) c;
+                } else if (c == '\r') {
+                    ascii("&#13;");
+                } else {
+                    escapedChar(c);
+                }
+            } else if (c < 0x800) {
+                ensureCapacity(2);
+                bytes[size++] = (byte) (0xC0 | (c >> 6));
+                bytes[size++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(text.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, text.charAt(++i));
+                ensureCapacity(4);
+                bytes[size++] = (byte) (0xF0 | (codePoint >> 18));
+                bytes[size++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                bytes[size++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                bytes[size++] = (byte) (0x80 | (codePoint & 0x3F));
+            } else if (Character.isSurrogate(c) || c == 0xFFFE || c == 0xFFFF) {
+                escapedChar(c);
+            } else {
+                ensureCapacity(3);
+                bytes[size++] = (byte) (0xE0 | (c >> 12));
+                bytes[size++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                bytes[size++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+        return this;
+    }
+
+    /**
+     * @return the number of buffered bytes.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Writes the buffered bytes and empties the buffer.
+     */
+    void flushTo(OutputStream out) throws IOException {
+        out.write(bytes, 0, size);
+        size = 0;
+    }
+
+    private static boolean isEscapeSequence(CharSequence text, int index) {
+        if (index + 6 >= text.length() || text.charAt(index + 1) != 'x' || text.charAt(index + 6) != '_') {
+            return false;
+        }
+        for (int i = index + 2; i < index + 6; i++) {
+            if (Character.digit(text.charAt(i), 16) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void escapedChar(char c) {
+        ensureCapacity(7);
+        bytes[size++] = '_';
+        bytes[size++] = 'x';
+        bytes[size++] = HEX[(c >> 12) & 0xF];
+        bytes[size++] = HEX[(c >> 8) & 0xF];
+        bytes[size++] = HEX[(c >> 4) & 0xF];
+        bytes[size++] = HEX[c & 0xF];
+        bytes[size++] = '_';
+    }
+
+    private void reverse(int from, int to) {
+        while (from < to) {
+            byte b = bytes[from];
+            bytes[from++] = bytes[to];
+            bytes[to--] = b;
+        }
+    }
+
+    private void ensureCapacity(int additional) {
+        if (size + additional > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + additional));
+        }
+    }
+}
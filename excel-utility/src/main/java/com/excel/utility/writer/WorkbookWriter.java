@@ -0,0 +1,51 @@
+package com.excel.utility.writer;
+
+import com.excel.utility.util.CellValueType;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * A forward-only writer of a workbook file that does not build a POI usermodel.
+ * <p>
+ * Sheets are written one after another: {@link #startSheet} ends the previous sheet and writes the header row of
+ * the new one, {@link #writeRow} appends data rows below it, and {@link #finish()} ends the last sheet and completes
+ * the file. Implementations are not thread-safe.
+ */
+public interface WorkbookWriter extends Closeable {
+
+    /**
+     * Ends the current sheet, if any, and starts a new one with a header row.
+     *
+     * @param sheetName    the name of the sheet
+     * @param headers      the header text of each column
+     * @param columnOrders the 1-based column order of each column
+     * @param cellTypes    the kind of value written to each column
+     * @throws IOException if writing fails
+     */
+    void startSheet(String sheetName, String[] headers, int[] columnOrders, CellValueType[] cellTypes)
+            throws IOException;
+
+    /**
+     * Writes a data row below the previous one.
+     *
+     * @param values the value of each column, in the order passed to {@link #startSheet}; values of
+     *               {@link CellValueType#STRING} columns are {@link CharSequence}s, other values are of the type
+     *               their column's kind was resolved from, or a {@link CharSequence} when the value was rendered as
+     *               text instead. Null values leave the cell empty.
+     * @throws IOException if writing fails
+     */
+    void writeRow(Object[] values) throws IOException;
+
+    /**
+     * @return the number of data rows written to the current sheet.
+     */
+    long getRowCount();
+
+    /**
+     * Ends the last sheet and completes the file. The target stream is flushed but not closed.
+     *
+     * @throws IOException if writing fails
+     */
+    void finish() throws IOException;
+}
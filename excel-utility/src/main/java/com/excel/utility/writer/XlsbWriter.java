@@ -0,0 +1,349 @@
+package com.excel.utility.writer;
+
+import com.excel.utility.Config;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * Writes an XLSB (Excel binary workbook) package: the same Office Open XML package layout as XLSX, with the
+ * workbook, style and sheet parts encoded as BIFF12 records instead of XML.
+ * <p>
+ * Each row is encoded into a reusable record buffer and deflated into the package as the buffer grows, so memory use
+ * does not depend on the number of rows. Text is stored in the cell records themselves ({@code BrtCellSt}) rather
+ * than in a shared-strings part, whose size would grow with the number of distinct values. Integers and numbers
+ * whose low mantissa bits are zero use the 4-byte {@code RK} encoding. Cell values follow the same
+ * {@link com.excel.utility.util.CellValueType} rules as the POI backend.
+ */
+public class XlsbWriter extends ZipWorkbookWriter {
+
+    private static final int FLUSH_THRESHOLD = 64 * 1024;
+
+    private static final int BRT_ROW_HDR = 0;
+    private static final int BRT_CELL_RK = 2;
+    private static final int BRT_CELL_ERROR = 3;
+    private static final int BRT_CELL_BOOL = 4;
+    private static final int BRT_CELL_REAL = 5;
+    private static final int BRT_CELL_ST = 6;
+    private static final int BRT_FONT = 43;
+    private static final int BRT_FMT = 44;
+    private static final int BRT_FILL = 45;
+    private static final int BRT_BORDER = 46;
+    private static final int BRT_XF = 47;
+    private static final int BRT_STYLE = 48;
+    private static final int BRT_COL_INFO = 60;
+    private static final int BRT_BEGIN_SHEET = 129;
+    private static final int BRT_END_SHEET = 130;
+    private static final int BRT_BEGIN_BOOK = 131;
+    private static final int BRT_END_BOOK = 132;
+    private static final int BRT_BEGIN_BUNDLE_SHS = 143;
+    private static final int BRT_END_BUNDLE_SHS = 144;
+    private static final int BRT_BEGIN_SHEET_DATA = 145;
+    private static final int BRT_END_SHEET_DATA = 146;
+    private static final int BRT_WB_PROP = 153;
+    private static final int BRT_BUNDLE_SH = 156;
+    private static final int BRT_BEGIN_STYLE_SHEET = 278;
+    private static final int BRT_END_STYLE_SHEET = 279;
+    private static final int BRT_BEGIN_COL_INFOS = 390;
+    private static final int BRT_END_COL_INFOS = 391;
+    private static final int BRT_BEGIN_DXFS = 505;
+    private static final int BRT_END_DXFS = 506;
+    private static final int BRT_BEGIN_TABLE_STYLES = 508;
+    private static final int BRT_END_TABLE_STYLES = 509;
+    private static final int BRT_BEGIN_FILLS = 603;
+    private static final int BRT_END_FILLS = 604;
+    private static final int BRT_BEGIN_FONTS = 611;
+    private static final int BRT_END_FONTS = 612;
+    private static final int BRT_BEGIN_BORDERS = 613;
+    private static final int BRT_END_BORDERS = 614;
+    private static final int BRT_BEGIN_FMTS = 615;
+    private static final int BRT_END_FMTS = 616;
+    private static final int BRT_BEGIN_CELL_XFS = 617;
+    private static final int BRT_END_CELL_XFS = 618;
+    private static final int BRT_BEGIN_STYLES = 619;
+    private static final int BRT_END_STYLES = 620;
+    private static final int BRT_BEGIN_CELL_STYLE_XFS = 626;
+    private static final int BRT_END_CELL_STYLE_XFS = 627;
+
+    private static final int CELL_SIZE = 8;
+    private static final int DEFAULT_ROW_HEIGHT = 300;
+    private static final int MAX_RK_INTEGER = 1 << 29;
+    private static final long RK_DROPPED_BITS = 0x3FFFFFFFFL;
+    private static final int ERROR_DIV0 = 0x07;
+    private static final int ERROR_NUM = 0x24;
+
+    private final BiffRecordBuffer buffer = new BiffRecordBuffer(FLUSH_THRESHOLD + 8 * 1024);
+
+    /**
+     * @param outputStream the target of the package; it is closed by {@link #close()}
+     */
+    public XlsbWriter(OutputStream outputStream) {
+        this(outputStream, ZipCompression.DEFAULT);
+    }
+
+    /**
+     * @param outputStream the target of the package; it is closed by {@link #close()}
+     * @param compression  how the parts are compressed
+     */
+    public XlsbWriter(OutputStream outputStream, ZipCompression compression) {
+        super(outputStream, compression);
+    }
+
+    @Override
+    ZipWorkbookWriter createSheetEncoder(OutputStream outputStream) {
+        return new XlsbWriter(outputStream, compression());
+    }
+
+    @Override
+    String partExtension() {
+        return "bin";
+    }
+
+    @Override
+    String workbookContentType() {
+        return "application/vnd.ms-excel.sheet.binary.macroEnabled.main";
+    }
+
+    @Override
+    String worksheetContentType() {
+        return "application/vnd.ms-excel.worksheet";
+    }
+
+    @Override
+    String stylesContentType() {
+        return "application/vnd.ms-excel.styles";
+    }
+
+    @Override
+    void beginSheet(Column[] columns) {
+        buffer.record(BRT_BEGIN_SHEET, 0);
+        buffer.record(BRT_BEGIN_COL_INFOS, 0);
+        for (Column column : columns) {
+            buffer.record(BRT_COL_INFO, 18)
+                    .int32(column.sheetIndex)
+                    .int32(column.sheetIndex)
+                    .int32(column.width * 256)
+                    .int32(column.style)
+                    .int16(0x0002); // fUserSet
+        }
+        buffer.record(BRT_END_COL_INFOS, 0);
+        buffer.record(BRT_BEGIN_SHEET_DATA, 0);
+    }
+
+    @Override
+    void beginRow(int rowIndex, Column[] columns) {
+        int firstColumn = columns.length == 0 ? 0 : columns[0].sheetIndex;
+        int lastColumn = columns.length == 0 ? 0 : columns[columns.length - 1].sheetIndex;
+        buffer.record(BRT_ROW_HDR, 25)
+                .int32(rowIndex)
+                .int32(0)
+                .int16(DEFAULT_ROW_HEIGHT)
+                .int8(0).int8(0).int8(0)
+                .int32(1)
+                .int32(firstColumn)
+                .int32(lastColumn);
+    }
+
+    @Override
+    void endRow() throws IOException {
+        flushIfFull();
+    }
+
+    @Override
+    void endSheetPart() throws IOException {
+        buffer.record(BRT_END_SHEET_DATA, 0);
+        buffer.record(BRT_END_SHEET, 0);
+        buffer.flushTo(zip);
+    }
+
+    @Override
+    void stringCell(Column column, CharSequence value, int style) throws IOException {
+        cell(BRT_CELL_ST, CELL_SIZE + BiffRecordBuffer.wideStringSize(value), column, style).wideString(value);
+        flushIfFull();
+    }
+
+    @Override
+    void numberCell(Column column, double value) {
+        long integral = (long) value;
+        if (integral == value && integral >= -MAX_RK_INTEGER && integral < MAX_RK_INTEGER) {
+            cell(BRT_CELL_RK, CELL_SIZE + 4, column, column.style).int32(((int) integral << 2) | 0x2);
+            return;
+        }
+        long bits = Double.doubleToRawLongBits(value);
+        if ((bits & RK_DROPPED_BITS) == 0) {
+            cell(BRT_CELL_RK, CELL_SIZE + 4, column, column.style).int32((int) (bits >>> 32));
+        } else {
+            cell(BRT_CELL_REAL, CELL_SIZE + 8, column, column.style).float64(value);
+        }
+    }
+
+    @Override
+    void booleanCell(Column column, boolean value) {
+        cell(BRT_CELL_BOOL, CELL_SIZE + 1, column, 0).int8(value ? 1 : 0);
+    }
+
+    @Override
+    void errorCell(Column column, String error) {
+        cell(BRT_CELL_ERROR, CELL_SIZE + 1, column, 0).int8("#NUM!".equals(error) ? ERROR_NUM : ERROR_DIV0);
+    }
+
+    @Override
+    void writeStyles() throws IOException {
+        buffer.record(BRT_BEGIN_STYLE_SHEET, 0);
+
+        buffer.record(BRT_BEGIN_FMTS, 4).int32(2);
+        numberFormat(164, Config.DATE_FORMAT);
+        numberFormat(165, Config.DATE_TIME_FORMAT);
+        buffer.record(BRT_END_FMTS, 0);
+
+        buffer.record(BRT_BEGIN_FONTS, 4).int32(2);
+        font(false);
+        font(true);
+        buffer.record(BRT_END_FONTS, 0);
+
+        buffer.record(BRT_BEGIN_FILLS, 4).int32(2);
+        fill(0x00); // none
+        fill(0x11); // gray125
+        buffer.record(BRT_END_FILLS, 0);
+
+        buffer.record(BRT_BEGIN_BORDERS, 4).int32(1);
+        buffer.record(BRT_BORDER, 51).int8(0);
+        for (int i = 0; i < 5; i++) {
+            buffer.int8(0).int8(0);
+            autoColor();
+        }
+        buffer.record(BRT_END_BORDERS, 0);
+
+        buffer.record(BRT_BEGIN_CELL_STYLE_XFS, 4).int32(1);
+        xf(0xFFFF, 0, 0, 0);
+        buffer.record(BRT_END_CELL_STYLE_XFS, 0);
+
+        buffer.record(BRT_BEGIN_CELL_XFS, 4).int32(4);
+        xf(0, 0, 0, 0);
+        xf(0, 0, 1, 0x02); // STYLE_HEADER: font differs from the parent
+        xf(0, 164, 0, 0x01); // STYLE_DATE: number format differs from the parent
+        xf(0, 165, 0, 0x01); // STYLE_DATE_TIME
+        buffer.record(BRT_END_CELL_XFS, 0);
+
+        buffer.record(BRT_BEGIN_STYLES, 4).int32(1);
+        String normal = "Normal";
+        buffer.record(BRT_STYLE, 8 + BiffRecordBuffer.wideStringSize(normal))
+                .int32(0)
+                .int16(0x0001) // fBuiltIn
+                .int8(0)
+                .int8(0xFF)
+                .wideString(normal);
+        buffer.record(BRT_END_STYLES, 0);
+
+        buffer.record(BRT_BEGIN_DXFS, 4).int32(0);
+        buffer.record(BRT_END_DXFS, 0);
+
+        String tableStyle = "TableStyleMedium9";
+        String pivotStyle = "PivotStyleLight16";
+        buffer.record(BRT_BEGIN_TABLE_STYLES,
+                        4 + BiffRecordBuffer.wideStringSize(tableStyle) + BiffRecordBuffer.wideStringSize(pivotStyle))
+                .int32(0)
+                .wideString(tableStyle)
+                .wideString(pivotStyle);
+        buffer.record(BRT_END_TABLE_STYLES, 0);
+
+        buffer.record(BRT_END_STYLE_SHEET, 0);
+        writeEntry("xl/styles.bin");
+    }
+
+    @Override
+    void writeWorkbook(List<String> sheetNames) throws IOException {
+        buffer.record(BRT_BEGIN_BOOK, 0);
+        buffer.record(BRT_WB_PROP, 12).int32(0).int32(0).wideString("");
+        buffer.record(BRT_BEGIN_BUNDLE_SHS, 0);
+        for (int i = 1; i <= sheetNames.size(); i++) {
+            String relationshipId = "rId" + i;
+            String name = sheetNames.get(i - 1);
+            buffer.record(BRT_BUNDLE_SH,
+                            8 + BiffRecordBuffer.wideStringSize(relationshipId) + BiffRecordBuffer.wideStringSize(name))
+                    .int32(0) // visible
+                    .int32(i)
+                    .wideString(relationshipId)
+                    .wideString(name);
+        }
+        buffer.record(BRT_END_BUNDLE_SHS, 0);
+        buffer.record(BRT_END_BOOK, 0);
+        writeEntry("xl/workbook.bin");
+    }
+
+    /**
+     * Starts a cell record: the 0-based column followed by the 24-bit style index and an empty flags byte.
+     */
+    private BiffRecordBuffer cell(int type, int payloadSize, Column column, int style) {
+        return buffer.record(type, payloadSize).int32(column.sheetIndex).int24(style).int8(0);
+    }
+
+    private void numberFormat(int id, String formatCode) {
+        buffer.record(BRT_FMT, 2 + BiffRecordBuffer.wideStringSize(formatCode)).int16(id).wideString(formatCode);
+    }
+
+    private void font(boolean bold) {
+        String name = "Calibri";
+        buffer.record(BRT_FONT, 21 + BiffRecordBuffer.wideStringSize(name))
+                .int16(220) // 11pt in twips
+                .int16(0)
+                .int16(bold ? 700 : 400)
+                .int16(0)
+                .int8(0)
+                .int8(2) // swiss family
+                .int8(0)
+                .int8(0);
+        themeColor(1);
+        buffer.int8(2) // minor font scheme
+                .wideString(name);
+    }
+
+    private void fill(int pattern) {
+        buffer.record(BRT_FILL, 68).int32(pattern);
+        indexedColor(64);
+        indexedColor(65);
+        buffer.int32(0);
+        for (int i = 0; i < 5; i++) {
+            buffer.float64(0);
+        }
+        buffer.int32(0);
+    }
+
+    private void xf(int parent, int numberFormat, int font, int differingAttributes) {
+        buffer.record(BRT_XF, 16)
+                .int16(parent)
+                .int16(numberFormat)
+                .int16(font)
+                .int16(0)
+                .int16(0)
+                .int8(0)
+                .int8(0)
+                .int16(0x1010) // bottom-aligned, locked
+                .int16(differingAttributes);
+    }
+
+    private void autoColor() {
+        buffer.int8(0x01).int8(0).int16(0).int8(0).int8(0).int8(0).int8(0xFF);
+    }
+
+    private void indexedColor(int index) {
+        buffer.int8(0x01 << 1).int8(index).int16(0).int8(0).int8(0).int8(0).int8(0xFF);
+    }
+
+    private void themeColor(int theme) {
+        buffer.int8(0x03 << 1).int8(theme).int16(0).int8(0).int8(0).int8(0).int8(0xFF);
+    }
+
+    private void flushIfFull() throws IOException {
+        if (buffer.size() >= FLUSH_THRESHOLD) {
+            buffer.flushTo(zip);
+        }
+    }
+
+    private void writeEntry(String name) throws IOException {
+        zip.putNextEntry(name);
+        buffer.flushTo(zip);
+        zip.closeEntry();
+    }
+}
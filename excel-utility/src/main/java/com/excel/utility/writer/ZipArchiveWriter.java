@@ -0,0 +1,531 @@
+package com.excel.utility.writer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * Writes a zip archive of deflated entries, as {@link java.util.zip.ZipOutputStream} does, and can also add an entry
+ * whose data was deflated elsewhere, such as in a {@link SheetPartWriter}, by copying the compressed bytes.
+ * <p>
+ * Entries written through this stream have their CRC and sizes in a data descriptor after the data. Zip64 records
+ * are written only when an entry, the central directory or the number of entries exceeds the classic limits.
+ * Entries are deflated at the level of the {@link ZipCompression}; with more than one thread, in blocks on a pool
+ * the writer owns, which is shut down when the writer is closed.
+ */
+final class ZipArchiveWriter extends OutputStream {
+
+    private static final int LOCAL_HEADER = 0x04034b50;
+    private static final int DATA_DESCRIPTOR = 0x08074b50;
+    private static final int CENTRAL_HEADER = 0x02014b50;
+    private static final int ZIP64_END = 0x06064b50;
+    private static final int ZIP64_LOCATOR = 0x07064b50;
+    private static final int END = 0x06054b50;
+
+    private static final int FLAG_DATA_DESCRIPTOR = 0x0008;
+    private static final int FLAG_UTF8 = 0x0800;
+    private static final int METHOD_DEFLATED = 8;
+    private static final int VERSION = 20;
+    private static final int VERSION_ZIP64 = 45;
+    private static final int ZIP64_EXTRA = 0x0001;
+    private static final long ZIP64_LIMIT = 0xFFFFFFFFL;
+    private static final int ZIP64_ENTRY_LIMIT = 0xFFFF;
+    private static final int BLOCK_SIZE = 128 * 1024;
+    private static final int DICTIONARY_SIZE = 32 * 1024;
+
+    private static final ThreadFactory DEFLATE_THREAD_FACTORY = new ThreadFactory() {
+        private final AtomicInteger threadNumber = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "excel-utility-deflate-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    };
+
+    private final OutputStream out;
+    private final ZipCompression compression;
+    private final Deflater deflater;
+    private final CRC32 crc = new CRC32();
+    private final byte[] deflated = new byte[64 * 1024];
+    private final byte[] header = new byte[64];
+    private final byte[] single = new byte[1];
+    private final List<Entry> entries = new ArrayList<>();
+    private final int dosTime;
+    private long written;
+    private Entry current;
+    private boolean finished;
+
+    /**
+     * State of block-parallel compression: the block being filled, the last full block, whose tail primes the next
+     * one, and the blocks being deflated, in order.
+     */
+    private final Deque<Future<byte[]>> pendingBlocks = new ArrayDeque<>();
+    private final Queue<Deflater> blockDeflaters = new ConcurrentLinkedQueue<>();
+    private ExecutorService executor;
+    private byte[] block;
+    private int blockSize;
+    private byte[] previousBlock;
+
+    ZipArchiveWriter(OutputStream out, ZipCompression compression) {
+        this.out = out;
+        this.compression = compression;
+        this.deflater = new Deflater(compression.getLevel(), true);
+        this.dosTime = dosTime(LocalDateTime.now());
+    }
+
+    /**
+     * Starts a new entry, closing the current one. The data written until {@link #closeEntry()} is deflated into it.
+     */
+    void putNextEntry(String name) throws IOException {
+        ensureOpen();
+        closeEntry();
+        current = new Entry(name, FLAG_DATA_DESCRIPTOR | FLAG_UTF8, written);
+        writeLocalHeader(current, false);
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        single[0] = (byte) b;
+        write(single, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length) throws IOException {
+        if (current == null) {
+            throw new IllegalStateException("No entry has been started.");
+        }
+        if (length == 0) {
+            return;
+        }
+        crc.update(bytes, offset, length);
+        current.size += length;
+        if (compression.getThreads() > 1) {
+            bufferBlock(bytes, offset, length);
+            return;
+        }
+        deflater.setInput(bytes, offset, length);
+        while (!deflater.needsInput()) {
+            deflate();
+        }
+    }
+
+    /**
+     * Ends the current entry, if any, and writes its data descriptor.
+     */
+    void closeEntry() throws IOException {
+        if (current == null) {
+            return;
+        }
+        if (compression.getThreads() > 1) {
+            submitBlock(true);
+            while (!pendingBlocks.isEmpty()) {
+                writeBlock(awaitBlock(pendingBlocks.removeFirst()));
+            }
+        } else {
+            deflater.finish();
+            while (!deflater.finished()) {
+                deflate();
+            }
+            deflater.reset();
+        }
+        current.crc = crc.getValue();
+        crc.reset();
+
+        int length = 0;
+        length = int32(length, DATA_DESCRIPTOR);
+        length = int32(length, (int) current.crc);
+        if (current.compressedSize >= ZIP64_LIMIT || current.size >= ZIP64_LIMIT) {
+            length = int64(length, current.compressedSize);
+            length = int64(length, current.size);
+        } else {
+            length = int32(length, (int) current.compressedSize);
+            length = int32(length, (int) current.size);
+        }
+        writeHeader(length);
+        entries.add(current);
+        current = null;
+    }
+
+    /**
+     * Adds an entry by copying the deflated data of another archive's entry.
+     *
+     * @param source the entry as recorded by the archive that deflated it
+     * @param data   the compressed bytes of the entry, positioned at its first byte; exactly
+     *               {@code source.compressedSize} bytes are read
+     */
+    void copyEntry(String name, Entry source, InputStream data) throws IOException {
+        copyEntry(name, source.crc, source.compressedSize, source.size, data);
+    }
+
+    /**
+     * Writes an entry whose data is already deflated, as {@link #copyEntry(String, Entry, InputStream)} does, from
+     * sizes and a CRC read elsewhere, such as the central directory of another archive.
+     */
+    void copyEntry(String name, long crc, long compressedSize, long size, InputStream data) throws IOException {
+        ensureOpen();
+        closeEntry();
+        Entry entry = new Entry(name, FLAG_UTF8, written);
+        entry.crc = crc;
+        entry.compressedSize = compressedSize;
+        entry.size = size;
+        writeLocalHeader(entry, true);
+
+        long remaining = entry.compressedSize;
+        while (remaining > 0) {
+            int read = data.read(deflated, 0, (int) Math.min(deflated.length, remaining));
+            if (read < 0) {
+                throw new IOException("The data of entry '" + name + "' ended early.");
+            }
+            out.write(deflated, 0, read);
+            written += read;
+            remaining -= read;
+        }
+        entries.add(entry);
+    }
+
+    /**
+     * @return the entries closed so far, in the order they were written.
+     */
+    List<Entry> entries() {
+        return entries;
+    }
+
+    /**
+     * Closes the current entry and writes the central directory. The target stream is flushed but not closed.
+     */
+    void finish() throws IOException {
+        ensureOpen();
+        closeEntry();
+        long directoryOffset = written;
+        for (Entry entry : entries) {
+            writeCentralHeader(entry);
+        }
+        long directorySize = written - directoryOffset;
+        int count = entries.size();
+
+        if (count >= ZIP64_ENTRY_LIMIT || directoryOffset >= ZIP64_LIMIT || directorySize >= ZIP64_LIMIT) {
+            long zip64EndOffset = written;
+            int length = 0;
+            length = int32(length, ZIP64_END);
+            length = int64(length, 44);
+            length = int16(length, VERSION_ZIP64);
+            length = int16(length, VERSION_ZIP64);
+            length = int32(length, 0);
+            length = int32(length, 0);
+            length = int64(length, count);
+            length = int64(length, count);
+            length = int64(length, directorySize);
+            length = int64(length, directoryOffset);
+            writeHeader(length);
+
+            length = 0;
+            length = int32(length, ZIP64_LOCATOR);
+            length = int32(length, 0);
+            length = int64(length, zip64EndOffset);
+            length = int32(length, 1);
+            writeHeader(length);
+        }
+
+        int length = 0;
+        length = int32(length, END);
+        length = int16(length, 0);
+        length = int16(length, 0);
+        length = int16(length, Math.min(count, ZIP64_ENTRY_LIMIT));
+        length = int16(length, Math.min(count, ZIP64_ENTRY_LIMIT));
+        length = int32(length, (int) Math.min(directorySize, ZIP64_LIMIT));
+        length = int32(length, (int) Math.min(directoryOffset, ZIP64_LIMIT));
+        length = int16(length, 0);
+        writeHeader(length);
+        out.flush();
+        finished = true;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    /**
+     * Closes the target stream. An archive that was not {@link #finish() finished} has no central directory.
+     */
+    @Override
+    public void close() throws IOException {
+        finished = true;
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+        deflater.end();
+        for (Deflater blockDeflater = blockDeflaters.poll(); blockDeflater != null;
+             blockDeflater = blockDeflaters.poll()) {
+            blockDeflater.end();
+        }
+        out.close();
+    }
+
+    private void deflate() throws IOException {
+        int length = deflater.deflate(deflated, 0, deflated.length, Deflater.NO_FLUSH);
+        if (length > 0) {
+            out.write(deflated, 0, length);
+            written += length;
+            current.compressedSize += length;
+        }
+    }
+
+    private void bufferBlock(byte[] bytes, int offset, int length) throws IOException {
+        while (length > 0) {
+            if (block == null) {
+                block = new byte[BLOCK_SIZE];
+            }
+            int count = Math.min(length, BLOCK_SIZE - blockSize);
+            System.arraycopy(bytes, offset, block, blockSize, count);
+            blockSize += count;
+            offset += count;
+            length -= count;
+            if (blockSize == BLOCK_SIZE) {
+                submitBlock(false);
+            }
+        }
+    }
+
+    /**
+     * Hands the current block to the pool, or deflates it on this thread when it is the whole entry. At most two
+     * blocks per thread are pending; beyond that, the oldest is awaited and written.
+     */
+    private void submitBlock(boolean last) throws IOException {
+        byte[] input = block == null ? new byte[0] : block;
+        int length = blockSize;
+        byte[] dictionary = previousBlock;
+        if (last && dictionary == null) {
+            writeBlock(deflateBlock(input, length, null, true));
+        } else {
+            if (executor == null) {
+                executor = Executors.newFixedThreadPool(compression.getThreads(), DEFLATE_THREAD_FACTORY);
+            }
+            pendingBlocks.addLast(executor.submit(() -> deflateBlock(input, length, dictionary, last)));
+            if (pendingBlocks.size() > compression.getThreads() * 2) {
+                writeBlock(awaitBlock(pendingBlocks.removeFirst()));
+            }
+        }
+        previousBlock = last ? null : input;
+        block = null;
+        blockSize = 0;
+    }
+
+    /**
+     * Deflates one block into a standalone piece of the entry's DEFLATE stream. A block other than the last ends
+     * with a sync flush, so it stops on a byte boundary and the next block's output can follow it directly.
+     *
+     * @param dictionary the previous block, whose last 32 KiB the block may refer back to, or null for the first
+     */
+    private byte[] deflateBlock(byte[] input, int length, byte[] dictionary, boolean last) {
+        Deflater blockDeflater = blockDeflaters.poll();
+        if (blockDeflater == null) {
+            blockDeflater = new Deflater(compression.getLevel(), true);
+        }
+        try {
+            if (dictionary != null) {
+                blockDeflater.setDictionary(dictionary, dictionary.length - DICTIONARY_SIZE, DICTIONARY_SIZE);
+            }
+            blockDeflater.setInput(input, 0, length);
+            if (last) {
+                blockDeflater.finish();
+            }
+            byte[] output = new byte[length + (length >> 4) + 64];
+            int size = 0;
+            while (true) {
+                size += blockDeflater.deflate(output, size, output.length - size,
+                        last ? Deflater.NO_FLUSH : Deflater.SYNC_FLUSH);
+                if (last ? blockDeflater.finished() : size < output.length) {
+                    return Arrays.copyOf(output, size);
+                }
+                if (size == output.length) {
+                    output = Arrays.copyOf(output, output.length * 2);
+                }
+            }
+        } finally {
+            blockDeflater.reset();
+            blockDeflaters.offer(blockDeflater);
+        }
+    }
+
+    private byte[] awaitBlock(Future<byte[]> deflatedBlock) throws IOException {
+        try {
+            return deflatedBlock.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while compressing the entry.");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IOException("Failed to compress the entry.", cause);
+        }
+    }
+
+    private void writeBlock(byte[] deflatedBlock) throws IOException {
+        out.write(deflatedBlock);
+        written += deflatedBlock.length;
+        current.compressedSize += deflatedBlock.length;
+    }
+
+    /**
+     * @param sizesKnown whether the CRC and sizes are written in the header rather than in a data descriptor
+     */
+    private void writeLocalHeader(Entry entry, boolean sizesKnown) throws IOException {
+        boolean zip64 = sizesKnown && (entry.compressedSize >= ZIP64_LIMIT || entry.size >= ZIP64_LIMIT);
+        int length = 0;
+        length = int32(length, LOCAL_HEADER);
+        length = int16(length, zip64 ? VERSION_ZIP64 : VERSION);
+        length = int16(length, entry.flags);
+        length = int16(length, METHOD_DEFLATED);
+        length = int32(length, dosTime);
+        length = int32(length, sizesKnown ? (int) entry.crc : 0);
+        length = int32(length, sizesKnown ? (int) Math.min(entry.compressedSize, ZIP64_LIMIT) : 0);
+        length = int32(length, sizesKnown ? (int) Math.min(entry.size, ZIP64_LIMIT) : 0);
+        length = int16(length, entry.name.length);
+        length = int16(length, zip64 ? 20 : 0);
+        writeHeader(length);
+        writeBytes(entry.name);
+        if (zip64) {
+            length = 0;
+            length = int16(length, ZIP64_EXTRA);
+            length = int16(length, 16);
+            length = int64(length, entry.size);
+            length = int64(length, entry.compressedSize);
+            writeHeader(length);
+        }
+        entry.dataOffset = written;
+    }
+
+    private void writeCentralHeader(Entry entry) throws IOException {
+        boolean zip64Size = entry.size >= ZIP64_LIMIT;
+        boolean zip64CompressedSize = entry.compressedSize >= ZIP64_LIMIT;
+        boolean zip64Offset = entry.headerOffset >= ZIP64_LIMIT;
+        int extraLength = (zip64Size ? 8 : 0) + (zip64CompressedSize ? 8 : 0) + (zip64Offset ? 8 : 0);
+        int version = extraLength > 0 ? VERSION_ZIP64 : VERSION;
+
+        int length = 0;
+        length = int32(length, CENTRAL_HEADER);
+        length = int16(length, version);
+        length = int16(length, version);
+        length = int16(length, entry.flags);
+        length = int16(length, METHOD_DEFLATED);
+        length = int32(length, dosTime);
+        length = int32(length, (int) entry.crc);
+        length = int32(length, (int) Math.min(entry.compressedSize, ZIP64_LIMIT));
+        length = int32(length, (int) Math.min(entry.size, ZIP64_LIMIT));
+        length = int16(length, entry.name.length);
+        length = int16(length, extraLength > 0 ? extraLength + 4 : 0);
+        length = int16(length, 0);
+        length = int16(length, 0);
+        length = int16(length, 0);
+        length = int32(length, 0);
+        length = int32(length, (int) Math.min(entry.headerOffset, ZIP64_LIMIT));
+        writeHeader(length);
+        writeBytes(entry.name);
+        if (extraLength > 0) {
+            length = 0;
+            length = int16(length, ZIP64_EXTRA);
+            length = int16(length, extraLength);
+            if (zip64Size) {
+                length = int64(length, entry.size);
+            }
+            if (zip64CompressedSize) {
+                length = int64(length, entry.compressedSize);
+            }
+            if (zip64Offset) {
+                length = int64(length, entry.headerOffset);
+            }
+            writeHeader(length);
+        }
+    }
+
+    private int int16(int position, int value) {
+        header[position] = (byte) value;
+        header[position + 1] = (byte) (value >>> 8);
+        return position + 2;
+    }
+
+    private int int32(int position, int value) {
+        return int16(int16(position, value), value >>> 16);
+    }
+
+    private int int64(int position, long value) {
+        return int32(int32(position, (int) value), (int) (value >>> 32));
+    }
+
+    private void writeHeader(int length) throws IOException {
+        writeBytes(header, length);
+    }
+
+    private void writeBytes(byte[] bytes) throws IOException {
+        writeBytes(bytes, bytes.length);
+    }
+
+    private void writeBytes(byte[] bytes, int length) throws IOException {
+        out.write(bytes, 0, length);
+        written += length;
+    }
+
+    private void ensureOpen() {
+        if (finished) {
+            throw new IllegalStateException("The archive has already been finished.");
+        }
+    }
+
+    private static int dosTime(LocalDateTime time) {
+        return (time.getYear() - 1980) << 25 | time.getMonthValue() << 21 | time.getDayOfMonth() << 16
+                | time.getHour() << 11 | time.getMinute() << 5 | time.getSecond() >> 1;
+    }
+
+    /**
+     * A written entry: its name, flags, CRC, sizes and where its header and data start in the archive.
+     */
+    static final class Entry {
+        private final byte[] name;
+        private final int flags;
+        private final long headerOffset;
+        private long dataOffset;
+        private long crc;
+        private long compressedSize;
+        private long size;
+
+        private Entry(String name, int flags, long headerOffset) {
+            this.name = name.getBytes(StandardCharsets.UTF_8);
+            this.flags = flags;
+            this.headerOffset = headerOffset;
+        }
+
+        long dataOffset() {
+            return dataOffset;
+        }
+
+        long compressedSize() {
+            return compressedSize;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.excel.utility.writer;
+
+/**
+ * How the parts of a workbook package are compressed: the DEFLATE level and the number of threads compressing
+ * each part.
+ * <p>
+ * With more than one thread, a part is cut into blocks of 128 KiB that are deflated independently on a thread pool,
+ * each primed with the last 32 KiB of the block before it, and the results are joined into one standard DEFLATE
+ * stream, as pigz does. Parts smaller than a block are deflated on the writing thread. Level 0 keeps the data
+ * uncompressed in DEFLATE stored blocks, which readers accept like any other entry, for pipelines where CPU matters
+ * more than size.
+ */
+public final class ZipCompression {
+
+    /**
+     * The level that stores the data without compressing it.
+     */
+    public static final int LEVEL_STORE = 0;
+
+    /**
+     * The level that compresses fastest.
+     */
+    public static final int LEVEL_FASTEST = 1;
+
+    /**
+     * The zlib default level, which the POI backend also uses.
+     */
+    public static final int LEVEL_DEFAULT = 6;
+
+    /**
+     * The level that compresses best.
+     */
+    public static final int LEVEL_SMALLEST = 9;
+
+    /**
+     * The default level on the writing thread.
+     */
+    public static final ZipCompression DEFAULT = new ZipCompression(LEVEL_DEFAULT, 1);
+
+    /**
+     * No compression, on the writing thread.
+     */
+    public static final ZipCompression STORE = new ZipCompression(LEVEL_STORE, 1);
+
+    private final int level;
+    private final int threads;
+
+    /**
+     * @param level   the DEFLATE level, from {@link #LEVEL_STORE} to {@link #LEVEL_SMALLEST}
+     * @param threads the number of threads compressing each part; 1 or less compresses on the writing thread
+     */
+    public ZipCompression(int level, int threads) {
+        if (level < LEVEL_STORE || level > LEVEL_SMALLEST) {
+            throw new IllegalArgumentException("The compression level must be between 0 and 9.");
+        }
+        this.level = level;
+        this.threads = Math.max(threads, 1);
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof ZipCompression)) {
+            return false;
+        }
+        ZipCompression compression = (ZipCompression) other;
+        return level == compression.level && threads == compression.threads;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * level + threads;
+    }
+
+    @Override
+    public String toString() {
+        return "ZipCompression{level=" + level + ", threads=" + threads + "}";
+    }
+}
@@ -0,0 +1,516 @@
+package com.excel.utility.writer;
+
+import com.excel.utility.Config;
+import com.excel.utility.util.CellValueType;
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
+import org.apache.commons.compress.archivers.zip.ZipFile;
+import org.apache.poi.ss.SpreadsheetVersion;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.ss.util.WorkbookUtil;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * The part of an Office Open XML package writer that does not depend on how sheet, workbook and style parts are
+ * encoded: sheet naming, column ordering, the {@link CellValueType} value rules, and the relationship and content
+ * type parts.
+ * <p>
+ * Values follow the same rules as the POI backend: numbers, booleans and dates are native cells, with
+ * {@link Config#DATE_FORMAT} and {@link Config#DATE_TIME_FORMAT} applied to date columns, values that an Excel number
+ * cannot hold exactly are written as text, and text is truncated to {@link Config#TRUNCATED_CELL_LENGTH} when it
+ * exceeds {@link Config#MAX_CELL_LENGTH}. The header row is bold.
+ * <p>
+ * Sheets may also be encoded on other threads with {@link #newSheetPart()} and then added with
+ * {@link #appendSheets}, which copies their compressed parts into the package.
+ */
+public abstract class ZipWorkbookWriter implements WorkbookWriter {
+
+    static final int STYLE_HEADER = 1;
+    static final int STYLE_DATE = 2;
+    static final int STYLE_DATE_TIME = 3;
+
+    static final String XML_DECLARATION = "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n";
+    static final String DOCUMENT_RELATIONSHIP = "http://schemas.openxmlformats.org/officeDocument/2006/relationships";
+
+    private static final int MAX_ROWS = SpreadsheetVersion.EXCEL2007.getMaxRows();
+    private static final String RELATIONSHIP_NAMESPACE = "http://schemas.openxmlformats.org/package/2006/relationships";
+
+    final ZipArchiveWriter zip;
+    private final ZipCompression compression;
+    private final List<String> sheetNames = new ArrayList<>();
+    private final Utf8Buffer packageBuffer = new Utf8Buffer(1024);
+
+    private Column[] columns;
+    private int rowIndex;
+    private boolean sheetOpen;
+    private boolean finished;
+
+    /**
+     * @param outputStream the target of the package; it is closed by {@link #close()}
+     * @param compression  how the parts are compressed
+     */
+    ZipWorkbookWriter(OutputStream outputStream, ZipCompression compression) {
+        if (outputStream == null) {
+            throw new IllegalArgumentException("The output stream cannot be null.");
+        }
+        if (compression == null) {
+            throw new IllegalArgumentException("The compression cannot be null.");
+        }
+        this.compression = compression;
+        this.zip = new ZipArchiveWriter(outputStream, compression);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Names are validated as POI does: names longer than 31 characters are truncated, and names that are blank,
+     * contain characters Excel forbids or repeat an earlier sheet name (ignoring case) are rejected.
+     */
+    @Override
+    public void startSheet(String sheetName, String[] headers, int[] columnOrders, CellValueType[] cellTypes)
+            throws IOException {
+        ensureOpen();
+        String name = validateSheetName(sheetName);
+        if (headers.length != columnOrders.length || cellTypes.length != columnOrders.length) {
+            throw new IllegalArgumentException("The headers, column orders and cell types must have the same length.");
+        }
+        Column[] sheetColumns = new Column[columnOrders.length];
+        for (int i = 0; i < sheetColumns.length; i++) {
+            if (columnOrders[i] < 1 || columnOrders[i] > SpreadsheetVersion.EXCEL2007.getMaxColumns()) {
+                throw new IllegalArgumentException("Invalid column order " + columnOrders[i] + ".");
+            }
+            sheetColumns[i] = new Column(i, columnOrders[i], headers[i], cellTypes[i]);
+        }
+        Arrays.sort(sheetColumns, Comparator.comparingInt(column -> column.order));
+        endSheet();
+
+        columns = sheetColumns;
+        sheetNames.add(name);
+        zip.putNextEntry(sheetPartName(sheetNames.size()));
+        sheetOpen = true;
+        rowIndex = 0;
+        beginSheet(columns);
+
+        beginRow(rowIndex, columns);
+        for (Column column : columns) {
+            if (column.header != null) {
+                stringCell(column, column.header, STYLE_HEADER);
+            }
+        }
+        endRow();
+        rowIndex++;
+    }
+
+    @Override
+    public void writeRow(Object[] values) throws IOException {
+        if (!sheetOpen) {
+            throw new IllegalStateException("No sheet has been started.");
+        }
+        if (rowIndex >= MAX_ROWS) {
+            throw new IllegalArgumentException("Invalid row number (" + rowIndex + ") outside allowable range (0.."
+                    + (MAX_ROWS - 1) + ")");
+        }
+        beginRow(rowIndex, columns);
+        for (Column column : columns) {
+            Object value = values[column.index];
+            if (value != null) {
+                writeCell(column, value);
+            }
+        }
+        endRow();
+        rowIndex++;
+    }
+
+    @Override
+    public long getRowCount() {
+        return sheetOpen ? rowIndex - 1 : 0;
+    }
+
+    @Override
+    public void finish() throws IOException {
+        ensureOpen();
+        if (sheetNames.isEmpty()) {
+            throw new IllegalStateException("A workbook must contain at least one sheet.");
+        }
+        endSheet();
+        writeStyles();
+        writeWorkbook(sheetNames);
+        writeRelationships();
+        writeContentTypes();
+        zip.finish();
+        finished = true;
+    }
+
+    /**
+     * Creates a writer that encodes sheets for this workbook into a temporary file. It does not share state with
+     * this writer, so it may be used on another thread while this one is in use. Its sheets are added to this
+     * workbook with {@link #appendSheets} once it is finished.
+     *
+     * @throws IOException if the temporary file cannot be created.
+     */
+    public SheetPartWriter newSheetPart() throws IOException {
+        ensureOpen();
+        return new SheetPartWriter(this);
+    }
+
+    /**
+     * Creates a writer that encodes sheets for this workbook into the given file, as {@link #newSheetPart()} does
+     * into a temporary one. Once finished, the file is a zip archive of the sheets and is kept, so that the sheets
+     * can also be appended to a later workbook of the same format with {@link #appendSheets(Path, List)}, for
+     * example after a restart. A file that is not finished is deleted when the part is closed.
+     *
+     * @param file the file to write, created or truncated
+     * @throws IOException if the file cannot be created.
+     */
+    public SheetPartWriter newSheetPart(Path file) throws IOException {
+        ensureOpen();
+        if (file == null) {
+            throw new IllegalArgumentException("The file cannot be null.");
+        }
+        return new SheetPartWriter(this, file, true);
+    }
+
+    /**
+     * Adds the sheets of a finished {@link SheetPartWriter} of this writer after the sheets written so far. Their
+     * compressed parts are copied into the package as they are, without being encoded or deflated again. Sheet
+     * names are validated against this workbook as {@link #startSheet} does. The part writer is closed.
+     */
+    public void appendSheets(SheetPartWriter part) throws IOException {
+        ensureOpen();
+        try {
+            if (part.owner() != this) {
+                throw new IllegalArgumentException("The sheet part was not created by this writer.");
+            }
+            if (!part.isFinished()) {
+                throw new IllegalStateException("The sheet part has not been finished.");
+            }
+            endSheet();
+
+            List<String> names = part.encoder().sheetNames;
+            List<ZipArchiveWriter.Entry> entries = part.encoder().zip.entries();
+            try (InputStream data = new BufferedInputStream(Files.newInputStream(part.file()))) {
+                long position = 0;
+                for (int i = 0; i < names.size(); i++) {
+                    String name = validateSheetName(names.get(i));
+                    ZipArchiveWriter.Entry entry = entries.get(i);
+                    data.skipNBytes(entry.dataOffset() - position);
+                    sheetNames.add(name);
+                    zip.copyEntry(sheetPartName(sheetNames.size()), entry, data);
+                    position = entry.dataOffset() + entry.compressedSize();
+                }
+            }
+        } finally {
+            part.close();
+        }
+    }
+
+    /**
+     * Adds the sheets of a part file kept by {@link #newSheetPart(Path)} after the sheets written so far, copying
+     * their compressed parts as {@link #appendSheets(SheetPartWriter)} does. The part may have been written by
+     * another writer of the same format, in this process or an earlier one. The file is left in place.
+     *
+     * @param file       the finished part file
+     * @param sheetNames the names of the sheets in the part, in order; they are validated against this workbook
+     * @throws IllegalArgumentException if the file holds a different number of sheets or another format's sheets.
+     * @throws IOException              if the file cannot be read.
+     */
+    public void appendSheets(Path file, List<String> sheetNames) throws IOException {
+        ensureOpen();
+        if (file == null) {
+            throw new IllegalArgumentException("The file cannot be null.");
+        }
+        if (sheetNames == null) {
+            throw new IllegalArgumentException("The sheet names cannot be null.");
+        }
+        try (ZipFile part = new ZipFile(file.toFile())) {
+            List<ZipArchiveEntry> entries = Collections.list(part.getEntriesInPhysicalOrder());
+            if (entries.size() != sheetNames.size()) {
+                throw new IllegalArgumentException("The sheet part holds " + entries.size() + " sheets, not "
+                        + sheetNames.size() + ".");
+            }
+            for (ZipArchiveEntry entry : entries) {
+                if (entry.getMethod() != ZipArchiveEntry.DEFLATED || !entry.getName().endsWith("." + partExtension())) {
+                    throw new IllegalArgumentException("The sheet part was not written in this format.");
+                }
+            }
+            endSheet();
+
+            for (int i = 0; i < entries.size(); i++) {
+                String name = validateSheetName(sheetNames.get(i));
+                ZipArchiveEntry entry = entries.get(i);
+                this.sheetNames.add(name);
+                try (InputStream data = part.getRawInputStream(entry)) {
+                    zip.copyEntry(sheetPartName(this.sheetNames.size()), entry.getCrc(), entry.getCompressedSize(),
+                            entry.getSize(), data);
+                }
+            }
+        }
+    }
+
+    /**
+     * Closes the package and the target stream. A package that was not {@link #finish() finished} is incomplete.
+     */
+    @Override
+    public void close() throws IOException {
+        finished = true;
+        zip.close();
+    }
+
+    /**
+     * Ends the current sheet and flushes its part without writing the rest of the package, for a writer created by
+     * {@link #createSheetEncoder} whose sheets are copied into another package.
+     */
+    void finishSheets() throws IOException {
+        ensureOpen();
+        if (sheetNames.isEmpty()) {
+            throw new IllegalStateException("No sheet has been started.");
+        }
+        endSheet();
+        zip.flush();
+        finished = true;
+    }
+
+    /**
+     * @return how the parts of this package are compressed; the sheets of a {@link SheetPartWriter} are compressed
+     * the same way.
+     */
+    ZipCompression compression() {
+        return compression;
+    }
+
+    /**
+     * @return a writer of the same format and compression over the given stream, encoding the sheets of a
+     * {@link SheetPartWriter}.
+     */
+    abstract ZipWorkbookWriter createSheetEncoder(OutputStream outputStream);
+
+    /**
+     * @return the file extension of the sheet, workbook and style parts.
+     */
+    abstract String partExtension();
+
+    abstract String workbookContentType();
+
+    abstract String worksheetContentType();
+
+    abstract String stylesContentType();
+
+    /**
+     * Writes the start of a sheet part, up to its first row.
+     */
+    abstract void beginSheet(Column[] columns) throws IOException;
+
+    /**
+     * @param rowIndex the 0-based index of the row; 0 is the header row
+     * @param columns  the columns of the sheet, sorted by column order
+     */
+    abstract void beginRow(int rowIndex, Column[] columns);
+
+    abstract void endRow() throws IOException;
+
+    /**
+     * Writes the end of the current sheet part. The entry is closed by the caller.
+     */
+    abstract void endSheetPart() throws IOException;
+
+    abstract void stringCell(Column column, CharSequence value, int style) throws IOException;
+
+    abstract void numberCell(Column column, double value) throws IOException;
+
+    abstract void booleanCell(Column column, boolean value) throws IOException;
+
+    /**
+     * @param error the error literal, {@code #NUM!} or {@code #DIV/0!}
+     */
+    abstract void errorCell(Column column, String error) throws IOException;
+
+    /**
+     * Writes the {@code xl/styles} part with the cell formats {@link #STYLE_HEADER}, {@link #STYLE_DATE} and
+     * {@link #STYLE_DATE_TIME}.
+     */
+    abstract void writeStyles() throws IOException;
+
+    /**
+     * Writes the {@code xl/workbook} part, referring to sheet {@code i} (1-based) as relationship {@code rId<i>}.
+     */
+    abstract void writeWorkbook(List<String> sheetNames) throws IOException;
+
+    private void writeCell(Column column, Object value) throws IOException {
+        if (value instanceof CharSequence) {
+            // String columns, and values of native columns that were rendered as text.
+            CharSequence text = (CharSequence) value;
+            stringCell(column, text.length() > Config.MAX_CELL_LENGTH
+                    ? text.subSequence(0, Config.TRUNCATED_CELL_LENGTH)
+                    : text, 0);
+            return;
+        }
+        switch (column.type) {
+            case NUMBER:
+            case FLOAT:
+            case LONG:
+            case BIG_DECIMAL:
+            case BIG_INTEGER:
+                Object number = column.type.toExcelNumber(value);
+                if (number instanceof Double) {
+                    writeNumber(column, (Double) number);
+                } else {
+                    stringCell(column, (String) number, 0);
+                }
+                break;
+            case BOOLEAN:
+                booleanCell(column, (Boolean) value);
+                break;
+            case LOCAL_DATE:
+                writeNumber(column, DateUtil.getExcelDate((LocalDate) value));
+                break;
+            case LOCAL_DATE_TIME:
+                writeNumber(column, DateUtil.getExcelDate((LocalDateTime) value));
+                break;
+            case DATE:
+                writeNumber(column, DateUtil.getExcelDate((Date) value));
+                break;
+            case CALENDAR:
+                writeNumber(column, DateUtil.getExcelDate((Calendar) value, false));
+                break;
+            default:
+                throw new IllegalArgumentException("Expected text for a " + column.type + " column, got "
+                        + value.getClass().getName());
+        }
+    }
+
+    private void writeNumber(Column column, double value) throws IOException {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            // Excel has no representation for these; POI writes the matching error codes.
+            errorCell(column, Double.isNaN(value) ? "#NUM!" : "#DIV/0!");
+        } else {
+            numberCell(column, value);
+        }
+    }
+
+    private void ensureOpen() {
+        if (finished) {
+            throw new IllegalStateException("The workbook has already been finished.");
+        }
+    }
+
+    private String validateSheetName(String sheetName) {
+        if (sheetName == null) {
+            throw new IllegalArgumentException("sheetName must not be null");
+        }
+        String name = sheetName.length() > Config.MAX_SHEET_NAME_LENGTH
+                ? sheetName.substring(0, Config.MAX_SHEET_NAME_LENGTH)
+                : sheetName;
+        WorkbookUtil.validateSheetName(name);
+        for (String existing : sheetNames) {
+            if (existing.equalsIgnoreCase(name)) {
+                throw new IllegalArgumentException("The workbook already contains a sheet named '" + sheetName + "'");
+            }
+        }
+        return name;
+    }
+
+    private void endSheet() throws IOException {
+        if (!sheetOpen) {
+            return;
+        }
+        endSheetPart();
+        zip.closeEntry();
+        sheetOpen = false;
+    }
+
+    private void writeRelationships() throws IOException {
+        String extension = partExtension();
+        packageBuffer.ascii(XML_DECLARATION).ascii("<Relationships xmlns=\"").ascii(RELATIONSHIP_NAMESPACE)
+                .ascii("\"><Relationship Id=\"rId1\" Type=\"").ascii(DOCUMENT_RELATIONSHIP)
+                .ascii("/officeDocument\" Target=\"xl/workbook.").ascii(extension).ascii("\"/></Relationships>");
+        writePackagePart("_rels/.rels");
+
+        packageBuffer.ascii(XML_DECLARATION).ascii("<Relationships xmlns=\"").ascii(RELATIONSHIP_NAMESPACE).ascii("\">");
+        for (int i = 1; i <= sheetNames.size(); i++) {
+            packageBuffer.ascii("<Relationship Id=\"rId").digits(i).ascii("\" Type=\"").ascii(DOCUMENT_RELATIONSHIP)
+                    .ascii("/worksheet\" Target=\"worksheets/sheet").digits(i).ascii(".").ascii(extension)
+                    .ascii("\"/>");
+        }
+        packageBuffer.ascii("<Relationship Id=\"rId").digits(sheetNames.size() + 1L).ascii("\" Type=\"")
+                .ascii(DOCUMENT_RELATIONSHIP).ascii("/styles\" Target=\"styles.").ascii(extension)
+                .ascii("\"/></Relationships>");
+        writePackagePart("xl/_rels/workbook." + extension + ".rels");
+    }
+
+    private void writeContentTypes() throws IOException {
+        String extension = partExtension();
+        packageBuffer.ascii(XML_DECLARATION)
+                .ascii("<Types xmlns=\"http://schemas.openxmlformats.org/package/2006/content-types\">")
+                .ascii("<Default Extension=\"rels\" ContentType=\"application/vnd.openxmlformats-package.relationships+xml\"/>")
+                .ascii("<Default Extension=\"xml\" ContentType=\"application/xml\"/>")
+                .ascii("<Override PartName=\"/xl/workbook.").ascii(extension)
+                .ascii("\" ContentType=\"").ascii(workbookContentType()).ascii("\"/>")
+                .ascii("<Override PartName=\"/xl/styles.").ascii(extension)
+                .ascii("\" ContentType=\"").ascii(stylesContentType()).ascii("\"/>");
+        for (int i = 1; i <= sheetNames.size(); i++) {
+            packageBuffer.ascii("<Override PartName=\"/xl/worksheets/sheet").digits(i).ascii(".").ascii(extension)
+                    .ascii("\" ContentType=\"").ascii(worksheetContentType()).ascii("\"/>");
+        }
+        packageBuffer.ascii("</Types>");
+        writePackagePart("[Content_Types].xml");
+    }
+
+    private String sheetPartName(int sheetNumber) {
+        return "xl/worksheets/sheet" + sheetNumber + "." + partExtension();
+    }
+
+    private void writePackagePart(String name) throws IOException {
+        zip.putNextEntry(name);
+        packageBuffer.flushTo(zip);
+        zip.closeEntry();
+    }
+
+    /**
+     * A column of the current sheet: its position in the caller's value arrays, its 0-based index in the sheet and
+     * how its values are written.
+     */
+    static final class Column {
+        final int index;
+        final int order;
+        final int sheetIndex;
+        final byte[] letters;
+        final String header;
+        final CellValueType type;
+        final int style;
+        final int width;
+
+        private Column(int index, int order, String header, CellValueType type) {
+            this.index = index;
+            this.order = order;
+            this.sheetIndex = order - 1;
+            this.letters = CellReference.convertNumToColString(sheetIndex).getBytes(StandardCharsets.US_ASCII);
+            this.header = header;
+            this.type = type;
+            this.style = type == CellValueType.LOCAL_DATE ? STYLE_DATE : type.isDate() ? STYLE_DATE_TIME : 0;
+
+            int characters = header == null ? 0 : header.length();
+            if (type == CellValueType.LOCAL_DATE) {
+                characters = Math.max(characters, Config.DATE_FORMAT.length());
+            } else if (type.isDate()) {
+                characters = Math.max(characters, Config.DATE_TIME_FORMAT.length());
+            }
+            this.width = Math.min(Math.max(characters + 2, 9), 255);
+        }
+    }
+}
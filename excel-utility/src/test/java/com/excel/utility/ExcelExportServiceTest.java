@@ -0,0 +1,103 @@
+package com.excel.utility;
+
+import com.excel.utility.annotation.ExcelColumn;
+import com.excel.utility.annotation.ExcelMapper;
+import com.excel.utility.dto.ExportSummary;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExcelExportServiceTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testSubmitAll_LimitsOpenWorkbooks() throws Exception {
+        AtomicInteger open = new AtomicInteger();
+        AtomicInteger maxOpen = new AtomicInteger();
+        List<ExportJob<Order>> jobs = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            int rows = 50 + i;
+            jobs.add(new ExportJob<>(() -> {
+                maxOpen.accumulateAndGet(open.incrementAndGet(), Math::max);
+                // A slow query, so the jobs overlap.
+                Thread.sleep(20);
+                return orders(rows).onClose(open::decrementAndGet);
+            }, Order.class, "Orders", tempDir.resolve("orders-" + i + ".xlsx"),
+                    i % 2 == 0 ? ExportBackend.POI : ExportBackend.SPREADSHEETML));
+        }
+
+        List<ExportSummary> summaries;
+        try (ExcelExportService service = new ExcelExportService(new ExcelUtility(), 3)) {
+            assertEquals(Runtime.version().feature() >= 21, service.usesVirtualThreads());
+            summaries = service.submitAll(jobs).get();
+        }
+
+        assertEquals(0, open.get());
+        assertTrue(maxOpen.get() <= 3, "max open " + maxOpen.get());
+        for (int i = 0; i < jobs.size(); i++) {
+            assertEquals(50 + i, summaries.get(i).getRowCount());
+            try (Workbook workbook = new XSSFWorkbook(Files.newInputStream(jobs.get(i).getPath()))) {
+                Sheet sheet = workbook.getSheet("Orders");
+                assertEquals(50 + i, sheet.getLastRowNum());
+                assertEquals("order 7", sheet.getRow(8).getCell(0).getStringCellValue());
+            }
+        }
+    }
+
+    @Test
+    void testSubmit_FailedJobCompletesExceptionally() throws Exception {
+        try (ExcelExportService service = new ExcelExportService(new ExcelUtility(), 1)) {
+            CompletableFuture<ExportSummary> failed = service.submit(new ExportJob<Order>(() -> {
+                throw new IllegalStateException("connection refused");
+            }, Order.class, null, tempDir.resolve("failed.xlsx")));
+            CompletableFuture<ExportSummary> next = service.submit(
+                    new ExportJob<>(() -> orders(3), Order.class, null, tempDir.resolve("next.xlsx")));
+
+            ExecutionException e = assertThrows(ExecutionException.class, failed::get);
+            assertEquals("connection refused", e.getCause().getMessage());
+            assertEquals(3, next.get().getRowCount());
+
+            CompletableFuture<List<ExportSummary>> all = service.submitAll(List.of(
+                    new ExportJob<>(() -> orders(1), Order.class, null, tempDir.resolve("a.xlsx")),
+                    new ExportJob<>(() -> null, Order.class, null, tempDir.resolve("b.xlsx"))));
+            CompletionException allFailure = assertThrows(CompletionException.class, all::join);
+            assertInstanceOf(IllegalArgumentException.class, allFailure.getCause());
+        }
+        assertThrows(IllegalArgumentException.class,
+                () -> new ExportJob<>(() -> orders(1), Order.class, null, null));
+    }
+
+    private static Stream<Order> orders(int count) {
+        return IntStream.range(0, count).mapToObj(i -> new Order("order " + i, i * 2.5));
+    }
+
+    @ExcelMapper
+    static class Order {
+        @ExcelColumn
+        private final String reference;
+        @ExcelColumn
+        private final double amount;
+
+        Order(String reference, double amount) {
+            this.reference = reference;
+            this.amount = amount;
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.excel.utility;
+
+import com.excel.utility.annotation.ExcelColumn;
+import com.excel.utility.annotation.ExcelMapper;
+import com.excel.utility.dto.ExportSummary;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExcelSinkTest {
+
+    private final ExcelUtility excelUtility = new ExcelUtility();
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testSink_RequestsInBatchesAsRowsAreWritten() throws Exception {
+        RangePublisher publisher = new RangePublisher(1_000);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ExcelSink<Reading> sink = new ExcelSink<>(excelUtility, outputStream, Reading.class, "Readings",
+                ExportBackend.POI, 100);
+
+        publisher.subscribe(sink);
+        ExportSummary summary = sink.getResult().get(30, TimeUnit.SECONDS);
+
+        assertEquals(1_000, summary.getRowCount());
+        assertEquals(200L, publisher.requests.get(0));
+        assertTrue(publisher.requests.stream().skip(1).allMatch(n -> n == 100), publisher.requests.toString());
+        try (Workbook workbook = new XSSFWorkbook(new ByteArrayInputStream(outputStream.toByteArray()))) {
+            Sheet sheet = workbook.getSheet("Readings");
+            assertEquals(1_000, sheet.getLastRowNum());
+            assertEquals("sensor 999", sheet.getRow(1_000).getCell(0).getStringCellValue());
+        }
+    }
+
+    @Test
+    void testSink_SubmissionPublisherToFile() throws Exception {
+        Path target = tempDir.resolve("readings.xlsx");
+        ExcelSink<Reading> sink = new ExcelSink<>(excelUtility, target, Reading.class, null,
+                ExportBackend.SPREADSHEETML, 64);
+
+        try (SubmissionPublisher<Reading> publisher = new SubmissionPublisher<>()) {
+            publisher.subscribe(sink);
+            for (int i = 0; i < 5_000; i++) {
+                publisher.submit(new Reading("sensor " + i, i / 10.0));
+            }
+        }
+
+        assertEquals(5_000, sink.getResult().get(30, TimeUnit.SECONDS).getRowCount());
+        try (Workbook workbook = new XSSFWorkbook(Files.newInputStream(target))) {
+            assertEquals(4_999.0 / 10.0, workbook.getSheet("Sheet").getRow(5_000).getCell(1).getNumericCellValue());
+        }
+    }
+
+    @Test
+    void testSink_PublisherErrorAndCancellation() throws Exception {
+        ExcelSink<Reading> failing = new ExcelSink<>(excelUtility, new ByteArrayOutputStream(), Reading.class, null);
+        try (SubmissionPublisher<Reading> publisher = new SubmissionPublisher<>()) {
+            publisher.subscribe(failing);
+            publisher.submit(new Reading("sensor", 1));
+            publisher.closeExceptionally(new IllegalStateException("driver closed"));
+        }
+        ExecutionException e = assertThrows(ExecutionException.class,
+                () -> failing.getResult().get(30, TimeUnit.SECONDS));
+        assertEquals("driver closed", e.getCause().getMessage());
+
+        RangePublisher endless = new RangePublisher(Long.MAX_VALUE);
+        ExcelSink<Reading> cancelled = new ExcelSink<>(excelUtility, tempDir.resolve("cancelled.xlsx"), Reading.class,
+                null, ExportBackend.SPREADSHEETML, 10);
+        endless.subscribe(cancelled);
+        CompletableFuture<ExportSummary> result = cancelled.getResult();
+        assertTrue(result.cancel(false));
+        assertTrue(endless.cancelled.await(30, TimeUnit.SECONDS));
+    }
+
+    /**
+     * Emits readings on the requesting thread, honoring demand and recording every request.
+     */
+    private static final class RangePublisher implements Flow.Publisher<Reading> {
+        private final long count;
+        private final List<Long> requests = new CopyOnWriteArrayList<>();
+        private final CountDownLatch cancelled = new CountDownLatch(1);
+
+        private RangePublisher(long count) {
+            this.count = count;
+        }
+
+        @Override
+        public void subscribe(Flow.Subscriber<? super Reading> subscriber) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                private long next;
+
+                @Override
+                public synchronized void request(long n) {
+                    requests.add(n);
+                    for (long i = 0; i < n && next < count && cancelled.getCount() > 0; i++, next++) {
+                        subscriber.onNext(new Reading("sensor " + next, next / 10.0));
+                    }
+                    if (next == count) {
+                        subscriber.onComplete();
+                    }
+                }
+
+                @Override
+                public void cancel() {
+                    cancelled.countDown();
+                }
+            });
+        }
+    }
+
+    @ExcelMapper
+    static class Reading {
+        @ExcelColumn
+        private final String sensor;
+        @ExcelColumn
+        private final double value;
+
+        Reading(String sensor, double value) {
+            this.sensor = sensor;
+            this.value = value;
+        }
+    }
+}
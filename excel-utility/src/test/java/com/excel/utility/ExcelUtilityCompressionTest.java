@@ -0,0 +1,80 @@
+package com.excel.utility;
+
+import com.excel.utility.annotation.ExcelColumn;
+import com.excel.utility.annotation.ExcelMapper;
+import com.excel.utility.extractor.FieldExtractor;
+import com.excel.utility.processor.impl.DefaultObjectValueProcessor;
+import com.excel.utility.writer.ZipCompression;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static com.excel.utility.TestWorkbooks.formattedCells;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExcelUtilityCompressionTest {
+
+    private static final int ROWS = 5_000;
+
+    private final ExcelUtility defaults = new ExcelUtility();
+
+    @Test
+    void testParallelCompression_PoiBackendMatchesDefault() throws IOException {
+        ExcelUtility parallel = utility(new ZipCompression(ZipCompression.LEVEL_DEFAULT, 4));
+
+        byte[] expected = export(defaults, ExportBackend.POI);
+        byte[] actual = export(parallel, ExportBackend.POI);
+
+        assertEquals(formattedCells(expected), formattedCells(actual));
+    }
+
+    @Test
+    void testCompressionLevels_SpreadsheetMLBackend() throws IOException {
+        byte[] expected = export(defaults, ExportBackend.SPREADSHEETML);
+        byte[] parallel = export(utility(new ZipCompression(ZipCompression.LEVEL_FASTEST, 3)),
+                ExportBackend.SPREADSHEETML);
+        byte[] stored = export(utility(ZipCompression.STORE), ExportBackend.SPREADSHEETML);
+
+        Map<String, String> cells = formattedCells(expected);
+        assertEquals(cells, formattedCells(parallel));
+        assertEquals(cells, formattedCells(stored));
+        assertTrue(stored.length > expected.length * 3, stored.length + " vs " + expected.length);
+    }
+
+    private static ExcelUtility utility(ZipCompression compression) {
+        return new ExcelUtility(new FieldExtractor(), new DefaultObjectValueProcessor(), 1, OverflowPolicy.FAIL,
+                compression);
+    }
+
+    private static byte[] export(ExcelUtility excelUtility, ExportBackend backend) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        excelUtility.exportTo(outputStream, lines(), Line.class, "Lines", backend);
+        return outputStream.toByteArray();
+    }
+
+    private static Stream<Line> lines() {
+        return IntStream.range(0, ROWS)
+                .mapToObj(i -> new Line("sku-" + i % 1_000, i * 0.5, LocalDate.of(2024, 1, 1).plusDays(i % 400)));
+    }
+
+    @ExcelMapper
+    static class Line {
+        @ExcelColumn
+        private final String sku;
+        @ExcelColumn
+        private final double quantity;
+        @ExcelColumn
+        private final LocalDate shipped;
+
+        Line(String sku, double quantity, LocalDate shipped) {
+            this.sku = sku;
+            this.quantity = quantity;
+            this.shipped = shipped;
+        }
+    }
+}
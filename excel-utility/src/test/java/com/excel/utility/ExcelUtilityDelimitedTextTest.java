@@ -0,0 +1,175 @@
+package com.excel.utility;
+
+import com.excel.utility.annotation.ExcelColumn;
+import com.excel.utility.annotation.ExcelMapper;
+import com.excel.utility.dto.ExportSummary;
+import com.excel.utility.processor.impl.DefaultObjectValueProcessor;
+import com.excel.utility.util.CellValueType;
+import com.excel.utility.writer.DelimitedTextWriter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExcelUtilityDelimitedTextTest {
+
+    private final ExcelUtility excelUtility = new ExcelUtility();
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testCsv_QuotesFieldsPerRfc4180() throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        ExportSummary summary = excelUtility.exportTo(outputStream, Stream.of(
+                new Entry(1, "plain", LocalDate.of(2025, 3, 1), List.of("a", "b")),
+                new Entry(2, "say \"hi\"", null, List.of()),
+                new Entry(3, "line\r\nbreak", LocalDate.of(2025, 3, 3), null)), Entry.class, "Ignored", ExportBackend.CSV);
+
+        String csv = outputStream.toString(StandardCharsets.UTF_8);
+        assertEquals("Id,Name,Day,Tags\r\n"
+                + "1,plain,2025-03-01,\"a, b\"\r\n"
+                + "2,\"say \"\"hi\"\"\",,\r\n"
+                + "3,\"line\r\nbreak\",2025-03-03,\r\n", csv);
+        assertEquals(3, summary.getRowCount());
+        assertEquals(outputStream.size(), summary.getByteCount());
+    }
+
+    @Test
+    void testTsv_ToPath() throws IOException {
+        Path target = tempDir.resolve("entries.tsv");
+
+        excelUtility.exportTo(target, Stream.of(new Entry(1, "tab\there, comma", null, List.of("x"))), "Entries",
+                ExportBackend.TSV);
+
+        assertEquals("Id\tName\tDay\tTags\r\n1\t\"tab\there, comma\"\t\tx\r\n",
+                Files.readString(target, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testCsv_CustomProcessorAndColumnGaps() throws IOException {
+        ExcelUtility custom = new ExcelUtility(new DefaultObjectValueProcessor() {
+            @Override
+            public String process(Object fieldValue) {
+                return "[" + fieldValue + "]";
+            }
+        });
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        custom.exportTo(outputStream, Stream.of(new Sparse("a", 2)), Sparse.class, "Sheet", ExportBackend.CSV);
+
+        assertEquals("Rank,,Name\r\n[2],,[a]\r\n", outputStream.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testCsv_LongFieldsAreNotTruncated() throws IOException {
+        String name = "n".repeat(40_000);
+        List<String> tags = List.of("t".repeat(20_000), "u".repeat(20_000));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        excelUtility.exportTo(outputStream, Stream.of(new Entry(1, name, null, tags)), Entry.class, "Sheet",
+                ExportBackend.CSV);
+
+        assertEquals("Id,Name,Day,Tags\r\n1," + name + ",,\"" + String.join(", ", tags) + "\"\r\n",
+                outputStream.toString(StandardCharsets.UTF_8));
+
+        // A processor overriding the String form is adapted and must not be truncated either.
+        ExcelUtility adapted = new ExcelUtility(new DefaultObjectValueProcessor() {
+            @Override
+            public String process(Object fieldValue) {
+                return super.process(fieldValue);
+            }
+        });
+        ByteArrayOutputStream adaptedStream = new ByteArrayOutputStream();
+        adapted.exportTo(adaptedStream, Stream.of(new Entry(1, name, null, tags)), Entry.class, "Sheet",
+                ExportBackend.CSV);
+        assertEquals(outputStream.toString(StandardCharsets.UTF_8), adaptedStream.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testCsv_WrapperConvertersApplyToPrimitiveColumns() throws IOException {
+        ExcelUtility custom = new ExcelUtility(new DefaultObjectValueProcessor()
+                .registerConverter(Integer.class, value -> "#" + value)
+                .registerConverter(Character.class, value -> "'" + value + "'"));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        custom.exportTo(outputStream, Stream.of(new Boxing(7, 7, 'c')), Boxing.class, "Sheet", ExportBackend.CSV);
+
+        assertEquals("Primitive,Boxed,Letter\r\n#7,#7,'c'\r\n", outputStream.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testDelimitedTextWriter_EmptyStreamAndSingleSheet() throws IOException {
+        StringWriter target = new StringWriter();
+        String[] headers = {"A"};
+
+        try (DelimitedTextWriter writer = new DelimitedTextWriter(target, DelimitedTextWriter.COMMA)) {
+            writer.startSheet("Sheet", headers, new int[]{1}, new CellValueType[]{CellValueType.STRING});
+            assertThrows(IllegalStateException.class, () -> writer.startSheet("Other", headers, new int[]{1},
+                    new CellValueType[]{CellValueType.STRING}));
+            writer.finish();
+            assertEquals(0, writer.getRowCount());
+        }
+        assertEquals("A\r\n", target.toString());
+        assertThrows(IllegalArgumentException.class, () -> new DelimitedTextWriter(new StringWriter(), '"'));
+    }
+
+    @ExcelMapper
+    static class Entry {
+        @ExcelColumn
+        private final int id;
+        @ExcelColumn
+        private final String name;
+        @ExcelColumn
+        private final LocalDate day;
+        @ExcelColumn
+        private final List<String> tags;
+
+        Entry(int id, String name, LocalDate day, List<String> tags) {
+            this.id = id;
+            this.name = name;
+            this.day = day;
+            this.tags = tags;
+        }
+    }
+
+    @ExcelMapper
+    static class Sparse {
+        @ExcelColumn(columnOrder = 3)
+        private final String name;
+        @ExcelColumn(columnOrder = 1)
+        private final int rank;
+
+        Sparse(String name, int rank) {
+            this.name = name;
+            this.rank = rank;
+        }
+    }
+
+    @ExcelMapper
+    static class Boxing {
+        @ExcelColumn
+        private final int primitive;
+        @ExcelColumn
+        private final Integer boxed;
+        @ExcelColumn
+        private final char letter;
+
+        Boxing(int primitive, Integer boxed, char letter) {
+            this.primitive = primitive;
+            this.boxed = boxed;
+            this.letter = letter;
+        }
+    }
+}
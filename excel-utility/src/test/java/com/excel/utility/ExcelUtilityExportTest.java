@@ -0,0 +1,144 @@
+package com.excel.utility;
+
+import com.excel.utility.annotation.ExcelColumn;
+import com.excel.utility.annotation.ExcelMapper;
+import com.excel.utility.dto.ExportSummary;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExcelUtilityExportTest {
+
+    private final ExcelUtility excelUtility = new ExcelUtility();
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testExportToOutputStream_WritesPackageAndSummary() throws IOException {
+        TrackingOutputStream outputStream = new TrackingOutputStream();
+
+        ExportSummary summary = excelUtility.exportTo(outputStream, rows(3), Item.class, "Items");
+
+        assertFalse(outputStream.closed, "A caller-owned stream must not be closed.");
+        assertEquals(3, summary.getRowCount());
+        assertEquals(outputStream.size(), summary.getByteCount());
+        assertEquals(summary.getRenderTime().plus(summary.getWriteTime()).plus(summary.getCloseTime()),
+                summary.getTotalTime());
+        assertSheet(new ByteArrayInputStream(outputStream.toByteArray()), 3);
+    }
+
+    @Test
+    void testExportToOutputStream_UntypedPeeksClass() throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        ExportSummary summary = excelUtility.exportTo(outputStream, rows(2), "Items");
+
+        assertEquals(2, summary.getRowCount());
+        assertSheet(new ByteArrayInputStream(outputStream.toByteArray()), 2);
+    }
+
+    @Test
+    void testExportToPath_CreatesFile() throws IOException {
+        Path target = tempDir.resolve("items.xlsx");
+
+        ExportSummary summary = excelUtility.exportTo(target, rows(5), Item.class, "Items");
+
+        assertEquals(Files.size(target), summary.getByteCount());
+        try (InputStream inputStream = Files.newInputStream(target)) {
+            assertSheet(inputStream, 5);
+        }
+    }
+
+    @Test
+    void testExportToChannel_WritesPackage() throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        WritableByteChannel channel = Channels.newChannel(outputStream);
+
+        ExportSummary summary = excelUtility.exportTo(channel, Stream.empty(), Item.class, "Items");
+
+        assertTrue(channel.isOpen(), "A caller-owned channel must not be closed.");
+        assertEquals(0, summary.getRowCount());
+        assertEquals(outputStream.size(), summary.getByteCount());
+        assertSheet(new ByteArrayInputStream(outputStream.toByteArray()), 0);
+    }
+
+    @Test
+    void testExport_FailureStillDisposesTemporaryFiles() {
+        int before = poiTempFileCount();
+        Stream<Item> failing = rows(10).peek(item -> {
+            if (item.id == 5) {
+                throw new IllegalStateException("source failed");
+            }
+        });
+
+        assertThrows(IllegalStateException.class,
+                () -> excelUtility.exportTo(new ByteArrayOutputStream(), failing, Item.class, "Items"));
+        assertEquals(before, poiTempFileCount(), "The SXSSF temporary sheet file must be deleted.");
+    }
+
+    @Test
+    void testExport_NullTargetRejected() {
+        assertThrows(IllegalArgumentException.class,
+                () -> excelUtility.exportTo((WritableByteChannel) null, rows(1), Item.class, "Items"));
+    }
+
+    private static Stream<Item> rows(int count) {
+        return Stream.iterate(1, i -> i + 1).limit(count).map(i -> new Item(i, "item " + i));
+    }
+
+    private static void assertSheet(InputStream inputStream, int rowCount) throws IOException {
+        try (XSSFWorkbook workbook = new XSSFWorkbook(inputStream)) {
+            Sheet sheet = workbook.getSheet("Items");
+            assertEquals(rowCount, sheet.getLastRowNum());
+            assertEquals("Id", sheet.getRow(0).getCell(0).getStringCellValue());
+            if (rowCount > 0) {
+                assertEquals("item " + rowCount, sheet.getRow(rowCount).getCell(1).getStringCellValue());
+            }
+        }
+    }
+
+    private static int poiTempFileCount() {
+        File poiFiles = new File(System.getProperty("java.io.tmpdir"), "poifiles");
+        String[] names = poiFiles.list();
+        return names == null ? 0 : (int) Stream.of(names).filter(Objects::nonNull).count();
+    }
+
+    private static final class TrackingOutputStream extends ByteArrayOutputStream {
+        private boolean closed;
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+
+    @ExcelMapper
+    static class Item {
+        @ExcelColumn
+        private final int id;
+
+        @ExcelColumn
+        private final String label;
+
+        Item(int id, String label) {
+            this.id = id;
+            this.label = label;
+        }
+    }
+}
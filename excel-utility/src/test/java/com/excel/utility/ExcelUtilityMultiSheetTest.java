@@ -0,0 +1,203 @@
+package com.excel.utility;
+
+import com.excel.utility.annotation.ExcelColumn;
+import com.excel.utility.annotation.ExcelMapper;
+import com.excel.utility.dto.ExportSummary;
+import com.excel.utility.util.CellValueType;
+import com.excel.utility.writer.SheetPartWriter;
+import com.excel.utility.writer.SpreadsheetMLWriter;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.eventusermodel.XSSFBReader;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.zip.ZipFile;
+
+import static com.excel.utility.TestWorkbooks.formattedCells;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExcelUtilityMultiSheetTest {
+
+    private final ExcelUtility excelUtility = new ExcelUtility();
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testExportSheets_MatchesSingleSheetExports() throws Exception {
+        Map<String, Stream<?>> sheets = new LinkedHashMap<>();
+        sheets.put("North", sales("north", 1_000));
+        sheets.put("South", sales("south", 10));
+        sheets.put("Stock", IntStream.range(0, 500).mapToObj(i -> new Stock("item " + i, i % 7 == 0)));
+        Path target = tempDir.resolve("regions.xlsx");
+
+        ExportSummary summary = excelUtility.exportSheetsTo(target, sheets);
+
+        assertEquals(1_510, summary.getRowCount());
+        assertEquals(3, summary.getSheetCount());
+        assertEquals(Files.size(target), summary.getByteCount());
+        try (ZipFile zip = new ZipFile(target.toFile())) {
+            assertNotNull(zip.getEntry("xl/worksheets/sheet3.xml"));
+        }
+        try (Workbook workbook = new XSSFWorkbook(Files.newInputStream(target))) {
+            assertEquals(List.of("North", "South", "Stock"),
+                    List.of(workbook.getSheetName(0), workbook.getSheetName(1), workbook.getSheetName(2)));
+            assertEquals(formattedCells(single(sales("north", 1_000), "North")),
+                    formattedCells(workbook.getSheet("North")));
+            assertEquals(formattedCells(single(sales("south", 10), "South")),
+                    formattedCells(workbook.getSheet("South")));
+            Cell reorder = workbook.getSheet("Stock").getRow(1).getCell(1);
+            assertEquals("TRUE", new DataFormatter().formatCellValue(reorder));
+        }
+    }
+
+    @Test
+    void testExportSheets_Xlsb() throws Exception {
+        Map<String, Stream<?>> sheets = new LinkedHashMap<>();
+        sheets.put("B", sales("b", 20));
+        sheets.put("A", sales("a", 5));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        ExportSummary summary = excelUtility.exportSheetsTo(outputStream, sheets, ExportBackend.XLSB);
+
+        assertEquals(25, summary.getRowCount());
+        List<String> names = new ArrayList<>();
+        try (OPCPackage opcPackage = OPCPackage.open(new ByteArrayInputStream(outputStream.toByteArray()))) {
+            XSSFReader.SheetIterator iterator = (XSSFReader.SheetIterator) new XSSFBReader(opcPackage).getSheetsData();
+            while (iterator.hasNext()) {
+                iterator.next().close();
+                names.add(iterator.getSheetName());
+            }
+        }
+        assertEquals(List.of("B", "A"), names);
+    }
+
+    @Test
+    void testExportSheets_FailuresRemoveTemporaryParts() throws IOException {
+        Path tempRoot = Path.of(System.getProperty("java.io.tmpdir"));
+        List<Path> before = parts(tempRoot);
+
+        Map<String, Stream<?>> emptySheet = new LinkedHashMap<>();
+        emptySheet.put("Full", sales("full", 2_000));
+        emptySheet.put("Empty", Stream.empty());
+        IllegalArgumentException empty = assertThrows(IllegalArgumentException.class,
+                () -> excelUtility.exportSheetsTo(new ByteArrayOutputStream(), emptySheet));
+        assertEquals("The data list is empty.", empty.getMessage());
+
+        Map<String, Stream<?>> duplicate = new LinkedHashMap<>();
+        duplicate.put("Data", sales("a", 1));
+        duplicate.put("DATA", sales("b", 1));
+        assertThrows(IllegalArgumentException.class,
+                () -> excelUtility.exportSheetsTo(new ByteArrayOutputStream(), duplicate));
+
+        assertThrows(IllegalArgumentException.class, () -> excelUtility.exportSheetsTo(new ByteArrayOutputStream(),
+                Map.of("Data", sales("a", 1)), ExportBackend.POI));
+        assertThrows(IllegalArgumentException.class,
+                () -> excelUtility.exportSheetsTo(new ByteArrayOutputStream(), Collections.emptyMap()));
+        assertEquals(before, parts(tempRoot));
+    }
+
+    @Test
+    void testSheetPartWriter_AppendsBetweenDirectSheets() throws Exception {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        String[] headers = {"Value"};
+        int[] orders = {1};
+        CellValueType[] types = {CellValueType.NUMBER};
+
+        try (SpreadsheetMLWriter writer = new SpreadsheetMLWriter(outputStream);
+             SpreadsheetMLWriter other = new SpreadsheetMLWriter(new ByteArrayOutputStream())) {
+            SheetPartWriter part = writer.newSheetPart();
+            part.startSheet("Part 1", headers, orders, types);
+            part.writeRow(new Object[]{1});
+            part.startSheet("Part 2", headers, orders, types);
+            part.writeRow(new Object[]{2});
+            part.finish();
+
+            writer.startSheet("Direct", headers, orders, types);
+            writer.writeRow(new Object[]{0});
+            writer.appendSheets(part);
+            writer.startSheet("Last", headers, orders, types);
+
+            SheetPartWriter foreign = other.newSheetPart();
+            foreign.startSheet("Foreign", headers, orders, types);
+            foreign.finish();
+            assertThrows(IllegalArgumentException.class, () -> writer.appendSheets(foreign));
+            writer.finish();
+        }
+
+        try (Workbook workbook = new XSSFWorkbook(new ByteArrayInputStream(outputStream.toByteArray()))) {
+            assertEquals(4, workbook.getNumberOfSheets());
+            assertEquals("Part 2", workbook.getSheetName(2));
+            assertEquals(0, workbook.getSheet("Direct").getRow(1).getCell(0).getNumericCellValue());
+            assertEquals(1, workbook.getSheet("Part 1").getRow(1).getCell(0).getNumericCellValue());
+            assertEquals(2, workbook.getSheet("Part 2").getRow(1).getCell(0).getNumericCellValue());
+            assertEquals(0, workbook.getSheet("Last").getLastRowNum());
+        }
+    }
+
+    private Sheet single(Stream<Sale> data, String sheetName) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        excelUtility.exportTo(outputStream, data, Sale.class, sheetName, ExportBackend.POI);
+        return new XSSFWorkbook(new ByteArrayInputStream(outputStream.toByteArray())).getSheet(sheetName);
+    }
+
+    private static Stream<Sale> sales(String region, int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> new Sale(region + " " + i, i * 1.25, LocalDate.of(2025, 1, 1).plusDays(i % 365)));
+    }
+
+    private static List<Path> parts(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().startsWith("excel-utility-sheet"))
+                    .sorted().toList();
+        }
+    }
+
+    @ExcelMapper
+    static class Sale {
+        @ExcelColumn
+        private final String customer;
+        @ExcelColumn
+        private final double amount;
+        @ExcelColumn
+        private final LocalDate day;
+
+        Sale(String customer, double amount, LocalDate day) {
+            this.customer = customer;
+            this.amount = amount;
+            this.day = day;
+        }
+    }
+
+    @ExcelMapper
+    static class Stock {
+        @ExcelColumn
+        private final String item;
+        @ExcelColumn
+        private final boolean reorder;
+
+        Stock(String item, boolean reorder) {
+            this.item = item;
+            this.reorder = reorder;
+        }
+    }
+}
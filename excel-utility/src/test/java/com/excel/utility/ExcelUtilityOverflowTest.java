@@ -0,0 +1,136 @@
+package com.excel.utility;
+
+import com.excel.utility.annotation.ExcelColumn;
+import com.excel.utility.annotation.ExcelMapper;
+import com.excel.utility.dto.ExportSummary;
+import com.excel.utility.extractor.FieldExtractor;
+import com.excel.utility.processor.impl.DefaultObjectValueProcessor;
+import org.apache.poi.hssf.usermodel.HSSFWorkbook;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExcelUtilityOverflowTest {
+
+    private static final int HSSF_DATA_ROWS = 65_535;
+    private static final int XSSF_DATA_ROWS = 1_048_575;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testNewSheet_RollsOverWithHeaderRepeated() {
+        ExcelUtility excelUtility = utility(1, OverflowPolicy.NEW_SHEET);
+
+        HSSFWorkbook workbook = excelUtility.mapToHSSFWorkbook(unsized(HSSF_DATA_ROWS + 5), Item.class, "Data");
+
+        assertEquals(2, workbook.getNumberOfSheets());
+        Sheet first = workbook.getSheet("Data");
+        Sheet second = workbook.getSheet("Data (2)");
+        assertEquals(HSSF_DATA_ROWS, first.getLastRowNum());
+        assertEquals(HSSF_DATA_ROWS - 1, (int) first.getRow(HSSF_DATA_ROWS).getCell(0).getNumericCellValue());
+        assertEquals("Id", second.getRow(0).getCell(0).getStringCellValue());
+        assertEquals(5, second.getLastRowNum());
+        assertEquals(HSSF_DATA_ROWS, (int) second.getRow(1).getCell(0).getNumericCellValue());
+    }
+
+    @Test
+    void testNewSheet_ParallelRenderingSkipsTakenNames() {
+        ExcelUtility excelUtility = utility(3, OverflowPolicy.NEW_SHEET);
+        HSSFWorkbook workbook = new HSSFWorkbook();
+        workbook.createSheet("Data (2)");
+
+        excelUtility.mapToExistingWorkbook(workbook, unsized(HSSF_DATA_ROWS + 300), Item.class, "Data");
+
+        Sheet rolledOver = workbook.getSheet("Data (3)");
+        assertEquals(3, workbook.getNumberOfSheets());
+        assertEquals(300, rolledOver.getLastRowNum());
+        assertEquals(HSSF_DATA_ROWS + 299, (int) rolledOver.getRow(300).getCell(0).getNumericCellValue());
+    }
+
+    @Test
+    void testFail_RejectsKnownSizeBeforeConsuming() {
+        ExcelUtility excelUtility = utility(1, OverflowPolicy.FAIL);
+        HSSFWorkbook workbook = new HSSFWorkbook();
+        AtomicInteger consumed = new AtomicInteger();
+        Stream<Item> sized = IntStream.range(0, HSSF_DATA_ROWS + 1).mapToObj(Item::new)
+                .peek(item -> consumed.incrementAndGet());
+
+        assertThrows(IllegalArgumentException.class,
+                () -> excelUtility.mapToExistingWorkbook(workbook, sized, Item.class, "Data"));
+        assertEquals(0, consumed.get());
+        assertEquals(0, workbook.getNumberOfSheets());
+
+        assertThrows(IllegalArgumentException.class,
+                () -> excelUtility.mapToExistingWorkbook(workbook, unsized(HSSF_DATA_ROWS + 1), Item.class, "Rows"));
+    }
+
+    @Test
+    void testNewFile_SplitsPathExportsIntoNumberedFiles() throws IOException {
+        ExcelUtility excelUtility = utility(1, OverflowPolicy.NEW_FILE);
+        Path target = tempDir.resolve("report.xlsx");
+
+        ExportSummary summary = excelUtility.exportTo(target, unsized(XSSF_DATA_ROWS + 2), Item.class, "Data",
+                ExportBackend.SPREADSHEETML);
+
+        Path second = tempDir.resolve("report (2).xlsx");
+        assertEquals(XSSF_DATA_ROWS + 2, summary.getRowCount());
+        assertEquals(2, summary.getFileCount());
+        assertEquals(2, summary.getSheetCount());
+        assertEquals(Files.size(target) + Files.size(second), summary.getByteCount());
+        try (Workbook workbook = new XSSFWorkbook(Files.newInputStream(second))) {
+            Sheet sheet = workbook.getSheet("Data");
+            assertEquals("Id", sheet.getRow(0).getCell(0).getStringCellValue());
+            assertEquals(2, sheet.getLastRowNum());
+            assertEquals(XSSF_DATA_ROWS + 1, (int) sheet.getRow(2).getCell(0).getNumericCellValue());
+        }
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        assertThrows(IllegalArgumentException.class, () -> excelUtility.exportTo(outputStream,
+                IntStream.range(0, XSSF_DATA_ROWS + 1).mapToObj(Item::new), Item.class, "Data"));
+    }
+
+    @Test
+    void testRolloverNames() {
+        assertEquals("Data (2)", ExcelUtilityHelper.rolloverSheetName("Data", 2));
+        assertEquals("Sheet (3)", ExcelUtilityHelper.rolloverSheetName(null, 3));
+        assertEquals("A sheet name longer than t (12)",
+                ExcelUtilityHelper.rolloverSheetName("A sheet name longer than thirty-one", 12));
+        assertEquals(tempDir.resolve("report (2).xlsx"),
+                ExcelUtilityHelper.numberedPath(tempDir.resolve("report.xlsx"), 2));
+        assertEquals(tempDir.resolve("report (3)"), ExcelUtilityHelper.numberedPath(tempDir.resolve("report"), 3));
+    }
+
+    private static ExcelUtility utility(int renderThreads, OverflowPolicy overflowPolicy) {
+        return new ExcelUtility(new FieldExtractor(), new DefaultObjectValueProcessor(), renderThreads, overflowPolicy);
+    }
+
+    /**
+     * A stream of the given number of items that does not report its size.
+     */
+    private static Stream<Item> unsized(int count) {
+        return IntStream.range(0, count).filter(i -> true).mapToObj(Item::new);
+    }
+
+    @ExcelMapper
+    static class Item {
+        @ExcelColumn
+        private final int id;
+
+        Item(int id) {
+            this.id = id;
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.excel.utility;
+
+import com.excel.utility.annotation.ExcelColumn;
+import com.excel.utility.annotation.ExcelMapper;
+import com.excel.utility.dto.ExportSummary;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExcelUtilityPagedExportTest {
+
+    private final ExcelUtility excelUtility = new ExcelUtility();
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testExportPages_OffsetAndKeysetPaging() throws IOException {
+        List<Long> offsets = new CopyOnWriteArrayList<>();
+        PageSource<Invoice> byOffset = (offset, last) -> {
+            offsets.add(offset);
+            return invoices(offset, Math.min(100, 1_050 - offset));
+        };
+        Path target = tempDir.resolve("invoices.xlsx");
+
+        ExportSummary summary = excelUtility.exportPagesTo(target, byOffset, Invoice.class, "Invoices");
+
+        assertEquals(1_050, summary.getRowCount());
+        assertEquals(LongStream.rangeClosed(0, 10).map(i -> i * 100).boxed().collect(Collectors.toList()),
+                offsets.subList(0, 11));
+        assertEquals(1_050L, offsets.get(11));
+        try (Workbook workbook = new XSSFWorkbook(Files.newInputStream(target))) {
+            Sheet sheet = workbook.getSheet("Invoices");
+            assertEquals(1_050, sheet.getLastRowNum());
+            assertEquals(1_049.0, sheet.getRow(1_050).getCell(0).getNumericCellValue());
+        }
+
+        PageSource<Invoice> byKey = (offset, last) -> {
+            long after = last == null ? -1 : last.id;
+            return after >= 249 ? null : invoices(after + 1, 50);
+        };
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        assertEquals(250, excelUtility.exportPagesTo(outputStream, byKey, Invoice.class, "Invoices",
+                ExportBackend.SPREADSHEETML).getRowCount());
+    }
+
+    @Test
+    void testPageStream_PrefetchesABoundedNumberOfPages() throws InterruptedException {
+        AtomicInteger fetched = new AtomicInteger();
+        PageSource<Invoice> source = (offset, last) -> {
+            fetched.incrementAndGet();
+            return invoices(offset, 10);
+        };
+
+        try (Stream<Invoice> invoices = source.stream(2)) {
+            Iterator<Invoice> iterator = invoices.iterator();
+            assertEquals(0, iterator.next().id);
+            // The reader stalls on the first page while the next ones are fetched.
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (fetched.get() < 4 && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            Thread.sleep(100);
+            // The page being read, two queued pages and one waiting to be queued.
+            assertEquals(4, fetched.get());
+            for (int i = 1; i < 35; i++) {
+                assertEquals(i, iterator.next().id);
+            }
+        }
+    }
+
+    @Test
+    void testPageStream_FailureAndClose() throws InterruptedException {
+        PageSource<Invoice> failing = (offset, last) -> {
+            if (offset == 20) {
+                throw new IOException("connection reset");
+            }
+            return invoices(offset, 10);
+        };
+        UncheckedIOException e = assertThrows(UncheckedIOException.class,
+                () -> excelUtility.exportPagesTo(new ByteArrayOutputStream(), failing, Invoice.class, "Invoices"));
+        assertEquals("connection reset", e.getCause().getMessage());
+
+        CountDownLatch fetching = new CountDownLatch(2);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        PageSource<Invoice> slow = (offset, last) -> {
+            fetching.countDown();
+            if (offset > 0) {
+                try {
+                    Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+                } catch (InterruptedException stopped) {
+                    interrupted.countDown();
+                    throw stopped;
+                }
+            }
+            return invoices(offset, 10);
+        };
+        Stream<Invoice> invoices = slow.stream(1);
+        assertEquals(0, invoices.iterator().next().id);
+        assertTrue(fetching.await(10, TimeUnit.SECONDS));
+        invoices.close();
+        assertTrue(interrupted.await(10, TimeUnit.SECONDS));
+    }
+
+    private static List<Invoice> invoices(long first, long count) {
+        return LongStream.range(first, first + count).mapToObj(Invoice::new).collect(Collectors.toList());
+    }
+
+    @ExcelMapper
+    static class Invoice {
+        @ExcelColumn
+        private final long id;
+
+        Invoice(long id) {
+            this.id = id;
+        }
+    }
+}
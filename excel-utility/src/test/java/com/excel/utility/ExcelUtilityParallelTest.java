@@ -0,0 +1,105 @@
+package com.excel.utility;
+
+import com.excel.utility.annotation.ExcelColumn;
+import com.excel.utility.annotation.ExcelMapper;
+import com.excel.utility.extractor.FieldExtractor;
+import com.excel.utility.processor.impl.DefaultObjectValueProcessor;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExcelUtilityParallelTest {
+
+    private static final int RENDER_THREADS = 4;
+
+    private final ExcelUtility parallel = new ExcelUtility(new FieldExtractor(), new DefaultObjectValueProcessor(), RENDER_THREADS);
+
+    @Test
+    void testParallelRendering_PreservesInputOrder() {
+        XSSFWorkbook workbook = parallel.mapToXSSFWorkbook(items(5_000), Item.class, "Items");
+        Sheet sheet = workbook.getSheet("Items");
+
+        assertEquals(5_000, sheet.getLastRowNum());
+        for (int i = 1; i <= 5_000; i++) {
+            Row row = sheet.getRow(i);
+            assertEquals(i, row.getCell(0).getNumericCellValue());
+            assertEquals("item " + i, row.getCell(1).getStringCellValue());
+            assertEquals("A, B" + i, row.getCell(2).getStringCellValue());
+        }
+    }
+
+    @Test
+    void testParallelRendering_MatchesSequentialOutputForUntypedStream() {
+        Sheet expected = new ExcelUtility().mapToXSSFWorkbook(items(700)).getSheetAt(0);
+        Sheet actual = parallel.mapToXSSFWorkbook(items(700)).getSheetAt(0);
+
+        assertEquals(expected.getLastRowNum(), actual.getLastRowNum());
+        for (int i = 0; i <= expected.getLastRowNum(); i++) {
+            for (int c = 0; c < 3; c++) {
+                assertEquals(expected.getRow(i).getCell(c).toString(), actual.getRow(i).getCell(c).toString());
+            }
+        }
+    }
+
+    @Test
+    void testParallelRendering_InFlightRowsAreBounded() {
+        Workbook workbook = new XSSFWorkbook();
+        AtomicInteger pulled = new AtomicInteger();
+        int bound = (RENDER_THREADS * 2 + 1) * Config.PARALLEL_BATCH_SIZE;
+
+        Stream<Item> rows = items(8_000).peek(item -> {
+            Sheet sheet = workbook.getSheet("Bounded");
+            int written = sheet == null ? 0 : sheet.getLastRowNum();
+            assertTrue(pulled.incrementAndGet() - written <= bound, "Rows pulled ahead of the writer must stay bounded.");
+        });
+
+        parallel.mapToExistingWorkbook(workbook, rows, Item.class, "Bounded");
+
+        assertEquals(8_000, workbook.getSheet("Bounded").getLastRowNum());
+    }
+
+    @Test
+    void testParallelRendering_WorkerFailurePropagates() {
+        ExcelUtility failing = new ExcelUtility(new FieldExtractor(), new DefaultObjectValueProcessor() {
+            @Override
+            public String process(Object fieldValue) {
+                if ("item 600".equals(fieldValue)) {
+                    throw new IllegalStateException("bad value");
+                }
+                return super.process(fieldValue);
+            }
+        }, RENDER_THREADS);
+
+        IllegalStateException e = assertThrows(IllegalStateException.class,
+                () -> failing.mapToXSSFWorkbook(items(2_000), Item.class));
+        assertEquals("bad value", e.getMessage());
+    }
+
+    private static Stream<Item> items(int count) {
+        return Stream.iterate(1, i -> i + 1).limit(count).map(i -> new Item(i, "item " + i, List.of("A", "B" + i)));
+    }
+
+    @ExcelMapper
+    static class Item {
+        @ExcelColumn
+        private final int id;
+        @ExcelColumn
+        private final String label;
+        @ExcelColumn
+        private final List<String> tags;
+
+        Item(int id, String label, List<String> tags) {
+            this.id = id;
+            this.label = label;
+            this.tags = tags;
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.excel.utility;
+
+import com.excel.utility.annotation.ExcelColumn;
+import com.excel.utility.annotation.ExcelMapper;
+import com.excel.utility.dto.ExportSummary;
+import com.excel.utility.util.CellValueType;
+import com.excel.utility.writer.SheetPartWriter;
+import com.excel.utility.writer.SpreadsheetMLWriter;
+import com.excel.utility.writer.XlsbWriter;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.eventusermodel.XSSFBReader;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExcelUtilityResumableExportTest {
+
+    private final ExcelUtility excelUtility = new ExcelUtility();
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testResumableExport_ResumesFromLastFinishedSheet() throws IOException {
+        Path target = tempDir.resolve("ledger.xlsx");
+        Path checkpoints = tempDir.resolve("ledger.checkpoint");
+        List<String> positions = new ArrayList<>();
+
+        ResumableSource<Entry> crashing = position -> {
+            positions.add(position);
+            return entries(0, 2_500).peek(entry -> {
+                if (entry.id == 2_300) {
+                    throw new IllegalStateException("connection lost");
+                }
+            });
+        };
+        IllegalStateException crash = assertThrows(IllegalStateException.class, () -> excelUtility.exportResumableTo(
+                target, crashing, Entry.class, "Ledger", ExportBackend.SPREADSHEETML, checkpoints, 1_000));
+        assertEquals("connection lost", crash.getMessage());
+        assertTrue(Files.exists(checkpoints.resolve(ExportCheckpoint.FILE_NAME)));
+        assertTrue(Files.exists(ExportCheckpoint.partFile(checkpoints, 2)));
+        assertFalse(Files.exists(ExportCheckpoint.partFile(checkpoints, 3)));
+
+        ResumableSource<Entry> resumed = position -> {
+            positions.add(position);
+            return entries(Long.parseLong(position), 2_500);
+        };
+        ExportSummary summary = excelUtility.exportResumableTo(target, resumed, Entry.class, "Ledger",
+                ExportBackend.SPREADSHEETML, checkpoints, 1_000);
+
+        assertEquals(Arrays.asList(null, "2000"), positions);
+        assertEquals(2_500, summary.getRowCount());
+        assertEquals(3, summary.getSheetCount());
+        assertEquals(Files.size(target), summary.getByteCount());
+        assertFalse(Files.exists(checkpoints));
+        try (Workbook workbook = new XSSFWorkbook(Files.newInputStream(target))) {
+            assertEquals(List.of("Ledger", "Ledger (2)", "Ledger (3)"),
+                    List.of(workbook.getSheetName(0), workbook.getSheetName(1), workbook.getSheetName(2)));
+            Sheet first = workbook.getSheet("Ledger");
+            assertEquals(1_000, first.getLastRowNum());
+            assertEquals(999.0, first.getRow(1_000).getCell(0).getNumericCellValue());
+            Sheet last = workbook.getSheet("Ledger (3)");
+            assertEquals(500, last.getLastRowNum());
+            assertEquals("Id", last.getRow(0).getCell(0).getStringCellValue());
+            assertEquals(2_499.0, last.getRow(500).getCell(0).getNumericCellValue());
+            assertEquals("entry 2000", last.getRow(1).getCell(1).getStringCellValue());
+        }
+    }
+
+    @Test
+    void testResumableExport_KeysetPositionAndXlsb() throws Exception {
+        Path target = tempDir.resolve("ledger.xlsb");
+        Path checkpoints = tempDir.resolve("checkpoints");
+        List<String> positions = new ArrayList<>();
+        ResumableSource<Entry> byKey = new ResumableSource<>() {
+            @Override
+            public Stream<Entry> open(String position) {
+                positions.add(position);
+                return entries(position == null ? 0 : Long.parseLong(position.substring(4)) + 1, 30);
+            }
+
+            @Override
+            public String positionAfter(Entry last, long rowCount) {
+                return "key:" + last.id;
+            }
+        };
+
+        ExportSummary summary = excelUtility.exportResumableTo(target, byKey, Entry.class, "Ledger",
+                ExportBackend.XLSB, checkpoints, 7);
+
+        assertEquals(30, summary.getRowCount());
+        assertEquals(5, summary.getSheetCount());
+        assertEquals(1, positions.size());
+        List<String> names = new ArrayList<>();
+        try (OPCPackage opcPackage = OPCPackage.open(target.toFile())) {
+            XSSFReader.SheetIterator iterator = (XSSFReader.SheetIterator) new XSSFBReader(opcPackage).getSheetsData();
+            while (iterator.hasNext()) {
+                iterator.next().close();
+                names.add(iterator.getSheetName());
+            }
+        }
+        assertEquals(List.of("Ledger", "Ledger (2)", "Ledger (3)", "Ledger (4)", "Ledger (5)"), names);
+
+        Files.createDirectories(checkpoints);
+        new ExportCheckpoint(Entry.class.getName(), "Ledger", ExportBackend.XLSB, 7).save(checkpoints);
+        assertThrows(IllegalArgumentException.class, () -> excelUtility.exportResumableTo(target, byKey,
+                Entry.class, "Ledger", ExportBackend.SPREADSHEETML, checkpoints, 7));
+        assertThrows(IllegalArgumentException.class, () -> excelUtility.exportResumableTo(target, byKey,
+                Entry.class, "Ledger", ExportBackend.POI, checkpoints, 7));
+    }
+
+    @Test
+    void testKeptSheetPart_AppendsOnlyToTheSameFormat() throws IOException {
+        Path partFile = tempDir.resolve("sheet.part");
+        String[] headers = {"Value"};
+        int[] orders = {1};
+        CellValueType[] types = {CellValueType.NUMBER};
+        try (XlsbWriter writer = new XlsbWriter(new ByteArrayOutputStream())) {
+            SheetPartWriter part = writer.newSheetPart(partFile);
+            part.startSheet("Kept", headers, orders, types);
+            part.writeRow(new Object[]{42});
+            part.finish();
+            part.close();
+        }
+        assertTrue(Files.exists(partFile));
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (SpreadsheetMLWriter other = new SpreadsheetMLWriter(outputStream);
+             XlsbWriter same = new XlsbWriter(outputStream)) {
+            assertThrows(IllegalArgumentException.class, () -> other.appendSheets(partFile, List.of("Kept")));
+            assertThrows(IllegalArgumentException.class, () -> same.appendSheets(partFile, List.of("A", "B")));
+            same.appendSheets(partFile, List.of("Kept"));
+        }
+    }
+
+    private static Stream<Entry> entries(long first, long end) {
+        return LongStream.range(first, end).mapToObj(Entry::new);
+    }
+
+    @ExcelMapper
+    static class Entry {
+        @ExcelColumn
+        private final long id;
+        @ExcelColumn
+        private final String description;
+
+        Entry(long id) {
+            this.id = id;
+            this.description = "entry " + id;
+        }
+    }
+}
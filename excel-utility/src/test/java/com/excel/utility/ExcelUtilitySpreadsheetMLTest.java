@@ -0,0 +1,230 @@
+package com.excel.utility;
+
+import com.excel.utility.annotation.ExcelColumn;
+import com.excel.utility.annotation.ExcelMapper;
+import com.excel.utility.dto.ExportSummary;
+import com.excel.utility.processor.impl.DefaultObjectValueProcessor;
+import com.excel.utility.util.CellValueType;
+import com.excel.utility.writer.SpreadsheetMLWriter;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExcelUtilitySpreadsheetMLTest {
+
+    private final ExcelUtility excelUtility = new ExcelUtility();
+
+    @Test
+    void testSpreadsheetML_MatchesPoiBackend() throws IOException {
+        ByteArrayOutputStream poi = new ByteArrayOutputStream();
+        ByteArrayOutputStream raw = new ByteArrayOutputStream();
+
+        excelUtility.exportTo(poi, records(), Record.class, "Records", ExportBackend.POI);
+        ExportSummary summary = excelUtility.exportTo(raw, records(), Record.class, "Records",
+                ExportBackend.SPREADSHEETML);
+
+        assertEquals(4, summary.getRowCount());
+        assertEquals(raw.size(), summary.getByteCount());
+        try (XSSFWorkbook expected = read(poi); XSSFWorkbook actual = read(raw)) {
+            Sheet expectedSheet = expected.getSheet("Records");
+            Sheet actualSheet = actual.getSheet("Records");
+            assertEquals(expectedSheet.getLastRowNum(), actualSheet.getLastRowNum());
+            for (int r = 0; r <= expectedSheet.getLastRowNum(); r++) {
+                for (int c = 0; c < 8; c++) {
+                    assertEquals(describe(expectedSheet.getRow(r).getCell(c)),
+                            describe(actualSheet.getRow(r).getCell(c)), "row " + r + ", column " + c);
+                }
+            }
+            assertTrue(actual.getFontAt(actualSheet.getRow(0).getCell(0).getCellStyle().getFontIndex()).getBold());
+        }
+    }
+
+    @Test
+    void testSpreadsheetML_EscapesTextAndTruncatesLongCells() throws IOException {
+        String special = "_x0041_\u0001 ctrl";
+        String longText = "y".repeat(Config.MAX_CELL_LENGTH + 10);
+        ByteArrayOutputStream raw = new ByteArrayOutputStream();
+
+        excelUtility.exportTo(raw, Stream.of(new Record(1, special), new Record(2, longText)), "Records",
+                ExportBackend.SPREADSHEETML);
+
+        try (XSSFWorkbook workbook = read(raw)) {
+            Sheet sheet = workbook.getSheetAt(0);
+            assertEquals(special, sheet.getRow(1).getCell(7).getStringCellValue());
+            assertEquals(Config.TRUNCATED_CELL_LENGTH, sheet.getRow(2).getCell(7).getStringCellValue().length());
+        }
+    }
+
+    @Test
+    void testSpreadsheetML_CustomProcessorAndUnsortedColumns() throws IOException {
+        ExcelUtility custom = new ExcelUtility(new DefaultObjectValueProcessor() {
+            @Override
+            public String process(Object fieldValue) {
+                return "<" + fieldValue + ">";
+            }
+        });
+        ByteArrayOutputStream raw = new ByteArrayOutputStream();
+
+        custom.exportTo(raw, Stream.of(new Reordered("a", 2)), Reordered.class, "Sheet", ExportBackend.SPREADSHEETML);
+
+        try (XSSFWorkbook workbook = read(raw)) {
+            Row row = workbook.getSheetAt(0).getRow(1);
+            assertEquals("<2>", row.getCell(0).getStringCellValue());
+            assertNull(row.getCell(1));
+            assertEquals("<a>", row.getCell(2).getStringCellValue());
+        }
+    }
+
+    @Test
+    void testSpreadsheetML_OverriddenFlattenCollectionMatchesPoi() throws IOException {
+        ExcelUtility custom = new ExcelUtility(new DefaultObjectValueProcessor() {
+            @Override
+            public String flattenCollection(Collection<?> collection) {
+                return collection.size() + " tags";
+            }
+        });
+        ByteArrayOutputStream poi = new ByteArrayOutputStream();
+        ByteArrayOutputStream raw = new ByteArrayOutputStream();
+
+        custom.exportTo(poi, Stream.of(new Tagged(List.of("a", "b"))), Tagged.class, "Sheet", ExportBackend.POI);
+        custom.exportTo(raw, Stream.of(new Tagged(List.of("a", "b"))), Tagged.class, "Sheet",
+                ExportBackend.SPREADSHEETML);
+
+        try (XSSFWorkbook expected = read(poi); XSSFWorkbook actual = read(raw)) {
+            assertEquals("2 tags", expected.getSheetAt(0).getRow(1).getCell(0).getStringCellValue());
+            assertEquals("2 tags", actual.getSheetAt(0).getRow(1).getCell(0).getStringCellValue());
+        }
+    }
+
+    @Test
+    void testSpreadsheetMLWriter_MultipleSheetsAndNameValidation() throws IOException {
+        ByteArrayOutputStream raw = new ByteArrayOutputStream();
+        String[] headers = {"Name"};
+        int[] orders = {1};
+        CellValueType[] types = {CellValueType.STRING};
+
+        try (SpreadsheetMLWriter writer = new SpreadsheetMLWriter(raw)) {
+            writer.startSheet("First", headers, orders, types);
+            writer.writeRow(new Object[]{"one"});
+            assertThrows(IllegalArgumentException.class, () -> writer.startSheet("first", headers, orders, types));
+            assertThrows(IllegalArgumentException.class, () -> writer.startSheet("a/b", headers, orders, types));
+            writer.startSheet("A sheet name longer than thirty-one characters", headers, orders, types);
+            writer.writeRow(new Object[]{"two"});
+            writer.finish();
+        }
+
+        try (XSSFWorkbook workbook = read(raw)) {
+            assertEquals(2, workbook.getNumberOfSheets());
+            assertEquals("one", workbook.getSheet("First").getRow(1).getCell(0).getStringCellValue());
+            assertEquals("A sheet name longer than thirty", workbook.getSheetName(1));
+            assertEquals("two", workbook.getSheetAt(1).getRow(1).getCell(0).getStringCellValue());
+        }
+    }
+
+    private static Stream<Record> records() {
+        return Stream.of(
+                new Record(1, 2.5, true, new BigDecimal("12.34"), LocalDate.of(2025, 1, 31),
+                        LocalDateTime.of(2025, 1, 31, 23, 59, 1), 9_007_199_254_740_993L,
+                        "a & b < c > \"d\"\té中😀"),
+                new Record(2, null, null, null, null, null, -7L, " padded "),
+                new Record(3, -0.125, false, new BigDecimal("12345678901234567.89"), LocalDate.of(1999, 12, 31),
+                        LocalDateTime.of(2000, 2, 29, 0, 0), 0L, ""),
+                new Record(4, 1e20, true, BigDecimal.ZERO, null, null, Long.MIN_VALUE, null));
+    }
+
+    private static XSSFWorkbook read(ByteArrayOutputStream outputStream) throws IOException {
+        return new XSSFWorkbook(new ByteArrayInputStream(outputStream.toByteArray()));
+    }
+
+    /**
+     * Reduces a cell to its type, value and number format; missing and blank cells are equivalent.
+     */
+    private static String describe(Cell cell) {
+        if (cell == null || cell.getCellType() == CellType.BLANK) {
+            return "";
+        }
+        switch (cell.getCellType()) {
+            case NUMERIC:
+                return cell.getNumericCellValue() + " " + cell.getCellStyle().getDataFormatString();
+            case BOOLEAN:
+                return String.valueOf(cell.getBooleanCellValue());
+            default:
+                String text = cell.getStringCellValue();
+                return text.isEmpty() ? "" : "'" + text;
+        }
+    }
+
+    @ExcelMapper
+    static class Record {
+        @ExcelColumn
+        private final int id;
+        @ExcelColumn
+        private final Double amount;
+        @ExcelColumn
+        private final Boolean active;
+        @ExcelColumn
+        private final BigDecimal price;
+        @ExcelColumn
+        private final LocalDate day;
+        @ExcelColumn
+        private final LocalDateTime updated;
+        @ExcelColumn
+        private final long count;
+        @ExcelColumn
+        private final String text;
+
+        Record(int id, String text) {
+            this(id, null, null, null, null, null, 0L, text);
+        }
+
+        Record(int id, Double amount, Boolean active, BigDecimal price, LocalDate day, LocalDateTime updated,
+               long count, String text) {
+            this.id = id;
+            this.amount = amount;
+            this.active = active;
+            this.price = price;
+            this.day = day;
+            this.updated = updated;
+            this.count = count;
+            this.text = text;
+        }
+    }
+
+    @ExcelMapper
+    static class Reordered {
+        @ExcelColumn(columnOrder = 3)
+        private final String name;
+        @ExcelColumn(columnOrder = 1)
+        private final int rank;
+
+        Reordered(String name, int rank) {
+            this.name = name;
+            this.rank = rank;
+        }
+    }
+
+    @ExcelMapper
+    static class Tagged {
+        @ExcelColumn
+        private final List<String> tags;
+
+        Tagged(List<String> tags) {
+            this.tags = tags;
+        }
+    }
+}
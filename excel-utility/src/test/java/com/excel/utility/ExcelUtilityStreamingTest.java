@@ -0,0 +1,85 @@
+package com.excel.utility;
+
+import com.excel.utility.annotation.ExcelColumn;
+import com.excel.utility.annotation.ExcelMapper;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExcelUtilityStreamingTest {
+
+    private final ExcelUtility excelUtility = new ExcelUtility();
+
+    @Test
+    void testTypedStream_EmptyProducesHeaderOnlySheet() {
+        XSSFWorkbook workbook = excelUtility.mapToXSSFWorkbook(Stream.empty(), Row.class, "Empty");
+        Sheet sheet = workbook.getSheet("Empty");
+
+        assertEquals(0, sheet.getLastRowNum(), "Only the header row should be present.");
+        assertEquals("Id", sheet.getRow(0).getCell(0).getStringCellValue());
+        assertEquals("Label", sheet.getRow(0).getCell(1).getStringCellValue());
+    }
+
+    @Test
+    void testUntypedStream_EmptyStillRejected() {
+        assertThrows(IllegalArgumentException.class, () -> excelUtility.mapToXSSFWorkbook(Stream.empty()));
+    }
+
+    @Test
+    void testTypedStream_RowsAreWrittenAsTheStreamIsConsumed() {
+        Workbook workbook = new XSSFWorkbook();
+        AtomicInteger pulled = new AtomicInteger();
+
+        Stream<Row> rows = Stream.iterate(0, i -> i + 1)
+                .limit(50)
+                .peek(i -> {
+                    // Every previously pulled element must already be a row when the next one is pulled.
+                    assertEquals(i.intValue(), workbook.getSheet("Lazy").getLastRowNum());
+                    pulled.incrementAndGet();
+                })
+                .map(i -> new Row(i, "row " + i));
+
+        excelUtility.mapToExistingWorkbook(workbook, rows, Row.class, "Lazy");
+
+        assertEquals(50, pulled.get());
+        assertEquals(50, workbook.getSheet("Lazy").getLastRowNum());
+    }
+
+    @Test
+    void testUntypedStream_PeeksFirstElementWithoutMaterializing() {
+        AtomicInteger pulled = new AtomicInteger();
+        Stream<Row> rows = Stream.iterate(0, i -> i + 1)
+                .limit(1_000)
+                .peek(i -> pulled.incrementAndGet())
+                .map(i -> new Row(i, "row " + i));
+
+        SXSSFWorkbook workbook = excelUtility.mapToSXSSFWorkbook(rows, "Streamed");
+        try {
+            assertEquals(1_000, pulled.get());
+            assertEquals(1_000, workbook.getSheet("Streamed").getLastRowNum());
+        } finally {
+            workbook.dispose();
+        }
+    }
+
+    @ExcelMapper
+    static class Row {
+        @ExcelColumn
+        private final int id;
+
+        @ExcelColumn
+        private final String label;
+
+        Row(int id, String label) {
+            this.id = id;
+            this.label = label;
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package com.excel.utility;
+
+import com.excel.utility.annotation.ExcelColumn;
+import com.excel.utility.annotation.ExcelMapper;
+import com.excel.utility.dto.ColumnMetadata;
+import com.excel.utility.extractor.FieldExtractor;
+import com.excel.utility.processor.impl.DefaultObjectValueProcessor;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExcelUtilityTypedCellTest {
+
+    private static final LocalDateTime UPDATED = LocalDateTime.of(2025, 1, 1, 9, 30);
+
+    @Test
+    void testNativeCellValues_XSSF() {
+        assertNativeValues(new ExcelUtility().mapToXSSFWorkbook(List.of(typed())));
+    }
+
+    @Test
+    void testNativeCellValues_HSSF() {
+        assertNativeValues(new ExcelUtility().mapToHSSFWorkbook(List.of(typed())));
+    }
+
+    @Test
+    void testNullNativeValuesLeaveBlankCells() {
+        XSSFWorkbook workbook = new ExcelUtility().mapToXSSFWorkbook(List.of(new Typed(1, null, null, null, null, null, 0L, null, "x")));
+        Row row = workbook.getSheetAt(0).getRow(1);
+
+        assertEquals(CellType.BLANK, row.getCell(1).getCellType());
+        assertEquals(CellType.BLANK, row.getCell(2).getCellType());
+        assertEquals(CellType.BLANK, row.getCell(4).getCellType());
+        assertEquals(CellType.BLANK, row.getCell(5).getCellType());
+    }
+
+    @Test
+    void testUnrepresentableNumbersFallBackToText() {
+        Typed data = new Typed(1, 2.5, true, new BigDecimal("12345678901234567.89"), LocalDate.of(2025, 1, 1),
+                UPDATED, Long.MAX_VALUE, 0.1f, "x");
+        Row row = new ExcelUtility().mapToXSSFWorkbook(List.of(data)).getSheetAt(0).getRow(1);
+
+        assertEquals("12345678901234567.89", row.getCell(3).getStringCellValue());
+        assertEquals(String.valueOf(Long.MAX_VALUE), row.getCell(6).getStringCellValue());
+        assertEquals(0.1, row.getCell(7).getNumericCellValue());
+    }
+
+    @Test
+    void testCustomProcessorKeepsStringCells() {
+        ExcelUtility excelUtility = new ExcelUtility(new DefaultObjectValueProcessor() {
+            @Override
+            public String process(Object fieldValue) {
+                return "[" + super.process(fieldValue) + "]";
+            }
+        });
+        Row row = excelUtility.mapToXSSFWorkbook(List.of(typed())).getSheetAt(0).getRow(1);
+
+        assertEquals("[7]", row.getCell(0).getStringCellValue());
+        assertEquals("[true]", row.getCell(2).getStringCellValue());
+    }
+
+    @Test
+    void testProcessorWithoutProcessOverrideKeepsNativeCells() {
+        ExcelUtility excelUtility = new ExcelUtility(new DefaultObjectValueProcessor() {
+            @Override
+            public String flattenCollection(Collection<?> collection) {
+                return "[" + super.flattenCollection(collection) + "]";
+            }
+        });
+
+        assertNativeValues(excelUtility.mapToXSSFWorkbook(List.of(typed())));
+    }
+
+    @Test
+    void testCustomExtractorFallsBackToTextPerValue_XSSF() {
+        Row row = maskingUtility().mapToXSSFWorkbook(List.of(typed())).getSheetAt(0).getRow(1);
+
+        assertMaskedValues(row);
+    }
+
+    @Test
+    void testCustomExtractorFallsBackToTextPerValue_SpreadsheetML() throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        maskingUtility().exportTo(outputStream, Stream.of(typed()), Typed.class, "Typed", ExportBackend.SPREADSHEETML);
+
+        try (Workbook workbook = new XSSFWorkbook(new ByteArrayInputStream(outputStream.toByteArray()))) {
+            assertMaskedValues(workbook.getSheetAt(0).getRow(1));
+        }
+    }
+
+    private static ExcelUtility maskingUtility() {
+        return new ExcelUtility(new FieldExtractor() {
+            @Override
+            public Object process(ColumnMetadata columnMetadata, Object targetObject) {
+                Object value = super.process(columnMetadata, targetObject);
+                return value instanceof Integer || value instanceof LocalDate ? "***" : value;
+            }
+        });
+    }
+
+    private static void assertMaskedValues(Row row) {
+        assertEquals("***", row.getCell(0).getStringCellValue());
+        assertEquals(2.5, row.getCell(1).getNumericCellValue());
+        assertEquals("***", row.getCell(4).getStringCellValue());
+        assertDate(row.getCell(5), UPDATED);
+    }
+
+    private static void assertNativeValues(Workbook workbook) {
+        Row row = workbook.getSheetAt(0).getRow(1);
+
+        assertEquals(7, row.getCell(0).getNumericCellValue());
+        assertEquals(2.5, row.getCell(1).getNumericCellValue());
+        assertTrue(row.getCell(2).getBooleanCellValue());
+        assertEquals(10000.5, row.getCell(3).getNumericCellValue());
+        assertDate(row.getCell(4), LocalDate.of(2025, 1, 1).atStartOfDay());
+        assertDate(row.getCell(5), UPDATED);
+        assertEquals(5000, row.getCell(6).getNumericCellValue());
+        assertEquals(2000.5, row.getCell(7).getNumericCellValue());
+        assertEquals("text", row.getCell(8).getStringCellValue());
+    }
+
+    private static void assertDate(Cell cell, LocalDateTime expected) {
+        assertEquals(CellType.NUMERIC, cell.getCellType());
+        assertTrue(DateUtil.isCellDateFormatted(cell), "Date cells must carry a date format.");
+        assertEquals(expected, cell.getLocalDateTimeCellValue());
+    }
+
+    private static Typed typed() {
+        return new Typed(7, 2.5, true, new BigDecimal("10000.50"), LocalDate.of(2025, 1, 1), UPDATED, 5000L,
+                2000.5f, "text");
+    }
+
+    @ExcelMapper
+    static class Typed {
+        @ExcelColumn
+        private final int count;
+        @ExcelColumn
+        private final Double ratio;
+        @ExcelColumn
+        private final Boolean active;
+        @ExcelColumn
+        private final BigDecimal amount;
+        @ExcelColumn
+        private final LocalDate day;
+        @ExcelColumn
+        private final LocalDateTime updated;
+        @ExcelColumn
+        private final long bonus;
+        @ExcelColumn
+        private final Float balance;
+        @ExcelColumn
+        private final String label;
+
+        Typed(int count, Double ratio, Boolean active, BigDecimal amount, LocalDate day, LocalDateTime updated,
+              long bonus, Float balance, String label) {
+            this.count = count;
+            this.ratio = ratio;
+            this.active = active;
+            this.amount = amount;
+            this.day = day;
+            this.updated = updated;
+            this.bonus = bonus;
+            this.balance = balance;
+            this.label = label;
+        }
+    }
+}
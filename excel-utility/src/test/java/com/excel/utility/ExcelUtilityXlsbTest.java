@@ -0,0 +1,188 @@
+package com.excel.utility;
+
+import com.excel.utility.annotation.ExcelColumn;
+import com.excel.utility.annotation.ExcelMapper;
+import com.excel.utility.dto.ExportSummary;
+import com.excel.utility.util.CellValueType;
+import com.excel.utility.writer.XlsbWriter;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.xssf.binary.XSSFBSheetHandler;
+import org.apache.poi.xssf.binary.XSSFBStylesTable;
+import org.apache.poi.xssf.eventusermodel.XSSFBReader;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static com.excel.utility.TestWorkbooks.formattedCells;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExcelUtilityXlsbTest {
+
+    private final ExcelUtility excelUtility = new ExcelUtility();
+
+    @Test
+    void testXlsb_MatchesPoiBackendValues() throws Exception {
+        ByteArrayOutputStream poi = new ByteArrayOutputStream();
+        ByteArrayOutputStream xlsb = new ByteArrayOutputStream();
+
+        excelUtility.exportTo(poi, records(), Record.class, "Records", ExportBackend.POI);
+        ExportSummary summary = excelUtility.exportTo(xlsb, records(), Record.class, "Records", ExportBackend.XLSB);
+
+        assertEquals(4, summary.getRowCount());
+        assertEquals(xlsb.size(), summary.getByteCount());
+        Map<String, Map<String, String>> sheets = readXlsb(xlsb.toByteArray());
+        assertEquals(1, sheets.size());
+        assertEquals(formattedCells(poi.toByteArray()), sheets.get("Records"));
+    }
+
+    @Test
+    void testXlsb_PackageHasBinaryPartsAndNoSharedStrings() throws Exception {
+        ByteArrayOutputStream xlsb = new ByteArrayOutputStream();
+
+        excelUtility.exportTo(xlsb, records(), "Records", ExportBackend.XLSB);
+
+        Map<String, Boolean> entries = new LinkedHashMap<>();
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(xlsb.toByteArray()))) {
+            for (ZipEntry entry = zip.getNextEntry(); entry != null; entry = zip.getNextEntry()) {
+                entries.put(entry.getName(), true);
+            }
+        }
+        assertTrue(entries.containsKey("xl/workbook.bin"));
+        assertTrue(entries.containsKey("xl/styles.bin"));
+        assertTrue(entries.containsKey("xl/worksheets/sheet1.bin"));
+        assertTrue(entries.containsKey("[Content_Types].xml"));
+        assertFalse(entries.keySet().stream().anyMatch(name -> name.contains("sharedStrings")));
+    }
+
+    @Test
+    void testXlsbWriter_MultipleSheetsAndNumberEncodings() throws Exception {
+        ByteArrayOutputStream xlsb = new ByteArrayOutputStream();
+        String[] headers = {"Value", "Text"};
+        int[] orders = {1, 2};
+        CellValueType[] types = {CellValueType.NUMBER, CellValueType.STRING};
+
+        try (XlsbWriter writer = new XlsbWriter(xlsb)) {
+            writer.startSheet("Numbers", headers, orders, types);
+            for (double value : new double[]{0, -1, 536_870_911, 536_870_912, 0.5, -2.25, 0.1, 1e300}) {
+                writer.writeRow(new Object[]{value, "\u0001" + value});
+            }
+            writer.startSheet("Empty", headers, orders, types);
+            writer.finish();
+        }
+
+        Map<String, Map<String, String>> sheets = readXlsb(xlsb.toByteArray());
+        assertEquals(2, sheets.size());
+        Map<String, String> numbers = sheets.get("Numbers");
+        assertEquals("0", numbers.get("A2"));
+        assertEquals("-1", numbers.get("A3"));
+        assertEquals("536870911", numbers.get("A4"));
+        assertEquals("536870912", numbers.get("A5"));
+        assertEquals("0.5", numbers.get("A6"));
+        assertEquals("-2.25", numbers.get("A7"));
+        assertEquals("0.1", numbers.get("A8"));
+        assertEquals("1E+300", numbers.get("A9"));
+        assertEquals("\u00010.1", numbers.get("B8"));
+        assertEquals(Map.of("A1", "Value", "B1", "Text"), sheets.get("Empty"));
+    }
+
+    private static Stream<Record> records() {
+        return Stream.of(
+                new Record(1, 2.5, true, new BigDecimal("12.34"), LocalDate.of(2025, 1, 31),
+                        LocalDateTime.of(2025, 1, 31, 23, 59, 1), 9_007_199_254_740_993L, "a & b < c\té中😀"),
+                new Record(2, null, null, null, null, null, -7L, " padded "),
+                new Record(3, -0.125, false, new BigDecimal("12345678901234567.89"), LocalDate.of(1999, 12, 31),
+                        LocalDateTime.of(2000, 2, 29, 0, 0), 0L, ""),
+                new Record(4, 1e20, true, BigDecimal.ZERO, null, null, Long.MIN_VALUE, null));
+    }
+
+    /**
+     * Reads every sheet of an XLSB package with POI's binary reader, as formatted values by cell reference.
+     */
+    private static Map<String, Map<String, String>> readXlsb(byte[] bytes) throws Exception {
+        Map<String, Map<String, String>> sheets = new LinkedHashMap<>();
+        try (OPCPackage opcPackage = OPCPackage.open(new ByteArrayInputStream(bytes))) {
+            XSSFBReader reader = new XSSFBReader(opcPackage);
+            XSSFBStylesTable styles = reader.getXSSFBStylesTable();
+            XSSFReader.SheetIterator iterator = (XSSFReader.SheetIterator) reader.getSheetsData();
+            while (iterator.hasNext()) {
+                Map<String, String> cells = new TreeMap<>();
+                try (InputStream sheet = iterator.next()) {
+                    new XSSFBSheetHandler(sheet, styles, null, null, new Collector(cells), new DataFormatter(), false)
+                            .parse();
+                }
+                sheets.put(iterator.getSheetName(), cells);
+            }
+        }
+        return sheets;
+    }
+
+    private static final class Collector implements XSSFSheetXMLHandler.SheetContentsHandler {
+        private final Map<String, String> cells;
+
+        private Collector(Map<String, String> cells) {
+            this.cells = cells;
+        }
+
+        @Override
+        public void startRow(int rowNum) {
+        }
+
+        @Override
+        public void endRow(int rowNum) {
+        }
+
+        @Override
+        public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+            if (!formattedValue.isEmpty()) {
+                cells.put(cellReference, formattedValue);
+            }
+        }
+    }
+
+    @ExcelMapper
+    static class Record {
+        @ExcelColumn
+        private final int id;
+        @ExcelColumn
+        private final Double amount;
+        @ExcelColumn
+        private final Boolean active;
+        @ExcelColumn
+        private final BigDecimal price;
+        @ExcelColumn
+        private final LocalDate day;
+        @ExcelColumn
+        private final LocalDateTime updated;
+        @ExcelColumn
+        private final long count;
+        @ExcelColumn
+        private final String text;
+
+        Record(int id, Double amount, Boolean active, BigDecimal price, LocalDate day, LocalDateTime updated,
+               long count, String text) {
+            this.id = id;
+            this.amount = amount;
+            this.active = active;
+            this.price = price;
+            this.day = day;
+            this.updated = updated;
+            this.count = count;
+            this.text = text;
+        }
+    }
+}
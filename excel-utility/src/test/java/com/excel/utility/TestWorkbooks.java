@@ -0,0 +1,49 @@
+package com.excel.utility;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Reads written workbooks back for comparison in tests.
+ */
+final class TestWorkbooks {
+
+    private TestWorkbooks() {
+    }
+
+    /**
+     * @return the displayed text of every non-empty cell of the first sheet of an XLSX workbook, by A1 reference.
+     */
+    static Map<String, String> formattedCells(byte[] xlsx) throws IOException {
+        try (Workbook workbook = new XSSFWorkbook(new ByteArrayInputStream(xlsx))) {
+            return formattedCells(workbook.getSheetAt(0));
+        }
+    }
+
+    /**
+     * @return the displayed text of every non-empty cell of the sheet, by A1 reference.
+     */
+    static Map<String, String> formattedCells(Sheet sheet) {
+        Map<String, String> cells = new TreeMap<>();
+        DataFormatter formatter = new DataFormatter();
+        for (Row row : sheet) {
+            for (Cell cell : row) {
+                String value = formatter.formatCellValue(cell);
+                if (!value.isEmpty()) {
+                    cells.put(new CellReference(cell).formatAsString(false), value);
+                }
+            }
+        }
+        return cells;
+    }
+}
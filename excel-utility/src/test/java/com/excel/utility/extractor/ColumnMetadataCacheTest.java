@@ -0,0 +1,105 @@
+package com.excel.utility.extractor;
+
+import com.excel.utility.annotation.ExcelColumn;
+import com.excel.utility.annotation.ExcelMapper;
+import com.excel.utility.dto.ColumnMetadata;
+import com.excel.utility.dto.ColumnMetadataPlan;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ColumnMetadataCacheTest {
+
+    private final ColumnMetadataCache cache = new ColumnMetadataCache();
+
+    @Test
+    void testGetPlan_ReturnsSameInstanceOnRepeatedLookups() {
+        ColumnMetadataPlan first = cache.getPlan(CachedObject.class);
+        ColumnMetadataPlan second = cache.getPlan(CachedObject.class);
+
+        assertSame(first, second, "The plan should be resolved once and reused.");
+        assertEquals(CachedObject.class, first.getType());
+        assertEquals(2, first.size());
+        assertEquals("Employee ID", first.getColumns().get(0).getHeader());
+        assertEquals(2, first.getColumns().get(1).getColumnOrder(), "Missing column orders should already be assigned.");
+    }
+
+    @Test
+    void testGetPlan_ColumnsAreUnmodifiable() {
+        List<ColumnMetadata> columns = cache.getPlan(CachedObject.class).getColumns();
+
+        assertThrows(UnsupportedOperationException.class, () -> columns.remove(0));
+    }
+
+    @Test
+    void testGetPlan_ColumnMetadataIsReadOnly() {
+        ColumnMetadata column = cache.getPlan(CachedObject.class).getColumns().get(1);
+
+        assertThrows(UnsupportedOperationException.class, () -> column.setColumnOrder(5));
+        assertThrows(UnsupportedOperationException.class, () -> column.setParentClassFieldList(List.of()));
+        assertThrows(UnsupportedOperationException.class, () -> column.getParentClassFieldList().clear());
+        assertEquals(2, column.getColumnOrder());
+    }
+
+    @Test
+    void testInvalidate_RebuildsPlan() {
+        ColumnMetadataPlan first = cache.getPlan(CachedObject.class);
+        cache.invalidate(CachedObject.class);
+
+        assertNotSame(first, cache.getPlan(CachedObject.class));
+    }
+
+    @Test
+    void testInvalidateAll_RebuildsPlan() {
+        ColumnMetadataPlan first = cache.getPlan(CachedObject.class);
+        cache.invalidateAll();
+        ColumnMetadataPlan second = cache.getPlan(CachedObject.class);
+
+        assertNotSame(first, second);
+        assertSame(second, cache.getPlan(CachedObject.class));
+    }
+
+    @Test
+    void testGetPlan_InvalidClassIsNotCached() {
+        assertThrows(IllegalArgumentException.class, () -> cache.getPlan(NotMapped.class));
+        assertThrows(IllegalArgumentException.class, () -> cache.getPlan(NotMapped.class));
+    }
+
+    @Test
+    void testGetPlan_ConcurrentLookups() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Future<ColumnMetadataPlan> first = executor.submit(() -> cache.getPlan(CachedObject.class));
+            Future<ColumnMetadataPlan> second = executor.submit(() -> cache.getPlan(CachedObject.class));
+
+            assertSame(first.get(), second.get(), "Concurrent lookups should share the first stored plan.");
+        } finally {
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    void testShared_IsSingleton() {
+        assertSame(ColumnMetadataCache.shared(), ColumnMetadataCache.shared());
+    }
+
+    @ExcelMapper
+    static class CachedObject {
+        @ExcelColumn(header = "Employee ID", columnOrder = 1)
+        private int employeeId;
+
+        @ExcelColumn
+        private String employeeName;
+    }
+
+    static class NotMapped {
+        private int value;
+    }
+}
@@ -0,0 +1,105 @@
+package com.excel.utility.extractor;
+
+import com.excel.utility.exception.ExcelFieldAccessException;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FieldAccessorTest {
+
+    @Test
+    void testResolve_GetterStrategy() throws NoSuchFieldException {
+        FieldAccessor accessor = FieldAccessor.resolve(Bean.class, Bean.class.getDeclaredField("id"));
+
+        assertEquals(FieldAccessor.Strategy.GETTER, accessor.getStrategy());
+        assertEquals("getId", accessor.getMethod().getName());
+        assertEquals(7, accessor.get(new Bean()));
+    }
+
+    @Test
+    void testResolve_IsGetterStrategy() throws NoSuchFieldException {
+        FieldAccessor accessor = FieldAccessor.resolve(Bean.class, Bean.class.getDeclaredField("active"));
+
+        assertEquals(FieldAccessor.Strategy.IS_GETTER, accessor.getStrategy());
+        assertEquals(Boolean.TRUE, accessor.get(new Bean()));
+    }
+
+    @Test
+    void testResolve_FieldStrategyWhenGetterIsPrivate() throws NoSuchFieldException {
+        FieldAccessor accessor = FieldAccessor.resolve(Bean.class, Bean.class.getDeclaredField("name"));
+
+        assertEquals(FieldAccessor.Strategy.FIELD, accessor.getStrategy());
+        assertNull(accessor.getMethod());
+        assertEquals("Direct", accessor.get(new Bean()));
+    }
+
+    @Test
+    void testResolve_StaticField() throws NoSuchFieldException {
+        FieldAccessor accessor = FieldAccessor.resolve(Bean.class, Bean.class.getDeclaredField("CONSTANT"));
+
+        assertEquals("Constant", accessor.get(new Bean()));
+    }
+
+    @Test
+    void testResolve_InheritedGetterOnSubclass() throws NoSuchFieldException {
+        FieldAccessor accessor = FieldAccessor.resolve(SubBean.class, Bean.class.getDeclaredField("id"));
+
+        assertEquals(FieldAccessor.Strategy.GETTER, accessor.getStrategy());
+        assertEquals(42, accessor.get(new SubBean()));
+    }
+
+    @Test
+    void testResolve_FieldOfUnrelatedClass() throws NoSuchFieldException {
+        Field field = Unrelated.class.getDeclaredField("other");
+
+        assertThrows(IllegalArgumentException.class, () -> FieldAccessor.resolve(Bean.class, field));
+    }
+
+    @Test
+    void testGet_GetterFailureIsWrapped() throws NoSuchFieldException {
+        FieldAccessor accessor = FieldAccessor.resolve(Failing.class, Failing.class.getDeclaredField("value"));
+
+        ExcelFieldAccessException exception = assertThrows(ExcelFieldAccessException.class, () -> accessor.get(new Failing()));
+        assertInstanceOf(IllegalStateException.class, exception.getCause());
+    }
+
+    static class Bean {
+        private static final String CONSTANT = "Constant";
+        private int id = 7;
+        private boolean active = true;
+        private String name = "Direct";
+
+        public int getId() {
+            return id;
+        }
+
+        public boolean isActive() {
+            return active;
+        }
+
+        private String getName() {
+            return "Getter";
+        }
+    }
+
+    static class SubBean extends Bean {
+        @Override
+        public int getId() {
+            return 42;
+        }
+    }
+
+    static class Unrelated {
+        private String other;
+    }
+
+    static class Failing {
+        private String value;
+
+        public String getValue() {
+            throw new IllegalStateException("boom");
+        }
+    }
+}
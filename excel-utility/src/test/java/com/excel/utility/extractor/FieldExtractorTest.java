@@ -141,6 +141,15 @@ class FieldExtractorTest {
         assertEquals("", result, "When the target object is null, the result should be an empty string.");
     }
 
+    @Test
+    void testProcess_ThrowingGetterReadsAsNull() throws NoSuchFieldException {
+        // A failing getter is reported and leaves the cell empty
+        ColumnMetadata metadata = createColumnMetadata(Collections.singletonList(Failing.class.getDeclaredField("value")));
+
+        String result = defaultObjectValueProcessor.process(fieldExtractor.process(metadata, new Failing()));
+        assertEquals("", result, "A throwing getter should read as an empty value.");
+    }
+
     // Inner classes to simulate real-world objects
     static class SomeClass {
         private int primitiveField;
@@ -203,5 +212,12 @@ class FieldExtractorTest {
             return nestedValue;
         }
     }
-}
 
+    static class Failing {
+        private String value;
+
+        public String getValue() {
+            throw new IllegalStateException("boom");
+        }
+    }
+}
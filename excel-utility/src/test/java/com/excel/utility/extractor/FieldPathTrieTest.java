@@ -0,0 +1,199 @@
+package com.excel.utility.extractor;
+
+import com.excel.utility.annotation.ExcelColumn;
+import com.excel.utility.annotation.ExcelMapper;
+import com.excel.utility.dto.ColumnMetadata;
+import com.excel.utility.dto.ColumnMetadataPlan;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FieldPathTrieTest {
+
+    private final ColumnMetadataCache cache = new ColumnMetadataCache();
+    private final FieldExtractor fieldExtractor = new FieldExtractor();
+    private final ObjectExtractor objectExtractor = new ObjectExtractor();
+
+    @BeforeEach
+    void resetCounters() {
+        Calls.address = 0;
+        Calls.geo = 0;
+    }
+
+    @Test
+    void testExtractRow_MatchesPerColumnExtraction() {
+        ColumnMetadataPlan plan = cache.getPlan(Employee.class);
+        Employee employee = new Employee("Ann", new Address("Main", "Oslo", new Geo(59.9, 10.7)));
+        Object[] values = new Object[plan.size()];
+
+        FieldPathTrie.build(plan).extractRow(objectExtractor, employee, values);
+
+        assertArrayEquals(perColumn(plan, employee), values);
+        assertArrayEquals(new Object[]{"Ann", "Main", "Oslo", 59.9, 10.7}, values);
+    }
+
+    @Test
+    void testExtractRow_SharedPrefixEvaluatedOncePerRow() {
+        ColumnMetadataPlan plan = cache.getPlan(Employee.class);
+        FieldPathTrie trie = FieldPathTrie.build(plan);
+        Object[] values = new Object[plan.size()];
+
+        trie.extractRow(objectExtractor, new Employee("Ann", new Address("Main", "Oslo", new Geo(1, 2))), values);
+
+        assertEquals(1, Calls.address, "getAddress() should run once for all address columns.");
+        assertEquals(1, Calls.geo, "getGeo() should run once for all geo columns.");
+    }
+
+    @Test
+    void testExtractRow_NullParentShortCircuitsDescendants() {
+        ColumnMetadataPlan plan = cache.getPlan(Employee.class);
+        FieldPathTrie trie = FieldPathTrie.build(plan);
+        Object[] values = {"stale", "stale", "stale", "stale", "stale"};
+
+        trie.extractRow(objectExtractor, new Employee("Bob", null), values);
+
+        assertArrayEquals(new Object[]{"Bob", null, null, null, null}, values);
+        assertEquals(0, Calls.geo);
+    }
+
+    @Test
+    void testExtractRow_NullTarget() {
+        ColumnMetadataPlan plan = cache.getPlan(Employee.class);
+        Object[] values = {"stale", "stale", "stale", "stale", "stale"};
+
+        FieldPathTrie.build(plan).extractRow(objectExtractor, null, values);
+
+        assertArrayEquals(new Object[plan.size()], values);
+    }
+
+    @Test
+    void testExtractRow_FailingParentEmptiesDescendants() {
+        ColumnMetadataPlan plan = cache.getPlan(Employee.class);
+        Object[] values = new Object[plan.size()];
+
+        FieldPathTrie.build(plan).extractRow(objectExtractor, new BrokenEmployee(), values);
+
+        assertArrayEquals(new Object[]{"Broken", null, null, null, null}, values);
+    }
+
+    @Test
+    void testExtractRow_FailingParentIsReportedOnce() {
+        ColumnMetadataPlan plan = cache.getPlan(Employee.class);
+        List<LogRecord> records = new ArrayList<>();
+        Handler handler = new Handler() {
+            @Override
+            public void publish(LogRecord logRecord) {
+                records.add(logRecord);
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        Logger logger = Logger.getLogger(FieldExtractor.class.getName());
+        logger.addHandler(handler);
+        try {
+            FieldPathTrie.build(plan).extractRow(objectExtractor, new BrokenEmployee(), new Object[plan.size()]);
+        } finally {
+            logger.removeHandler(handler);
+        }
+
+        assertEquals(1, records.size());
+        assertEquals("Failed to read field 'address' using GETTER", records.get(0).getMessage());
+    }
+
+    @Test
+    void testFieldExtractor_SubclassInstanceUsesTrie() {
+        ColumnMetadataPlan plan = cache.getPlan(Employee.class);
+        Object[] values = new Object[plan.size()];
+
+        fieldExtractor.extractRow(plan, new Employee("Cy", new Address("Elm", "Bergen", new Geo(3, 4))) {
+        }, values);
+
+        assertArrayEquals(new Object[]{"Cy", "Elm", "Bergen", 3.0, 4.0}, values);
+        assertEquals(1, Calls.address);
+    }
+
+    private Object[] perColumn(ColumnMetadataPlan plan, Object bean) {
+        List<ColumnMetadata> columns = plan.getColumns();
+        Object[] values = new Object[columns.size()];
+        for (int i = 0; i < columns.size(); i++) {
+            values[i] = fieldExtractor.process(columns.get(i), bean);
+        }
+        return values;
+    }
+
+    static class Calls {
+        static int address;
+        static int geo;
+    }
+
+    @ExcelMapper
+    static class Employee {
+        @ExcelColumn
+        private final String name;
+        @ExcelColumn
+        private final Address address;
+
+        Employee(String name, Address address) {
+            this.name = name;
+            this.address = address;
+        }
+
+        public Address getAddress() {
+            Calls.address++;
+            return address;
+        }
+    }
+
+    static class BrokenEmployee extends Employee {
+        BrokenEmployee() {
+            super("Broken", null);
+        }
+
+        @Override
+        public Address getAddress() {
+            throw new IllegalStateException("lazy load failed");
+        }
+    }
+
+    @ExcelMapper(includeAll = true)
+    static class Address {
+        private final String street;
+        private final String city;
+        private final Geo geo;
+
+        Address(String street, String city, Geo geo) {
+            this.street = street;
+            this.city = city;
+            this.geo = geo;
+        }
+
+        public Geo getGeo() {
+            Calls.geo++;
+            return geo;
+        }
+    }
+
+    @ExcelMapper(includeAll = true)
+    static class Geo {
+        private final double lat;
+        private final double lon;
+
+        Geo(double lat, double lon) {
+            this.lat = lat;
+            this.lon = lon;
+        }
+    }
+}
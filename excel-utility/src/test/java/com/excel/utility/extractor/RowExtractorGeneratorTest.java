@@ -0,0 +1,185 @@
+package com.excel.utility.extractor;
+
+import com.excel.utility.annotation.ExcelColumn;
+import com.excel.utility.annotation.ExcelMapper;
+import com.excel.utility.dto.ColumnMetadata;
+import com.excel.utility.dto.ColumnMetadataPlan;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RowExtractorGeneratorTest {
+
+    private final ColumnMetadataCache cache = new ColumnMetadataCache();
+    private final FieldExtractor fieldExtractor = new FieldExtractor();
+
+    private static int brokenCalls;
+
+    @Test
+    void testGenerate_DefinesHiddenClass() {
+        RowExtractor rowExtractor = RowExtractorGenerator.generate(cache.getPlan(Employee.class), new ObjectExtractor());
+
+        assertNotNull(rowExtractor, "A hidden class should be definable for a class in an open package.");
+        assertTrue(rowExtractor.getClass().isHidden());
+    }
+
+    @Test
+    void testGenerate_MatchesPerColumnExtraction() {
+        ColumnMetadataPlan plan = cache.getPlan(Employee.class);
+        RowExtractor rowExtractor = RowExtractorGenerator.generate(plan, new ObjectExtractor());
+
+        for (Employee employee : List.of(
+                new Employee(1, "Ann", true, 12.5, new Address("Main", new Geo(4L))),
+                new Employee(2, null, false, 0, new Address(null, null)),
+                new Employee(3, "Bob", true, -1, null))) {
+            Object[] generated = new Object[plan.size()];
+            rowExtractor.extractRow(employee, generated);
+
+            assertArrayEquals(perColumn(plan, employee), generated);
+        }
+    }
+
+    @Test
+    void testGenerate_NullBean() {
+        ColumnMetadataPlan plan = cache.getPlan(Employee.class);
+        Object[] values = new Object[plan.size()];
+        java.util.Arrays.fill(values, "stale");
+
+        RowExtractorGenerator.generate(plan, new ObjectExtractor()).extractRow(null, values);
+
+        assertArrayEquals(new Object[plan.size()], values);
+    }
+
+    @Test
+    void testExtractRow_SubclassUsesPerColumnPath() {
+        ColumnMetadataPlan plan = cache.getPlan(Employee.class);
+        Object[] values = new Object[plan.size()];
+
+        fieldExtractor.extractRow(plan, new Manager(), values);
+
+        assertEquals("Manager", values[1], "Overridden getters must be honoured for subclass instances.");
+    }
+
+    @Test
+    void testGenerate_FailingGetterOnlyEmptiesItsColumns() {
+        ColumnMetadataPlan plan = cache.getPlan(Failing.class);
+        RowExtractor rowExtractor = RowExtractorGenerator.generate(plan, new ObjectExtractor());
+        Object[] values = new Object[plan.size()];
+        brokenCalls = 0;
+
+        assertNotNull(rowExtractor);
+        rowExtractor.extractRow(new Failing(), values);
+
+        assertArrayEquals(new Object[]{"ok", null, null, null, null, "end"}, values);
+        assertEquals(1, brokenCalls, "The failing getter must not be called again.");
+    }
+
+    @Test
+    void testExtractRow_FailingGetterIsNotReadTwice() {
+        ColumnMetadataPlan plan = cache.getPlan(Failing.class);
+        Object[] values = new Object[plan.size()];
+        brokenCalls = 0;
+
+        fieldExtractor.extractRow(plan, new Failing(), values);
+
+        assertArrayEquals(new Object[]{"ok", null, null, null, null, "end"}, values);
+        assertEquals(1, brokenCalls, "The row must not be re-read after a getter fails.");
+    }
+
+    private Object[] perColumn(ColumnMetadataPlan plan, Object bean) {
+        List<ColumnMetadata> columns = plan.getColumns();
+        Object[] values = new Object[columns.size()];
+        for (int i = 0; i < columns.size(); i++) {
+            values[i] = fieldExtractor.process(columns.get(i), bean);
+        }
+        return values;
+    }
+
+    @ExcelMapper
+    static class Employee {
+        @ExcelColumn
+        private int id;
+        @ExcelColumn
+        private String name;
+        @ExcelColumn
+        private boolean active;
+        @ExcelColumn
+        private double salary;
+        @ExcelColumn
+        private Address address;
+
+        Employee() {
+        }
+
+        Employee(int id, String name, boolean active, double salary, Address address) {
+            this.id = id;
+            this.name = name;
+            this.active = active;
+            this.salary = salary;
+            this.address = address;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public boolean isActive() {
+            return active;
+        }
+
+        public Address getAddress() {
+            return address;
+        }
+    }
+
+    static class Manager extends Employee {
+        @Override
+        public String getName() {
+            return "Manager";
+        }
+    }
+
+    @ExcelMapper(includeAll = true)
+    static class Address {
+        private String street;
+        private Geo geo;
+
+        Address(String street, Geo geo) {
+            this.street = street;
+            this.geo = geo;
+        }
+    }
+
+    @ExcelMapper(includeAll = true)
+    static class Geo {
+        private long cell;
+        private static final String REGION = "EU";
+
+        Geo(long cell) {
+            this.cell = cell;
+        }
+
+        public long getCell() {
+            return cell;
+        }
+    }
+
+    @ExcelMapper(includeAll = true)
+    static class Failing {
+        private String fine = "ok";
+        private String broken = "never";
+        private Address address = new Address("Main", new Geo(4L));
+        private String last = "end";
+
+        public String getBroken() {
+            brokenCalls++;
+            throw new IllegalStateException("boom");
+        }
+
+        public Address getAddress() {
+            throw new IllegalStateException("lazy load failed");
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.excel.utility.extractor;
+
+import com.excel.utility.annotation.ExcelColumn;
+import com.excel.utility.annotation.ExcelMapper;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RowWriterLocatorTest {
+
+    @Test
+    void testGeneratedClassName_NestedClass() {
+        assertEquals("com.excel.utility.extractor.RowWriterLocatorTest_GeneratedBean_ExcelRowWriter",
+                RowWriterLocator.generatedClassName(GeneratedBean.class));
+    }
+
+    @Test
+    void testFind_GeneratedWriterOnClasspath() {
+        RowWriter<GeneratedBean> writer = RowWriterLocator.find(GeneratedBean.class);
+
+        assertNotNull(writer, "The generated writer should be located by naming convention.");
+        assertSame(writer, RowWriterLocator.find(GeneratedBean.class), "The located writer should be cached.");
+        assertArrayEquals(new String[]{"Value"}, writer.getHeaders());
+    }
+
+    @Test
+    void testFind_NoGeneratedWriter() {
+        assertNull(RowWriterLocator.find(PlainBean.class));
+    }
+
+    @Test
+    void testReflectiveRowWriter_MatchesPlan() {
+        ReflectiveRowWriter writer = new ReflectiveRowWriter(new ColumnMetadataCache().getPlan(PlainBean.class), new FieldExtractor());
+        Object[] values = new Object[2];
+
+        writer.extractRow(new PlainBean(), values);
+
+        assertArrayEquals(new String[]{"Id", "Label"}, writer.getHeaders());
+        assertArrayEquals(new int[]{2, 1}, writer.getColumnOrders());
+        assertArrayEquals(new Class<?>[]{int.class, String.class}, writer.getColumnTypes());
+        assertArrayEquals(new Object[]{5, "five"}, values);
+    }
+
+    @ExcelMapper
+    static class GeneratedBean {
+        @ExcelColumn
+        String value = "generated";
+    }
+
+    @ExcelMapper
+    static class PlainBean {
+        @ExcelColumn(columnOrder = 2)
+        private int id = 5;
+
+        @ExcelColumn
+        private String label = "five";
+    }
+}
+
+/**
+ * Stands in for the source the annotation processor would generate for {@link RowWriterLocatorTest.GeneratedBean}.
+ */
+class RowWriterLocatorTest_GeneratedBean_ExcelRowWriter implements RowWriter<RowWriterLocatorTest.GeneratedBean> {
+
+    @Override
+    public Class<RowWriterLocatorTest.GeneratedBean> getType() {
+        return RowWriterLocatorTest.GeneratedBean.class;
+    }
+
+    @Override
+    public String[] getHeaders() {
+        return new String[]{"Value"};
+    }
+
+    @Override
+    public int[] getColumnOrders() {
+        return new int[]{1};
+    }
+
+    @Override
+    public Class<?>[] getColumnTypes() {
+        return new Class<?>[]{String.class};
+    }
+
+    @Override
+    public void extractRow(RowWriterLocatorTest.GeneratedBean bean, Object[] values) {
+        values[0] = bean == null ? null : bean.value;
+    }
+}
@@ -0,0 +1,283 @@
+package com.excel.utility.reader;
+
+import com.excel.utility.ExcelUtility;
+import com.excel.utility.ExportBackend;
+import com.excel.utility.annotation.ExcelColumn;
+import com.excel.utility.annotation.ExcelMapper;
+import com.excel.utility.exception.InvalidCellValueException;
+import org.apache.poi.hssf.usermodel.HSSFWorkbook;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExcelReaderTest {
+
+    private final ExcelUtility excelUtility = new ExcelUtility();
+    private final ExcelReader excelReader = new ExcelReader();
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testRead_RoundTripsExportedRows() throws IOException {
+        for (ExportBackend backend : List.of(ExportBackend.POI, ExportBackend.SPREADSHEETML)) {
+            Path path = tempDir.resolve(backend + ".xlsx");
+            List<Order> orders = IntStream.range(0, 300).mapToObj(Order::new).collect(Collectors.toList());
+            excelUtility.exportTo(path, orders.stream(), Order.class, "Orders", backend);
+
+            List<Order> read;
+            try (Stream<Order> rows = excelReader.read(path, Order.class)) {
+                read = rows.collect(Collectors.toList());
+            }
+
+            assertEquals(orders.size(), read.size(), backend.name());
+            for (int i = 0; i < orders.size(); i++) {
+                Order expected = orders.get(i);
+                Order actual = read.get(i);
+                assertEquals(expected.id, actual.id);
+                assertEquals(expected.reference, actual.reference);
+                assertEquals(0, expected.amount.compareTo(actual.amount));
+                assertEquals(expected.placed, actual.placed);
+                assertEquals(expected.updated, actual.updated);
+                assertEquals(expected.paid, actual.paid);
+                assertEquals(expected.status, actual.status);
+                assertEquals(expected.quantity, actual.quantity);
+                if (expected.customer == null) {
+                    assertNull(actual.customer);
+                } else {
+                    assertEquals(expected.customer.name, actual.customer.name);
+                    assertEquals(expected.customer.city, actual.customer.city);
+                }
+            }
+        }
+    }
+
+    @Test
+    void testRead_RoundTripsXlsWorkbooks() throws IOException {
+        Path path = tempDir.resolve("orders.xls");
+        List<Order> orders = IntStream.range(0, 300).mapToObj(Order::new).collect(Collectors.toList());
+        try (HSSFWorkbook workbook = excelUtility.mapToHSSFWorkbook(orders.stream(), Order.class, "Orders");
+             OutputStream outputStream = Files.newOutputStream(path)) {
+            workbook.createSheet("Empty");
+            workbook.write(outputStream);
+        }
+
+        List<Order> read;
+        try (Stream<Order> rows = excelReader.read(path, Order.class, "ORDERS")) {
+            read = rows.collect(Collectors.toList());
+        }
+
+        assertEquals(orders.size(), read.size());
+        for (int i = 0; i < orders.size(); i++) {
+            Order expected = orders.get(i);
+            Order actual = read.get(i);
+            assertEquals(expected.id, actual.id);
+            assertEquals(expected.reference, actual.reference);
+            assertEquals(0, expected.amount.compareTo(actual.amount));
+            assertEquals(expected.placed, actual.placed);
+            assertEquals(expected.updated, actual.updated);
+            assertEquals(expected.paid, actual.paid);
+            assertEquals(expected.status, actual.status);
+            assertEquals(expected.customer == null, actual.customer == null);
+        }
+        try (Stream<Order> rows = excelReader.read(path, Order.class, "Empty")) {
+            assertEquals(0, rows.count());
+        }
+        assertThrows(IllegalArgumentException.class, () -> excelReader.read(path, Order.class, "Missing"));
+    }
+
+    @Test
+    void testRead_XlsFormulaResultsAndLaterSheets() throws IOException {
+        Path path = tempDir.resolve("formulas.xls");
+        try (HSSFWorkbook workbook = new HSSFWorkbook(); OutputStream outputStream = Files.newOutputStream(path)) {
+            workbook.createSheet("Cover").createRow(0).createCell(0).setCellValue("Quarterly orders");
+            Sheet sheet = workbook.createSheet("Orders");
+            Row header = sheet.createRow(0);
+            header.createCell(0).setCellValue("Reference");
+            header.createCell(1).setCellValue("Id");
+            header.createCell(2).setCellValue("Paid");
+            Row first = sheet.createRow(1);
+            first.createCell(0).setCellFormula("\"R-\"&B2");
+            first.createCell(1).setCellFormula("40+2");
+            first.createCell(2).setCellFormula("B2>40");
+            Row last = sheet.createRow(4);
+            last.createCell(0).setCellValue("R-7");
+            last.createCell(1).setCellValue(7);
+            last.createCell(2).setCellValue(false);
+            workbook.getCreationHelper().createFormulaEvaluator().evaluateAll();
+            workbook.write(outputStream);
+        }
+
+        try (Stream<Order> rows = excelReader.read(path, Order.class, "Orders")) {
+            List<Order> orders = rows.collect(Collectors.toList());
+            assertEquals(2, orders.size());
+            assertEquals("R-42", orders.get(0).reference);
+            assertEquals(42L, orders.get(0).id);
+            assertEquals(Boolean.TRUE, orders.get(0).paid);
+            assertEquals("R-7", orders.get(1).reference);
+            assertEquals(Boolean.FALSE, orders.get(1).paid);
+        }
+    }
+
+    @Test
+    void testRead_ResolvesHeadersByTextOrColumnOrder() throws IOException {
+        Path reordered = tempDir.resolve("reordered.xlsx");
+        write(reordered, "Orders", new Object[][]{
+                {"Notes", " QUANTITY ", "Id", "Reference"},
+                {"first", 3.0, 1.0, "A-1"},
+                {},
+                {"blank row above", null, 2.0, "A-2"},
+        });
+        try (Stream<Order> rows = excelReader.read(reordered, Order.class, "orders")) {
+            List<Order> orders = rows.collect(Collectors.toList());
+            assertEquals(2, orders.size());
+            assertEquals(1L, orders.get(0).id);
+            assertEquals("A-1", orders.get(0).reference);
+            assertEquals(3, orders.get(0).quantity);
+            assertEquals(0, orders.get(1).quantity);
+            assertNull(orders.get(1).amount);
+            assertNull(orders.get(1).customer);
+        }
+
+        Path translated = tempDir.resolve("translated.xlsx");
+        write(translated, "Bestellungen", new Object[][]{
+                {"Nummer", "Referenz", "Betrag"},
+                {7.0, "B-7", 12.5},
+        });
+        try (Stream<Order> rows = excelReader.read(translated, Order.class)) {
+            Order order = rows.findFirst().orElseThrow();
+            assertEquals(7L, order.id);
+            assertEquals("B-7", order.reference);
+            assertEquals(new BigDecimal("12.5"), order.amount);
+        }
+        assertThrows(IllegalArgumentException.class, () -> excelReader.read(translated, Order.class, "Orders"));
+    }
+
+    @Test
+    void testRead_NumberCellsAsText() throws IOException {
+        Path path = tempDir.resolve("numbers.xlsx");
+        write(path, "Orders", new Object[][]{
+                {"Id", "Reference"},
+                {1.0, 12345.0},
+                {2.0, 0.0001},
+                {3.0, 1e20},
+        });
+
+        try (Stream<Order> rows = excelReader.read(path, Order.class)) {
+            assertEquals(List.of("12345", "0.0001", "1E+20"),
+                    rows.map(order -> order.reference).collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    void testRead_ReportsInvalidCellsWithTheirPosition() throws IOException {
+        Path path = tempDir.resolve("invalid.xlsx");
+        write(path, "Orders", new Object[][]{
+                {"Id", "Quantity"},
+                {1.0, 2.0},
+                {2.0, 2.5},
+        });
+
+        try (Stream<Order> rows = excelReader.read(path, Order.class)) {
+            InvalidCellValueException e = assertThrows(InvalidCellValueException.class,
+                    () -> rows.collect(Collectors.toList()));
+            assertTrue(e.getMessage().contains("row 3, column 'Quantity' as int"), e.getMessage());
+        }
+
+        Path text = tempDir.resolve("orders.csv");
+        Files.writeString(text, "Id\n1\n");
+        assertThrows(IllegalArgumentException.class, () -> excelReader.read(text, Order.class));
+    }
+
+    private static void write(Path path, String sheetName, Object[][] rows) throws IOException {
+        try (XSSFWorkbook workbook = new XSSFWorkbook(); OutputStream outputStream = Files.newOutputStream(path)) {
+            Sheet sheet = workbook.createSheet(sheetName);
+            for (int r = 0; r < rows.length; r++) {
+                Row row = sheet.createRow(r);
+                for (int c = 0; c < rows[r].length; c++) {
+                    Object value = rows[r][c];
+                    if (value instanceof Double) {
+                        row.createCell(c).setCellValue((Double) value);
+                    } else if (value != null) {
+                        row.createCell(c).setCellValue((String) value);
+                    }
+                }
+            }
+            workbook.write(outputStream);
+        }
+    }
+
+    enum Status {
+        OPEN,
+        SHIPPED
+    }
+
+    @ExcelMapper
+    static class Order {
+        @ExcelColumn(columnOrder = 1, header = "Id")
+        private long id;
+        @ExcelColumn(columnOrder = 2, header = "Reference")
+        private String reference;
+        @ExcelColumn(columnOrder = 3, header = "Amount")
+        private BigDecimal amount;
+        @ExcelColumn(header = "Placed")
+        private LocalDate placed;
+        @ExcelColumn(header = "Updated")
+        private LocalDateTime updated;
+        @ExcelColumn(header = "Paid")
+        private Boolean paid;
+        @ExcelColumn(header = "Status")
+        private Status status;
+        @ExcelColumn(header = "Quantity")
+        private int quantity;
+        @ExcelColumn(header = "Customer")
+        private Customer customer;
+
+        Order() {
+        }
+
+        Order(int i) {
+            this.id = i % 2 == 0 ? Long.MAX_VALUE - i : i;
+            this.reference = "ORD-" + i;
+            this.amount = new BigDecimal(i).movePointLeft(2);
+            this.placed = LocalDate.of(2024, 1, 1).plusDays(i);
+            this.updated = LocalDateTime.of(2024, 1, 1, 8, 30, 15).plusMinutes(i);
+            this.paid = i % 3 == 0 ? null : i % 2 == 0;
+            this.status = i % 2 == 0 ? Status.OPEN : Status.SHIPPED;
+            this.quantity = i;
+            this.customer = i % 5 == 0 ? null : new Customer("Customer " + i, i % 4 == 0 ? null : "City " + i);
+        }
+    }
+
+    @ExcelMapper
+    static class Customer {
+        @ExcelColumn
+        private String name;
+        @ExcelColumn
+        private String city;
+
+        Customer() {
+        }
+
+        Customer(String name, String city) {
+            this.name = name;
+            this.city = city;
+        }
+    }
+}
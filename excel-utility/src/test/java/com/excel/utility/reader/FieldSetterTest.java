@@ -0,0 +1,71 @@
+package com.excel.utility.reader;
+
+import com.excel.utility.exception.ExcelFieldAccessException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FieldSetterTest {
+
+    @Test
+    void testResolve_SetterStrategy() throws NoSuchFieldException {
+        FieldSetter setter = FieldSetter.resolve(Bean.class, Bean.class.getDeclaredField("id"));
+        Bean bean = new Bean();
+
+        setter.set(bean, 7);
+
+        assertEquals(FieldSetter.Strategy.SETTER, setter.getStrategy());
+        assertEquals("setId", setter.getMethod().getName());
+        assertEquals(70, bean.id);
+    }
+
+    @Test
+    void testResolve_FieldStrategyForFinalFieldsAndMismatchedSetters() throws NoSuchFieldException {
+        FieldSetter finalField = FieldSetter.resolve(Bean.class, Bean.class.getDeclaredField("name"));
+        FieldSetter mismatched = FieldSetter.resolve(Bean.class, Bean.class.getDeclaredField("count"));
+        Bean bean = new Bean();
+
+        finalField.set(bean, "Direct");
+        mismatched.set(bean, 3L);
+
+        assertEquals(FieldSetter.Strategy.FIELD, finalField.getStrategy());
+        assertNull(finalField.getMethod());
+        assertEquals("Direct", bean.name);
+        assertEquals(FieldSetter.Strategy.FIELD, mismatched.getStrategy());
+        assertEquals(3L, bean.count);
+    }
+
+    @Test
+    void testResolve_RejectsStaticAndForeignFields() {
+        assertThrows(IllegalArgumentException.class,
+                () -> FieldSetter.resolve(Bean.class, Bean.class.getDeclaredField("CONSTANT")));
+        assertThrows(IllegalArgumentException.class,
+                () -> FieldSetter.resolve(String.class, Bean.class.getDeclaredField("count")));
+    }
+
+    @Test
+    void testSet_WrapsSetterFailures() throws NoSuchFieldException {
+        FieldSetter setter = FieldSetter.resolve(Bean.class, Bean.class.getDeclaredField("id"));
+
+        assertThrows(ExcelFieldAccessException.class, () -> setter.set(new Bean(), -1));
+    }
+
+    public static class Bean {
+        private static final String CONSTANT = "constant";
+        private int id;
+        private final String name = null;
+        private long count;
+
+        public Bean setId(int id) {
+            if (id < 0) {
+                throw new IllegalArgumentException("negative");
+            }
+            this.id = id * 10;
+            return this;
+        }
+
+        public void setCount(int count) {
+            this.count = -count;
+        }
+    }
+}
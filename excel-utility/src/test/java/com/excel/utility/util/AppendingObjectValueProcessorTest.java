@@ -0,0 +1,124 @@
+package com.excel.utility.util;
+
+import com.excel.utility.processor.AppendingObjectValueProcessor;
+import com.excel.utility.processor.ObjectValueProcessor;
+import com.excel.utility.processor.impl.DefaultObjectValueProcessor;
+import com.excel.utility.processor.impl.ObjectValueProcessorAdapter;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AppendingObjectValueProcessorTest {
+
+    private final DefaultObjectValueProcessor processor = new DefaultObjectValueProcessor();
+
+    @Test
+    void testAppendingMatchesStringOutput() throws IOException {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("Key", null);
+        map.put(null, 42);
+        List<Object> values = Arrays.asList("Text", 12, 4.5, true, Arrays.asList("A", null, "C"), map, new StringBuilder("sb"));
+
+        for (Object value : values) {
+            StringBuilder sink = new StringBuilder();
+            processor.process(value, sink);
+            assertEquals(processor.process(value), sink.toString(), "Appending should produce the same text for " + value);
+        }
+    }
+
+    @Test
+    void testAppendingNullAppendsNothing() throws IOException {
+        StringBuilder sink = new StringBuilder("x");
+        processor.process(null, sink);
+        assertEquals("x", sink.toString());
+    }
+
+    @Test
+    void testFlatteningStopsWhenCellBufferIsFull() throws IOException {
+        int[] rendered = new int[1];
+        List<Object> elements = new ArrayList<>();
+        for (int i = 0; i < 50_000; i++) {
+            elements.add(new Object() {
+                @Override
+                public String toString() {
+                    rendered[0]++;
+                    return "0123456789";
+                }
+            });
+        }
+        CellTextBuffer buffer = new CellTextBuffer();
+
+        processor.flattenCollection(elements, buffer);
+
+        assertTrue(buffer.isFull());
+        assertEquals(32760, buffer.length());
+        assertEquals(32760, buffer.toString().length());
+        assertTrue(rendered[0] < 3000, "Flattening should stop once the buffer is full.");
+    }
+
+    @Test
+    void testCellTextBufferReuse() {
+        CellTextBuffer buffer = new CellTextBuffer();
+        buffer.append("Hello").append(',').append(" World", 0, 3);
+        assertEquals("Hello, Wo", buffer.toString());
+        assertEquals('W', buffer.charAt(7));
+        assertEquals("llo", buffer.subSequence(2, 5).toString());
+
+        buffer.clear();
+        assertEquals(0, buffer.length());
+        assertFalse(buffer.isFull());
+    }
+
+    @Test
+    void testOfReturnsDefaultProcessorItself() {
+        assertSame(processor, AppendingObjectValueProcessor.of(processor));
+    }
+
+    @Test
+    void testOfAdaptsSubclassOverridingOnlyStringProcess() throws IOException {
+        ObjectValueProcessor custom = new DefaultObjectValueProcessor() {
+            @Override
+            public String process(Object fieldValue) {
+                return "[" + super.process(fieldValue) + "]";
+            }
+        };
+        AppendingObjectValueProcessor appending = AppendingObjectValueProcessor.of(custom);
+        StringBuilder sink = new StringBuilder();
+
+        appending.process(7, sink);
+
+        assertInstanceOf(ObjectValueProcessorAdapter.class, appending);
+        assertEquals("[7]", sink.toString());
+    }
+
+    @Test
+    void testAdapterSkipsNullStrings() throws IOException {
+        ObjectValueProcessor nullProcessor = new ObjectValueProcessor() {
+            @Override
+            public String process(Object fieldValue) {
+                return null;
+            }
+
+            @Override
+            public String flattenMap(Map<?, ?> map) {
+                return "map";
+            }
+
+            @Override
+            public String flattenCollection(Collection<?> collection) {
+                return "list";
+            }
+        };
+        AppendingObjectValueProcessor appending = AppendingObjectValueProcessor.of(nullProcessor);
+        StringBuilder sink = new StringBuilder();
+
+        appending.process("ignored", sink);
+        appending.flattenCollection(List.of(1), sink);
+        appending.flattenMap(Map.of(), sink);
+
+        assertEquals("listmap", sink.toString());
+    }
+}
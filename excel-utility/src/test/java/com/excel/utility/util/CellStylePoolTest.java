@@ -0,0 +1,84 @@
+package com.excel.utility.util;
+
+import com.excel.utility.ExcelUtility;
+import com.excel.utility.annotation.ExcelColumn;
+import com.excel.utility.annotation.ExcelMapper;
+import org.apache.poi.hssf.usermodel.HSSFWorkbook;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CellStylePoolTest {
+
+    @Test
+    void testSameAttributesShareOneStyle() {
+        Workbook workbook = new XSSFWorkbook();
+
+        CellStyle first = CellStylePool.dataFormatStyle(workbook, "yyyy-mm-dd");
+        int styleCount = workbook.getNumCellStyles();
+        CellStyle second = CellStylePool.dataFormatStyle(workbook, "yyyy-mm-dd");
+
+        assertEquals(first.getIndex(), second.getIndex());
+        assertEquals(styleCount, workbook.getNumCellStyles());
+        assertEquals(1, CellStylePool.size(workbook));
+    }
+
+    @Test
+    void testDifferentAttributesCreateDistinctStyles() {
+        Workbook workbook = new HSSFWorkbook();
+
+        CellStyle header = CellStylePool.headerStyle(workbook);
+        CellStyle date = CellStylePool.dataFormatStyle(workbook, "yyyy-mm-dd");
+        CellStyle boldDate = CellStylePool.getStyle(workbook, true, "yyyy-mm-dd");
+
+        assertNotEquals(header.getIndex(), date.getIndex());
+        assertNotEquals(date.getIndex(), boldDate.getIndex());
+        assertTrue(workbook.getFontAt(header.getFontIndex()).getBold());
+        assertEquals("yyyy-mm-dd", date.getDataFormatString());
+        assertEquals(3, CellStylePool.size(workbook));
+    }
+
+    @Test
+    void testPoolsAreScopedToTheWorkbook() {
+        Workbook first = new XSSFWorkbook();
+        Workbook second = new XSSFWorkbook();
+
+        CellStylePool.headerStyle(first);
+
+        assertEquals(1, CellStylePool.size(first));
+        assertEquals(0, CellStylePool.size(second));
+    }
+
+    @Test
+    void testMultiSheetExportDoesNotGrowStyleTable() {
+        ExcelUtility excelUtility = new ExcelUtility();
+        Workbook workbook = new XSSFWorkbook();
+
+        excelUtility.mapToExistingWorkbook(workbook, List.of(new Dated(LocalDate.of(2025, 1, 1))), "First");
+        int styleCount = workbook.getNumCellStyles();
+        for (int i = 0; i < 20; i++) {
+            excelUtility.mapToExistingWorkbook(workbook, List.of(new Dated(LocalDate.of(2025, 1, 2))), "Sheet " + i);
+        }
+
+        assertEquals(styleCount, workbook.getNumCellStyles());
+        CellStyle columnStyle = workbook.getSheet("Sheet 3").getColumnStyle(0);
+        assertEquals("yyyy-mm-dd", columnStyle.getDataFormatString());
+        assertEquals(columnStyle.getIndex(), workbook.getSheet("Sheet 3").getRow(1).getCell(0).getCellStyle().getIndex());
+    }
+
+    @ExcelMapper
+    static class Dated {
+        @ExcelColumn
+        private final LocalDate day;
+
+        Dated(LocalDate day) {
+            this.day = day;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.excel.utility.util;
+
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CellUtilsTest {
+
+    @Test
+    void testAutoSize_UsesOneBasedColumnOrders() throws IOException {
+        try (XSSFWorkbook workbook = new XSSFWorkbook()) {
+            Sheet sheet = header(workbook.createSheet());
+            int defaultWidth = sheet.getColumnWidth(1);
+
+            CellUtils.autoSize(sheet, new int[]{1});
+
+            assertTrue(sheet.getColumnWidth(0) > defaultWidth, "Column order 1 is the first column.");
+            assertEquals(defaultWidth, sheet.getColumnWidth(1));
+        }
+    }
+
+    @Test
+    void testAutoSize_SkipsUntrackedStreamingColumns() throws IOException {
+        SXSSFWorkbook workbook = new SXSSFWorkbook();
+        try {
+            Sheet sheet = header(workbook.createSheet());
+            int defaultWidth = sheet.getColumnWidth(0);
+
+            CellUtils.autoSize(sheet, new int[]{1, 2});
+
+            assertEquals(defaultWidth, sheet.getColumnWidth(0));
+        } finally {
+            workbook.dispose();
+            workbook.close();
+        }
+    }
+
+    private static Sheet header(Sheet sheet) {
+        Row row = sheet.createRow(0);
+        row.createCell(0).setCellValue("A rather long header text");
+        row.createCell(1).setCellValue("Another rather long header text");
+        return sheet;
+    }
+}
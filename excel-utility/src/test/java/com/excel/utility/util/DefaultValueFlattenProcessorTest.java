@@ -4,6 +4,7 @@ import com.excel.utility.processor.ObjectValueProcessor;
 import com.excel.utility.processor.impl.DefaultObjectValueProcessor;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
 import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -248,6 +249,56 @@ public class DefaultValueFlattenProcessorTest {
         assertTrue(result.contains("Key2" + MAP_DELIMITER + "CustomObject{name='Custom2', value=200}"), "Flattening a map with custom objects should include their string representation.");
     }
 
+    @Test
+    void testFlattenList_StopsAtCellLimit() throws IOException {
+        List<Object> elements = new ArrayList<>();
+        int[] rendered = new int[1];
+        for (int i = 0; i < 100_000; i++) {
+            elements.add(new Object() {
+                @Override
+                public String toString() {
+                    rendered[0]++;
+                    return "0123456789";
+                }
+            });
+        }
+
+        CellTextBuffer buffer = new CellTextBuffer();
+        new DefaultObjectValueProcessor().flattenCollection(elements, buffer);
+        String result = buffer.toString();
+        assertEquals(32760, result.length(), "Flattening past the cell limit should truncate to 32760 characters.");
+        assertTrue(result.startsWith("0123456789, 0123456789"), "Truncated output should keep the leading elements.");
+        assertTrue(rendered[0] < 3000, "Flattening should stop rendering elements once the cell limit is reached.");
+    }
+
+    @Test
+    void testFlattenMap_StopsAtCellLimit() throws IOException {
+        Map<String, String> largeMap = new LinkedHashMap<>();
+        for (int i = 0; i < 10_000; i++) {
+            largeMap.put("Key" + i, "Value" + i);
+        }
+
+        CellTextBuffer buffer = new CellTextBuffer();
+        new DefaultObjectValueProcessor().flattenMap(largeMap, buffer);
+        String result = buffer.toString();
+        assertEquals(32760, result.length(), "Flattening past the cell limit should truncate to 32760 characters.");
+        assertTrue(result.startsWith("Key0" + MAP_DELIMITER + "Value0" + NEXT_LINE + "Key1"), "Truncated output should keep the leading entries.");
+        assertTrue(processor.flattenMap(largeMap).endsWith("Key9999" + MAP_DELIMITER + "Value9999"), "The String form should not be truncated.");
+    }
+
+    @Test
+    void testFlattenList_NestedFlatteningFromToString() {
+        List<Object> outer = Arrays.asList("A", new Object() {
+            @Override
+            public String toString() {
+                return "(" + processor.flattenCollection(Arrays.asList("x", "y")) + ")";
+            }
+        }, "B");
+
+        assertEquals("A, (x, y), B", processor.flattenCollection(outer), "Flattening from within an element's toString should not corrupt the outer result.");
+        assertEquals("C, D", processor.flattenCollection(Arrays.asList("C", "D")), "The reusable buffer should be reset between calls.");
+    }
+
     // Custom object for testing
     class CustomObject {
         private String name;
@@ -0,0 +1,109 @@
+package com.excel.utility.util;
+
+import com.excel.utility.ExcelUtility;
+import com.excel.utility.annotation.ExcelColumn;
+import com.excel.utility.annotation.ExcelMapper;
+import com.excel.utility.processor.ValueConverter;
+import com.excel.utility.processor.ValueConverterRegistry;
+import com.excel.utility.processor.impl.DefaultObjectValueProcessor;
+import org.apache.poi.ss.usermodel.Row;
+import org.junit.jupiter.api.Test;
+
+import java.io.Serializable;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ValueConverterRegistryTest {
+
+    private static final ValueConverter<Object> FALLBACK = Object::toString;
+
+    @Test
+    void testResolvesExactSuperclassAndInterfaceRegistrations() {
+        ValueConverterRegistry registry = new ValueConverterRegistry(type -> FALLBACK);
+        registry.register(Number.class, value -> "number")
+                .register(Integer.class, value -> "integer")
+                .register(CharSequence.class, value -> "chars");
+
+        assertEquals("integer", registry.converterFor(Integer.class).convert(1));
+        assertEquals("number", registry.converterFor(Long.class).convert(1L));
+        assertEquals("chars", registry.converterFor(StringBuilder.class).convert(new StringBuilder()));
+        assertSame(FALLBACK, registry.converterFor(Object.class));
+    }
+
+    @Test
+    void testResolutionIsMemoizedPerClass() {
+        AtomicInteger resolutions = new AtomicInteger();
+        ValueConverterRegistry registry = new ValueConverterRegistry(type -> {
+            resolutions.incrementAndGet();
+            return FALLBACK;
+        });
+
+        for (int i = 0; i < 100; i++) {
+            registry.converterFor(Serializable.class);
+        }
+
+        assertEquals(1, resolutions.get());
+    }
+
+    @Test
+    void testRegistrationDiscardsMemoizedResolutions() {
+        ValueConverterRegistry registry = new ValueConverterRegistry(type -> FALLBACK);
+        assertSame(FALLBACK, registry.converterFor(UUID.class));
+
+        registry.register(UUID.class, value -> "uuid");
+
+        assertEquals("uuid", registry.converterFor(UUID.class).convert(UUID.randomUUID()));
+    }
+
+    @Test
+    void testDefaultProcessorBuiltInConverters() {
+        DefaultObjectValueProcessor processor = new DefaultObjectValueProcessor();
+
+        assertEquals("text", processor.process("text"));
+        assertEquals("42", processor.process(42));
+        assertEquals("A, B", processor.process(Arrays.asList("A", "B")));
+        assertEquals("K : V", processor.process(Map.of("K", "V")));
+        assertEquals("SECONDS", processor.process(java.util.concurrent.TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testRegisteredConverterOverridesBuiltIns() {
+        DefaultObjectValueProcessor processor = new DefaultObjectValueProcessor()
+                .registerConverter(List.class, list -> list.size() + " items")
+                .registerConverter(Money.class, money -> "$" + money.amount);
+
+        assertEquals("2 items", processor.process(Arrays.asList("A", "B")));
+        assertEquals("A", processor.process(Set.of("A")), "Collections outside the registered type keep the built-in flattening.");
+        assertEquals("$5", processor.process(new Money(5)));
+    }
+
+    @Test
+    void testRegisteredConverterUsedForFinalColumnType() {
+        DefaultObjectValueProcessor processor = new DefaultObjectValueProcessor()
+                .registerConverter(Money.class, money -> "$" + money.amount);
+
+        Row row = new ExcelUtility(processor).mapToXSSFWorkbook(List.of(new Priced(new Money(12)))).getSheetAt(0).getRow(1);
+
+        assertEquals("$12", row.getCell(0).getStringCellValue());
+    }
+
+    static final class Money {
+        private final int amount;
+
+        Money(int amount) {
+            this.amount = amount;
+        }
+    }
+
+    @ExcelMapper
+    static class Priced {
+        @ExcelColumn
+        private final Money price;
+
+        Priced(Money price) {
+            this.price = price;
+        }
+    }
+}
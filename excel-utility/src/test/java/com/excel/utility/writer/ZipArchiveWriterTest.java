@@ -0,0 +1,98 @@
+package com.excel.utility.writer;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ZipArchiveWriterTest {
+
+    private static final int BLOCK_SIZE = 128 * 1024;
+
+    @Test
+    void testParallelBlocks_RoundTripAcrossBlockBoundaries() throws IOException {
+        Map<String, byte[]> entries = new LinkedHashMap<>();
+        entries.put("empty", new byte[0]);
+        entries.put("small", "<row r=\"1\"/>".getBytes(StandardCharsets.UTF_8));
+        entries.put("one-block", sheetLike(BLOCK_SIZE));
+        entries.put("many-blocks", sheetLike(BLOCK_SIZE * 5 + 17));
+        entries.put("random", random(BLOCK_SIZE * 2 + 1));
+
+        for (ZipCompression compression : new ZipCompression[]{
+                new ZipCompression(ZipCompression.LEVEL_DEFAULT, 3),
+                new ZipCompression(ZipCompression.LEVEL_STORE, 2),
+                new ZipCompression(ZipCompression.LEVEL_SMALLEST, 1)}) {
+            assertEquals(entries.keySet().toString(), readAll(write(entries, compression), entries),
+                    compression.toString());
+        }
+    }
+
+    @Test
+    void testParallelBlocks_KeepCompressionCloseToSequential() throws IOException {
+        Map<String, byte[]> entries = Map.of("sheet", sheetLike(BLOCK_SIZE * 8));
+
+        int sequential = write(entries, ZipCompression.DEFAULT).length;
+        int parallel = write(entries, new ZipCompression(ZipCompression.LEVEL_DEFAULT, 4)).length;
+        int stored = write(entries, ZipCompression.STORE).length;
+
+        assertTrue(parallel < sequential * 1.05, parallel + " vs " + sequential);
+        assertTrue(stored > BLOCK_SIZE * 8);
+        assertThrows(IllegalArgumentException.class, () -> new ZipCompression(10, 1));
+    }
+
+    private static byte[] write(Map<String, byte[]> entries, ZipCompression compression) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (ZipArchiveWriter zip = new ZipArchiveWriter(outputStream, compression)) {
+            for (Map.Entry<String, byte[]> entry : entries.entrySet()) {
+                zip.putNextEntry(entry.getKey());
+                byte[] data = entry.getValue();
+                // Uneven writes, so blocks are filled across write calls.
+                for (int offset = 0; offset < data.length; offset += 10_007) {
+                    zip.write(data, offset, Math.min(10_007, data.length - offset));
+                }
+            }
+            zip.finish();
+        }
+        return outputStream.toByteArray();
+    }
+
+    /**
+     * Reads every entry back with the JDK's reader and returns the names of those that match the expected data.
+     */
+    private static String readAll(byte[] archive, Map<String, byte[]> expected) throws IOException {
+        Map<String, Boolean> matches = new LinkedHashMap<>();
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(archive))) {
+            for (ZipEntry entry = zip.getNextEntry(); entry != null; entry = zip.getNextEntry()) {
+                if (Arrays.equals(expected.get(entry.getName()), zip.readAllBytes())) {
+                    matches.put(entry.getName(), true);
+                }
+            }
+        }
+        return matches.keySet().toString();
+    }
+
+    private static byte[] sheetLike(int size) {
+        StringBuilder xml = new StringBuilder(size + 64);
+        for (int row = 1; xml.length() < size; row++) {
+            xml.append("<row r=\"").append(row).append("\"><c r=\"A").append(row).append("\"><v>")
+                    .append(row * 31 % 977).append("</v></c></row>");
+        }
+        return xml.substring(0, size).getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private static byte[] random(int size) {
+        byte[] bytes = new byte[size];
+        new Random(42).nextBytes(bytes);
+        return bytes;
+    }
+}